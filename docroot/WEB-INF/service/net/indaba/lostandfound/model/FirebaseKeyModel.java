@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.expando.kernel.model.ExpandoBridge;
+
+import com.liferay.portal.kernel.bean.AutoEscape;
+import com.liferay.portal.kernel.model.AttachedModel;
+import com.liferay.portal.kernel.model.BaseModel;
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.service.ServiceContext;
+
+import java.io.Serializable;
+
+import java.util.Date;
+
+/**
+ * The base model interface for the FirebaseKey service. Represents a row in the &quot;lfvo_FirebaseKey&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This interface and its corresponding implementation {@link net.indaba.lostandfound.model.impl.FirebaseKeyModelImpl} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link net.indaba.lostandfound.model.impl.FirebaseKeyImpl}.
+ * </p>
+ *
+ * @author aritz
+ * @see FirebaseKey
+ * @see net.indaba.lostandfound.model.impl.FirebaseKeyImpl
+ * @see net.indaba.lostandfound.model.impl.FirebaseKeyModelImpl
+ * @generated
+ */
+@ProviderType
+public interface FirebaseKeyModel extends AttachedModel, BaseModel<FirebaseKey> {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. All methods that expect a firebase key model instance should use the {@link FirebaseKey} interface instead.
+	 */
+
+	/**
+	 * Returns the primary key of this firebase key.
+	 *
+	 * @return the primary key of this firebase key
+	 */
+	public long getPrimaryKey();
+
+	/**
+	 * Sets the primary key of this firebase key.
+	 *
+	 * @param primaryKey the primary key of this firebase key
+	 */
+	public void setPrimaryKey(long primaryKey);
+
+	/**
+	 * Returns the firebase key ID of this firebase key.
+	 *
+	 * @return the firebase key ID of this firebase key
+	 */
+	public long getFirebaseKeyId();
+
+	/**
+	 * Sets the firebase key ID of this firebase key.
+	 *
+	 * @param firebaseKeyId the firebase key ID of this firebase key
+	 */
+	public void setFirebaseKeyId(long firebaseKeyId);
+
+	/**
+	 * Returns the fully qualified class name of this firebase key.
+	 *
+	 * @return the fully qualified class name of this firebase key
+	 */
+	@Override
+	public String getClassName();
+
+	public void setClassName(String className);
+
+	/**
+	 * Returns the class name ID of this firebase key.
+	 *
+	 * @return the class name ID of this firebase key
+	 */
+	@Override
+	public long getClassNameId();
+
+	/**
+	 * Sets the class name ID of this firebase key.
+	 *
+	 * @param classNameId the class name ID of this firebase key
+	 */
+	@Override
+	public void setClassNameId(long classNameId);
+
+	/**
+	 * Returns the class p k of this firebase key.
+	 *
+	 * @return the class p k of this firebase key
+	 */
+	@Override
+	public long getClassPK();
+
+	/**
+	 * Sets the class p k of this firebase key.
+	 *
+	 * @param classPK the class p k of this firebase key
+	 */
+	@Override
+	public void setClassPK(long classPK);
+
+	/**
+	 * Returns the fb key of this firebase key.
+	 *
+	 * @return the fb key of this firebase key
+	 */
+	@AutoEscape
+	public String getFbKey();
+
+	/**
+	 * Sets the fb key of this firebase key.
+	 *
+	 * @param fbKey the fb key of this firebase key
+	 */
+	public void setFbKey(String fbKey);
+
+	/**
+	 * Returns the modified date of this firebase key.
+	 *
+	 * @return the modified date of this firebase key
+	 */
+	public Date getModifiedDate();
+
+	/**
+	 * Sets the modified date of this firebase key.
+	 *
+	 * @param modifiedDate the modified date of this firebase key
+	 */
+	public void setModifiedDate(Date modifiedDate);
+
+	@Override
+	public boolean isNew();
+
+	@Override
+	public void setNew(boolean n);
+
+	@Override
+	public boolean isCachedModel();
+
+	@Override
+	public void setCachedModel(boolean cachedModel);
+
+	@Override
+	public boolean isEscapedModel();
+
+	@Override
+	public Serializable getPrimaryKeyObj();
+
+	@Override
+	public void setPrimaryKeyObj(Serializable primaryKeyObj);
+
+	@Override
+	public ExpandoBridge getExpandoBridge();
+
+	@Override
+	public void setExpandoBridgeAttributes(BaseModel<?> baseModel);
+
+	@Override
+	public void setExpandoBridgeAttributes(ExpandoBridge expandoBridge);
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext);
+
+	@Override
+	public Object clone();
+
+	@Override
+	public int compareTo(FirebaseKey firebaseKey);
+
+	@Override
+	public int hashCode();
+
+	@Override
+	public CacheModel<FirebaseKey> toCacheModel();
+
+	@Override
+	public FirebaseKey toEscapedModel();
+
+	@Override
+	public FirebaseKey toUnescapedModel();
+
+	@Override
+	public String toString();
+
+	@Override
+	public String toXmlString();
+}
\ No newline at end of file
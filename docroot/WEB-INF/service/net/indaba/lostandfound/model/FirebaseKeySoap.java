@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model;
+
+import aQute.bnd.annotation.ProviderType;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * This class is used by SOAP remote services.
+ *
+ * @author aritz
+ * @generated
+ */
+@ProviderType
+public class FirebaseKeySoap implements Serializable {
+	public static FirebaseKeySoap toSoapModel(FirebaseKey model) {
+		FirebaseKeySoap soapModel = new FirebaseKeySoap();
+
+		soapModel.setFirebaseKeyId(model.getFirebaseKeyId());
+		soapModel.setClassNameId(model.getClassNameId());
+		soapModel.setClassPK(model.getClassPK());
+		soapModel.setFbKey(model.getFbKey());
+		soapModel.setModifiedDate(model.getModifiedDate());
+
+		return soapModel;
+	}
+
+	public static FirebaseKeySoap[] toSoapModels(FirebaseKey[] models) {
+		FirebaseKeySoap[] soapModels = new FirebaseKeySoap[models.length];
+
+		for (int i = 0; i < models.length; i++) {
+			soapModels[i] = toSoapModel(models[i]);
+		}
+
+		return soapModels;
+	}
+
+	public static FirebaseKeySoap[][] toSoapModels(FirebaseKey[][] models) {
+		FirebaseKeySoap[][] soapModels = null;
+
+		if (models.length > 0) {
+			soapModels = new FirebaseKeySoap[models.length][models[0].length];
+		}
+		else {
+			soapModels = new FirebaseKeySoap[0][0];
+		}
+
+		for (int i = 0; i < models.length; i++) {
+			soapModels[i] = toSoapModels(models[i]);
+		}
+
+		return soapModels;
+	}
+
+	public static FirebaseKeySoap[] toSoapModels(List<FirebaseKey> models) {
+		List<FirebaseKeySoap> soapModels = new ArrayList<FirebaseKeySoap>(models.size());
+
+		for (FirebaseKey model : models) {
+			soapModels.add(toSoapModel(model));
+		}
+
+		return soapModels.toArray(new FirebaseKeySoap[soapModels.size()]);
+	}
+
+	public FirebaseKeySoap() {
+	}
+
+	public long getPrimaryKey() {
+		return _firebaseKeyId;
+	}
+
+	public void setPrimaryKey(long pk) {
+		setFirebaseKeyId(pk);
+	}
+
+	public long getFirebaseKeyId() {
+		return _firebaseKeyId;
+	}
+
+	public void setFirebaseKeyId(long firebaseKeyId) {
+		_firebaseKeyId = firebaseKeyId;
+	}
+
+	public long getClassNameId() {
+		return _classNameId;
+	}
+
+	public void setClassNameId(long classNameId) {
+		_classNameId = classNameId;
+	}
+
+	public long getClassPK() {
+		return _classPK;
+	}
+
+	public void setClassPK(long classPK) {
+		_classPK = classPK;
+	}
+
+	public String getFbKey() {
+		return _fbKey;
+	}
+
+	public void setFbKey(String fbKey) {
+		_fbKey = fbKey;
+	}
+
+	public Date getModifiedDate() {
+		return _modifiedDate;
+	}
+
+	public void setModifiedDate(Date modifiedDate) {
+		_modifiedDate = modifiedDate;
+	}
+
+	private long _firebaseKeyId;
+	private long _classNameId;
+	private long _classPK;
+	private String _fbKey;
+	private Date _modifiedDate;
+}
\ No newline at end of file
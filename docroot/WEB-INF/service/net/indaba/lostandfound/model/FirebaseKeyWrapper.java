@@ -0,0 +1,379 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.expando.kernel.model.ExpandoBridge;
+
+import com.liferay.portal.kernel.model.ModelWrapper;
+import com.liferay.portal.kernel.service.ServiceContext;
+
+import java.io.Serializable;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ * This class is a wrapper for {@link FirebaseKey}.
+ * </p>
+ *
+ * @author aritz
+ * @see FirebaseKey
+ * @generated
+ */
+@ProviderType
+public class FirebaseKeyWrapper implements FirebaseKey,
+	ModelWrapper<FirebaseKey> {
+	public FirebaseKeyWrapper(FirebaseKey firebaseKey) {
+		_firebaseKey = firebaseKey;
+	}
+
+	@Override
+	public Class<?> getModelClass() {
+		return FirebaseKey.class;
+	}
+
+	@Override
+	public String getModelClassName() {
+		return FirebaseKey.class.getName();
+	}
+
+	@Override
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("firebaseKeyId", getFirebaseKeyId());
+		attributes.put("classNameId", getClassNameId());
+		attributes.put("classPK", getClassPK());
+		attributes.put("fbKey", getFbKey());
+		attributes.put("modifiedDate", getModifiedDate());
+
+		return attributes;
+	}
+
+	@Override
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long firebaseKeyId = (Long)attributes.get("firebaseKeyId");
+
+		if (firebaseKeyId != null) {
+			setFirebaseKeyId(firebaseKeyId);
+		}
+
+		Long classNameId = (Long)attributes.get("classNameId");
+
+		if (classNameId != null) {
+			setClassNameId(classNameId);
+		}
+
+		Long classPK = (Long)attributes.get("classPK");
+
+		if (classPK != null) {
+			setClassPK(classPK);
+		}
+
+		String fbKey = (String)attributes.get("fbKey");
+
+		if (fbKey != null) {
+			setFbKey(fbKey);
+		}
+
+		Date modifiedDate = (Date)attributes.get("modifiedDate");
+
+		if (modifiedDate != null) {
+			setModifiedDate(modifiedDate);
+		}
+	}
+
+	@Override
+	public java.lang.Object clone() {
+		return new FirebaseKeyWrapper((FirebaseKey)_firebaseKey.clone());
+	}
+
+	@Override
+	public int compareTo(FirebaseKey firebaseKey) {
+		return _firebaseKey.compareTo(firebaseKey);
+	}
+
+	/**
+	* Returns the fully qualified class name of this firebase key.
+	*
+	* @return the fully qualified class name of this firebase key
+	*/
+	@Override
+	public java.lang.String getClassName() {
+		return _firebaseKey.getClassName();
+	}
+
+	/**
+	* Returns the class name ID of this firebase key.
+	*
+	* @return the class name ID of this firebase key
+	*/
+	@Override
+	public long getClassNameId() {
+		return _firebaseKey.getClassNameId();
+	}
+
+	/**
+	* Returns the class p k of this firebase key.
+	*
+	* @return the class p k of this firebase key
+	*/
+	@Override
+	public long getClassPK() {
+		return _firebaseKey.getClassPK();
+	}
+
+	@Override
+	public ExpandoBridge getExpandoBridge() {
+		return _firebaseKey.getExpandoBridge();
+	}
+
+	/**
+	* Returns the fb key of this firebase key.
+	*
+	* @return the fb key of this firebase key
+	*/
+	@Override
+	public java.lang.String getFbKey() {
+		return _firebaseKey.getFbKey();
+	}
+
+	/**
+	* Returns the firebase key ID of this firebase key.
+	*
+	* @return the firebase key ID of this firebase key
+	*/
+	@Override
+	public long getFirebaseKeyId() {
+		return _firebaseKey.getFirebaseKeyId();
+	}
+
+	/**
+	* Returns the modified date of this firebase key.
+	*
+	* @return the modified date of this firebase key
+	*/
+	@Override
+	public Date getModifiedDate() {
+		return _firebaseKey.getModifiedDate();
+	}
+
+	/**
+	* Returns the primary key of this firebase key.
+	*
+	* @return the primary key of this firebase key
+	*/
+	@Override
+	public long getPrimaryKey() {
+		return _firebaseKey.getPrimaryKey();
+	}
+
+	@Override
+	public Serializable getPrimaryKeyObj() {
+		return _firebaseKey.getPrimaryKeyObj();
+	}
+
+	@Override
+	public int hashCode() {
+		return _firebaseKey.hashCode();
+	}
+
+	@Override
+	public boolean isCachedModel() {
+		return _firebaseKey.isCachedModel();
+	}
+
+	@Override
+	public boolean isEscapedModel() {
+		return _firebaseKey.isEscapedModel();
+	}
+
+	@Override
+	public boolean isNew() {
+		return _firebaseKey.isNew();
+	}
+
+	@Override
+	public void persist() {
+		_firebaseKey.persist();
+	}
+
+	@Override
+	public void setCachedModel(boolean cachedModel) {
+		_firebaseKey.setCachedModel(cachedModel);
+	}
+
+	@Override
+	public void setClassName(java.lang.String className) {
+		_firebaseKey.setClassName(className);
+	}
+
+	/**
+	* Sets the class name ID of this firebase key.
+	*
+	* @param classNameId the class name ID of this firebase key
+	*/
+	@Override
+	public void setClassNameId(long classNameId) {
+		_firebaseKey.setClassNameId(classNameId);
+	}
+
+	/**
+	* Sets the class p k of this firebase key.
+	*
+	* @param classPK the class p k of this firebase key
+	*/
+	@Override
+	public void setClassPK(long classPK) {
+		_firebaseKey.setClassPK(classPK);
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(
+		com.liferay.portal.kernel.model.BaseModel<?> baseModel) {
+		_firebaseKey.setExpandoBridgeAttributes(baseModel);
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ExpandoBridge expandoBridge) {
+		_firebaseKey.setExpandoBridgeAttributes(expandoBridge);
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext) {
+		_firebaseKey.setExpandoBridgeAttributes(serviceContext);
+	}
+
+	/**
+	* Sets the fb key of this firebase key.
+	*
+	* @param fbKey the fb key of this firebase key
+	*/
+	@Override
+	public void setFbKey(java.lang.String fbKey) {
+		_firebaseKey.setFbKey(fbKey);
+	}
+
+	/**
+	* Sets the firebase key ID of this firebase key.
+	*
+	* @param firebaseKeyId the firebase key ID of this firebase key
+	*/
+	@Override
+	public void setFirebaseKeyId(long firebaseKeyId) {
+		_firebaseKey.setFirebaseKeyId(firebaseKeyId);
+	}
+
+	/**
+	* Sets the modified date of this firebase key.
+	*
+	* @param modifiedDate the modified date of this firebase key
+	*/
+	@Override
+	public void setModifiedDate(Date modifiedDate) {
+		_firebaseKey.setModifiedDate(modifiedDate);
+	}
+
+	@Override
+	public void setNew(boolean n) {
+		_firebaseKey.setNew(n);
+	}
+
+	/**
+	* Sets the primary key of this firebase key.
+	*
+	* @param primaryKey the primary key of this firebase key
+	*/
+	@Override
+	public void setPrimaryKey(long primaryKey) {
+		_firebaseKey.setPrimaryKey(primaryKey);
+	}
+
+	@Override
+	public void setPrimaryKeyObj(Serializable primaryKeyObj) {
+		_firebaseKey.setPrimaryKeyObj(primaryKeyObj);
+	}
+
+	@Override
+	public com.liferay.portal.kernel.model.CacheModel<FirebaseKey> toCacheModel() {
+		return _firebaseKey.toCacheModel();
+	}
+
+	@Override
+	public FirebaseKey toEscapedModel() {
+		return new FirebaseKeyWrapper(_firebaseKey.toEscapedModel());
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return _firebaseKey.toString();
+	}
+
+	@Override
+	public FirebaseKey toUnescapedModel() {
+		return new FirebaseKeyWrapper(_firebaseKey.toUnescapedModel());
+	}
+
+	@Override
+	public java.lang.String toXmlString() {
+		return _firebaseKey.toXmlString();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof FirebaseKeyWrapper)) {
+			return false;
+		}
+
+		FirebaseKeyWrapper firebaseKeyWrapper = (FirebaseKeyWrapper)obj;
+
+		if (Objects.equals(_firebaseKey, firebaseKeyWrapper._firebaseKey)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public FirebaseKey getWrappedModel() {
+		return _firebaseKey;
+	}
+
+	@Override
+	public boolean isEntityCacheEnabled() {
+		return _firebaseKey.isEntityCacheEnabled();
+	}
+
+	@Override
+	public boolean isFinderCacheEnabled() {
+		return _firebaseKey.isFinderCacheEnabled();
+	}
+
+	@Override
+	public void resetOriginalValues() {
+		_firebaseKey.resetOriginalValues();
+	}
+
+	private final FirebaseKey _firebaseKey;
+}
\ No newline at end of file
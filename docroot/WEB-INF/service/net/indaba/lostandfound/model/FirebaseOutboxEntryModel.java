@@ -0,0 +1,266 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.expando.kernel.model.ExpandoBridge;
+
+import com.liferay.portal.kernel.bean.AutoEscape;
+import com.liferay.portal.kernel.model.AttachedModel;
+import com.liferay.portal.kernel.model.BaseModel;
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.service.ServiceContext;
+
+import java.io.Serializable;
+
+import java.util.Date;
+
+/**
+ * The base model interface for the FirebaseOutboxEntry service. Represents a row in the &quot;lfvo_FirebaseOutboxEntry&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This interface and its corresponding implementation {@link net.indaba.lostandfound.model.impl.FirebaseOutboxEntryModelImpl} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link net.indaba.lostandfound.model.impl.FirebaseOutboxEntryImpl}.
+ * </p>
+ *
+ * @author aritz
+ * @see FirebaseOutboxEntry
+ * @see net.indaba.lostandfound.model.impl.FirebaseOutboxEntryImpl
+ * @see net.indaba.lostandfound.model.impl.FirebaseOutboxEntryModelImpl
+ * @generated
+ */
+@ProviderType
+public interface FirebaseOutboxEntryModel extends AttachedModel,
+	BaseModel<FirebaseOutboxEntry> {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. All methods that expect a firebase outbox entry model instance should use the {@link FirebaseOutboxEntry} interface instead.
+	 */
+
+	/**
+	 * Returns the primary key of this firebase outbox entry.
+	 *
+	 * @return the primary key of this firebase outbox entry
+	 */
+	public long getPrimaryKey();
+
+	/**
+	 * Sets the primary key of this firebase outbox entry.
+	 *
+	 * @param primaryKey the primary key of this firebase outbox entry
+	 */
+	public void setPrimaryKey(long primaryKey);
+
+	/**
+	 * Returns the outbox entry ID of this firebase outbox entry.
+	 *
+	 * @return the outbox entry ID of this firebase outbox entry
+	 */
+	public long getOutboxEntryId();
+
+	/**
+	 * Sets the outbox entry ID of this firebase outbox entry.
+	 *
+	 * @param outboxEntryId the outbox entry ID of this firebase outbox entry
+	 */
+	public void setOutboxEntryId(long outboxEntryId);
+
+	/**
+	 * Returns the create date of this firebase outbox entry.
+	 *
+	 * @return the create date of this firebase outbox entry
+	 */
+	public Date getCreateDate();
+
+	/**
+	 * Sets the create date of this firebase outbox entry.
+	 *
+	 * @param createDate the create date of this firebase outbox entry
+	 */
+	public void setCreateDate(Date createDate);
+
+	/**
+	 * Returns the fully qualified class name of this firebase outbox entry.
+	 *
+	 * @return the fully qualified class name of this firebase outbox entry
+	 */
+	@Override
+	public String getClassName();
+
+	public void setClassName(String className);
+
+	/**
+	 * Returns the class name ID of this firebase outbox entry.
+	 *
+	 * @return the class name ID of this firebase outbox entry
+	 */
+	@Override
+	public long getClassNameId();
+
+	/**
+	 * Sets the class name ID of this firebase outbox entry.
+	 *
+	 * @param classNameId the class name ID of this firebase outbox entry
+	 */
+	@Override
+	public void setClassNameId(long classNameId);
+
+	/**
+	 * Returns the class p k of this firebase outbox entry.
+	 *
+	 * @return the class p k of this firebase outbox entry
+	 */
+	@Override
+	public long getClassPK();
+
+	/**
+	 * Sets the class p k of this firebase outbox entry.
+	 *
+	 * @param classPK the class p k of this firebase outbox entry
+	 */
+	@Override
+	public void setClassPK(long classPK);
+
+	/**
+	 * Returns the action of this firebase outbox entry.
+	 *
+	 * @return the action of this firebase outbox entry
+	 */
+	@AutoEscape
+	public String getAction();
+
+	/**
+	 * Sets the action of this firebase outbox entry.
+	 *
+	 * @param action the action of this firebase outbox entry
+	 */
+	public void setAction(String action);
+
+	/**
+	 * Returns the payload of this firebase outbox entry.
+	 *
+	 * @return the payload of this firebase outbox entry
+	 */
+	@AutoEscape
+	public String getPayload();
+
+	/**
+	 * Sets the payload of this firebase outbox entry.
+	 *
+	 * @param payload the payload of this firebase outbox entry
+	 */
+	public void setPayload(String payload);
+
+	/**
+	 * Returns the attempts of this firebase outbox entry.
+	 *
+	 * @return the attempts of this firebase outbox entry
+	 */
+	public int getAttempts();
+
+	/**
+	 * Sets the attempts of this firebase outbox entry.
+	 *
+	 * @param attempts the attempts of this firebase outbox entry
+	 */
+	public void setAttempts(int attempts);
+
+	/**
+	 * Returns the next attempt date of this firebase outbox entry.
+	 *
+	 * @return the next attempt date of this firebase outbox entry
+	 */
+	public Date getNextAttemptDate();
+
+	/**
+	 * Sets the next attempt date of this firebase outbox entry.
+	 *
+	 * @param nextAttemptDate the next attempt date of this firebase outbox entry
+	 */
+	public void setNextAttemptDate(Date nextAttemptDate);
+
+	/**
+	 * Returns the last error of this firebase outbox entry.
+	 *
+	 * @return the last error of this firebase outbox entry
+	 */
+	@AutoEscape
+	public String getLastError();
+
+	/**
+	 * Sets the last error of this firebase outbox entry.
+	 *
+	 * @param lastError the last error of this firebase outbox entry
+	 */
+	public void setLastError(String lastError);
+
+	@Override
+	public boolean isNew();
+
+	@Override
+	public void setNew(boolean n);
+
+	@Override
+	public boolean isCachedModel();
+
+	@Override
+	public void setCachedModel(boolean cachedModel);
+
+	@Override
+	public boolean isEscapedModel();
+
+	@Override
+	public Serializable getPrimaryKeyObj();
+
+	@Override
+	public void setPrimaryKeyObj(Serializable primaryKeyObj);
+
+	@Override
+	public ExpandoBridge getExpandoBridge();
+
+	@Override
+	public void setExpandoBridgeAttributes(BaseModel<?> baseModel);
+
+	@Override
+	public void setExpandoBridgeAttributes(ExpandoBridge expandoBridge);
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext);
+
+	@Override
+	public Object clone();
+
+	@Override
+	public int compareTo(FirebaseOutboxEntry firebaseOutboxEntry);
+
+	@Override
+	public int hashCode();
+
+	@Override
+	public CacheModel<FirebaseOutboxEntry> toCacheModel();
+
+	@Override
+	public FirebaseOutboxEntry toEscapedModel();
+
+	@Override
+	public FirebaseOutboxEntry toUnescapedModel();
+
+	@Override
+	public String toString();
+
+	@Override
+	public String toXmlString();
+}
\ No newline at end of file
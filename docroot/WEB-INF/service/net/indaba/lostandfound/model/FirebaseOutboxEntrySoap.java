@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model;
+
+import aQute.bnd.annotation.ProviderType;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * This class is used by SOAP remote services.
+ *
+ * @author aritz
+ * @generated
+ */
+@ProviderType
+public class FirebaseOutboxEntrySoap implements Serializable {
+	public static FirebaseOutboxEntrySoap toSoapModel(FirebaseOutboxEntry model) {
+		FirebaseOutboxEntrySoap soapModel = new FirebaseOutboxEntrySoap();
+
+		soapModel.setOutboxEntryId(model.getOutboxEntryId());
+		soapModel.setCreateDate(model.getCreateDate());
+		soapModel.setClassNameId(model.getClassNameId());
+		soapModel.setClassPK(model.getClassPK());
+		soapModel.setAction(model.getAction());
+		soapModel.setPayload(model.getPayload());
+		soapModel.setAttempts(model.getAttempts());
+		soapModel.setNextAttemptDate(model.getNextAttemptDate());
+		soapModel.setLastError(model.getLastError());
+
+		return soapModel;
+	}
+
+	public static FirebaseOutboxEntrySoap[] toSoapModels(
+		FirebaseOutboxEntry[] models) {
+		FirebaseOutboxEntrySoap[] soapModels = new FirebaseOutboxEntrySoap[models.length];
+
+		for (int i = 0; i < models.length; i++) {
+			soapModels[i] = toSoapModel(models[i]);
+		}
+
+		return soapModels;
+	}
+
+	public static FirebaseOutboxEntrySoap[][] toSoapModels(
+		FirebaseOutboxEntry[][] models) {
+		FirebaseOutboxEntrySoap[][] soapModels = null;
+
+		if (models.length > 0) {
+			soapModels = new FirebaseOutboxEntrySoap[models.length][models[0].length];
+		}
+		else {
+			soapModels = new FirebaseOutboxEntrySoap[0][0];
+		}
+
+		for (int i = 0; i < models.length; i++) {
+			soapModels[i] = toSoapModels(models[i]);
+		}
+
+		return soapModels;
+	}
+
+	public static FirebaseOutboxEntrySoap[] toSoapModels(
+		List<FirebaseOutboxEntry> models) {
+		List<FirebaseOutboxEntrySoap> soapModels = new ArrayList<FirebaseOutboxEntrySoap>(models.size());
+
+		for (FirebaseOutboxEntry model : models) {
+			soapModels.add(toSoapModel(model));
+		}
+
+		return soapModels.toArray(new FirebaseOutboxEntrySoap[soapModels.size()]);
+	}
+
+	public FirebaseOutboxEntrySoap() {
+	}
+
+	public long getPrimaryKey() {
+		return _outboxEntryId;
+	}
+
+	public void setPrimaryKey(long pk) {
+		setOutboxEntryId(pk);
+	}
+
+	public long getOutboxEntryId() {
+		return _outboxEntryId;
+	}
+
+	public void setOutboxEntryId(long outboxEntryId) {
+		_outboxEntryId = outboxEntryId;
+	}
+
+	public Date getCreateDate() {
+		return _createDate;
+	}
+
+	public void setCreateDate(Date createDate) {
+		_createDate = createDate;
+	}
+
+	public long getClassNameId() {
+		return _classNameId;
+	}
+
+	public void setClassNameId(long classNameId) {
+		_classNameId = classNameId;
+	}
+
+	public long getClassPK() {
+		return _classPK;
+	}
+
+	public void setClassPK(long classPK) {
+		_classPK = classPK;
+	}
+
+	public String getAction() {
+		return _action;
+	}
+
+	public void setAction(String action) {
+		_action = action;
+	}
+
+	public String getPayload() {
+		return _payload;
+	}
+
+	public void setPayload(String payload) {
+		_payload = payload;
+	}
+
+	public int getAttempts() {
+		return _attempts;
+	}
+
+	public void setAttempts(int attempts) {
+		_attempts = attempts;
+	}
+
+	public Date getNextAttemptDate() {
+		return _nextAttemptDate;
+	}
+
+	public void setNextAttemptDate(Date nextAttemptDate) {
+		_nextAttemptDate = nextAttemptDate;
+	}
+
+	public String getLastError() {
+		return _lastError;
+	}
+
+	public void setLastError(String lastError) {
+		_lastError = lastError;
+	}
+
+	private long _outboxEntryId;
+	private Date _createDate;
+	private long _classNameId;
+	private long _classPK;
+	private String _action;
+	private String _payload;
+	private int _attempts;
+	private Date _nextAttemptDate;
+	private String _lastError;
+}
\ No newline at end of file
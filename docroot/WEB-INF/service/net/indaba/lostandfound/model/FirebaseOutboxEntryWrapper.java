@@ -0,0 +1,488 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.expando.kernel.model.ExpandoBridge;
+
+import com.liferay.portal.kernel.model.ModelWrapper;
+import com.liferay.portal.kernel.service.ServiceContext;
+
+import java.io.Serializable;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ * This class is a wrapper for {@link FirebaseOutboxEntry}.
+ * </p>
+ *
+ * @author aritz
+ * @see FirebaseOutboxEntry
+ * @generated
+ */
+@ProviderType
+public class FirebaseOutboxEntryWrapper implements FirebaseOutboxEntry,
+	ModelWrapper<FirebaseOutboxEntry> {
+	public FirebaseOutboxEntryWrapper(FirebaseOutboxEntry firebaseOutboxEntry) {
+		_firebaseOutboxEntry = firebaseOutboxEntry;
+	}
+
+	@Override
+	public Class<?> getModelClass() {
+		return FirebaseOutboxEntry.class;
+	}
+
+	@Override
+	public String getModelClassName() {
+		return FirebaseOutboxEntry.class.getName();
+	}
+
+	@Override
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("outboxEntryId", getOutboxEntryId());
+		attributes.put("createDate", getCreateDate());
+		attributes.put("classNameId", getClassNameId());
+		attributes.put("classPK", getClassPK());
+		attributes.put("action", getAction());
+		attributes.put("payload", getPayload());
+		attributes.put("attempts", getAttempts());
+		attributes.put("nextAttemptDate", getNextAttemptDate());
+		attributes.put("lastError", getLastError());
+
+		return attributes;
+	}
+
+	@Override
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long outboxEntryId = (Long)attributes.get("outboxEntryId");
+
+		if (outboxEntryId != null) {
+			setOutboxEntryId(outboxEntryId);
+		}
+
+		Date createDate = (Date)attributes.get("createDate");
+
+		if (createDate != null) {
+			setCreateDate(createDate);
+		}
+
+		Long classNameId = (Long)attributes.get("classNameId");
+
+		if (classNameId != null) {
+			setClassNameId(classNameId);
+		}
+
+		Long classPK = (Long)attributes.get("classPK");
+
+		if (classPK != null) {
+			setClassPK(classPK);
+		}
+
+		String action = (String)attributes.get("action");
+
+		if (action != null) {
+			setAction(action);
+		}
+
+		String payload = (String)attributes.get("payload");
+
+		if (payload != null) {
+			setPayload(payload);
+		}
+
+		Integer attempts = (Integer)attributes.get("attempts");
+
+		if (attempts != null) {
+			setAttempts(attempts);
+		}
+
+		Date nextAttemptDate = (Date)attributes.get("nextAttemptDate");
+
+		if (nextAttemptDate != null) {
+			setNextAttemptDate(nextAttemptDate);
+		}
+
+		String lastError = (String)attributes.get("lastError");
+
+		if (lastError != null) {
+			setLastError(lastError);
+		}
+	}
+
+	@Override
+	public java.lang.Object clone() {
+		return new FirebaseOutboxEntryWrapper((FirebaseOutboxEntry)_firebaseOutboxEntry.clone());
+	}
+
+	@Override
+	public int compareTo(FirebaseOutboxEntry firebaseOutboxEntry) {
+		return _firebaseOutboxEntry.compareTo(firebaseOutboxEntry);
+	}
+
+	/**
+	* Returns the action of this firebase outbox entry.
+	*
+	* @return the action of this firebase outbox entry
+	*/
+	@Override
+	public java.lang.String getAction() {
+		return _firebaseOutboxEntry.getAction();
+	}
+
+	/**
+	* Returns the attempts of this firebase outbox entry.
+	*
+	* @return the attempts of this firebase outbox entry
+	*/
+	@Override
+	public int getAttempts() {
+		return _firebaseOutboxEntry.getAttempts();
+	}
+
+	/**
+	* Returns the fully qualified class name of this firebase outbox entry.
+	*
+	* @return the fully qualified class name of this firebase outbox entry
+	*/
+	@Override
+	public java.lang.String getClassName() {
+		return _firebaseOutboxEntry.getClassName();
+	}
+
+	/**
+	* Returns the class name ID of this firebase outbox entry.
+	*
+	* @return the class name ID of this firebase outbox entry
+	*/
+	@Override
+	public long getClassNameId() {
+		return _firebaseOutboxEntry.getClassNameId();
+	}
+
+	/**
+	* Returns the class p k of this firebase outbox entry.
+	*
+	* @return the class p k of this firebase outbox entry
+	*/
+	@Override
+	public long getClassPK() {
+		return _firebaseOutboxEntry.getClassPK();
+	}
+
+	/**
+	* Returns the create date of this firebase outbox entry.
+	*
+	* @return the create date of this firebase outbox entry
+	*/
+	@Override
+	public Date getCreateDate() {
+		return _firebaseOutboxEntry.getCreateDate();
+	}
+
+	@Override
+	public ExpandoBridge getExpandoBridge() {
+		return _firebaseOutboxEntry.getExpandoBridge();
+	}
+
+	/**
+	* Returns the last error of this firebase outbox entry.
+	*
+	* @return the last error of this firebase outbox entry
+	*/
+	@Override
+	public java.lang.String getLastError() {
+		return _firebaseOutboxEntry.getLastError();
+	}
+
+	/**
+	* Returns the next attempt date of this firebase outbox entry.
+	*
+	* @return the next attempt date of this firebase outbox entry
+	*/
+	@Override
+	public Date getNextAttemptDate() {
+		return _firebaseOutboxEntry.getNextAttemptDate();
+	}
+
+	/**
+	* Returns the outbox entry ID of this firebase outbox entry.
+	*
+	* @return the outbox entry ID of this firebase outbox entry
+	*/
+	@Override
+	public long getOutboxEntryId() {
+		return _firebaseOutboxEntry.getOutboxEntryId();
+	}
+
+	/**
+	* Returns the payload of this firebase outbox entry.
+	*
+	* @return the payload of this firebase outbox entry
+	*/
+	@Override
+	public java.lang.String getPayload() {
+		return _firebaseOutboxEntry.getPayload();
+	}
+
+	/**
+	* Returns the primary key of this firebase outbox entry.
+	*
+	* @return the primary key of this firebase outbox entry
+	*/
+	@Override
+	public long getPrimaryKey() {
+		return _firebaseOutboxEntry.getPrimaryKey();
+	}
+
+	@Override
+	public Serializable getPrimaryKeyObj() {
+		return _firebaseOutboxEntry.getPrimaryKeyObj();
+	}
+
+	@Override
+	public int hashCode() {
+		return _firebaseOutboxEntry.hashCode();
+	}
+
+	@Override
+	public boolean isCachedModel() {
+		return _firebaseOutboxEntry.isCachedModel();
+	}
+
+	@Override
+	public boolean isEscapedModel() {
+		return _firebaseOutboxEntry.isEscapedModel();
+	}
+
+	@Override
+	public boolean isNew() {
+		return _firebaseOutboxEntry.isNew();
+	}
+
+	@Override
+	public void persist() {
+		_firebaseOutboxEntry.persist();
+	}
+
+	/**
+	* Sets the action of this firebase outbox entry.
+	*
+	* @param action the action of this firebase outbox entry
+	*/
+	@Override
+	public void setAction(java.lang.String action) {
+		_firebaseOutboxEntry.setAction(action);
+	}
+
+	/**
+	* Sets the attempts of this firebase outbox entry.
+	*
+	* @param attempts the attempts of this firebase outbox entry
+	*/
+	@Override
+	public void setAttempts(int attempts) {
+		_firebaseOutboxEntry.setAttempts(attempts);
+	}
+
+	@Override
+	public void setCachedModel(boolean cachedModel) {
+		_firebaseOutboxEntry.setCachedModel(cachedModel);
+	}
+
+	@Override
+	public void setClassName(java.lang.String className) {
+		_firebaseOutboxEntry.setClassName(className);
+	}
+
+	/**
+	* Sets the class name ID of this firebase outbox entry.
+	*
+	* @param classNameId the class name ID of this firebase outbox entry
+	*/
+	@Override
+	public void setClassNameId(long classNameId) {
+		_firebaseOutboxEntry.setClassNameId(classNameId);
+	}
+
+	/**
+	* Sets the class p k of this firebase outbox entry.
+	*
+	* @param classPK the class p k of this firebase outbox entry
+	*/
+	@Override
+	public void setClassPK(long classPK) {
+		_firebaseOutboxEntry.setClassPK(classPK);
+	}
+
+	/**
+	* Sets the create date of this firebase outbox entry.
+	*
+	* @param createDate the create date of this firebase outbox entry
+	*/
+	@Override
+	public void setCreateDate(Date createDate) {
+		_firebaseOutboxEntry.setCreateDate(createDate);
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(
+		com.liferay.portal.kernel.model.BaseModel<?> baseModel) {
+		_firebaseOutboxEntry.setExpandoBridgeAttributes(baseModel);
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ExpandoBridge expandoBridge) {
+		_firebaseOutboxEntry.setExpandoBridgeAttributes(expandoBridge);
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext) {
+		_firebaseOutboxEntry.setExpandoBridgeAttributes(serviceContext);
+	}
+
+	/**
+	* Sets the last error of this firebase outbox entry.
+	*
+	* @param lastError the last error of this firebase outbox entry
+	*/
+	@Override
+	public void setLastError(java.lang.String lastError) {
+		_firebaseOutboxEntry.setLastError(lastError);
+	}
+
+	@Override
+	public void setNew(boolean n) {
+		_firebaseOutboxEntry.setNew(n);
+	}
+
+	/**
+	* Sets the next attempt date of this firebase outbox entry.
+	*
+	* @param nextAttemptDate the next attempt date of this firebase outbox entry
+	*/
+	@Override
+	public void setNextAttemptDate(Date nextAttemptDate) {
+		_firebaseOutboxEntry.setNextAttemptDate(nextAttemptDate);
+	}
+
+	/**
+	* Sets the outbox entry ID of this firebase outbox entry.
+	*
+	* @param outboxEntryId the outbox entry ID of this firebase outbox entry
+	*/
+	@Override
+	public void setOutboxEntryId(long outboxEntryId) {
+		_firebaseOutboxEntry.setOutboxEntryId(outboxEntryId);
+	}
+
+	/**
+	* Sets the payload of this firebase outbox entry.
+	*
+	* @param payload the payload of this firebase outbox entry
+	*/
+	@Override
+	public void setPayload(java.lang.String payload) {
+		_firebaseOutboxEntry.setPayload(payload);
+	}
+
+	/**
+	* Sets the primary key of this firebase outbox entry.
+	*
+	* @param primaryKey the primary key of this firebase outbox entry
+	*/
+	@Override
+	public void setPrimaryKey(long primaryKey) {
+		_firebaseOutboxEntry.setPrimaryKey(primaryKey);
+	}
+
+	@Override
+	public void setPrimaryKeyObj(Serializable primaryKeyObj) {
+		_firebaseOutboxEntry.setPrimaryKeyObj(primaryKeyObj);
+	}
+
+	@Override
+	public com.liferay.portal.kernel.model.CacheModel<FirebaseOutboxEntry> toCacheModel() {
+		return _firebaseOutboxEntry.toCacheModel();
+	}
+
+	@Override
+	public FirebaseOutboxEntry toEscapedModel() {
+		return new FirebaseOutboxEntryWrapper(_firebaseOutboxEntry.toEscapedModel());
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return _firebaseOutboxEntry.toString();
+	}
+
+	@Override
+	public FirebaseOutboxEntry toUnescapedModel() {
+		return new FirebaseOutboxEntryWrapper(_firebaseOutboxEntry.toUnescapedModel());
+	}
+
+	@Override
+	public java.lang.String toXmlString() {
+		return _firebaseOutboxEntry.toXmlString();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof FirebaseOutboxEntryWrapper)) {
+			return false;
+		}
+
+		FirebaseOutboxEntryWrapper firebaseOutboxEntryWrapper = (FirebaseOutboxEntryWrapper)obj;
+
+		if (Objects.equals(_firebaseOutboxEntry,
+					firebaseOutboxEntryWrapper._firebaseOutboxEntry)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public FirebaseOutboxEntry getWrappedModel() {
+		return _firebaseOutboxEntry;
+	}
+
+	@Override
+	public boolean isEntityCacheEnabled() {
+		return _firebaseOutboxEntry.isEntityCacheEnabled();
+	}
+
+	@Override
+	public boolean isFinderCacheEnabled() {
+		return _firebaseOutboxEntry.isFinderCacheEnabled();
+	}
+
+	@Override
+	public void resetOriginalValues() {
+		_firebaseOutboxEntry.resetOriginalValues();
+	}
+
+	private final FirebaseOutboxEntry _firebaseOutboxEntry;
+}
\ No newline at end of file
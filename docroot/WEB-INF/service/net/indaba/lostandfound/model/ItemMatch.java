@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.annotation.ImplementationClassName;
+import com.liferay.portal.kernel.model.PersistedModel;
+import com.liferay.portal.kernel.util.Accessor;
+
+/**
+ * The extended model interface for the ItemMatch service. Represents a row in the &quot;lfvo_ItemMatch&quot; database table, with each column mapped to a property of this class.
+ *
+ * @author aritz
+ * @see ItemMatchModel
+ * @see net.indaba.lostandfound.model.impl.ItemMatchImpl
+ * @see net.indaba.lostandfound.model.impl.ItemMatchModelImpl
+ * @generated
+ */
+@ImplementationClassName("net.indaba.lostandfound.model.impl.ItemMatchImpl")
+@ProviderType
+public interface ItemMatch extends ItemMatchModel, PersistedModel {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify this interface directly. Add methods to {@link net.indaba.lostandfound.model.impl.ItemMatchImpl} and rerun ServiceBuilder to automatically copy the method declarations to this interface.
+	 */
+	public static final Accessor<ItemMatch, Long> MATCH_ID_ACCESSOR = new Accessor<ItemMatch, Long>() {
+			@Override
+			public Long get(ItemMatch itemMatch) {
+				return itemMatch.getMatchId();
+			}
+
+			@Override
+			public Class<Long> getAttributeClass() {
+				return Long.class;
+			}
+
+			@Override
+			public Class<ItemMatch> getTypeClass() {
+				return ItemMatch.class;
+			}
+		};
+}
\ No newline at end of file
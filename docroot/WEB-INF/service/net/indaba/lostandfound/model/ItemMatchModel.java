@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.expando.kernel.model.ExpandoBridge;
+
+import com.liferay.portal.kernel.model.BaseModel;
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.model.ShardedModel;
+import com.liferay.portal.kernel.service.ServiceContext;
+
+import java.io.Serializable;
+
+import java.util.Date;
+
+/**
+ * The base model interface for the ItemMatch service. Represents a row in the &quot;lfvo_ItemMatch&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This interface and its corresponding implementation {@link net.indaba.lostandfound.model.impl.ItemMatchModelImpl} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link net.indaba.lostandfound.model.impl.ItemMatchImpl}.
+ * </p>
+ *
+ * @author aritz
+ * @see ItemMatch
+ * @see net.indaba.lostandfound.model.impl.ItemMatchImpl
+ * @see net.indaba.lostandfound.model.impl.ItemMatchModelImpl
+ * @generated
+ */
+@ProviderType
+public interface ItemMatchModel extends BaseModel<ItemMatch>, ShardedModel {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. All methods that expect a item match model instance should use the {@link ItemMatch} interface instead.
+	 */
+
+	/**
+	 * Returns the primary key of this item match.
+	 *
+	 * @return the primary key of this item match
+	 */
+	public long getPrimaryKey();
+
+	/**
+	 * Sets the primary key of this item match.
+	 *
+	 * @param primaryKey the primary key of this item match
+	 */
+	public void setPrimaryKey(long primaryKey);
+
+	/**
+	 * Returns the match ID of this item match.
+	 *
+	 * @return the match ID of this item match
+	 */
+	public long getMatchId();
+
+	/**
+	 * Sets the match ID of this item match.
+	 *
+	 * @param matchId the match ID of this item match
+	 */
+	public void setMatchId(long matchId);
+
+	/**
+	 * Returns the company ID of this item match.
+	 *
+	 * @return the company ID of this item match
+	 */
+	@Override
+	public long getCompanyId();
+
+	/**
+	 * Sets the company ID of this item match.
+	 *
+	 * @param companyId the company ID of this item match
+	 */
+	@Override
+	public void setCompanyId(long companyId);
+
+	/**
+	 * Returns the create date of this item match.
+	 *
+	 * @return the create date of this item match
+	 */
+	public Date getCreateDate();
+
+	/**
+	 * Sets the create date of this item match.
+	 *
+	 * @param createDate the create date of this item match
+	 */
+	public void setCreateDate(Date createDate);
+
+	/**
+	 * Returns the item ID of this item match.
+	 *
+	 * @return the item ID of this item match
+	 */
+	public long getItemId();
+
+	/**
+	 * Sets the item ID of this item match.
+	 *
+	 * @param itemId the item ID of this item match
+	 */
+	public void setItemId(long itemId);
+
+	/**
+	 * Returns the matched item ID of this item match.
+	 *
+	 * @return the matched item ID of this item match
+	 */
+	public long getMatchedItemId();
+
+	/**
+	 * Sets the matched item ID of this item match.
+	 *
+	 * @param matchedItemId the matched item ID of this item match
+	 */
+	public void setMatchedItemId(long matchedItemId);
+
+	/**
+	 * Returns the score of this item match.
+	 *
+	 * @return the score of this item match
+	 */
+	public double getScore();
+
+	/**
+	 * Sets the score of this item match.
+	 *
+	 * @param score the score of this item match
+	 */
+	public void setScore(double score);
+
+	@Override
+	public boolean isNew();
+
+	@Override
+	public void setNew(boolean n);
+
+	@Override
+	public boolean isCachedModel();
+
+	@Override
+	public void setCachedModel(boolean cachedModel);
+
+	@Override
+	public boolean isEscapedModel();
+
+	@Override
+	public Serializable getPrimaryKeyObj();
+
+	@Override
+	public void setPrimaryKeyObj(Serializable primaryKeyObj);
+
+	@Override
+	public ExpandoBridge getExpandoBridge();
+
+	@Override
+	public void setExpandoBridgeAttributes(BaseModel<?> baseModel);
+
+	@Override
+	public void setExpandoBridgeAttributes(ExpandoBridge expandoBridge);
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext);
+
+	@Override
+	public Object clone();
+
+	@Override
+	public int compareTo(ItemMatch itemMatch);
+
+	@Override
+	public int hashCode();
+
+	@Override
+	public CacheModel<ItemMatch> toCacheModel();
+
+	@Override
+	public ItemMatch toEscapedModel();
+
+	@Override
+	public ItemMatch toUnescapedModel();
+
+	@Override
+	public String toString();
+
+	@Override
+	public String toXmlString();
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model;
+
+import aQute.bnd.annotation.ProviderType;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * This class is used by SOAP remote services.
+ *
+ * @author aritz
+ * @generated
+ */
+@ProviderType
+public class ItemMatchSoap implements Serializable {
+	public static ItemMatchSoap toSoapModel(ItemMatch model) {
+		ItemMatchSoap soapModel = new ItemMatchSoap();
+
+		soapModel.setMatchId(model.getMatchId());
+		soapModel.setCompanyId(model.getCompanyId());
+		soapModel.setCreateDate(model.getCreateDate());
+		soapModel.setItemId(model.getItemId());
+		soapModel.setMatchedItemId(model.getMatchedItemId());
+		soapModel.setScore(model.getScore());
+
+		return soapModel;
+	}
+
+	public static ItemMatchSoap[] toSoapModels(ItemMatch[] models) {
+		ItemMatchSoap[] soapModels = new ItemMatchSoap[models.length];
+
+		for (int i = 0; i < models.length; i++) {
+			soapModels[i] = toSoapModel(models[i]);
+		}
+
+		return soapModels;
+	}
+
+	public static ItemMatchSoap[][] toSoapModels(ItemMatch[][] models) {
+		ItemMatchSoap[][] soapModels = null;
+
+		if (models.length > 0) {
+			soapModels = new ItemMatchSoap[models.length][models[0].length];
+		}
+		else {
+			soapModels = new ItemMatchSoap[0][0];
+		}
+
+		for (int i = 0; i < models.length; i++) {
+			soapModels[i] = toSoapModels(models[i]);
+		}
+
+		return soapModels;
+	}
+
+	public static ItemMatchSoap[] toSoapModels(List<ItemMatch> models) {
+		List<ItemMatchSoap> soapModels = new ArrayList<ItemMatchSoap>(models.size());
+
+		for (ItemMatch model : models) {
+			soapModels.add(toSoapModel(model));
+		}
+
+		return soapModels.toArray(new ItemMatchSoap[soapModels.size()]);
+	}
+
+	public ItemMatchSoap() {
+	}
+
+	public long getPrimaryKey() {
+		return _matchId;
+	}
+
+	public void setPrimaryKey(long pk) {
+		setMatchId(pk);
+	}
+
+	public long getMatchId() {
+		return _matchId;
+	}
+
+	public void setMatchId(long matchId) {
+		_matchId = matchId;
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	public void setCompanyId(long companyId) {
+		_companyId = companyId;
+	}
+
+	public Date getCreateDate() {
+		return _createDate;
+	}
+
+	public void setCreateDate(Date createDate) {
+		_createDate = createDate;
+	}
+
+	public long getItemId() {
+		return _itemId;
+	}
+
+	public void setItemId(long itemId) {
+		_itemId = itemId;
+	}
+
+	public long getMatchedItemId() {
+		return _matchedItemId;
+	}
+
+	public void setMatchedItemId(long matchedItemId) {
+		_matchedItemId = matchedItemId;
+	}
+
+	public double getScore() {
+		return _score;
+	}
+
+	public void setScore(double score) {
+		_score = score;
+	}
+
+	private long _matchId;
+	private long _companyId;
+	private Date _createDate;
+	private long _itemId;
+	private long _matchedItemId;
+	private double _score;
+}
\ No newline at end of file
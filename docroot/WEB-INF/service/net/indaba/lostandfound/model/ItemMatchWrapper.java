@@ -0,0 +1,390 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.expando.kernel.model.ExpandoBridge;
+
+import com.liferay.portal.kernel.model.ModelWrapper;
+import com.liferay.portal.kernel.service.ServiceContext;
+
+import java.io.Serializable;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ * This class is a wrapper for {@link ItemMatch}.
+ * </p>
+ *
+ * @author aritz
+ * @see ItemMatch
+ * @generated
+ */
+@ProviderType
+public class ItemMatchWrapper implements ItemMatch, ModelWrapper<ItemMatch> {
+	public ItemMatchWrapper(ItemMatch itemMatch) {
+		_itemMatch = itemMatch;
+	}
+
+	@Override
+	public Class<?> getModelClass() {
+		return ItemMatch.class;
+	}
+
+	@Override
+	public String getModelClassName() {
+		return ItemMatch.class.getName();
+	}
+
+	@Override
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("matchId", getMatchId());
+		attributes.put("companyId", getCompanyId());
+		attributes.put("createDate", getCreateDate());
+		attributes.put("itemId", getItemId());
+		attributes.put("matchedItemId", getMatchedItemId());
+		attributes.put("score", getScore());
+
+		return attributes;
+	}
+
+	@Override
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long matchId = (Long)attributes.get("matchId");
+
+		if (matchId != null) {
+			setMatchId(matchId);
+		}
+
+		Long companyId = (Long)attributes.get("companyId");
+
+		if (companyId != null) {
+			setCompanyId(companyId);
+		}
+
+		Date createDate = (Date)attributes.get("createDate");
+
+		if (createDate != null) {
+			setCreateDate(createDate);
+		}
+
+		Long itemId = (Long)attributes.get("itemId");
+
+		if (itemId != null) {
+			setItemId(itemId);
+		}
+
+		Long matchedItemId = (Long)attributes.get("matchedItemId");
+
+		if (matchedItemId != null) {
+			setMatchedItemId(matchedItemId);
+		}
+
+		Double score = (Double)attributes.get("score");
+
+		if (score != null) {
+			setScore(score);
+		}
+	}
+
+	@Override
+	public java.lang.Object clone() {
+		return new ItemMatchWrapper((ItemMatch)_itemMatch.clone());
+	}
+
+	@Override
+	public int compareTo(ItemMatch itemMatch) {
+		return _itemMatch.compareTo(itemMatch);
+	}
+
+	/**
+	* Returns the company ID of this item match.
+	*
+	* @return the company ID of this item match
+	*/
+	@Override
+	public long getCompanyId() {
+		return _itemMatch.getCompanyId();
+	}
+
+	/**
+	* Returns the create date of this item match.
+	*
+	* @return the create date of this item match
+	*/
+	@Override
+	public Date getCreateDate() {
+		return _itemMatch.getCreateDate();
+	}
+
+	@Override
+	public ExpandoBridge getExpandoBridge() {
+		return _itemMatch.getExpandoBridge();
+	}
+
+	/**
+	* Returns the item ID of this item match.
+	*
+	* @return the item ID of this item match
+	*/
+	@Override
+	public long getItemId() {
+		return _itemMatch.getItemId();
+	}
+
+	/**
+	* Returns the matched item ID of this item match.
+	*
+	* @return the matched item ID of this item match
+	*/
+	@Override
+	public long getMatchedItemId() {
+		return _itemMatch.getMatchedItemId();
+	}
+
+	/**
+	* Returns the match ID of this item match.
+	*
+	* @return the match ID of this item match
+	*/
+	@Override
+	public long getMatchId() {
+		return _itemMatch.getMatchId();
+	}
+
+	/**
+	* Returns the primary key of this item match.
+	*
+	* @return the primary key of this item match
+	*/
+	@Override
+	public long getPrimaryKey() {
+		return _itemMatch.getPrimaryKey();
+	}
+
+	@Override
+	public Serializable getPrimaryKeyObj() {
+		return _itemMatch.getPrimaryKeyObj();
+	}
+
+	/**
+	* Returns the score of this item match.
+	*
+	* @return the score of this item match
+	*/
+	@Override
+	public double getScore() {
+		return _itemMatch.getScore();
+	}
+
+	@Override
+	public int hashCode() {
+		return _itemMatch.hashCode();
+	}
+
+	@Override
+	public boolean isCachedModel() {
+		return _itemMatch.isCachedModel();
+	}
+
+	@Override
+	public boolean isEscapedModel() {
+		return _itemMatch.isEscapedModel();
+	}
+
+	@Override
+	public boolean isNew() {
+		return _itemMatch.isNew();
+	}
+
+	@Override
+	public void persist() {
+		_itemMatch.persist();
+	}
+
+	@Override
+	public void setCachedModel(boolean cachedModel) {
+		_itemMatch.setCachedModel(cachedModel);
+	}
+
+	/**
+	* Sets the company ID of this item match.
+	*
+	* @param companyId the company ID of this item match
+	*/
+	@Override
+	public void setCompanyId(long companyId) {
+		_itemMatch.setCompanyId(companyId);
+	}
+
+	/**
+	* Sets the create date of this item match.
+	*
+	* @param createDate the create date of this item match
+	*/
+	@Override
+	public void setCreateDate(Date createDate) {
+		_itemMatch.setCreateDate(createDate);
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(
+		com.liferay.portal.kernel.model.BaseModel<?> baseModel) {
+		_itemMatch.setExpandoBridgeAttributes(baseModel);
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ExpandoBridge expandoBridge) {
+		_itemMatch.setExpandoBridgeAttributes(expandoBridge);
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext) {
+		_itemMatch.setExpandoBridgeAttributes(serviceContext);
+	}
+
+	/**
+	* Sets the item ID of this item match.
+	*
+	* @param itemId the item ID of this item match
+	*/
+	@Override
+	public void setItemId(long itemId) {
+		_itemMatch.setItemId(itemId);
+	}
+
+	/**
+	* Sets the matched item ID of this item match.
+	*
+	* @param matchedItemId the matched item ID of this item match
+	*/
+	@Override
+	public void setMatchedItemId(long matchedItemId) {
+		_itemMatch.setMatchedItemId(matchedItemId);
+	}
+
+	/**
+	* Sets the match ID of this item match.
+	*
+	* @param matchId the match ID of this item match
+	*/
+	@Override
+	public void setMatchId(long matchId) {
+		_itemMatch.setMatchId(matchId);
+	}
+
+	@Override
+	public void setNew(boolean n) {
+		_itemMatch.setNew(n);
+	}
+
+	/**
+	* Sets the primary key of this item match.
+	*
+	* @param primaryKey the primary key of this item match
+	*/
+	@Override
+	public void setPrimaryKey(long primaryKey) {
+		_itemMatch.setPrimaryKey(primaryKey);
+	}
+
+	@Override
+	public void setPrimaryKeyObj(Serializable primaryKeyObj) {
+		_itemMatch.setPrimaryKeyObj(primaryKeyObj);
+	}
+
+	/**
+	* Sets the score of this item match.
+	*
+	* @param score the score of this item match
+	*/
+	@Override
+	public void setScore(double score) {
+		_itemMatch.setScore(score);
+	}
+
+	@Override
+	public com.liferay.portal.kernel.model.CacheModel<ItemMatch> toCacheModel() {
+		return _itemMatch.toCacheModel();
+	}
+
+	@Override
+	public ItemMatch toEscapedModel() {
+		return new ItemMatchWrapper(_itemMatch.toEscapedModel());
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return _itemMatch.toString();
+	}
+
+	@Override
+	public ItemMatch toUnescapedModel() {
+		return new ItemMatchWrapper(_itemMatch.toUnescapedModel());
+	}
+
+	@Override
+	public java.lang.String toXmlString() {
+		return _itemMatch.toXmlString();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof ItemMatchWrapper)) {
+			return false;
+		}
+
+		ItemMatchWrapper itemMatchWrapper = (ItemMatchWrapper)obj;
+
+		if (Objects.equals(_itemMatch, itemMatchWrapper._itemMatch)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public ItemMatch getWrappedModel() {
+		return _itemMatch;
+	}
+
+	@Override
+	public boolean isEntityCacheEnabled() {
+		return _itemMatch.isEntityCacheEnabled();
+	}
+
+	@Override
+	public boolean isFinderCacheEnabled() {
+		return _itemMatch.isFinderCacheEnabled();
+	}
+
+	@Override
+	public void resetOriginalValues() {
+		_itemMatch.resetOriginalValues();
+	}
+
+	private final ItemMatch _itemMatch;
+}
\ No newline at end of file
@@ -0,0 +1,324 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.service.ServiceWrapper;
+
+/**
+ * Provides a wrapper for {@link FirebaseKeyLocalService}.
+ *
+ * @author aritz
+ * @see FirebaseKeyLocalService
+ * @generated
+ */
+@ProviderType
+public class FirebaseKeyLocalServiceWrapper implements FirebaseKeyLocalService,
+	ServiceWrapper<FirebaseKeyLocalService> {
+	public FirebaseKeyLocalServiceWrapper(
+		FirebaseKeyLocalService firebaseKeyLocalService) {
+		_firebaseKeyLocalService = firebaseKeyLocalService;
+	}
+
+	/**
+	* Adds the firebase key to the database. Also notifies the appropriate model listeners.
+	*
+	* @param firebaseKey the firebase key
+	* @return the firebase key that was added
+	*/
+	@Override
+	public net.indaba.lostandfound.model.FirebaseKey addFirebaseKey(
+		net.indaba.lostandfound.model.FirebaseKey firebaseKey) {
+		return _firebaseKeyLocalService.addFirebaseKey(firebaseKey);
+	}
+
+	/**
+	* Creates a new firebase key with the primary key. Does not add the firebase key to the database.
+	*
+	* @param firebaseKeyId the primary key for the new firebase key
+	* @return the new firebase key
+	*/
+	@Override
+	public net.indaba.lostandfound.model.FirebaseKey createFirebaseKey(
+		long firebaseKeyId) {
+		return _firebaseKeyLocalService.createFirebaseKey(firebaseKeyId);
+	}
+
+	/**
+	* Removes the Firebase key stored for the entity, if any
+	*
+	* @param className
+	* @param classPK
+	*/
+	@Override
+	public void deleteFbKey(java.lang.String className, long classPK) {
+		_firebaseKeyLocalService.deleteFbKey(className, classPK);
+	}
+
+	/**
+	* Deletes the firebase key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param firebaseKey the firebase key
+	* @return the firebase key that was removed
+	*/
+	@Override
+	public net.indaba.lostandfound.model.FirebaseKey deleteFirebaseKey(
+		net.indaba.lostandfound.model.FirebaseKey firebaseKey) {
+		return _firebaseKeyLocalService.deleteFirebaseKey(firebaseKey);
+	}
+
+	/**
+	* Deletes the firebase key with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param firebaseKeyId the primary key of the firebase key
+	* @return the firebase key that was removed
+	* @throws PortalException if a firebase key with the primary key could not be found
+	*/
+	@Override
+	public net.indaba.lostandfound.model.FirebaseKey deleteFirebaseKey(
+		long firebaseKeyId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _firebaseKeyLocalService.deleteFirebaseKey(firebaseKeyId);
+	}
+
+	/**
+	* @throws PortalException
+	*/
+	@Override
+	public com.liferay.portal.kernel.model.PersistedModel deletePersistedModel(
+		com.liferay.portal.kernel.model.PersistedModel persistedModel)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _firebaseKeyLocalService.deletePersistedModel(persistedModel);
+	}
+
+	@Override
+	public com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery() {
+		return _firebaseKeyLocalService.dynamicQuery();
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns the matching rows.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the matching rows
+	*/
+	@Override
+	public <T> java.util.List<T> dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery) {
+		return _firebaseKeyLocalService.dynamicQuery(dynamicQuery);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns a range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.FirebaseKeyModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @return the range of matching rows
+	*/
+	@Override
+	public <T> java.util.List<T> dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end) {
+		return _firebaseKeyLocalService.dynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.FirebaseKeyModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching rows
+	*/
+	@Override
+	public <T> java.util.List<T> dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end,
+		com.liferay.portal.kernel.util.OrderByComparator<T> orderByComparator) {
+		return _firebaseKeyLocalService.dynamicQuery(dynamicQuery, start, end,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the number of rows matching the dynamic query
+	*/
+	@Override
+	public long dynamicQueryCount(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery) {
+		return _firebaseKeyLocalService.dynamicQueryCount(dynamicQuery);
+	}
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @param projection the projection to apply to the query
+	* @return the number of rows matching the dynamic query
+	*/
+	@Override
+	public long dynamicQueryCount(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery,
+		com.liferay.portal.kernel.dao.orm.Projection projection) {
+		return _firebaseKeyLocalService.dynamicQueryCount(dynamicQuery,
+			projection);
+	}
+
+	/**
+	* Returns the Firebase key stored for the entity
+	*
+	* @param className
+	* @param classPK
+	* @return The FirebaseKey for the entity or null if none was stored
+	*/
+	@Override
+	public java.lang.String fetchFbKey(java.lang.String className, long classPK) {
+		return _firebaseKeyLocalService.fetchFbKey(className, classPK);
+	}
+
+	@Override
+	public net.indaba.lostandfound.model.FirebaseKey fetchFirebaseKey(
+		long firebaseKeyId) {
+		return _firebaseKeyLocalService.fetchFirebaseKey(firebaseKeyId);
+	}
+
+	@Override
+	public com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery getActionableDynamicQuery() {
+		return _firebaseKeyLocalService.getActionableDynamicQuery();
+	}
+
+	/**
+	* Returns a range of all the firebase keies.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.FirebaseKeyModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of firebase keies
+	* @param end the upper bound of the range of firebase keies (not inclusive)
+	* @return the range of firebase keies
+	*/
+	@Override
+	public java.util.List<net.indaba.lostandfound.model.FirebaseKey> getFirebaseKeies(
+		int start, int end) {
+		return _firebaseKeyLocalService.getFirebaseKeies(start, end);
+	}
+
+	/**
+	* Returns the number of firebase keies.
+	*
+	* @return the number of firebase keies
+	*/
+	@Override
+	public int getFirebaseKeiesCount() {
+		return _firebaseKeyLocalService.getFirebaseKeiesCount();
+	}
+
+	/**
+	* Returns the firebase key with the primary key.
+	*
+	* @param firebaseKeyId the primary key of the firebase key
+	* @return the firebase key
+	* @throws PortalException if a firebase key with the primary key could not be found
+	*/
+	@Override
+	public net.indaba.lostandfound.model.FirebaseKey getFirebaseKey(
+		long firebaseKeyId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _firebaseKeyLocalService.getFirebaseKey(firebaseKeyId);
+	}
+
+	@Override
+	public com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery getIndexableActionableDynamicQuery() {
+		return _firebaseKeyLocalService.getIndexableActionableDynamicQuery();
+	}
+
+	/**
+	* Returns the OSGi service identifier.
+	*
+	* @return the OSGi service identifier
+	*/
+	@Override
+	public java.lang.String getOSGiServiceIdentifier() {
+		return _firebaseKeyLocalService.getOSGiServiceIdentifier();
+	}
+
+	@Override
+	public com.liferay.portal.kernel.model.PersistedModel getPersistedModel(
+		java.io.Serializable primaryKeyObj)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _firebaseKeyLocalService.getPersistedModel(primaryKeyObj);
+	}
+
+	@Override
+	public java.lang.Object invokeMethod(java.lang.String name,
+		java.lang.String[] parameterTypes, java.lang.Object[] arguments)
+		throws java.lang.Throwable {
+		return _firebaseKeyLocalService.invokeMethod(name, parameterTypes,
+			arguments);
+	}
+
+	/**
+	* Stores the Firebase key for the entity, replacing any previous one
+	*
+	* @param className
+	* @param classPK
+	* @param fbKey
+	* @return The stored mapping
+	*/
+	@Override
+	public net.indaba.lostandfound.model.FirebaseKey updateFbKey(
+		java.lang.String className, long classPK, java.lang.String fbKey) {
+		return _firebaseKeyLocalService.updateFbKey(className, classPK, fbKey);
+	}
+
+	/**
+	* Updates the firebase key in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param firebaseKey the firebase key
+	* @return the firebase key that was updated
+	*/
+	@Override
+	public net.indaba.lostandfound.model.FirebaseKey updateFirebaseKey(
+		net.indaba.lostandfound.model.FirebaseKey firebaseKey) {
+		return _firebaseKeyLocalService.updateFirebaseKey(firebaseKey);
+	}
+
+	@Override
+	public FirebaseKeyLocalService getWrappedService() {
+		return _firebaseKeyLocalService;
+	}
+
+	@Override
+	public void setWrappedService(
+		FirebaseKeyLocalService firebaseKeyLocalService) {
+		_firebaseKeyLocalService = firebaseKeyLocalService;
+	}
+
+	private FirebaseKeyLocalService _firebaseKeyLocalService;
+}
\ No newline at end of file
@@ -0,0 +1,291 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.orm.Projection;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.model.BaseModel;
+import com.liferay.portal.kernel.model.PersistedModel;
+import com.liferay.portal.kernel.search.Indexable;
+import com.liferay.portal.kernel.search.IndexableType;
+import com.liferay.portal.kernel.service.BaseLocalService;
+import com.liferay.portal.kernel.service.InvokableLocalService;
+import com.liferay.portal.kernel.service.PersistedModelLocalService;
+import com.liferay.portal.kernel.transaction.Isolation;
+import com.liferay.portal.kernel.transaction.Propagation;
+import com.liferay.portal.kernel.transaction.Transactional;
+import com.liferay.portal.kernel.util.OrderByComparator;
+
+import net.indaba.lostandfound.model.FirebaseOutboxEntry;
+
+import java.io.Serializable;
+
+import java.util.List;
+
+/**
+ * Provides the local service interface for FirebaseOutboxEntry. Methods of this
+ * service will not have security checks based on the propagated JAAS
+ * credentials because this service can only be accessed from within the same
+ * VM.
+ *
+ * @author aritz
+ * @see FirebaseOutboxEntryLocalServiceUtil
+ * @see net.indaba.lostandfound.service.base.FirebaseOutboxEntryLocalServiceBaseImpl
+ * @see net.indaba.lostandfound.service.impl.FirebaseOutboxEntryLocalServiceImpl
+ * @generated
+ */
+@ProviderType
+@Transactional(isolation = Isolation.PORTAL, rollbackFor =  {
+	PortalException.class, SystemException.class})
+public interface FirebaseOutboxEntryLocalService extends BaseLocalService,
+	InvokableLocalService, PersistedModelLocalService {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. Always use {@link FirebaseOutboxEntryLocalServiceUtil} to access the firebase outbox entry local service. Add custom service methods to {@link net.indaba.lostandfound.service.impl.FirebaseOutboxEntryLocalServiceImpl} and rerun ServiceBuilder to automatically copy the method declarations to this interface.
+	 */
+
+	/**
+	* Queues the removal of the entity. Call it from the transaction that
+	* deletes the entity so that both commit together. The entry waits the
+	* same firebase.outbox.coalesce.window as updates, so that it is never
+	* due before an update queued earlier and both are replicated together.
+	*
+	* @param entity
+	* @return The queued entry
+	*/
+	public FirebaseOutboxEntry addDeleteEntry(BaseModel<?> entity);
+
+	/**
+	* Adds the firebase outbox entry to the database. Also notifies the appropriate model listeners.
+	*
+	* @param firebaseOutboxEntry the firebase outbox entry
+	* @return the firebase outbox entry that was added
+	*/
+	@Indexable(type = IndexableType.REINDEX)
+	public FirebaseOutboxEntry addFirebaseOutboxEntry(
+		FirebaseOutboxEntry firebaseOutboxEntry);
+
+	/**
+	* Queues the replication of the entity's current state. Call it from the
+	* transaction that changes the entity so that both commit together. The
+	* entry only becomes due after firebase.outbox.coalesce.window, so that
+	* further changes to the entity within the window are replicated at once.
+	*
+	* @param entity
+	* @return The queued entry
+	*/
+	public FirebaseOutboxEntry addUpdateEntry(BaseModel<?> entity);
+
+	/**
+	* Claims the entries whose next attempt is due, in the order they were
+	* queued. A claimed entry is postponed by the lease time, so that no other
+	* dispatcher picks it up while it is being sent. An entity's entries are
+	* only claimed once all its earlier entries are gone, so they are sent in
+	* the order they were queued even when an earlier one is being retried.
+	*
+	* @param count
+	Maximum number of due entries to consider
+	* @param leaseTime
+	Time in milliseconds the claimed entries are reserved for
+	* @return The claimed entries, oldest first
+	*/
+	public List<FirebaseOutboxEntry> claimPendingEntries(int count,
+		long leaseTime);
+
+	/**
+	* Creates a new firebase outbox entry with the primary key. Does not add the firebase outbox entry to the database.
+	*
+	* @param outboxEntryId the primary key for the new firebase outbox entry
+	* @return the new firebase outbox entry
+	*/
+	public FirebaseOutboxEntry createFirebaseOutboxEntry(long outboxEntryId);
+
+	/**
+	* Records a failed attempt and postpones the entry. The delay doubles with
+	* every attempt up to firebase.outbox.retry.max.delay.
+	*
+	* @param outboxEntryId
+	* @param error
+	Description of the failure
+	* @return The postponed entry
+	* @throws PortalException
+	If the entry does not exist
+	*/
+	public FirebaseOutboxEntry deferEntry(long outboxEntryId,
+		java.lang.String error) throws PortalException;
+
+	/**
+	* Deletes the firebase outbox entry from the database. Also notifies the appropriate model listeners.
+	*
+	* @param firebaseOutboxEntry the firebase outbox entry
+	* @return the firebase outbox entry that was removed
+	*/
+	@Indexable(type = IndexableType.DELETE)
+	public FirebaseOutboxEntry deleteFirebaseOutboxEntry(
+		FirebaseOutboxEntry firebaseOutboxEntry);
+
+	/**
+	* Deletes the firebase outbox entry with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param outboxEntryId the primary key of the firebase outbox entry
+	* @return the firebase outbox entry that was removed
+	* @throws PortalException if a firebase outbox entry with the primary key could not be found
+	*/
+	@Indexable(type = IndexableType.DELETE)
+	public FirebaseOutboxEntry deleteFirebaseOutboxEntry(long outboxEntryId)
+		throws PortalException;
+
+	/**
+	* @throws PortalException
+	*/
+	@Override
+	public PersistedModel deletePersistedModel(PersistedModel persistedModel)
+		throws PortalException;
+
+	public DynamicQuery dynamicQuery();
+
+	/**
+	* Performs a dynamic query on the database and returns the matching rows.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the matching rows
+	*/
+	public <T> List<T> dynamicQuery(DynamicQuery dynamicQuery);
+
+	/**
+	* Performs a dynamic query on the database and returns a range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @return the range of matching rows
+	*/
+	public <T> List<T> dynamicQuery(DynamicQuery dynamicQuery, int start,
+		int end);
+
+	/**
+	* Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching rows
+	*/
+	public <T> List<T> dynamicQuery(DynamicQuery dynamicQuery, int start,
+		int end, OrderByComparator<T> orderByComparator);
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the number of rows matching the dynamic query
+	*/
+	public long dynamicQueryCount(DynamicQuery dynamicQuery);
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @param projection the projection to apply to the query
+	* @return the number of rows matching the dynamic query
+	*/
+	public long dynamicQueryCount(DynamicQuery dynamicQuery,
+		Projection projection);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public FirebaseOutboxEntry fetchFirebaseOutboxEntry(long outboxEntryId);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public ActionableDynamicQuery getActionableDynamicQuery();
+
+	/**
+	* Returns a range of all the firebase outbox entries.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @return the range of firebase outbox entries
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<FirebaseOutboxEntry> getFirebaseOutboxEntries(int start, int end);
+
+	/**
+	* Returns the number of firebase outbox entries.
+	*
+	* @return the number of firebase outbox entries
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public int getFirebaseOutboxEntriesCount();
+
+	/**
+	* Returns the firebase outbox entry with the primary key.
+	*
+	* @param outboxEntryId the primary key of the firebase outbox entry
+	* @return the firebase outbox entry
+	* @throws PortalException if a firebase outbox entry with the primary key could not be found
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public FirebaseOutboxEntry getFirebaseOutboxEntry(long outboxEntryId)
+		throws PortalException;
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public IndexableActionableDynamicQuery getIndexableActionableDynamicQuery();
+
+	/**
+	* Returns the OSGi service identifier.
+	*
+	* @return the OSGi service identifier
+	*/
+	public java.lang.String getOSGiServiceIdentifier();
+
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public PersistedModel getPersistedModel(Serializable primaryKeyObj)
+		throws PortalException;
+
+	@Override
+	public java.lang.Object invokeMethod(java.lang.String name,
+		java.lang.String[] parameterTypes, java.lang.Object[] arguments)
+		throws java.lang.Throwable;
+
+	/**
+	* Updates the firebase outbox entry in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param firebaseOutboxEntry the firebase outbox entry
+	* @return the firebase outbox entry that was updated
+	*/
+	@Indexable(type = IndexableType.REINDEX)
+	public FirebaseOutboxEntry updateFirebaseOutboxEntry(
+		FirebaseOutboxEntry firebaseOutboxEntry);
+}
\ No newline at end of file
@@ -0,0 +1,358 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.service.ServiceWrapper;
+
+/**
+ * Provides a wrapper for {@link FirebaseOutboxEntryLocalService}.
+ *
+ * @author aritz
+ * @see FirebaseOutboxEntryLocalService
+ * @generated
+ */
+@ProviderType
+public class FirebaseOutboxEntryLocalServiceWrapper
+	implements FirebaseOutboxEntryLocalService,
+		ServiceWrapper<FirebaseOutboxEntryLocalService> {
+	public FirebaseOutboxEntryLocalServiceWrapper(
+		FirebaseOutboxEntryLocalService firebaseOutboxEntryLocalService) {
+		_firebaseOutboxEntryLocalService = firebaseOutboxEntryLocalService;
+	}
+
+	/**
+	* Queues the removal of the entity. Call it from the transaction that
+	* deletes the entity so that both commit together. The entry waits the
+	* same firebase.outbox.coalesce.window as updates, so that it is never
+	* due before an update queued earlier and both are replicated together.
+	*
+	* @param entity
+	* @return The queued entry
+	*/
+	@Override
+	public net.indaba.lostandfound.model.FirebaseOutboxEntry addDeleteEntry(
+		com.liferay.portal.kernel.model.BaseModel<?> entity) {
+		return _firebaseOutboxEntryLocalService.addDeleteEntry(entity);
+	}
+
+	/**
+	* Adds the firebase outbox entry to the database. Also notifies the appropriate model listeners.
+	*
+	* @param firebaseOutboxEntry the firebase outbox entry
+	* @return the firebase outbox entry that was added
+	*/
+	@Override
+	public net.indaba.lostandfound.model.FirebaseOutboxEntry addFirebaseOutboxEntry(
+		net.indaba.lostandfound.model.FirebaseOutboxEntry firebaseOutboxEntry) {
+		return _firebaseOutboxEntryLocalService.addFirebaseOutboxEntry(firebaseOutboxEntry);
+	}
+
+	/**
+	* Queues the replication of the entity's current state. Call it from the
+	* transaction that changes the entity so that both commit together. The
+	* entry only becomes due after firebase.outbox.coalesce.window, so that
+	* further changes to the entity within the window are replicated at once.
+	*
+	* @param entity
+	* @return The queued entry
+	*/
+	@Override
+	public net.indaba.lostandfound.model.FirebaseOutboxEntry addUpdateEntry(
+		com.liferay.portal.kernel.model.BaseModel<?> entity) {
+		return _firebaseOutboxEntryLocalService.addUpdateEntry(entity);
+	}
+
+	/**
+	* Claims the entries whose next attempt is due, in the order they were
+	* queued. A claimed entry is postponed by the lease time, so that no other
+	* dispatcher picks it up while it is being sent. An entity's entries are
+	* only claimed once all its earlier entries are gone, so they are sent in
+	* the order they were queued even when an earlier one is being retried.
+	*
+	* @param count
+	Maximum number of due entries to consider
+	* @param leaseTime
+	Time in milliseconds the claimed entries are reserved for
+	* @return The claimed entries, oldest first
+	*/
+	@Override
+	public java.util.List<net.indaba.lostandfound.model.FirebaseOutboxEntry> claimPendingEntries(
+		int count, long leaseTime) {
+		return _firebaseOutboxEntryLocalService.claimPendingEntries(count,
+			leaseTime);
+	}
+
+	/**
+	* Creates a new firebase outbox entry with the primary key. Does not add the firebase outbox entry to the database.
+	*
+	* @param outboxEntryId the primary key for the new firebase outbox entry
+	* @return the new firebase outbox entry
+	*/
+	@Override
+	public net.indaba.lostandfound.model.FirebaseOutboxEntry createFirebaseOutboxEntry(
+		long outboxEntryId) {
+		return _firebaseOutboxEntryLocalService.createFirebaseOutboxEntry(outboxEntryId);
+	}
+
+	/**
+	* Records a failed attempt and postpones the entry. The delay doubles with
+	* every attempt up to firebase.outbox.retry.max.delay.
+	*
+	* @param outboxEntryId
+	* @param error
+	Description of the failure
+	* @return The postponed entry
+	* @throws PortalException
+	If the entry does not exist
+	*/
+	@Override
+	public net.indaba.lostandfound.model.FirebaseOutboxEntry deferEntry(
+		long outboxEntryId, java.lang.String error)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _firebaseOutboxEntryLocalService.deferEntry(outboxEntryId, error);
+	}
+
+	/**
+	* Deletes the firebase outbox entry from the database. Also notifies the appropriate model listeners.
+	*
+	* @param firebaseOutboxEntry the firebase outbox entry
+	* @return the firebase outbox entry that was removed
+	*/
+	@Override
+	public net.indaba.lostandfound.model.FirebaseOutboxEntry deleteFirebaseOutboxEntry(
+		net.indaba.lostandfound.model.FirebaseOutboxEntry firebaseOutboxEntry) {
+		return _firebaseOutboxEntryLocalService.deleteFirebaseOutboxEntry(firebaseOutboxEntry);
+	}
+
+	/**
+	* Deletes the firebase outbox entry with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param outboxEntryId the primary key of the firebase outbox entry
+	* @return the firebase outbox entry that was removed
+	* @throws PortalException if a firebase outbox entry with the primary key could not be found
+	*/
+	@Override
+	public net.indaba.lostandfound.model.FirebaseOutboxEntry deleteFirebaseOutboxEntry(
+		long outboxEntryId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _firebaseOutboxEntryLocalService.deleteFirebaseOutboxEntry(outboxEntryId);
+	}
+
+	/**
+	* @throws PortalException
+	*/
+	@Override
+	public com.liferay.portal.kernel.model.PersistedModel deletePersistedModel(
+		com.liferay.portal.kernel.model.PersistedModel persistedModel)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _firebaseOutboxEntryLocalService.deletePersistedModel(persistedModel);
+	}
+
+	@Override
+	public com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery() {
+		return _firebaseOutboxEntryLocalService.dynamicQuery();
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns the matching rows.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the matching rows
+	*/
+	@Override
+	public <T> java.util.List<T> dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery) {
+		return _firebaseOutboxEntryLocalService.dynamicQuery(dynamicQuery);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns a range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @return the range of matching rows
+	*/
+	@Override
+	public <T> java.util.List<T> dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end) {
+		return _firebaseOutboxEntryLocalService.dynamicQuery(dynamicQuery,
+			start, end);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching rows
+	*/
+	@Override
+	public <T> java.util.List<T> dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end,
+		com.liferay.portal.kernel.util.OrderByComparator<T> orderByComparator) {
+		return _firebaseOutboxEntryLocalService.dynamicQuery(dynamicQuery,
+			start, end, orderByComparator);
+	}
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the number of rows matching the dynamic query
+	*/
+	@Override
+	public long dynamicQueryCount(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery) {
+		return _firebaseOutboxEntryLocalService.dynamicQueryCount(dynamicQuery);
+	}
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @param projection the projection to apply to the query
+	* @return the number of rows matching the dynamic query
+	*/
+	@Override
+	public long dynamicQueryCount(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery,
+		com.liferay.portal.kernel.dao.orm.Projection projection) {
+		return _firebaseOutboxEntryLocalService.dynamicQueryCount(dynamicQuery,
+			projection);
+	}
+
+	@Override
+	public net.indaba.lostandfound.model.FirebaseOutboxEntry fetchFirebaseOutboxEntry(
+		long outboxEntryId) {
+		return _firebaseOutboxEntryLocalService.fetchFirebaseOutboxEntry(outboxEntryId);
+	}
+
+	@Override
+	public com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery getActionableDynamicQuery() {
+		return _firebaseOutboxEntryLocalService.getActionableDynamicQuery();
+	}
+
+	/**
+	* Returns a range of all the firebase outbox entries.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @return the range of firebase outbox entries
+	*/
+	@Override
+	public java.util.List<net.indaba.lostandfound.model.FirebaseOutboxEntry> getFirebaseOutboxEntries(
+		int start, int end) {
+		return _firebaseOutboxEntryLocalService.getFirebaseOutboxEntries(start,
+			end);
+	}
+
+	/**
+	* Returns the number of firebase outbox entries.
+	*
+	* @return the number of firebase outbox entries
+	*/
+	@Override
+	public int getFirebaseOutboxEntriesCount() {
+		return _firebaseOutboxEntryLocalService.getFirebaseOutboxEntriesCount();
+	}
+
+	/**
+	* Returns the firebase outbox entry with the primary key.
+	*
+	* @param outboxEntryId the primary key of the firebase outbox entry
+	* @return the firebase outbox entry
+	* @throws PortalException if a firebase outbox entry with the primary key could not be found
+	*/
+	@Override
+	public net.indaba.lostandfound.model.FirebaseOutboxEntry getFirebaseOutboxEntry(
+		long outboxEntryId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _firebaseOutboxEntryLocalService.getFirebaseOutboxEntry(outboxEntryId);
+	}
+
+	@Override
+	public com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery getIndexableActionableDynamicQuery() {
+		return _firebaseOutboxEntryLocalService.getIndexableActionableDynamicQuery();
+	}
+
+	/**
+	* Returns the OSGi service identifier.
+	*
+	* @return the OSGi service identifier
+	*/
+	@Override
+	public java.lang.String getOSGiServiceIdentifier() {
+		return _firebaseOutboxEntryLocalService.getOSGiServiceIdentifier();
+	}
+
+	@Override
+	public com.liferay.portal.kernel.model.PersistedModel getPersistedModel(
+		java.io.Serializable primaryKeyObj)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _firebaseOutboxEntryLocalService.getPersistedModel(primaryKeyObj);
+	}
+
+	@Override
+	public java.lang.Object invokeMethod(java.lang.String name,
+		java.lang.String[] parameterTypes, java.lang.Object[] arguments)
+		throws java.lang.Throwable {
+		return _firebaseOutboxEntryLocalService.invokeMethod(name,
+			parameterTypes, arguments);
+	}
+
+	/**
+	* Updates the firebase outbox entry in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param firebaseOutboxEntry the firebase outbox entry
+	* @return the firebase outbox entry that was updated
+	*/
+	@Override
+	public net.indaba.lostandfound.model.FirebaseOutboxEntry updateFirebaseOutboxEntry(
+		net.indaba.lostandfound.model.FirebaseOutboxEntry firebaseOutboxEntry) {
+		return _firebaseOutboxEntryLocalService.updateFirebaseOutboxEntry(firebaseOutboxEntry);
+	}
+
+	@Override
+	public FirebaseOutboxEntryLocalService getWrappedService() {
+		return _firebaseOutboxEntryLocalService;
+	}
+
+	@Override
+	public void setWrappedService(
+		FirebaseOutboxEntryLocalService firebaseOutboxEntryLocalService) {
+		_firebaseOutboxEntryLocalService = firebaseOutboxEntryLocalService;
+	}
+
+	private FirebaseOutboxEntryLocalService _firebaseOutboxEntryLocalService;
+}
\ No newline at end of file
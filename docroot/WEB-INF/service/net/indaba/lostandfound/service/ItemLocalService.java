@@ -16,6 +16,8 @@ package net.indaba.lostandfound.service;
 
 import aQute.bnd.annotation.ProviderType;
 
+import com.liferay.asset.kernel.model.AssetCategory;
+
 import com.liferay.exportimport.kernel.lar.PortletDataContext;
 
 import com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery;
@@ -26,8 +28,10 @@ import com.liferay.portal.kernel.dao.orm.Projection;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.model.PersistedModel;
+import com.liferay.portal.kernel.search.BaseModelSearchResult;
 import com.liferay.portal.kernel.search.Indexable;
 import com.liferay.portal.kernel.search.IndexableType;
+import com.liferay.portal.kernel.search.Sort;
 import com.liferay.portal.kernel.service.BaseLocalService;
 import com.liferay.portal.kernel.service.InvokableLocalService;
 import com.liferay.portal.kernel.service.PersistedModelLocalService;
@@ -41,7 +45,9 @@ import net.indaba.lostandfound.model.Item;
 
 import java.io.Serializable;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Provides the local service interface for Item. Methods of this
@@ -75,6 +81,31 @@ public interface ItemLocalService extends BaseLocalService, InvokableLocalServic
 	@Indexable(type = IndexableType.REINDEX)
 	public Item addItem(Item item);
 
+	/**
+	* Adds many new items at once, such as an office's historical records.
+	* Compared to calling addOrUpdateItem for each item:
+	* <ul>
+	* <li>The ids come from a single counter reservation</li>
+	* <li>The rows are written by the persistence directly, so Hibernate
+	* flushes them as JDBC batches when the transaction commits</li>
+	* <li>The items are reindexed together in one bulk update</li>
+	* <li>The outbox entries of the items are dispatched together, so that
+	* Firebase receives one write for all of them instead of one per
+	* item</li>
+	* </ul>
+	* Discussions and asset entries are still created per item, within the
+	* same transaction, as the portal offers no bulk API for them.
+	*
+	* @param items
+	New items, their itemIds are assigned here
+	* @param serviceContext
+	Categories, tags and links of the service context are set on
+	every item
+	* @return The added items
+	*/
+	public List<Item> addItems(List<Item> items, ServiceContext serviceContext)
+		throws PortalException;
+
 	public Item addOrUpdateItem(Item item, ServiceContext serviceContext)
 		throws PortalException;
 
@@ -190,6 +221,28 @@ public interface ItemLocalService extends BaseLocalService, InvokableLocalServic
 	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public Item fetchItemByUuidAndGroupId(java.lang.String uuid, long groupId);
 
+	/**
+	* Gets the items of the current company within a distance of a point,
+	* nearest first. The search engine answers through its geo_point index on
+	* the item locations, so the cost does not grow with the number of items
+	* outside the radius. Items without a location are never returned.
+	*
+	* @param latitude
+	In degrees
+	* @param longitude
+	In degrees
+	* @param radius
+	In meters
+	* @param type
+	lost, found, alert or office, or null for every type
+	* @param start
+	* @param end
+	* @return The items, nearest first
+	*/
+	public List<Item> findNearby(double latitude, double longitude,
+		double radius, java.lang.String type, int start, int end)
+		throws PortalException;
+
 	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public ActionableDynamicQuery getActionableDynamicQuery();
 
@@ -226,6 +279,10 @@ public interface ItemLocalService extends BaseLocalService, InvokableLocalServic
 	public List<Item> getItems(long groupId, int start, int end)
 		throws PortalException;
 
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<Item> getItems(long groupId, int start, int end,
+		OrderByComparator<Item> orderByComparator);
+
 	/**
 	* Returns a range of all the items.
 	*
@@ -240,6 +297,55 @@ public interface ItemLocalService extends BaseLocalService, InvokableLocalServic
 	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public List<Item> getItems(int start, int end);
 
+	/**
+	* Gets the page of items following an item in (createDate, itemId) order.
+	* Unlike an offset, the position is found through the index, so deep pages
+	* cost the same as the first one.
+	*
+	* @param groupId
+	* @param createDate
+	createDate of the last item of the previous page
+	* @param itemId
+	itemId of the last item of the previous page
+	* @param ascending
+	* @param count
+	Page size
+	* @return The items following the given one
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<Item> getItemsAfter(long groupId, Date createDate, long itemId,
+		boolean ascending, int count);
+
+	/**
+	* Gets the items of an office created within a period, oldest first. The
+	* G_CD finder only bounds createDate from below, but as it returns the
+	* items in createDate order, the ones past the period can only follow the
+	* ones within it and are cut off the page.
+	*
+	* @param groupId
+	* @param createDateFrom
+	Inclusive
+	* @param createDateTo
+	Exclusive
+	* @param start
+	* @param end
+	* @return The page of items
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<Item> getItemsByCreateDate(long groupId, Date createDateFrom,
+		Date createDateTo, int start, int end);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public int getItemsByCreateDateCount(long groupId, Date createDateFrom,
+		Date createDateTo);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<Item> getItemsByType(long groupId, java.lang.String type,
+		int start, int end, OrderByComparator<Item> orderByComparator);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public int getItemsByTypeCount(long groupId, java.lang.String type);
+
 	/**
 	* Returns all the items matching the UUID and company.
 	*
@@ -266,6 +372,17 @@ public interface ItemLocalService extends BaseLocalService, InvokableLocalServic
 		long companyId, int start, int end,
 		OrderByComparator<Item> orderByComparator);
 
+	/**
+	* Gets the asset categories of many items with two queries, one for the
+	* category ids of every item and one for the categories themselves
+	*
+	* @param itemIds
+	* @return The categories by itemId. Items without categories are left out
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Map<java.lang.Long, List<AssetCategory>> getItemsCategories(
+		long[] itemIds);
+
 	/**
 	* Returns the number of items.
 	*
@@ -274,6 +391,9 @@ public interface ItemLocalService extends BaseLocalService, InvokableLocalServic
 	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public int getItemsCount();
 
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public int getItemsCount(long groupId);
+
 	/**
 	* Returns the OSGi service identifier.
 	*
@@ -291,6 +411,34 @@ public interface ItemLocalService extends BaseLocalService, InvokableLocalServic
 		java.lang.String[] parameterTypes, java.lang.Object[] arguments)
 		throws java.lang.Throwable;
 
+	/**
+	* Gets a page of items from the search index instead of the database, so
+	* filtering and sorting never scan the item table. Only the ids are read
+	* from the hits, the items are then loaded by primary key.
+	*
+	* @param companyId
+	* @param groupId
+	Office to list, or 0 for every office
+	* @param type
+	lost, found, alert or office, or null for every type
+	* @param createDateFrom
+	May be null
+	* @param createDateTo
+	May be null
+	* @param assetCategoryIds
+	Categories every item must have, may be null
+	* @param start
+	* @param end
+	* @param sort
+	Sort on an indexed field, newest first if null
+	* @return The page of items and the total number of matching items
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public BaseModelSearchResult<Item> searchItems(long companyId,
+		long groupId, java.lang.String type, Date createDateFrom,
+		Date createDateTo, long[] assetCategoryIds, int start, int end,
+		Sort sort) throws PortalException;
+
 	/**
 	* Updates the item in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
 	*
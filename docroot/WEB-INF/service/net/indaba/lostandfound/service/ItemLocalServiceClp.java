@@ -33,146 +33,211 @@ public class ItemLocalServiceClp implements ItemLocalService {
 				"net.indaba.lostandfound.model.Item"
 			};
 
-		_methodName1 = "addOrUpdateItem";
+		_methodName1 = "addItems";
 
 		_methodParameterTypes1 = new String[] {
+				"java.util.List",
+				"com.liferay.portal.kernel.service.ServiceContext"
+			};
+
+		_methodName2 = "addOrUpdateItem";
+
+		_methodParameterTypes2 = new String[] {
 				"net.indaba.lostandfound.model.Item",
 				"com.liferay.portal.kernel.service.ServiceContext"
 			};
 
-		_methodName2 = "createItem";
+		_methodName3 = "createItem";
 
-		_methodParameterTypes2 = new String[] { "long" };
+		_methodParameterTypes3 = new String[] { "long" };
 
-		_methodName3 = "deleteItem";
+		_methodName4 = "deleteItem";
 
-		_methodParameterTypes3 = new String[] {
+		_methodParameterTypes4 = new String[] {
 				"net.indaba.lostandfound.model.Item"
 			};
 
-		_methodName4 = "deleteItem";
+		_methodName5 = "deleteItem";
 
-		_methodParameterTypes4 = new String[] {
+		_methodParameterTypes5 = new String[] {
 				"net.indaba.lostandfound.model.Item",
 				"com.liferay.portal.kernel.service.ServiceContext"
 			};
 
-		_methodName5 = "deleteItem";
+		_methodName6 = "deleteItem";
 
-		_methodParameterTypes5 = new String[] { "long" };
+		_methodParameterTypes6 = new String[] { "long" };
 
-		_methodName6 = "deleteItem";
+		_methodName7 = "deleteItem";
 
-		_methodParameterTypes6 = new String[] {
+		_methodParameterTypes7 = new String[] {
 				"long", "com.liferay.portal.kernel.service.ServiceContext"
 			};
 
-		_methodName7 = "deletePersistedModel";
+		_methodName8 = "deletePersistedModel";
 
-		_methodParameterTypes7 = new String[] {
+		_methodParameterTypes8 = new String[] {
 				"com.liferay.portal.kernel.model.PersistedModel"
 			};
 
-		_methodName8 = "dynamicQuery";
-
-		_methodParameterTypes8 = new String[] {  };
-
 		_methodName9 = "dynamicQuery";
 
-		_methodParameterTypes9 = new String[] {
-				"com.liferay.portal.kernel.dao.orm.DynamicQuery"
-			};
+		_methodParameterTypes9 = new String[] {  };
 
 		_methodName10 = "dynamicQuery";
 
 		_methodParameterTypes10 = new String[] {
-				"com.liferay.portal.kernel.dao.orm.DynamicQuery", "int", "int"
+				"com.liferay.portal.kernel.dao.orm.DynamicQuery"
 			};
 
 		_methodName11 = "dynamicQuery";
 
 		_methodParameterTypes11 = new String[] {
-				"com.liferay.portal.kernel.dao.orm.DynamicQuery", "int", "int",
-				"com.liferay.portal.kernel.util.OrderByComparator"
+				"com.liferay.portal.kernel.dao.orm.DynamicQuery", "int", "int"
 			};
 
-		_methodName12 = "dynamicQueryCount";
+		_methodName12 = "dynamicQuery";
 
 		_methodParameterTypes12 = new String[] {
-				"com.liferay.portal.kernel.dao.orm.DynamicQuery"
+				"com.liferay.portal.kernel.dao.orm.DynamicQuery", "int", "int",
+				"com.liferay.portal.kernel.util.OrderByComparator"
 			};
 
 		_methodName13 = "dynamicQueryCount";
 
 		_methodParameterTypes13 = new String[] {
-				"com.liferay.portal.kernel.dao.orm.DynamicQuery",
-				"com.liferay.portal.kernel.dao.orm.Projection"
+				"com.liferay.portal.kernel.dao.orm.DynamicQuery"
 			};
 
-		_methodName14 = "fetchItem";
+		_methodName14 = "dynamicQueryCount";
 
-		_methodParameterTypes14 = new String[] { "long" };
+		_methodParameterTypes14 = new String[] {
+				"com.liferay.portal.kernel.dao.orm.DynamicQuery",
+				"com.liferay.portal.kernel.dao.orm.Projection"
+			};
 
-		_methodName15 = "fetchItemByUuidAndGroupId";
+		_methodName15 = "fetchItem";
 
-		_methodParameterTypes15 = new String[] { "java.lang.String", "long" };
+		_methodParameterTypes15 = new String[] { "long" };
 
-		_methodName16 = "getActionableDynamicQuery";
+		_methodName16 = "fetchItemByUuidAndGroupId";
 
-		_methodParameterTypes16 = new String[] {  };
+		_methodParameterTypes16 = new String[] { "java.lang.String", "long" };
 
-		_methodName17 = "getExportActionableDynamicQuery";
+		_methodName17 = "findNearby";
 
 		_methodParameterTypes17 = new String[] {
-				"com.liferay.exportimport.kernel.lar.PortletDataContext"
+				"double", "double", "double", "java.lang.String", "int", "int"
 			};
 
-		_methodName18 = "getIndexableActionableDynamicQuery";
+		_methodName18 = "getActionableDynamicQuery";
 
 		_methodParameterTypes18 = new String[] {  };
 
-		_methodName19 = "getItem";
+		_methodName19 = "getExportActionableDynamicQuery";
 
-		_methodParameterTypes19 = new String[] { "long" };
+		_methodParameterTypes19 = new String[] {
+				"com.liferay.exportimport.kernel.lar.PortletDataContext"
+			};
 
-		_methodName20 = "getItemByUuidAndGroupId";
+		_methodName20 = "getIndexableActionableDynamicQuery";
 
-		_methodParameterTypes20 = new String[] { "java.lang.String", "long" };
+		_methodParameterTypes20 = new String[] {  };
 
-		_methodName21 = "getItems";
+		_methodName21 = "getItem";
 
-		_methodParameterTypes21 = new String[] { "long", "int", "int" };
+		_methodParameterTypes21 = new String[] { "long" };
 
-		_methodName22 = "getItems";
+		_methodName22 = "getItemByUuidAndGroupId";
 
-		_methodParameterTypes22 = new String[] { "int", "int" };
+		_methodParameterTypes22 = new String[] { "java.lang.String", "long" };
 
-		_methodName23 = "getItemsByUuidAndCompanyId";
+		_methodName23 = "getItems";
 
-		_methodParameterTypes23 = new String[] { "java.lang.String", "long" };
+		_methodParameterTypes23 = new String[] { "long", "int", "int" };
 
-		_methodName24 = "getItemsByUuidAndCompanyId";
+		_methodName24 = "getItems";
 
 		_methodParameterTypes24 = new String[] {
-				"java.lang.String", "long", "int", "int",
+				"long", "int", "int",
 				"com.liferay.portal.kernel.util.OrderByComparator"
 			};
 
-		_methodName25 = "getItemsCount";
+		_methodName25 = "getItems";
 
-		_methodParameterTypes25 = new String[] {  };
+		_methodParameterTypes25 = new String[] { "int", "int" };
 
-		_methodName26 = "getOSGiServiceIdentifier";
+		_methodName26 = "getItemsAfter";
 
-		_methodParameterTypes26 = new String[] {  };
+		_methodParameterTypes26 = new String[] {
+				"long", "java.util.Date", "long", "boolean", "int"
+			};
 
-		_methodName27 = "getPersistedModel";
+		_methodName27 = "getItemsByCreateDate";
 
-		_methodParameterTypes27 = new String[] { "java.io.Serializable" };
+		_methodParameterTypes27 = new String[] {
+				"long", "java.util.Date", "java.util.Date", "int", "int"
+			};
 
-		_methodName29 = "updateItem";
+		_methodName28 = "getItemsByCreateDateCount";
+
+		_methodParameterTypes28 = new String[] {
+				"long", "java.util.Date", "java.util.Date"
+			};
+
+		_methodName29 = "getItemsByType";
 
 		_methodParameterTypes29 = new String[] {
+				"long", "java.lang.String", "int", "int",
+				"com.liferay.portal.kernel.util.OrderByComparator"
+			};
+
+		_methodName30 = "getItemsByTypeCount";
+
+		_methodParameterTypes30 = new String[] { "long", "java.lang.String" };
+
+		_methodName31 = "getItemsByUuidAndCompanyId";
+
+		_methodParameterTypes31 = new String[] { "java.lang.String", "long" };
+
+		_methodName32 = "getItemsByUuidAndCompanyId";
+
+		_methodParameterTypes32 = new String[] {
+				"java.lang.String", "long", "int", "int",
+				"com.liferay.portal.kernel.util.OrderByComparator"
+			};
+
+		_methodName33 = "getItemsCategories";
+
+		_methodParameterTypes33 = new String[] { "long[]" };
+
+		_methodName34 = "getItemsCount";
+
+		_methodParameterTypes34 = new String[] {  };
+
+		_methodName35 = "getItemsCount";
+
+		_methodParameterTypes35 = new String[] { "long" };
+
+		_methodName36 = "getOSGiServiceIdentifier";
+
+		_methodParameterTypes36 = new String[] {  };
+
+		_methodName37 = "getPersistedModel";
+
+		_methodParameterTypes37 = new String[] { "java.io.Serializable" };
+
+		_methodName39 = "searchItems";
+
+		_methodParameterTypes39 = new String[] {
+				"long", "long", "java.lang.String", "java.util.Date",
+				"java.util.Date", "long[]", "int", "int",
+				"com.liferay.portal.kernel.search.Sort"
+			};
+
+		_methodName40 = "updateItem";
+
+		_methodParameterTypes40 = new String[] {
 				"net.indaba.lostandfound.model.Item"
 			};
 	}
@@ -203,8 +268,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 	}
 
 	@Override
-	public net.indaba.lostandfound.model.Item addOrUpdateItem(
-		net.indaba.lostandfound.model.Item item,
+	public java.util.List<net.indaba.lostandfound.model.Item> addItems(
+		java.util.List<net.indaba.lostandfound.model.Item> items,
 		com.liferay.portal.kernel.service.ServiceContext serviceContext)
 		throws com.liferay.portal.kernel.exception.PortalException {
 		Object returnObj = null;
@@ -212,6 +277,41 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		try {
 			returnObj = _invokableLocalService.invokeMethod(_methodName1,
 					_methodParameterTypes1,
+					new Object[] {
+						ClpSerializer.translateInput(items),
+						
+					ClpSerializer.translateInput(serviceContext)
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof com.liferay.portal.kernel.exception.PortalException) {
+				throw (com.liferay.portal.kernel.exception.PortalException)t;
+			}
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<net.indaba.lostandfound.model.Item>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public net.indaba.lostandfound.model.Item addOrUpdateItem(
+		net.indaba.lostandfound.model.Item item,
+		com.liferay.portal.kernel.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName2,
+					_methodParameterTypes2,
 					new Object[] {
 						ClpSerializer.translateInput(item),
 						
@@ -242,8 +342,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName2,
-					_methodParameterTypes2, new Object[] { itemId });
+			returnObj = _invokableLocalService.invokeMethod(_methodName3,
+					_methodParameterTypes3, new Object[] { itemId });
 		}
 		catch (Throwable t) {
 			t = ClpSerializer.translateThrowable(t);
@@ -266,8 +366,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName3,
-					_methodParameterTypes3,
+			returnObj = _invokableLocalService.invokeMethod(_methodName4,
+					_methodParameterTypes4,
 					new Object[] { ClpSerializer.translateInput(item) });
 		}
 		catch (Throwable t) {
@@ -293,8 +393,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName4,
-					_methodParameterTypes4,
+			returnObj = _invokableLocalService.invokeMethod(_methodName5,
+					_methodParameterTypes5,
 					new Object[] {
 						ClpSerializer.translateInput(item),
 						
@@ -326,8 +426,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName5,
-					_methodParameterTypes5, new Object[] { itemId });
+			returnObj = _invokableLocalService.invokeMethod(_methodName6,
+					_methodParameterTypes6, new Object[] { itemId });
 		}
 		catch (Throwable t) {
 			t = ClpSerializer.translateThrowable(t);
@@ -355,8 +455,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName6,
-					_methodParameterTypes6,
+			returnObj = _invokableLocalService.invokeMethod(_methodName7,
+					_methodParameterTypes7,
 					new Object[] {
 						itemId,
 						
@@ -389,8 +489,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName7,
-					_methodParameterTypes7,
+			returnObj = _invokableLocalService.invokeMethod(_methodName8,
+					_methodParameterTypes8,
 					new Object[] { ClpSerializer.translateInput(persistedModel) });
 		}
 		catch (Throwable t) {
@@ -417,8 +517,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName8,
-					_methodParameterTypes8, new Object[] {  });
+			returnObj = _invokableLocalService.invokeMethod(_methodName9,
+					_methodParameterTypes9, new Object[] {  });
 		}
 		catch (Throwable t) {
 			t = ClpSerializer.translateThrowable(t);
@@ -441,8 +541,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName9,
-					_methodParameterTypes9,
+			returnObj = _invokableLocalService.invokeMethod(_methodName10,
+					_methodParameterTypes10,
 					new Object[] { ClpSerializer.translateInput(dynamicQuery) });
 		}
 		catch (Throwable t) {
@@ -467,8 +567,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName10,
-					_methodParameterTypes10,
+			returnObj = _invokableLocalService.invokeMethod(_methodName11,
+					_methodParameterTypes11,
 					new Object[] {
 						ClpSerializer.translateInput(dynamicQuery),
 						
@@ -500,8 +600,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName11,
-					_methodParameterTypes11,
+			returnObj = _invokableLocalService.invokeMethod(_methodName12,
+					_methodParameterTypes12,
 					new Object[] {
 						ClpSerializer.translateInput(dynamicQuery),
 						
@@ -533,8 +633,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName12,
-					_methodParameterTypes12,
+			returnObj = _invokableLocalService.invokeMethod(_methodName13,
+					_methodParameterTypes13,
 					new Object[] { ClpSerializer.translateInput(dynamicQuery) });
 		}
 		catch (Throwable t) {
@@ -559,8 +659,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName13,
-					_methodParameterTypes13,
+			returnObj = _invokableLocalService.invokeMethod(_methodName14,
+					_methodParameterTypes14,
 					new Object[] {
 						ClpSerializer.translateInput(dynamicQuery),
 						
@@ -587,8 +687,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName14,
-					_methodParameterTypes14, new Object[] { itemId });
+			returnObj = _invokableLocalService.invokeMethod(_methodName15,
+					_methodParameterTypes15, new Object[] { itemId });
 		}
 		catch (Throwable t) {
 			t = ClpSerializer.translateThrowable(t);
@@ -611,8 +711,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName15,
-					_methodParameterTypes15,
+			returnObj = _invokableLocalService.invokeMethod(_methodName16,
+					_methodParameterTypes16,
 					new Object[] { ClpSerializer.translateInput(uuid), groupId });
 		}
 		catch (Throwable t) {
@@ -630,13 +730,56 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		return (net.indaba.lostandfound.model.Item)ClpSerializer.translateOutput(returnObj);
 	}
 
+	@Override
+	public java.util.List<net.indaba.lostandfound.model.Item> findNearby(
+		double latitude, double longitude, double radius,
+		java.lang.String type, int start, int end)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName17,
+					_methodParameterTypes17,
+					new Object[] {
+						latitude,
+						
+					longitude,
+						
+					radius,
+						
+					ClpSerializer.translateInput(type),
+						
+					start,
+						
+					end
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof com.liferay.portal.kernel.exception.PortalException) {
+				throw (com.liferay.portal.kernel.exception.PortalException)t;
+			}
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<net.indaba.lostandfound.model.Item>)ClpSerializer.translateOutput(returnObj);
+	}
+
 	@Override
 	public com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery getActionableDynamicQuery() {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName16,
-					_methodParameterTypes16, new Object[] {  });
+			returnObj = _invokableLocalService.invokeMethod(_methodName18,
+					_methodParameterTypes18, new Object[] {  });
 		}
 		catch (Throwable t) {
 			t = ClpSerializer.translateThrowable(t);
@@ -659,8 +802,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName17,
-					_methodParameterTypes17,
+			returnObj = _invokableLocalService.invokeMethod(_methodName19,
+					_methodParameterTypes19,
 					new Object[] {
 						ClpSerializer.translateInput(portletDataContext)
 					});
@@ -685,8 +828,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName18,
-					_methodParameterTypes18, new Object[] {  });
+			returnObj = _invokableLocalService.invokeMethod(_methodName20,
+					_methodParameterTypes20, new Object[] {  });
 		}
 		catch (Throwable t) {
 			t = ClpSerializer.translateThrowable(t);
@@ -709,8 +852,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName19,
-					_methodParameterTypes19, new Object[] { itemId });
+			returnObj = _invokableLocalService.invokeMethod(_methodName21,
+					_methodParameterTypes21, new Object[] { itemId });
 		}
 		catch (Throwable t) {
 			t = ClpSerializer.translateThrowable(t);
@@ -738,8 +881,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName20,
-					_methodParameterTypes20,
+			returnObj = _invokableLocalService.invokeMethod(_methodName22,
+					_methodParameterTypes22,
 					new Object[] { ClpSerializer.translateInput(uuid), groupId });
 		}
 		catch (Throwable t) {
@@ -768,8 +911,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName21,
-					_methodParameterTypes21,
+			returnObj = _invokableLocalService.invokeMethod(_methodName23,
+					_methodParameterTypes23,
 					new Object[] { groupId, start, end });
 		}
 		catch (Throwable t) {
@@ -791,14 +934,120 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		return (java.util.List<net.indaba.lostandfound.model.Item>)ClpSerializer.translateOutput(returnObj);
 	}
 
+	@Override
+	public java.util.List<net.indaba.lostandfound.model.Item> getItems(
+		long groupId, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<net.indaba.lostandfound.model.Item> orderByComparator) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName24,
+					_methodParameterTypes24,
+					new Object[] {
+						groupId,
+						
+					start,
+						
+					end,
+						
+					ClpSerializer.translateInput(orderByComparator)
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<net.indaba.lostandfound.model.Item>)ClpSerializer.translateOutput(returnObj);
+	}
+
 	@Override
 	public java.util.List<net.indaba.lostandfound.model.Item> getItems(
 		int start, int end) {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName22,
-					_methodParameterTypes22, new Object[] { start, end });
+			returnObj = _invokableLocalService.invokeMethod(_methodName25,
+					_methodParameterTypes25, new Object[] { start, end });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<net.indaba.lostandfound.model.Item>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public java.util.List<net.indaba.lostandfound.model.Item> getItemsAfter(
+		long groupId, java.util.Date createDate, long itemId,
+		boolean ascending, int count) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName26,
+					_methodParameterTypes26,
+					new Object[] {
+						groupId,
+						
+					ClpSerializer.translateInput(createDate),
+						
+					itemId,
+						
+					ascending,
+						
+					count
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<net.indaba.lostandfound.model.Item>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public java.util.List<net.indaba.lostandfound.model.Item> getItemsByCreateDate(
+		long groupId, java.util.Date createDateFrom,
+		java.util.Date createDateTo, int start, int end) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName27,
+					_methodParameterTypes27,
+					new Object[] {
+						groupId,
+						
+					ClpSerializer.translateInput(createDateFrom),
+						
+					ClpSerializer.translateInput(createDateTo),
+						
+					start,
+						
+					end
+					});
 		}
 		catch (Throwable t) {
 			t = ClpSerializer.translateThrowable(t);
@@ -815,14 +1064,105 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		return (java.util.List<net.indaba.lostandfound.model.Item>)ClpSerializer.translateOutput(returnObj);
 	}
 
+	@Override
+	public int getItemsByCreateDateCount(long groupId,
+		java.util.Date createDateFrom, java.util.Date createDateTo) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName28,
+					_methodParameterTypes28,
+					new Object[] {
+						groupId,
+						
+					ClpSerializer.translateInput(createDateFrom),
+						
+					ClpSerializer.translateInput(createDateTo)
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return ((Integer)returnObj).intValue();
+	}
+
+	@Override
+	public java.util.List<net.indaba.lostandfound.model.Item> getItemsByType(
+		long groupId, java.lang.String type, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<net.indaba.lostandfound.model.Item> orderByComparator) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName29,
+					_methodParameterTypes29,
+					new Object[] {
+						groupId,
+						
+					ClpSerializer.translateInput(type),
+						
+					start,
+						
+					end,
+						
+					ClpSerializer.translateInput(orderByComparator)
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<net.indaba.lostandfound.model.Item>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public int getItemsByTypeCount(long groupId, java.lang.String type) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName30,
+					_methodParameterTypes30,
+					new Object[] { groupId, ClpSerializer.translateInput(type) });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return ((Integer)returnObj).intValue();
+	}
+
 	@Override
 	public java.util.List<net.indaba.lostandfound.model.Item> getItemsByUuidAndCompanyId(
 		java.lang.String uuid, long companyId) {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName23,
-					_methodParameterTypes23,
+			returnObj = _invokableLocalService.invokeMethod(_methodName31,
+					_methodParameterTypes31,
 					new Object[] { ClpSerializer.translateInput(uuid), companyId });
 		}
 		catch (Throwable t) {
@@ -847,8 +1187,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName24,
-					_methodParameterTypes24,
+			returnObj = _invokableLocalService.invokeMethod(_methodName32,
+					_methodParameterTypes32,
 					new Object[] {
 						ClpSerializer.translateInput(uuid),
 						
@@ -876,13 +1216,61 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		return (java.util.List<net.indaba.lostandfound.model.Item>)ClpSerializer.translateOutput(returnObj);
 	}
 
+	@Override
+	public java.util.Map<java.lang.Long, java.util.List<com.liferay.asset.kernel.model.AssetCategory>> getItemsCategories(
+		long[] itemIds) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName33,
+					_methodParameterTypes33,
+					new Object[] { ClpSerializer.translateInput(itemIds) });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.Map<java.lang.Long, java.util.List<com.liferay.asset.kernel.model.AssetCategory>>)ClpSerializer.translateOutput(returnObj);
+	}
+
 	@Override
 	public int getItemsCount() {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName25,
-					_methodParameterTypes25, new Object[] {  });
+			returnObj = _invokableLocalService.invokeMethod(_methodName34,
+					_methodParameterTypes34, new Object[] {  });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return ((Integer)returnObj).intValue();
+	}
+
+	@Override
+	public int getItemsCount(long groupId) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName35,
+					_methodParameterTypes35, new Object[] { groupId });
 		}
 		catch (Throwable t) {
 			t = ClpSerializer.translateThrowable(t);
@@ -904,8 +1292,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName26,
-					_methodParameterTypes26, new Object[] {  });
+			returnObj = _invokableLocalService.invokeMethod(_methodName36,
+					_methodParameterTypes36, new Object[] {  });
 		}
 		catch (Throwable t) {
 			t = ClpSerializer.translateThrowable(t);
@@ -929,8 +1317,8 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName27,
-					_methodParameterTypes27,
+			returnObj = _invokableLocalService.invokeMethod(_methodName37,
+					_methodParameterTypes37,
 					new Object[] { ClpSerializer.translateInput(primaryKeyObj) });
 		}
 		catch (Throwable t) {
@@ -959,14 +1347,65 @@ public class ItemLocalServiceClp implements ItemLocalService {
 		throw new UnsupportedOperationException();
 	}
 
+	@Override
+	public com.liferay.portal.kernel.search.BaseModelSearchResult<net.indaba.lostandfound.model.Item> searchItems(
+		long companyId, long groupId, java.lang.String type,
+		java.util.Date createDateFrom, java.util.Date createDateTo,
+		long[] assetCategoryIds, int start, int end,
+		com.liferay.portal.kernel.search.Sort sort)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName39,
+					_methodParameterTypes39,
+					new Object[] {
+						companyId,
+						
+					groupId,
+						
+					ClpSerializer.translateInput(type),
+						
+					ClpSerializer.translateInput(createDateFrom),
+						
+					ClpSerializer.translateInput(createDateTo),
+						
+					ClpSerializer.translateInput(assetCategoryIds),
+						
+					start,
+						
+					end,
+						
+					ClpSerializer.translateInput(sort)
+					});
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof com.liferay.portal.kernel.exception.PortalException) {
+				throw (com.liferay.portal.kernel.exception.PortalException)t;
+			}
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (com.liferay.portal.kernel.search.BaseModelSearchResult<net.indaba.lostandfound.model.Item>)ClpSerializer.translateOutput(returnObj);
+	}
+
 	@Override
 	public net.indaba.lostandfound.model.Item updateItem(
 		net.indaba.lostandfound.model.Item item) {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName29,
-					_methodParameterTypes29,
+			returnObj = _invokableLocalService.invokeMethod(_methodName40,
+					_methodParameterTypes40,
 					new Object[] { ClpSerializer.translateInput(item) });
 		}
 		catch (Throwable t) {
@@ -1041,6 +1480,28 @@ public class ItemLocalServiceClp implements ItemLocalService {
 	private String[] _methodParameterTypes26;
 	private String _methodName27;
 	private String[] _methodParameterTypes27;
+	private String _methodName28;
+	private String[] _methodParameterTypes28;
 	private String _methodName29;
 	private String[] _methodParameterTypes29;
+	private String _methodName30;
+	private String[] _methodParameterTypes30;
+	private String _methodName31;
+	private String[] _methodParameterTypes31;
+	private String _methodName32;
+	private String[] _methodParameterTypes32;
+	private String _methodName33;
+	private String[] _methodParameterTypes33;
+	private String _methodName34;
+	private String[] _methodParameterTypes34;
+	private String _methodName35;
+	private String[] _methodParameterTypes35;
+	private String _methodName36;
+	private String[] _methodParameterTypes36;
+	private String _methodName37;
+	private String[] _methodParameterTypes37;
+	private String _methodName39;
+	private String[] _methodParameterTypes39;
+	private String _methodName40;
+	private String[] _methodParameterTypes40;
 }
\ No newline at end of file
@@ -53,6 +53,35 @@ public class ItemLocalServiceUtil {
 		return getService().addItem(item);
 	}
 
+	/**
+	* Adds many new items at once, such as an office's historical records.
+	* Compared to calling addOrUpdateItem for each item:
+	* <ul>
+	* <li>The ids come from a single counter reservation</li>
+	* <li>The rows are written by the persistence directly, so Hibernate
+	* flushes them as JDBC batches when the transaction commits</li>
+	* <li>The items are reindexed together in one bulk update</li>
+	* <li>The outbox entries of the items are dispatched together, so that
+	* Firebase receives one write for all of them instead of one per
+	* item</li>
+	* </ul>
+	* Discussions and asset entries are still created per item, within the
+	* same transaction, as the portal offers no bulk API for them.
+	*
+	* @param items
+	New items, their itemIds are assigned here
+	* @param serviceContext
+	Categories, tags and links of the service context are set on
+	every item
+	* @return The added items
+	*/
+	public static java.util.List<net.indaba.lostandfound.model.Item> addItems(
+		java.util.List<net.indaba.lostandfound.model.Item> items,
+		com.liferay.portal.kernel.service.ServiceContext serviceContext)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().addItems(items, serviceContext);
+	}
+
 	public static net.indaba.lostandfound.model.Item addOrUpdateItem(
 		net.indaba.lostandfound.model.Item item,
 		com.liferay.portal.kernel.service.ServiceContext serviceContext)
@@ -209,6 +238,32 @@ public class ItemLocalServiceUtil {
 		return getService().fetchItemByUuidAndGroupId(uuid, groupId);
 	}
 
+	/**
+	* Gets the items of the current company within a distance of a point,
+	* nearest first. The search engine answers through its geo_point index on
+	* the item locations, so the cost does not grow with the number of items
+	* outside the radius. Items without a location are never returned.
+	*
+	* @param latitude
+	In degrees
+	* @param longitude
+	In degrees
+	* @param radius
+	In meters
+	* @param type
+	lost, found, alert or office, or null for every type
+	* @param start
+	* @param end
+	* @return The items, nearest first
+	*/
+	public static java.util.List<net.indaba.lostandfound.model.Item> findNearby(
+		double latitude, double longitude, double radius,
+		java.lang.String type, int start, int end)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService()
+				   .findNearby(latitude, longitude, radius, type, start, end);
+	}
+
 	public static com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery getActionableDynamicQuery() {
 		return getService().getActionableDynamicQuery();
 	}
@@ -254,6 +309,12 @@ public class ItemLocalServiceUtil {
 		return getService().getItems(groupId, start, end);
 	}
 
+	public static java.util.List<net.indaba.lostandfound.model.Item> getItems(
+		long groupId, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<net.indaba.lostandfound.model.Item> orderByComparator) {
+		return getService().getItems(groupId, start, end, orderByComparator);
+	}
+
 	/**
 	* Returns a range of all the items.
 	*
@@ -270,6 +331,69 @@ public class ItemLocalServiceUtil {
 		return getService().getItems(start, end);
 	}
 
+	/**
+	* Gets the page of items following an item in (createDate, itemId) order.
+	* Unlike an offset, the position is found through the index, so deep pages
+	* cost the same as the first one.
+	*
+	* @param groupId
+	* @param createDate
+	createDate of the last item of the previous page
+	* @param itemId
+	itemId of the last item of the previous page
+	* @param ascending
+	* @param count
+	Page size
+	* @return The items following the given one
+	*/
+	public static java.util.List<net.indaba.lostandfound.model.Item> getItemsAfter(
+		long groupId, java.util.Date createDate, long itemId,
+		boolean ascending, int count) {
+		return getService()
+				   .getItemsAfter(groupId, createDate, itemId, ascending, count);
+	}
+
+	/**
+	* Gets the items of an office created within a period, oldest first. The
+	* G_CD finder only bounds createDate from below, but as it returns the
+	* items in createDate order, the ones past the period can only follow the
+	* ones within it and are cut off the page.
+	*
+	* @param groupId
+	* @param createDateFrom
+	Inclusive
+	* @param createDateTo
+	Exclusive
+	* @param start
+	* @param end
+	* @return The page of items
+	*/
+	public static java.util.List<net.indaba.lostandfound.model.Item> getItemsByCreateDate(
+		long groupId, java.util.Date createDateFrom,
+		java.util.Date createDateTo, int start, int end) {
+		return getService()
+				   .getItemsByCreateDate(groupId, createDateFrom, createDateTo,
+			start, end);
+	}
+
+	public static int getItemsByCreateDateCount(long groupId,
+		java.util.Date createDateFrom, java.util.Date createDateTo) {
+		return getService()
+				   .getItemsByCreateDateCount(groupId, createDateFrom,
+			createDateTo);
+	}
+
+	public static java.util.List<net.indaba.lostandfound.model.Item> getItemsByType(
+		long groupId, java.lang.String type, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<net.indaba.lostandfound.model.Item> orderByComparator) {
+		return getService()
+				   .getItemsByType(groupId, type, start, end, orderByComparator);
+	}
+
+	public static int getItemsByTypeCount(long groupId, java.lang.String type) {
+		return getService().getItemsByTypeCount(groupId, type);
+	}
+
 	/**
 	* Returns all the items matching the UUID and company.
 	*
@@ -300,6 +424,18 @@ public class ItemLocalServiceUtil {
 			orderByComparator);
 	}
 
+	/**
+	* Gets the asset categories of many items with two queries, one for the
+	* category ids of every item and one for the categories themselves
+	*
+	* @param itemIds
+	* @return The categories by itemId. Items without categories are left out
+	*/
+	public static java.util.Map<java.lang.Long, java.util.List<com.liferay.asset.kernel.model.AssetCategory>> getItemsCategories(
+		long[] itemIds) {
+		return getService().getItemsCategories(itemIds);
+	}
+
 	/**
 	* Returns the number of items.
 	*
@@ -309,6 +445,10 @@ public class ItemLocalServiceUtil {
 		return getService().getItemsCount();
 	}
 
+	public static int getItemsCount(long groupId) {
+		return getService().getItemsCount(groupId);
+	}
+
 	/**
 	* Returns the OSGi service identifier.
 	*
@@ -330,6 +470,39 @@ public class ItemLocalServiceUtil {
 		return getService().invokeMethod(name, parameterTypes, arguments);
 	}
 
+	/**
+	* Gets a page of items from the search index instead of the database, so
+	* filtering and sorting never scan the item table. Only the ids are read
+	* from the hits, the items are then loaded by primary key.
+	*
+	* @param companyId
+	* @param groupId
+	Office to list, or 0 for every office
+	* @param type
+	lost, found, alert or office, or null for every type
+	* @param createDateFrom
+	May be null
+	* @param createDateTo
+	May be null
+	* @param assetCategoryIds
+	Categories every item must have, may be null
+	* @param start
+	* @param end
+	* @param sort
+	Sort on an indexed field, newest first if null
+	* @return The page of items and the total number of matching items
+	*/
+	public static com.liferay.portal.kernel.search.BaseModelSearchResult<net.indaba.lostandfound.model.Item> searchItems(
+		long companyId, long groupId, java.lang.String type,
+		java.util.Date createDateFrom, java.util.Date createDateTo,
+		long[] assetCategoryIds, int start, int end,
+		com.liferay.portal.kernel.search.Sort sort)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService()
+				   .searchItems(companyId, groupId, type, createDateFrom,
+			createDateTo, assetCategoryIds, start, end, sort);
+	}
+
 	/**
 	* Updates the item in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
 	*
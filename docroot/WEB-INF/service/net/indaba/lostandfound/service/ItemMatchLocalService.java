@@ -0,0 +1,274 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.orm.Projection;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.model.PersistedModel;
+import com.liferay.portal.kernel.search.Indexable;
+import com.liferay.portal.kernel.search.IndexableType;
+import com.liferay.portal.kernel.service.BaseLocalService;
+import com.liferay.portal.kernel.service.InvokableLocalService;
+import com.liferay.portal.kernel.service.PersistedModelLocalService;
+import com.liferay.portal.kernel.transaction.Isolation;
+import com.liferay.portal.kernel.transaction.Propagation;
+import com.liferay.portal.kernel.transaction.Transactional;
+import com.liferay.portal.kernel.util.OrderByComparator;
+
+import net.indaba.lostandfound.model.ItemMatch;
+
+import java.io.Serializable;
+
+import java.util.List;
+
+/**
+ * Provides the local service interface for ItemMatch. Methods of this
+ * service will not have security checks based on the propagated JAAS
+ * credentials because this service can only be accessed from within the same
+ * VM.
+ *
+ * @author aritz
+ * @see ItemMatchLocalServiceUtil
+ * @see net.indaba.lostandfound.service.base.ItemMatchLocalServiceBaseImpl
+ * @see net.indaba.lostandfound.service.impl.ItemMatchLocalServiceImpl
+ * @generated
+ */
+@ProviderType
+@Transactional(isolation = Isolation.PORTAL, rollbackFor =  {
+	PortalException.class, SystemException.class})
+public interface ItemMatchLocalService extends BaseLocalService,
+	InvokableLocalService, PersistedModelLocalService {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. Always use {@link ItemMatchLocalServiceUtil} to access the item match local service. Add custom service methods to {@link net.indaba.lostandfound.service.impl.ItemMatchLocalServiceImpl} and rerun ServiceBuilder to automatically copy the method declarations to this interface.
+	 */
+
+	/**
+	* Adds the item match to the database. Also notifies the appropriate model listeners.
+	*
+	* @param itemMatch the item match
+	* @return the item match that was added
+	*/
+	@Indexable(type = IndexableType.REINDEX)
+	public ItemMatch addItemMatch(ItemMatch itemMatch);
+
+	/**
+	* Creates a new item match with the primary key. Does not add the item match to the database.
+	*
+	* @param matchId the primary key for the new item match
+	* @return the new item match
+	*/
+	public ItemMatch createItemMatch(long matchId);
+
+	/**
+	* Deletes the item match from the database. Also notifies the appropriate model listeners.
+	*
+	* @param itemMatch the item match
+	* @return the item match that was removed
+	*/
+	@Indexable(type = IndexableType.DELETE)
+	public ItemMatch deleteItemMatch(ItemMatch itemMatch);
+
+	/**
+	* Deletes the item match with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param matchId the primary key of the item match
+	* @return the item match that was removed
+	* @throws PortalException if a item match with the primary key could not be found
+	*/
+	@Indexable(type = IndexableType.DELETE)
+	public ItemMatch deleteItemMatch(long matchId) throws PortalException;
+
+	/**
+	* Removes every stored match of the item, in both directions
+	*
+	* @param itemId
+	*/
+	public void deleteItemMatches(long itemId);
+
+	/**
+	* @throws PortalException
+	*/
+	@Override
+	public PersistedModel deletePersistedModel(PersistedModel persistedModel)
+		throws PortalException;
+
+	public DynamicQuery dynamicQuery();
+
+	/**
+	* Performs a dynamic query on the database and returns the matching rows.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the matching rows
+	*/
+	public <T> List<T> dynamicQuery(DynamicQuery dynamicQuery);
+
+	/**
+	* Performs a dynamic query on the database and returns a range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @return the range of matching rows
+	*/
+	public <T> List<T> dynamicQuery(DynamicQuery dynamicQuery, int start,
+		int end);
+
+	/**
+	* Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching rows
+	*/
+	public <T> List<T> dynamicQuery(DynamicQuery dynamicQuery, int start,
+		int end, OrderByComparator<T> orderByComparator);
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the number of rows matching the dynamic query
+	*/
+	public long dynamicQueryCount(DynamicQuery dynamicQuery);
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @param projection the projection to apply to the query
+	* @return the number of rows matching the dynamic query
+	*/
+	public long dynamicQueryCount(DynamicQuery dynamicQuery,
+		Projection projection);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public ItemMatch fetchItemMatch(long matchId);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public ActionableDynamicQuery getActionableDynamicQuery();
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public IndexableActionableDynamicQuery getIndexableActionableDynamicQuery();
+
+	/**
+	* Returns the item match with the primary key.
+	*
+	* @param matchId the primary key of the item match
+	* @return the item match
+	* @throws PortalException if a item match with the primary key could not be found
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public ItemMatch getItemMatch(long matchId) throws PortalException;
+
+	/**
+	* Gets the stored match candidates of an item, best first
+	*
+	* @param itemId
+	* @param start
+	* @param end
+	* @return The matches, each naming the candidate in matchedItemId
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<ItemMatch> getItemMatches(long itemId, int start, int end);
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public int getItemMatchesCount(long itemId);
+
+	/**
+	* Returns a range of all the item matchs.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @return the range of item matchs
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<ItemMatch> getItemMatchs(int start, int end);
+
+	/**
+	* Returns the number of item matchs.
+	*
+	* @return the number of item matchs
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public int getItemMatchsCount();
+
+	/**
+	* Returns the OSGi service identifier.
+	*
+	* @return the OSGi service identifier
+	*/
+	public java.lang.String getOSGiServiceIdentifier();
+
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public PersistedModel getPersistedModel(Serializable primaryKeyObj)
+		throws PortalException;
+
+	@Override
+	public java.lang.Object invokeMethod(java.lang.String name,
+		java.lang.String[] parameterTypes, java.lang.Object[] arguments)
+		throws java.lang.Throwable;
+
+	/**
+	* Updates the item match in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param itemMatch the item match
+	* @return the item match that was updated
+	*/
+	@Indexable(type = IndexableType.REINDEX)
+	public ItemMatch updateItemMatch(ItemMatch itemMatch);
+
+	/**
+	* Recomputes the match candidates of an item. Lost items are matched
+	* against found ones and the other way round, other types have no
+	* candidates. The candidates are the found (or lost) items the search
+	* index ranks highest for the item's name and description, created within
+	* item.match.max.days of it. Each is scored on the text relevance, the
+	* shared asset categories, the distance between the locations and the
+	* time between the reports. The best item.match.max.results candidates
+	* scoring at least item.match.min.score are stored in both directions, so
+	* the item also shows up among the candidates of each of its matches.
+	* Matches already stored are updated in place and those no longer found
+	* are removed, so each pair of items is stored at most once per
+	* direction.
+	*
+	* @param itemId
+	* @return The stored matches of the item
+	*/
+	public List<ItemMatch> updateItemMatches(long itemId)
+		throws PortalException;
+}
\ No newline at end of file
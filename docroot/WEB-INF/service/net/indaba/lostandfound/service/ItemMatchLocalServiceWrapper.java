@@ -0,0 +1,333 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.service.ServiceWrapper;
+
+/**
+ * Provides a wrapper for {@link ItemMatchLocalService}.
+ *
+ * @author aritz
+ * @see ItemMatchLocalService
+ * @generated
+ */
+@ProviderType
+public class ItemMatchLocalServiceWrapper implements ItemMatchLocalService,
+	ServiceWrapper<ItemMatchLocalService> {
+	public ItemMatchLocalServiceWrapper(
+		ItemMatchLocalService itemMatchLocalService) {
+		_itemMatchLocalService = itemMatchLocalService;
+	}
+
+	/**
+	* Adds the item match to the database. Also notifies the appropriate model listeners.
+	*
+	* @param itemMatch the item match
+	* @return the item match that was added
+	*/
+	@Override
+	public net.indaba.lostandfound.model.ItemMatch addItemMatch(
+		net.indaba.lostandfound.model.ItemMatch itemMatch) {
+		return _itemMatchLocalService.addItemMatch(itemMatch);
+	}
+
+	/**
+	* Creates a new item match with the primary key. Does not add the item match to the database.
+	*
+	* @param matchId the primary key for the new item match
+	* @return the new item match
+	*/
+	@Override
+	public net.indaba.lostandfound.model.ItemMatch createItemMatch(long matchId) {
+		return _itemMatchLocalService.createItemMatch(matchId);
+	}
+
+	/**
+	* Deletes the item match from the database. Also notifies the appropriate model listeners.
+	*
+	* @param itemMatch the item match
+	* @return the item match that was removed
+	*/
+	@Override
+	public net.indaba.lostandfound.model.ItemMatch deleteItemMatch(
+		net.indaba.lostandfound.model.ItemMatch itemMatch) {
+		return _itemMatchLocalService.deleteItemMatch(itemMatch);
+	}
+
+	/**
+	* Deletes the item match with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param matchId the primary key of the item match
+	* @return the item match that was removed
+	* @throws PortalException if a item match with the primary key could not be found
+	*/
+	@Override
+	public net.indaba.lostandfound.model.ItemMatch deleteItemMatch(long matchId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _itemMatchLocalService.deleteItemMatch(matchId);
+	}
+
+	/**
+	* Removes every stored match of the item, in both directions
+	*
+	* @param itemId
+	*/
+	@Override
+	public void deleteItemMatches(long itemId) {
+		_itemMatchLocalService.deleteItemMatches(itemId);
+	}
+
+	/**
+	* @throws PortalException
+	*/
+	@Override
+	public com.liferay.portal.kernel.model.PersistedModel deletePersistedModel(
+		com.liferay.portal.kernel.model.PersistedModel persistedModel)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _itemMatchLocalService.deletePersistedModel(persistedModel);
+	}
+
+	@Override
+	public com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery() {
+		return _itemMatchLocalService.dynamicQuery();
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns the matching rows.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the matching rows
+	*/
+	@Override
+	public <T> java.util.List<T> dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery) {
+		return _itemMatchLocalService.dynamicQuery(dynamicQuery);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns a range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @return the range of matching rows
+	*/
+	@Override
+	public <T> java.util.List<T> dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end) {
+		return _itemMatchLocalService.dynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching rows
+	*/
+	@Override
+	public <T> java.util.List<T> dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end,
+		com.liferay.portal.kernel.util.OrderByComparator<T> orderByComparator) {
+		return _itemMatchLocalService.dynamicQuery(dynamicQuery, start, end,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the number of rows matching the dynamic query
+	*/
+	@Override
+	public long dynamicQueryCount(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery) {
+		return _itemMatchLocalService.dynamicQueryCount(dynamicQuery);
+	}
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @param projection the projection to apply to the query
+	* @return the number of rows matching the dynamic query
+	*/
+	@Override
+	public long dynamicQueryCount(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery,
+		com.liferay.portal.kernel.dao.orm.Projection projection) {
+		return _itemMatchLocalService.dynamicQueryCount(dynamicQuery, projection);
+	}
+
+	@Override
+	public net.indaba.lostandfound.model.ItemMatch fetchItemMatch(long matchId) {
+		return _itemMatchLocalService.fetchItemMatch(matchId);
+	}
+
+	@Override
+	public com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery getActionableDynamicQuery() {
+		return _itemMatchLocalService.getActionableDynamicQuery();
+	}
+
+	@Override
+	public com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery getIndexableActionableDynamicQuery() {
+		return _itemMatchLocalService.getIndexableActionableDynamicQuery();
+	}
+
+	/**
+	* Returns the item match with the primary key.
+	*
+	* @param matchId the primary key of the item match
+	* @return the item match
+	* @throws PortalException if a item match with the primary key could not be found
+	*/
+	@Override
+	public net.indaba.lostandfound.model.ItemMatch getItemMatch(long matchId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _itemMatchLocalService.getItemMatch(matchId);
+	}
+
+	/**
+	* Gets the stored match candidates of an item, best first
+	*
+	* @param itemId
+	* @param start
+	* @param end
+	* @return The matches, each naming the candidate in matchedItemId
+	*/
+	@Override
+	public java.util.List<net.indaba.lostandfound.model.ItemMatch> getItemMatches(
+		long itemId, int start, int end) {
+		return _itemMatchLocalService.getItemMatches(itemId, start, end);
+	}
+
+	@Override
+	public int getItemMatchesCount(long itemId) {
+		return _itemMatchLocalService.getItemMatchesCount(itemId);
+	}
+
+	/**
+	* Returns a range of all the item matchs.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @return the range of item matchs
+	*/
+	@Override
+	public java.util.List<net.indaba.lostandfound.model.ItemMatch> getItemMatchs(
+		int start, int end) {
+		return _itemMatchLocalService.getItemMatchs(start, end);
+	}
+
+	/**
+	* Returns the number of item matchs.
+	*
+	* @return the number of item matchs
+	*/
+	@Override
+	public int getItemMatchsCount() {
+		return _itemMatchLocalService.getItemMatchsCount();
+	}
+
+	/**
+	* Returns the OSGi service identifier.
+	*
+	* @return the OSGi service identifier
+	*/
+	@Override
+	public java.lang.String getOSGiServiceIdentifier() {
+		return _itemMatchLocalService.getOSGiServiceIdentifier();
+	}
+
+	@Override
+	public com.liferay.portal.kernel.model.PersistedModel getPersistedModel(
+		java.io.Serializable primaryKeyObj)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _itemMatchLocalService.getPersistedModel(primaryKeyObj);
+	}
+
+	@Override
+	public java.lang.Object invokeMethod(java.lang.String name,
+		java.lang.String[] parameterTypes, java.lang.Object[] arguments)
+		throws java.lang.Throwable {
+		return _itemMatchLocalService.invokeMethod(name, parameterTypes,
+			arguments);
+	}
+
+	/**
+	* Updates the item match in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param itemMatch the item match
+	* @return the item match that was updated
+	*/
+	@Override
+	public net.indaba.lostandfound.model.ItemMatch updateItemMatch(
+		net.indaba.lostandfound.model.ItemMatch itemMatch) {
+		return _itemMatchLocalService.updateItemMatch(itemMatch);
+	}
+
+	/**
+	* Recomputes the match candidates of an item. Lost items are matched
+	* against found ones and the other way round, other types have no
+	* candidates. The candidates are the found (or lost) items the search
+	* index ranks highest for the item's name and description, created within
+	* item.match.max.days of it. Each is scored on the text relevance, the
+	* shared asset categories, the distance between the locations and the
+	* time between the reports. The best item.match.max.results candidates
+	* scoring at least item.match.min.score are stored in both directions, so
+	* the item also shows up among the candidates of each of its matches.
+	* Matches already stored are updated in place and those no longer found
+	* are removed, so each pair of items is stored at most once per
+	* direction.
+	*
+	* @param itemId
+	* @return The stored matches of the item
+	*/
+	@Override
+	public java.util.List<net.indaba.lostandfound.model.ItemMatch> updateItemMatches(
+		long itemId) throws com.liferay.portal.kernel.exception.PortalException {
+		return _itemMatchLocalService.updateItemMatches(itemId);
+	}
+
+	@Override
+	public ItemMatchLocalService getWrappedService() {
+		return _itemMatchLocalService;
+	}
+
+	@Override
+	public void setWrappedService(ItemMatchLocalService itemMatchLocalService) {
+		_itemMatchLocalService = itemMatchLocalService;
+	}
+
+	private ItemMatchLocalService _itemMatchLocalService;
+}
\ No newline at end of file
@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service.persistence;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.service.persistence.BasePersistence;
+
+import net.indaba.lostandfound.exception.NoSuchFirebaseKeyException;
+import net.indaba.lostandfound.model.FirebaseKey;
+
+import java.io.Serializable;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persistence interface for the firebase key service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author aritz
+ * @see net.indaba.lostandfound.service.persistence.impl.FirebaseKeyPersistenceImpl
+ * @see FirebaseKeyUtil
+ * @generated
+ */
+@ProviderType
+public interface FirebaseKeyPersistence extends BasePersistence<FirebaseKey> {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. Always use {@link FirebaseKeyUtil} to access the firebase key persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this interface.
+	 */
+	@Override
+	public Map<Serializable, FirebaseKey> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys);
+
+	/**
+	* Returns the firebase key where classNameId = &#63; and classPK = &#63; or throws a {@link NoSuchFirebaseKeyException} if it could not be found.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the matching firebase key
+	* @throws NoSuchFirebaseKeyException if a matching firebase key could not be found
+	*/
+	public FirebaseKey findByC_C(long classNameId, long classPK)
+		throws NoSuchFirebaseKeyException;
+
+	/**
+	* Returns the firebase key where classNameId = &#63; and classPK = &#63; or returns <code>null</code> if it could not be found. Uses the finder cache.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the matching firebase key, or <code>null</code> if a matching firebase key could not be found
+	*/
+	public FirebaseKey fetchByC_C(long classNameId, long classPK);
+
+	/**
+	* Returns the firebase key where classNameId = &#63; and classPK = &#63; or returns <code>null</code> if it could not be found, optionally using the finder cache.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the matching firebase key, or <code>null</code> if a matching firebase key could not be found
+	*/
+	public FirebaseKey fetchByC_C(long classNameId, long classPK,
+		boolean retrieveFromCache);
+
+	/**
+	* Removes the firebase key where classNameId = &#63; and classPK = &#63; from the database.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the firebase key that was removed
+	*/
+	public FirebaseKey removeByC_C(long classNameId, long classPK)
+		throws NoSuchFirebaseKeyException;
+
+	/**
+	* Returns the number of firebase keies where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the number of matching firebase keies
+	*/
+	public int countByC_C(long classNameId, long classPK);
+
+	/**
+	* Caches the firebase key in the entity cache if it is enabled.
+	*
+	* @param firebaseKey the firebase key
+	*/
+	public void cacheResult(FirebaseKey firebaseKey);
+
+	/**
+	* Caches the firebase keies in the entity cache if it is enabled.
+	*
+	* @param firebaseKeies the firebase keies
+	*/
+	public void cacheResult(java.util.List<FirebaseKey> firebaseKeies);
+
+	/**
+	* Creates a new firebase key with the primary key. Does not add the firebase key to the database.
+	*
+	* @param firebaseKeyId the primary key for the new firebase key
+	* @return the new firebase key
+	*/
+	public FirebaseKey create(long firebaseKeyId);
+
+	/**
+	* Removes the firebase key with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param firebaseKeyId the primary key of the firebase key
+	* @return the firebase key that was removed
+	* @throws NoSuchFirebaseKeyException if a firebase key with the primary key could not be found
+	*/
+	public FirebaseKey remove(long firebaseKeyId)
+		throws NoSuchFirebaseKeyException;
+
+	public FirebaseKey updateImpl(FirebaseKey firebaseKey);
+
+	/**
+	* Returns the firebase key with the primary key or throws a {@link NoSuchFirebaseKeyException} if it could not be found.
+	*
+	* @param firebaseKeyId the primary key of the firebase key
+	* @return the firebase key
+	* @throws NoSuchFirebaseKeyException if a firebase key with the primary key could not be found
+	*/
+	public FirebaseKey findByPrimaryKey(long firebaseKeyId)
+		throws NoSuchFirebaseKeyException;
+
+	/**
+	* Returns the firebase key with the primary key or returns <code>null</code> if it could not be found.
+	*
+	* @param firebaseKeyId the primary key of the firebase key
+	* @return the firebase key, or <code>null</code> if a firebase key with the primary key could not be found
+	*/
+	public FirebaseKey fetchByPrimaryKey(long firebaseKeyId);
+
+	/**
+	* Returns all the firebase keies.
+	*
+	* @return the firebase keies
+	*/
+	public java.util.List<FirebaseKey> findAll();
+
+	/**
+	* Returns a range of all the firebase keies.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseKeyModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of firebase keies
+	* @param end the upper bound of the range of firebase keies (not inclusive)
+	* @return the range of firebase keies
+	*/
+	public java.util.List<FirebaseKey> findAll(int start, int end);
+
+	/**
+	* Returns an ordered range of all the firebase keies.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseKeyModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of firebase keies
+	* @param end the upper bound of the range of firebase keies (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of firebase keies
+	*/
+	public java.util.List<FirebaseKey> findAll(int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseKey> orderByComparator);
+
+	/**
+	* Returns an ordered range of all the firebase keies.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseKeyModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of firebase keies
+	* @param end the upper bound of the range of firebase keies (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of firebase keies
+	*/
+	public java.util.List<FirebaseKey> findAll(int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseKey> orderByComparator,
+		boolean retrieveFromCache);
+
+	/**
+	* Removes all the firebase keies from the database.
+	*/
+	public void removeAll();
+
+	/**
+	* Returns the number of firebase keies.
+	*
+	* @return the number of firebase keies
+	*/
+	public int countAll();
+}
\ No newline at end of file
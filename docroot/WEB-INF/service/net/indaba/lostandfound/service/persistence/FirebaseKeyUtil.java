@@ -0,0 +1,341 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service.persistence;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.bean.PortletBeanLocatorUtil;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+
+import net.indaba.lostandfound.model.FirebaseKey;
+
+import java.io.Serializable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persistence utility for the firebase key service. This utility wraps {@link net.indaba.lostandfound.service.persistence.impl.FirebaseKeyPersistenceImpl} and provides direct access to the database for CRUD operations. This utility should only be used by the service layer, as it must operate within a transaction. Never access this utility in a JSP, controller, model, or other front-end class.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author aritz
+ * @see FirebaseKeyPersistence
+ * @see net.indaba.lostandfound.service.persistence.impl.FirebaseKeyPersistenceImpl
+ * @generated
+ */
+@ProviderType
+public class FirebaseKeyUtil {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify this class directly. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#clearCache()
+	 */
+	public static void clearCache() {
+		getPersistence().clearCache();
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#clearCache(com.liferay.portal.kernel.model.BaseModel)
+	 */
+	public static void clearCache(FirebaseKey firebaseKey) {
+		getPersistence().clearCache(firebaseKey);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#countWithDynamicQuery(DynamicQuery)
+	 */
+	public static long countWithDynamicQuery(DynamicQuery dynamicQuery) {
+		return getPersistence().countWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#fetchByPrimaryKeys(Set)
+	 */
+	public static Map<Serializable, FirebaseKey> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery)
+	 */
+	public static List<FirebaseKey> findWithDynamicQuery(
+		DynamicQuery dynamicQuery) {
+		return getPersistence().findWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery, int, int)
+	 */
+	public static List<FirebaseKey> findWithDynamicQuery(
+		DynamicQuery dynamicQuery, int start, int end) {
+		return getPersistence().findWithDynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery, int, int, OrderByComparator)
+	 */
+	public static List<FirebaseKey> findWithDynamicQuery(
+		DynamicQuery dynamicQuery, int start, int end,
+		OrderByComparator<FirebaseKey> orderByComparator) {
+		return getPersistence()
+				   .findWithDynamicQuery(dynamicQuery, start, end,
+			orderByComparator);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#update(com.liferay.portal.kernel.model.BaseModel)
+	 */
+	public static FirebaseKey update(FirebaseKey firebaseKey) {
+		return getPersistence().update(firebaseKey);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#update(com.liferay.portal.kernel.model.BaseModel, ServiceContext)
+	 */
+	public static FirebaseKey update(FirebaseKey firebaseKey,
+		ServiceContext serviceContext) {
+		return getPersistence().update(firebaseKey, serviceContext);
+	}
+
+	/**
+	* Returns the firebase key where classNameId = &#63; and classPK = &#63; or throws a {@link NoSuchFirebaseKeyException} if it could not be found.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the matching firebase key
+	* @throws NoSuchFirebaseKeyException if a matching firebase key could not be found
+	*/
+	public static FirebaseKey findByC_C(long classNameId, long classPK)
+		throws net.indaba.lostandfound.exception.NoSuchFirebaseKeyException {
+		return getPersistence().findByC_C(classNameId, classPK);
+	}
+
+	/**
+	* Returns the firebase key where classNameId = &#63; and classPK = &#63; or returns <code>null</code> if it could not be found. Uses the finder cache.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the matching firebase key, or <code>null</code> if a matching firebase key could not be found
+	*/
+	public static FirebaseKey fetchByC_C(long classNameId, long classPK) {
+		return getPersistence().fetchByC_C(classNameId, classPK);
+	}
+
+	/**
+	* Returns the firebase key where classNameId = &#63; and classPK = &#63; or returns <code>null</code> if it could not be found, optionally using the finder cache.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the matching firebase key, or <code>null</code> if a matching firebase key could not be found
+	*/
+	public static FirebaseKey fetchByC_C(long classNameId, long classPK,
+		boolean retrieveFromCache) {
+		return getPersistence()
+				   .fetchByC_C(classNameId, classPK, retrieveFromCache);
+	}
+
+	/**
+	* Removes the firebase key where classNameId = &#63; and classPK = &#63; from the database.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the firebase key that was removed
+	*/
+	public static FirebaseKey removeByC_C(long classNameId, long classPK)
+		throws net.indaba.lostandfound.exception.NoSuchFirebaseKeyException {
+		return getPersistence().removeByC_C(classNameId, classPK);
+	}
+
+	/**
+	* Returns the number of firebase keies where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the number of matching firebase keies
+	*/
+	public static int countByC_C(long classNameId, long classPK) {
+		return getPersistence().countByC_C(classNameId, classPK);
+	}
+
+	/**
+	* Caches the firebase key in the entity cache if it is enabled.
+	*
+	* @param firebaseKey the firebase key
+	*/
+	public static void cacheResult(FirebaseKey firebaseKey) {
+		getPersistence().cacheResult(firebaseKey);
+	}
+
+	/**
+	* Caches the firebase keies in the entity cache if it is enabled.
+	*
+	* @param firebaseKeies the firebase keies
+	*/
+	public static void cacheResult(List<FirebaseKey> firebaseKeies) {
+		getPersistence().cacheResult(firebaseKeies);
+	}
+
+	/**
+	* Creates a new firebase key with the primary key. Does not add the firebase key to the database.
+	*
+	* @param firebaseKeyId the primary key for the new firebase key
+	* @return the new firebase key
+	*/
+	public static FirebaseKey create(long firebaseKeyId) {
+		return getPersistence().create(firebaseKeyId);
+	}
+
+	/**
+	* Removes the firebase key with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param firebaseKeyId the primary key of the firebase key
+	* @return the firebase key that was removed
+	* @throws NoSuchFirebaseKeyException if a firebase key with the primary key could not be found
+	*/
+	public static FirebaseKey remove(long firebaseKeyId)
+		throws net.indaba.lostandfound.exception.NoSuchFirebaseKeyException {
+		return getPersistence().remove(firebaseKeyId);
+	}
+
+	public static FirebaseKey updateImpl(FirebaseKey firebaseKey) {
+		return getPersistence().updateImpl(firebaseKey);
+	}
+
+	/**
+	* Returns the firebase key with the primary key or throws a {@link NoSuchFirebaseKeyException} if it could not be found.
+	*
+	* @param firebaseKeyId the primary key of the firebase key
+	* @return the firebase key
+	* @throws NoSuchFirebaseKeyException if a firebase key with the primary key could not be found
+	*/
+	public static FirebaseKey findByPrimaryKey(long firebaseKeyId)
+		throws net.indaba.lostandfound.exception.NoSuchFirebaseKeyException {
+		return getPersistence().findByPrimaryKey(firebaseKeyId);
+	}
+
+	/**
+	* Returns the firebase key with the primary key or returns <code>null</code> if it could not be found.
+	*
+	* @param firebaseKeyId the primary key of the firebase key
+	* @return the firebase key, or <code>null</code> if a firebase key with the primary key could not be found
+	*/
+	public static FirebaseKey fetchByPrimaryKey(long firebaseKeyId) {
+		return getPersistence().fetchByPrimaryKey(firebaseKeyId);
+	}
+
+	/**
+	* Returns all the firebase keies.
+	*
+	* @return the firebase keies
+	*/
+	public static List<FirebaseKey> findAll() {
+		return getPersistence().findAll();
+	}
+
+	/**
+	* Returns a range of all the firebase keies.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseKeyModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of firebase keies
+	* @param end the upper bound of the range of firebase keies (not inclusive)
+	* @return the range of firebase keies
+	*/
+	public static List<FirebaseKey> findAll(int start, int end) {
+		return getPersistence().findAll(start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the firebase keies.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseKeyModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of firebase keies
+	* @param end the upper bound of the range of firebase keies (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of firebase keies
+	*/
+	public static List<FirebaseKey> findAll(int start, int end,
+		OrderByComparator<FirebaseKey> orderByComparator) {
+		return getPersistence().findAll(start, end, orderByComparator);
+	}
+
+	/**
+	* Returns an ordered range of all the firebase keies.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseKeyModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of firebase keies
+	* @param end the upper bound of the range of firebase keies (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of firebase keies
+	*/
+	public static List<FirebaseKey> findAll(int start, int end,
+		OrderByComparator<FirebaseKey> orderByComparator,
+		boolean retrieveFromCache) {
+		return getPersistence()
+				   .findAll(start, end, orderByComparator, retrieveFromCache);
+	}
+
+	/**
+	* Removes all the firebase keies from the database.
+	*/
+	public static void removeAll() {
+		getPersistence().removeAll();
+	}
+
+	/**
+	* Returns the number of firebase keies.
+	*
+	* @return the number of firebase keies
+	*/
+	public static int countAll() {
+		return getPersistence().countAll();
+	}
+
+	public static FirebaseKeyPersistence getPersistence() {
+		if (_persistence == null) {
+			_persistence = (FirebaseKeyPersistence)PortletBeanLocatorUtil.locate(net.indaba.lostandfound.service.ServletContextUtil.getServletContextName(),
+					FirebaseKeyPersistence.class.getName());
+
+			ReferenceRegistry.registerReference(FirebaseKeyUtil.class,
+				"_persistence");
+		}
+
+		return _persistence;
+	}
+
+	private static FirebaseKeyPersistence _persistence;
+}
\ No newline at end of file
@@ -0,0 +1,451 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service.persistence;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.service.persistence.BasePersistence;
+
+import net.indaba.lostandfound.exception.NoSuchFirebaseOutboxEntryException;
+import net.indaba.lostandfound.model.FirebaseOutboxEntry;
+
+import java.io.Serializable;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persistence interface for the firebase outbox entry service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author aritz
+ * @see net.indaba.lostandfound.service.persistence.impl.FirebaseOutboxEntryPersistenceImpl
+ * @see FirebaseOutboxEntryUtil
+ * @generated
+ */
+@ProviderType
+public interface FirebaseOutboxEntryPersistence extends BasePersistence<FirebaseOutboxEntry> {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. Always use {@link FirebaseOutboxEntryUtil} to access the firebase outbox entry persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this interface.
+	 */
+	@Override
+	public Map<Serializable, FirebaseOutboxEntry> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys);
+
+	/**
+	* Returns all the firebase outbox entries where nextAttemptDate &le; &#63;.
+	*
+	* @param nextAttemptDate the next attempt date
+	* @return the matching firebase outbox entries
+	*/
+	public java.util.List<FirebaseOutboxEntry> findByLtNextAttemptDate(
+		Date nextAttemptDate);
+
+	/**
+	* Returns a range of all the firebase outbox entries where nextAttemptDate &le; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param nextAttemptDate the next attempt date
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @return the range of matching firebase outbox entries
+	*/
+	public java.util.List<FirebaseOutboxEntry> findByLtNextAttemptDate(
+		Date nextAttemptDate, int start, int end);
+
+	/**
+	* Returns an ordered range of all the firebase outbox entries where nextAttemptDate &le; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param nextAttemptDate the next attempt date
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching firebase outbox entries
+	*/
+	public java.util.List<FirebaseOutboxEntry> findByLtNextAttemptDate(
+		Date nextAttemptDate, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseOutboxEntry> orderByComparator);
+
+	/**
+	* Returns an ordered range of all the firebase outbox entries where nextAttemptDate &le; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param nextAttemptDate the next attempt date
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of matching firebase outbox entries
+	*/
+	public java.util.List<FirebaseOutboxEntry> findByLtNextAttemptDate(
+		Date nextAttemptDate, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseOutboxEntry> orderByComparator,
+		boolean retrieveFromCache);
+
+	/**
+	* Returns the first firebase outbox entry in the ordered set where nextAttemptDate &le; &#63;.
+	*
+	* @param nextAttemptDate the next attempt date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching firebase outbox entry
+	* @throws NoSuchFirebaseOutboxEntryException if a matching firebase outbox entry could not be found
+	*/
+	public FirebaseOutboxEntry findByLtNextAttemptDate_First(
+		Date nextAttemptDate,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws NoSuchFirebaseOutboxEntryException;
+
+	/**
+	* Returns the first firebase outbox entry in the ordered set where nextAttemptDate &le; &#63;.
+	*
+	* @param nextAttemptDate the next attempt date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching firebase outbox entry, or <code>null</code> if a matching firebase outbox entry could not be found
+	*/
+	public FirebaseOutboxEntry fetchByLtNextAttemptDate_First(
+		Date nextAttemptDate,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseOutboxEntry> orderByComparator);
+
+	/**
+	* Returns the last firebase outbox entry in the ordered set where nextAttemptDate &le; &#63;.
+	*
+	* @param nextAttemptDate the next attempt date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching firebase outbox entry
+	* @throws NoSuchFirebaseOutboxEntryException if a matching firebase outbox entry could not be found
+	*/
+	public FirebaseOutboxEntry findByLtNextAttemptDate_Last(
+		Date nextAttemptDate,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws NoSuchFirebaseOutboxEntryException;
+
+	/**
+	* Returns the last firebase outbox entry in the ordered set where nextAttemptDate &le; &#63;.
+	*
+	* @param nextAttemptDate the next attempt date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching firebase outbox entry, or <code>null</code> if a matching firebase outbox entry could not be found
+	*/
+	public FirebaseOutboxEntry fetchByLtNextAttemptDate_Last(
+		Date nextAttemptDate,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseOutboxEntry> orderByComparator);
+
+	/**
+	* Returns the firebase outbox entries before and after the current firebase outbox entry in the ordered set where nextAttemptDate &le; &#63;.
+	*
+	* @param outboxEntryId the primary key of the current firebase outbox entry
+	* @param nextAttemptDate the next attempt date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next firebase outbox entry
+	* @throws NoSuchFirebaseOutboxEntryException if a firebase outbox entry with the primary key could not be found
+	*/
+	public FirebaseOutboxEntry[] findByLtNextAttemptDate_PrevAndNext(
+		long outboxEntryId, Date nextAttemptDate,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws NoSuchFirebaseOutboxEntryException;
+
+	/**
+	* Removes all the firebase outbox entries where nextAttemptDate &le; &#63; from the database.
+	*
+	* @param nextAttemptDate the next attempt date
+	*/
+	public void removeByLtNextAttemptDate(Date nextAttemptDate);
+
+	/**
+	* Returns the number of firebase outbox entries where nextAttemptDate &le; &#63;.
+	*
+	* @param nextAttemptDate the next attempt date
+	* @return the number of matching firebase outbox entries
+	*/
+	public int countByLtNextAttemptDate(Date nextAttemptDate);
+
+	/**
+	* Returns all the firebase outbox entries where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the matching firebase outbox entries
+	*/
+	public java.util.List<FirebaseOutboxEntry> findByC_C(long classNameId,
+		long classPK);
+
+	/**
+	* Returns a range of all the firebase outbox entries where classNameId = &#63; and classPK = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @return the range of matching firebase outbox entries
+	*/
+	public java.util.List<FirebaseOutboxEntry> findByC_C(long classNameId,
+		long classPK, int start, int end);
+
+	/**
+	* Returns an ordered range of all the firebase outbox entries where classNameId = &#63; and classPK = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching firebase outbox entries
+	*/
+	public java.util.List<FirebaseOutboxEntry> findByC_C(long classNameId,
+		long classPK, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseOutboxEntry> orderByComparator);
+
+	/**
+	* Returns an ordered range of all the firebase outbox entries where classNameId = &#63; and classPK = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of matching firebase outbox entries
+	*/
+	public java.util.List<FirebaseOutboxEntry> findByC_C(long classNameId,
+		long classPK, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseOutboxEntry> orderByComparator,
+		boolean retrieveFromCache);
+
+	/**
+	* Returns the first firebase outbox entry in the ordered set where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching firebase outbox entry
+	* @throws NoSuchFirebaseOutboxEntryException if a matching firebase outbox entry could not be found
+	*/
+	public FirebaseOutboxEntry findByC_C_First(long classNameId, long classPK,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws NoSuchFirebaseOutboxEntryException;
+
+	/**
+	* Returns the first firebase outbox entry in the ordered set where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching firebase outbox entry, or <code>null</code> if a matching firebase outbox entry could not be found
+	*/
+	public FirebaseOutboxEntry fetchByC_C_First(long classNameId, long classPK,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseOutboxEntry> orderByComparator);
+
+	/**
+	* Returns the last firebase outbox entry in the ordered set where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching firebase outbox entry
+	* @throws NoSuchFirebaseOutboxEntryException if a matching firebase outbox entry could not be found
+	*/
+	public FirebaseOutboxEntry findByC_C_Last(long classNameId, long classPK,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws NoSuchFirebaseOutboxEntryException;
+
+	/**
+	* Returns the last firebase outbox entry in the ordered set where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching firebase outbox entry, or <code>null</code> if a matching firebase outbox entry could not be found
+	*/
+	public FirebaseOutboxEntry fetchByC_C_Last(long classNameId, long classPK,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseOutboxEntry> orderByComparator);
+
+	/**
+	* Returns the firebase outbox entries before and after the current firebase outbox entry in the ordered set where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param outboxEntryId the primary key of the current firebase outbox entry
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next firebase outbox entry
+	* @throws NoSuchFirebaseOutboxEntryException if a firebase outbox entry with the primary key could not be found
+	*/
+	public FirebaseOutboxEntry[] findByC_C_PrevAndNext(long outboxEntryId,
+		long classNameId, long classPK,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws NoSuchFirebaseOutboxEntryException;
+
+	/**
+	* Removes all the firebase outbox entries where classNameId = &#63; and classPK = &#63; from the database.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	*/
+	public void removeByC_C(long classNameId, long classPK);
+
+	/**
+	* Returns the number of firebase outbox entries where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the number of matching firebase outbox entries
+	*/
+	public int countByC_C(long classNameId, long classPK);
+
+	/**
+	* Caches the firebase outbox entry in the entity cache if it is enabled.
+	*
+	* @param firebaseOutboxEntry the firebase outbox entry
+	*/
+	public void cacheResult(FirebaseOutboxEntry firebaseOutboxEntry);
+
+	/**
+	* Caches the firebase outbox entries in the entity cache if it is enabled.
+	*
+	* @param firebaseOutboxEntries the firebase outbox entries
+	*/
+	public void cacheResult(
+		java.util.List<FirebaseOutboxEntry> firebaseOutboxEntries);
+
+	/**
+	* Creates a new firebase outbox entry with the primary key. Does not add the firebase outbox entry to the database.
+	*
+	* @param outboxEntryId the primary key for the new firebase outbox entry
+	* @return the new firebase outbox entry
+	*/
+	public FirebaseOutboxEntry create(long outboxEntryId);
+
+	/**
+	* Removes the firebase outbox entry with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param outboxEntryId the primary key of the firebase outbox entry
+	* @return the firebase outbox entry that was removed
+	* @throws NoSuchFirebaseOutboxEntryException if a firebase outbox entry with the primary key could not be found
+	*/
+	public FirebaseOutboxEntry remove(long outboxEntryId)
+		throws NoSuchFirebaseOutboxEntryException;
+
+	public FirebaseOutboxEntry updateImpl(
+		FirebaseOutboxEntry firebaseOutboxEntry);
+
+	/**
+	* Returns the firebase outbox entry with the primary key or throws a {@link NoSuchFirebaseOutboxEntryException} if it could not be found.
+	*
+	* @param outboxEntryId the primary key of the firebase outbox entry
+	* @return the firebase outbox entry
+	* @throws NoSuchFirebaseOutboxEntryException if a firebase outbox entry with the primary key could not be found
+	*/
+	public FirebaseOutboxEntry findByPrimaryKey(long outboxEntryId)
+		throws NoSuchFirebaseOutboxEntryException;
+
+	/**
+	* Returns the firebase outbox entry with the primary key or returns <code>null</code> if it could not be found.
+	*
+	* @param outboxEntryId the primary key of the firebase outbox entry
+	* @return the firebase outbox entry, or <code>null</code> if a firebase outbox entry with the primary key could not be found
+	*/
+	public FirebaseOutboxEntry fetchByPrimaryKey(long outboxEntryId);
+
+	/**
+	* Returns all the firebase outbox entries.
+	*
+	* @return the firebase outbox entries
+	*/
+	public java.util.List<FirebaseOutboxEntry> findAll();
+
+	/**
+	* Returns a range of all the firebase outbox entries.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @return the range of firebase outbox entries
+	*/
+	public java.util.List<FirebaseOutboxEntry> findAll(int start, int end);
+
+	/**
+	* Returns an ordered range of all the firebase outbox entries.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of firebase outbox entries
+	*/
+	public java.util.List<FirebaseOutboxEntry> findAll(int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseOutboxEntry> orderByComparator);
+
+	/**
+	* Returns an ordered range of all the firebase outbox entries.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of firebase outbox entries
+	*/
+	public java.util.List<FirebaseOutboxEntry> findAll(int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<FirebaseOutboxEntry> orderByComparator,
+		boolean retrieveFromCache);
+
+	/**
+	* Removes all the firebase outbox entries from the database.
+	*/
+	public void removeAll();
+
+	/**
+	* Returns the number of firebase outbox entries.
+	*
+	* @return the number of firebase outbox entries
+	*/
+	public int countAll();
+}
\ No newline at end of file
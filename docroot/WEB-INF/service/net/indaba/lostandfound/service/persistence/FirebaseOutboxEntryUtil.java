@@ -0,0 +1,634 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service.persistence;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.bean.PortletBeanLocatorUtil;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+
+import net.indaba.lostandfound.model.FirebaseOutboxEntry;
+
+import java.io.Serializable;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persistence utility for the firebase outbox entry service. This utility wraps {@link net.indaba.lostandfound.service.persistence.impl.FirebaseOutboxEntryPersistenceImpl} and provides direct access to the database for CRUD operations. This utility should only be used by the service layer, as it must operate within a transaction. Never access this utility in a JSP, controller, model, or other front-end class.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author aritz
+ * @see FirebaseOutboxEntryPersistence
+ * @see net.indaba.lostandfound.service.persistence.impl.FirebaseOutboxEntryPersistenceImpl
+ * @generated
+ */
+@ProviderType
+public class FirebaseOutboxEntryUtil {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify this class directly. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#clearCache()
+	 */
+	public static void clearCache() {
+		getPersistence().clearCache();
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#clearCache(com.liferay.portal.kernel.model.BaseModel)
+	 */
+	public static void clearCache(FirebaseOutboxEntry firebaseOutboxEntry) {
+		getPersistence().clearCache(firebaseOutboxEntry);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#countWithDynamicQuery(DynamicQuery)
+	 */
+	public static long countWithDynamicQuery(DynamicQuery dynamicQuery) {
+		return getPersistence().countWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#fetchByPrimaryKeys(Set)
+	 */
+	public static Map<Serializable, FirebaseOutboxEntry> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery)
+	 */
+	public static List<FirebaseOutboxEntry> findWithDynamicQuery(
+		DynamicQuery dynamicQuery) {
+		return getPersistence().findWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery, int, int)
+	 */
+	public static List<FirebaseOutboxEntry> findWithDynamicQuery(
+		DynamicQuery dynamicQuery, int start, int end) {
+		return getPersistence().findWithDynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery, int, int, OrderByComparator)
+	 */
+	public static List<FirebaseOutboxEntry> findWithDynamicQuery(
+		DynamicQuery dynamicQuery, int start, int end,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator) {
+		return getPersistence()
+				   .findWithDynamicQuery(dynamicQuery, start, end,
+			orderByComparator);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#update(com.liferay.portal.kernel.model.BaseModel)
+	 */
+	public static FirebaseOutboxEntry update(
+		FirebaseOutboxEntry firebaseOutboxEntry) {
+		return getPersistence().update(firebaseOutboxEntry);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#update(com.liferay.portal.kernel.model.BaseModel, ServiceContext)
+	 */
+	public static FirebaseOutboxEntry update(
+		FirebaseOutboxEntry firebaseOutboxEntry, ServiceContext serviceContext) {
+		return getPersistence().update(firebaseOutboxEntry, serviceContext);
+	}
+
+	/**
+	* Returns all the firebase outbox entries where nextAttemptDate &le; &#63;.
+	*
+	* @param nextAttemptDate the next attempt date
+	* @return the matching firebase outbox entries
+	*/
+	public static List<FirebaseOutboxEntry> findByLtNextAttemptDate(
+		Date nextAttemptDate) {
+		return getPersistence().findByLtNextAttemptDate(nextAttemptDate);
+	}
+
+	/**
+	* Returns a range of all the firebase outbox entries where nextAttemptDate &le; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param nextAttemptDate the next attempt date
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @return the range of matching firebase outbox entries
+	*/
+	public static List<FirebaseOutboxEntry> findByLtNextAttemptDate(
+		Date nextAttemptDate, int start, int end) {
+		return getPersistence()
+				   .findByLtNextAttemptDate(nextAttemptDate, start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the firebase outbox entries where nextAttemptDate &le; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param nextAttemptDate the next attempt date
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching firebase outbox entries
+	*/
+	public static List<FirebaseOutboxEntry> findByLtNextAttemptDate(
+		Date nextAttemptDate, int start, int end,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator) {
+		return getPersistence()
+				   .findByLtNextAttemptDate(nextAttemptDate, start, end,
+			orderByComparator);
+	}
+
+	/**
+	* Returns an ordered range of all the firebase outbox entries where nextAttemptDate &le; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param nextAttemptDate the next attempt date
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of matching firebase outbox entries
+	*/
+	public static List<FirebaseOutboxEntry> findByLtNextAttemptDate(
+		Date nextAttemptDate, int start, int end,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator,
+		boolean retrieveFromCache) {
+		return getPersistence()
+				   .findByLtNextAttemptDate(nextAttemptDate, start, end,
+			orderByComparator, retrieveFromCache);
+	}
+
+	/**
+	* Returns the first firebase outbox entry in the ordered set where nextAttemptDate &le; &#63;.
+	*
+	* @param nextAttemptDate the next attempt date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching firebase outbox entry
+	* @throws NoSuchFirebaseOutboxEntryException if a matching firebase outbox entry could not be found
+	*/
+	public static FirebaseOutboxEntry findByLtNextAttemptDate_First(
+		Date nextAttemptDate,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws net.indaba.lostandfound.exception.NoSuchFirebaseOutboxEntryException {
+		return getPersistence()
+				   .findByLtNextAttemptDate_First(nextAttemptDate,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the first firebase outbox entry in the ordered set where nextAttemptDate &le; &#63;.
+	*
+	* @param nextAttemptDate the next attempt date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching firebase outbox entry, or <code>null</code> if a matching firebase outbox entry could not be found
+	*/
+	public static FirebaseOutboxEntry fetchByLtNextAttemptDate_First(
+		Date nextAttemptDate,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator) {
+		return getPersistence()
+				   .fetchByLtNextAttemptDate_First(nextAttemptDate,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the last firebase outbox entry in the ordered set where nextAttemptDate &le; &#63;.
+	*
+	* @param nextAttemptDate the next attempt date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching firebase outbox entry
+	* @throws NoSuchFirebaseOutboxEntryException if a matching firebase outbox entry could not be found
+	*/
+	public static FirebaseOutboxEntry findByLtNextAttemptDate_Last(
+		Date nextAttemptDate,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws net.indaba.lostandfound.exception.NoSuchFirebaseOutboxEntryException {
+		return getPersistence()
+				   .findByLtNextAttemptDate_Last(nextAttemptDate,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the last firebase outbox entry in the ordered set where nextAttemptDate &le; &#63;.
+	*
+	* @param nextAttemptDate the next attempt date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching firebase outbox entry, or <code>null</code> if a matching firebase outbox entry could not be found
+	*/
+	public static FirebaseOutboxEntry fetchByLtNextAttemptDate_Last(
+		Date nextAttemptDate,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator) {
+		return getPersistence()
+				   .fetchByLtNextAttemptDate_Last(nextAttemptDate,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the firebase outbox entries before and after the current firebase outbox entry in the ordered set where nextAttemptDate &le; &#63;.
+	*
+	* @param outboxEntryId the primary key of the current firebase outbox entry
+	* @param nextAttemptDate the next attempt date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next firebase outbox entry
+	* @throws NoSuchFirebaseOutboxEntryException if a firebase outbox entry with the primary key could not be found
+	*/
+	public static FirebaseOutboxEntry[] findByLtNextAttemptDate_PrevAndNext(
+		long outboxEntryId, Date nextAttemptDate,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws net.indaba.lostandfound.exception.NoSuchFirebaseOutboxEntryException {
+		return getPersistence()
+				   .findByLtNextAttemptDate_PrevAndNext(outboxEntryId,
+			nextAttemptDate, orderByComparator);
+	}
+
+	/**
+	* Removes all the firebase outbox entries where nextAttemptDate &le; &#63; from the database.
+	*
+	* @param nextAttemptDate the next attempt date
+	*/
+	public static void removeByLtNextAttemptDate(Date nextAttemptDate) {
+		getPersistence().removeByLtNextAttemptDate(nextAttemptDate);
+	}
+
+	/**
+	* Returns the number of firebase outbox entries where nextAttemptDate &le; &#63;.
+	*
+	* @param nextAttemptDate the next attempt date
+	* @return the number of matching firebase outbox entries
+	*/
+	public static int countByLtNextAttemptDate(Date nextAttemptDate) {
+		return getPersistence().countByLtNextAttemptDate(nextAttemptDate);
+	}
+
+	/**
+	* Returns all the firebase outbox entries where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the matching firebase outbox entries
+	*/
+	public static List<FirebaseOutboxEntry> findByC_C(long classNameId,
+		long classPK) {
+		return getPersistence().findByC_C(classNameId, classPK);
+	}
+
+	/**
+	* Returns a range of all the firebase outbox entries where classNameId = &#63; and classPK = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @return the range of matching firebase outbox entries
+	*/
+	public static List<FirebaseOutboxEntry> findByC_C(long classNameId,
+		long classPK, int start, int end) {
+		return getPersistence().findByC_C(classNameId, classPK, start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the firebase outbox entries where classNameId = &#63; and classPK = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching firebase outbox entries
+	*/
+	public static List<FirebaseOutboxEntry> findByC_C(long classNameId,
+		long classPK, int start, int end,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator) {
+		return getPersistence()
+				   .findByC_C(classNameId, classPK, start, end,
+			orderByComparator);
+	}
+
+	/**
+	* Returns an ordered range of all the firebase outbox entries where classNameId = &#63; and classPK = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of matching firebase outbox entries
+	*/
+	public static List<FirebaseOutboxEntry> findByC_C(long classNameId,
+		long classPK, int start, int end,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator,
+		boolean retrieveFromCache) {
+		return getPersistence()
+				   .findByC_C(classNameId, classPK, start, end,
+			orderByComparator, retrieveFromCache);
+	}
+
+	/**
+	* Returns the first firebase outbox entry in the ordered set where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching firebase outbox entry
+	* @throws NoSuchFirebaseOutboxEntryException if a matching firebase outbox entry could not be found
+	*/
+	public static FirebaseOutboxEntry findByC_C_First(long classNameId,
+		long classPK, OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws net.indaba.lostandfound.exception.NoSuchFirebaseOutboxEntryException {
+		return getPersistence()
+				   .findByC_C_First(classNameId, classPK, orderByComparator);
+	}
+
+	/**
+	* Returns the first firebase outbox entry in the ordered set where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching firebase outbox entry, or <code>null</code> if a matching firebase outbox entry could not be found
+	*/
+	public static FirebaseOutboxEntry fetchByC_C_First(long classNameId,
+		long classPK, OrderByComparator<FirebaseOutboxEntry> orderByComparator) {
+		return getPersistence()
+				   .fetchByC_C_First(classNameId, classPK, orderByComparator);
+	}
+
+	/**
+	* Returns the last firebase outbox entry in the ordered set where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching firebase outbox entry
+	* @throws NoSuchFirebaseOutboxEntryException if a matching firebase outbox entry could not be found
+	*/
+	public static FirebaseOutboxEntry findByC_C_Last(long classNameId,
+		long classPK, OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws net.indaba.lostandfound.exception.NoSuchFirebaseOutboxEntryException {
+		return getPersistence()
+				   .findByC_C_Last(classNameId, classPK, orderByComparator);
+	}
+
+	/**
+	* Returns the last firebase outbox entry in the ordered set where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching firebase outbox entry, or <code>null</code> if a matching firebase outbox entry could not be found
+	*/
+	public static FirebaseOutboxEntry fetchByC_C_Last(long classNameId,
+		long classPK, OrderByComparator<FirebaseOutboxEntry> orderByComparator) {
+		return getPersistence()
+				   .fetchByC_C_Last(classNameId, classPK, orderByComparator);
+	}
+
+	/**
+	* Returns the firebase outbox entries before and after the current firebase outbox entry in the ordered set where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param outboxEntryId the primary key of the current firebase outbox entry
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next firebase outbox entry
+	* @throws NoSuchFirebaseOutboxEntryException if a firebase outbox entry with the primary key could not be found
+	*/
+	public static FirebaseOutboxEntry[] findByC_C_PrevAndNext(
+		long outboxEntryId, long classNameId, long classPK,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws net.indaba.lostandfound.exception.NoSuchFirebaseOutboxEntryException {
+		return getPersistence()
+				   .findByC_C_PrevAndNext(outboxEntryId, classNameId, classPK,
+			orderByComparator);
+	}
+
+	/**
+	* Removes all the firebase outbox entries where classNameId = &#63; and classPK = &#63; from the database.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	*/
+	public static void removeByC_C(long classNameId, long classPK) {
+		getPersistence().removeByC_C(classNameId, classPK);
+	}
+
+	/**
+	* Returns the number of firebase outbox entries where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the number of matching firebase outbox entries
+	*/
+	public static int countByC_C(long classNameId, long classPK) {
+		return getPersistence().countByC_C(classNameId, classPK);
+	}
+
+	/**
+	* Caches the firebase outbox entry in the entity cache if it is enabled.
+	*
+	* @param firebaseOutboxEntry the firebase outbox entry
+	*/
+	public static void cacheResult(FirebaseOutboxEntry firebaseOutboxEntry) {
+		getPersistence().cacheResult(firebaseOutboxEntry);
+	}
+
+	/**
+	* Caches the firebase outbox entries in the entity cache if it is enabled.
+	*
+	* @param firebaseOutboxEntries the firebase outbox entries
+	*/
+	public static void cacheResult(
+		List<FirebaseOutboxEntry> firebaseOutboxEntries) {
+		getPersistence().cacheResult(firebaseOutboxEntries);
+	}
+
+	/**
+	* Creates a new firebase outbox entry with the primary key. Does not add the firebase outbox entry to the database.
+	*
+	* @param outboxEntryId the primary key for the new firebase outbox entry
+	* @return the new firebase outbox entry
+	*/
+	public static FirebaseOutboxEntry create(long outboxEntryId) {
+		return getPersistence().create(outboxEntryId);
+	}
+
+	/**
+	* Removes the firebase outbox entry with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param outboxEntryId the primary key of the firebase outbox entry
+	* @return the firebase outbox entry that was removed
+	* @throws NoSuchFirebaseOutboxEntryException if a firebase outbox entry with the primary key could not be found
+	*/
+	public static FirebaseOutboxEntry remove(long outboxEntryId)
+		throws net.indaba.lostandfound.exception.NoSuchFirebaseOutboxEntryException {
+		return getPersistence().remove(outboxEntryId);
+	}
+
+	public static FirebaseOutboxEntry updateImpl(
+		FirebaseOutboxEntry firebaseOutboxEntry) {
+		return getPersistence().updateImpl(firebaseOutboxEntry);
+	}
+
+	/**
+	* Returns the firebase outbox entry with the primary key or throws a {@link NoSuchFirebaseOutboxEntryException} if it could not be found.
+	*
+	* @param outboxEntryId the primary key of the firebase outbox entry
+	* @return the firebase outbox entry
+	* @throws NoSuchFirebaseOutboxEntryException if a firebase outbox entry with the primary key could not be found
+	*/
+	public static FirebaseOutboxEntry findByPrimaryKey(long outboxEntryId)
+		throws net.indaba.lostandfound.exception.NoSuchFirebaseOutboxEntryException {
+		return getPersistence().findByPrimaryKey(outboxEntryId);
+	}
+
+	/**
+	* Returns the firebase outbox entry with the primary key or returns <code>null</code> if it could not be found.
+	*
+	* @param outboxEntryId the primary key of the firebase outbox entry
+	* @return the firebase outbox entry, or <code>null</code> if a firebase outbox entry with the primary key could not be found
+	*/
+	public static FirebaseOutboxEntry fetchByPrimaryKey(long outboxEntryId) {
+		return getPersistence().fetchByPrimaryKey(outboxEntryId);
+	}
+
+	/**
+	* Returns all the firebase outbox entries.
+	*
+	* @return the firebase outbox entries
+	*/
+	public static List<FirebaseOutboxEntry> findAll() {
+		return getPersistence().findAll();
+	}
+
+	/**
+	* Returns a range of all the firebase outbox entries.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @return the range of firebase outbox entries
+	*/
+	public static List<FirebaseOutboxEntry> findAll(int start, int end) {
+		return getPersistence().findAll(start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the firebase outbox entries.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of firebase outbox entries
+	*/
+	public static List<FirebaseOutboxEntry> findAll(int start, int end,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator) {
+		return getPersistence().findAll(start, end, orderByComparator);
+	}
+
+	/**
+	* Returns an ordered range of all the firebase outbox entries.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of firebase outbox entries
+	* @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of firebase outbox entries
+	*/
+	public static List<FirebaseOutboxEntry> findAll(int start, int end,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator,
+		boolean retrieveFromCache) {
+		return getPersistence()
+				   .findAll(start, end, orderByComparator, retrieveFromCache);
+	}
+
+	/**
+	* Removes all the firebase outbox entries from the database.
+	*/
+	public static void removeAll() {
+		getPersistence().removeAll();
+	}
+
+	/**
+	* Returns the number of firebase outbox entries.
+	*
+	* @return the number of firebase outbox entries
+	*/
+	public static int countAll() {
+		return getPersistence().countAll();
+	}
+
+	public static FirebaseOutboxEntryPersistence getPersistence() {
+		if (_persistence == null) {
+			_persistence = (FirebaseOutboxEntryPersistence)PortletBeanLocatorUtil.locate(net.indaba.lostandfound.service.ServletContextUtil.getServletContextName(),
+					FirebaseOutboxEntryPersistence.class.getName());
+
+			ReferenceRegistry.registerReference(FirebaseOutboxEntryUtil.class,
+				"_persistence");
+		}
+
+		return _persistence;
+	}
+
+	private static FirebaseOutboxEntryPersistence _persistence;
+}
\ No newline at end of file
@@ -0,0 +1,479 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service.persistence;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.service.persistence.BasePersistence;
+
+import net.indaba.lostandfound.exception.NoSuchItemMatchException;
+import net.indaba.lostandfound.model.ItemMatch;
+
+import java.io.Serializable;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persistence interface for the item match service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author aritz
+ * @see net.indaba.lostandfound.service.persistence.impl.ItemMatchPersistenceImpl
+ * @see ItemMatchUtil
+ * @generated
+ */
+@ProviderType
+public interface ItemMatchPersistence extends BasePersistence<ItemMatch> {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. Always use {@link ItemMatchUtil} to access the item match persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this interface.
+	 */
+	@Override
+	public Map<Serializable, ItemMatch> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys);
+
+	/**
+	* Returns all the item matchs where itemId = &#63;.
+	*
+	* @param itemId the item ID
+	* @return the matching item matchs
+	*/
+	public java.util.List<ItemMatch> findByItemId(long itemId);
+
+	/**
+	* Returns a range of all the item matchs where itemId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param itemId the item ID
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @return the range of matching item matchs
+	*/
+	public java.util.List<ItemMatch> findByItemId(long itemId, int start,
+		int end);
+
+	/**
+	* Returns an ordered range of all the item matchs where itemId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param itemId the item ID
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching item matchs
+	*/
+	public java.util.List<ItemMatch> findByItemId(long itemId, int start,
+		int end,
+		com.liferay.portal.kernel.util.OrderByComparator<ItemMatch> orderByComparator);
+
+	/**
+	* Returns an ordered range of all the item matchs where itemId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param itemId the item ID
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of matching item matchs
+	*/
+	public java.util.List<ItemMatch> findByItemId(long itemId, int start,
+		int end,
+		com.liferay.portal.kernel.util.OrderByComparator<ItemMatch> orderByComparator,
+		boolean retrieveFromCache);
+
+	/**
+	* Returns the first item match in the ordered set where itemId = &#63;.
+	*
+	* @param itemId the item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching item match
+	* @throws NoSuchItemMatchException if a matching item match could not be found
+	*/
+	public ItemMatch findByItemId_First(long itemId,
+		com.liferay.portal.kernel.util.OrderByComparator<ItemMatch> orderByComparator)
+		throws NoSuchItemMatchException;
+
+	/**
+	* Returns the first item match in the ordered set where itemId = &#63;.
+	*
+	* @param itemId the item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching item match, or <code>null</code> if a matching item match could not be found
+	*/
+	public ItemMatch fetchByItemId_First(long itemId,
+		com.liferay.portal.kernel.util.OrderByComparator<ItemMatch> orderByComparator);
+
+	/**
+	* Returns the last item match in the ordered set where itemId = &#63;.
+	*
+	* @param itemId the item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching item match
+	* @throws NoSuchItemMatchException if a matching item match could not be found
+	*/
+	public ItemMatch findByItemId_Last(long itemId,
+		com.liferay.portal.kernel.util.OrderByComparator<ItemMatch> orderByComparator)
+		throws NoSuchItemMatchException;
+
+	/**
+	* Returns the last item match in the ordered set where itemId = &#63;.
+	*
+	* @param itemId the item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching item match, or <code>null</code> if a matching item match could not be found
+	*/
+	public ItemMatch fetchByItemId_Last(long itemId,
+		com.liferay.portal.kernel.util.OrderByComparator<ItemMatch> orderByComparator);
+
+	/**
+	* Returns the item matchs before and after the current item match in the ordered set where itemId = &#63;.
+	*
+	* @param matchId the primary key of the current item match
+	* @param itemId the item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next item match
+	* @throws NoSuchItemMatchException if a item match with the primary key could not be found
+	*/
+	public ItemMatch[] findByItemId_PrevAndNext(long matchId, long itemId,
+		com.liferay.portal.kernel.util.OrderByComparator<ItemMatch> orderByComparator)
+		throws NoSuchItemMatchException;
+
+	/**
+	* Removes all the item matchs where itemId = &#63; from the database.
+	*
+	* @param itemId the item ID
+	*/
+	public void removeByItemId(long itemId);
+
+	/**
+	* Returns the number of item matchs where itemId = &#63;.
+	*
+	* @param itemId the item ID
+	* @return the number of matching item matchs
+	*/
+	public int countByItemId(long itemId);
+
+	/**
+	* Returns all the item matchs where matchedItemId = &#63;.
+	*
+	* @param matchedItemId the matched item ID
+	* @return the matching item matchs
+	*/
+	public java.util.List<ItemMatch> findByMatchedItemId(long matchedItemId);
+
+	/**
+	* Returns a range of all the item matchs where matchedItemId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param matchedItemId the matched item ID
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @return the range of matching item matchs
+	*/
+	public java.util.List<ItemMatch> findByMatchedItemId(long matchedItemId,
+		int start, int end);
+
+	/**
+	* Returns an ordered range of all the item matchs where matchedItemId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param matchedItemId the matched item ID
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching item matchs
+	*/
+	public java.util.List<ItemMatch> findByMatchedItemId(long matchedItemId,
+		int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<ItemMatch> orderByComparator);
+
+	/**
+	* Returns an ordered range of all the item matchs where matchedItemId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param matchedItemId the matched item ID
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of matching item matchs
+	*/
+	public java.util.List<ItemMatch> findByMatchedItemId(long matchedItemId,
+		int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<ItemMatch> orderByComparator,
+		boolean retrieveFromCache);
+
+	/**
+	* Returns the first item match in the ordered set where matchedItemId = &#63;.
+	*
+	* @param matchedItemId the matched item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching item match
+	* @throws NoSuchItemMatchException if a matching item match could not be found
+	*/
+	public ItemMatch findByMatchedItemId_First(long matchedItemId,
+		com.liferay.portal.kernel.util.OrderByComparator<ItemMatch> orderByComparator)
+		throws NoSuchItemMatchException;
+
+	/**
+	* Returns the first item match in the ordered set where matchedItemId = &#63;.
+	*
+	* @param matchedItemId the matched item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching item match, or <code>null</code> if a matching item match could not be found
+	*/
+	public ItemMatch fetchByMatchedItemId_First(long matchedItemId,
+		com.liferay.portal.kernel.util.OrderByComparator<ItemMatch> orderByComparator);
+
+	/**
+	* Returns the last item match in the ordered set where matchedItemId = &#63;.
+	*
+	* @param matchedItemId the matched item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching item match
+	* @throws NoSuchItemMatchException if a matching item match could not be found
+	*/
+	public ItemMatch findByMatchedItemId_Last(long matchedItemId,
+		com.liferay.portal.kernel.util.OrderByComparator<ItemMatch> orderByComparator)
+		throws NoSuchItemMatchException;
+
+	/**
+	* Returns the last item match in the ordered set where matchedItemId = &#63;.
+	*
+	* @param matchedItemId the matched item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching item match, or <code>null</code> if a matching item match could not be found
+	*/
+	public ItemMatch fetchByMatchedItemId_Last(long matchedItemId,
+		com.liferay.portal.kernel.util.OrderByComparator<ItemMatch> orderByComparator);
+
+	/**
+	* Returns the item matchs before and after the current item match in the ordered set where matchedItemId = &#63;.
+	*
+	* @param matchId the primary key of the current item match
+	* @param matchedItemId the matched item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next item match
+	* @throws NoSuchItemMatchException if a item match with the primary key could not be found
+	*/
+	public ItemMatch[] findByMatchedItemId_PrevAndNext(long matchId,
+		long matchedItemId,
+		com.liferay.portal.kernel.util.OrderByComparator<ItemMatch> orderByComparator)
+		throws NoSuchItemMatchException;
+
+	/**
+	* Removes all the item matchs where matchedItemId = &#63; from the database.
+	*
+	* @param matchedItemId the matched item ID
+	*/
+	public void removeByMatchedItemId(long matchedItemId);
+
+	/**
+	* Returns the number of item matchs where matchedItemId = &#63;.
+	*
+	* @param matchedItemId the matched item ID
+	* @return the number of matching item matchs
+	*/
+	public int countByMatchedItemId(long matchedItemId);
+
+	/**
+	* Returns the item match where itemId = &#63; and matchedItemId = &#63; or throws a {@link NoSuchItemMatchException} if it could not be found.
+	*
+	* @param itemId the item ID
+	* @param matchedItemId the matched item ID
+	* @return the matching item match
+	* @throws NoSuchItemMatchException if a matching item match could not be found
+	*/
+	public ItemMatch findByI_M(long itemId, long matchedItemId)
+		throws NoSuchItemMatchException;
+
+	/**
+	* Returns the item match where itemId = &#63; and matchedItemId = &#63; or returns <code>null</code> if it could not be found. Uses the finder cache.
+	*
+	* @param itemId the item ID
+	* @param matchedItemId the matched item ID
+	* @return the matching item match, or <code>null</code> if a matching item match could not be found
+	*/
+	public ItemMatch fetchByI_M(long itemId, long matchedItemId);
+
+	/**
+	* Returns the item match where itemId = &#63; and matchedItemId = &#63; or returns <code>null</code> if it could not be found, optionally using the finder cache.
+	*
+	* @param itemId the item ID
+	* @param matchedItemId the matched item ID
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the matching item match, or <code>null</code> if a matching item match could not be found
+	*/
+	public ItemMatch fetchByI_M(long itemId, long matchedItemId,
+		boolean retrieveFromCache);
+
+	/**
+	* Removes the item match where itemId = &#63; and matchedItemId = &#63; from the database.
+	*
+	* @param itemId the item ID
+	* @param matchedItemId the matched item ID
+	* @return the item match that was removed
+	*/
+	public ItemMatch removeByI_M(long itemId, long matchedItemId)
+		throws NoSuchItemMatchException;
+
+	/**
+	* Returns the number of item matchs where itemId = &#63; and matchedItemId = &#63;.
+	*
+	* @param itemId the item ID
+	* @param matchedItemId the matched item ID
+	* @return the number of matching item matchs
+	*/
+	public int countByI_M(long itemId, long matchedItemId);
+
+	/**
+	* Caches the item match in the entity cache if it is enabled.
+	*
+	* @param itemMatch the item match
+	*/
+	public void cacheResult(ItemMatch itemMatch);
+
+	/**
+	* Caches the item matchs in the entity cache if it is enabled.
+	*
+	* @param itemMatchs the item matchs
+	*/
+	public void cacheResult(java.util.List<ItemMatch> itemMatchs);
+
+	/**
+	* Creates a new item match with the primary key. Does not add the item match to the database.
+	*
+	* @param matchId the primary key for the new item match
+	* @return the new item match
+	*/
+	public ItemMatch create(long matchId);
+
+	/**
+	* Removes the item match with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param matchId the primary key of the item match
+	* @return the item match that was removed
+	* @throws NoSuchItemMatchException if a item match with the primary key could not be found
+	*/
+	public ItemMatch remove(long matchId) throws NoSuchItemMatchException;
+
+	public ItemMatch updateImpl(ItemMatch itemMatch);
+
+	/**
+	* Returns the item match with the primary key or throws a {@link NoSuchItemMatchException} if it could not be found.
+	*
+	* @param matchId the primary key of the item match
+	* @return the item match
+	* @throws NoSuchItemMatchException if a item match with the primary key could not be found
+	*/
+	public ItemMatch findByPrimaryKey(long matchId)
+		throws NoSuchItemMatchException;
+
+	/**
+	* Returns the item match with the primary key or returns <code>null</code> if it could not be found.
+	*
+	* @param matchId the primary key of the item match
+	* @return the item match, or <code>null</code> if a item match with the primary key could not be found
+	*/
+	public ItemMatch fetchByPrimaryKey(long matchId);
+
+	/**
+	* Returns all the item matchs.
+	*
+	* @return the item matchs
+	*/
+	public java.util.List<ItemMatch> findAll();
+
+	/**
+	* Returns a range of all the item matchs.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @return the range of item matchs
+	*/
+	public java.util.List<ItemMatch> findAll(int start, int end);
+
+	/**
+	* Returns an ordered range of all the item matchs.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of item matchs
+	*/
+	public java.util.List<ItemMatch> findAll(int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<ItemMatch> orderByComparator);
+
+	/**
+	* Returns an ordered range of all the item matchs.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of item matchs
+	*/
+	public java.util.List<ItemMatch> findAll(int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<ItemMatch> orderByComparator,
+		boolean retrieveFromCache);
+
+	/**
+	* Removes all the item matchs from the database.
+	*/
+	public void removeAll();
+
+	/**
+	* Returns the number of item matchs.
+	*
+	* @return the number of item matchs
+	*/
+	public int countAll();
+}
\ No newline at end of file
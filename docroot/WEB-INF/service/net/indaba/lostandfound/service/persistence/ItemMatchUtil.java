@@ -0,0 +1,656 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service.persistence;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.bean.PortletBeanLocatorUtil;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+
+import net.indaba.lostandfound.model.ItemMatch;
+
+import java.io.Serializable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persistence utility for the item match service. This utility wraps {@link net.indaba.lostandfound.service.persistence.impl.ItemMatchPersistenceImpl} and provides direct access to the database for CRUD operations. This utility should only be used by the service layer, as it must operate within a transaction. Never access this utility in a JSP, controller, model, or other front-end class.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author aritz
+ * @see ItemMatchPersistence
+ * @see net.indaba.lostandfound.service.persistence.impl.ItemMatchPersistenceImpl
+ * @generated
+ */
+@ProviderType
+public class ItemMatchUtil {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify this class directly. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#clearCache()
+	 */
+	public static void clearCache() {
+		getPersistence().clearCache();
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#clearCache(com.liferay.portal.kernel.model.BaseModel)
+	 */
+	public static void clearCache(ItemMatch itemMatch) {
+		getPersistence().clearCache(itemMatch);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#countWithDynamicQuery(DynamicQuery)
+	 */
+	public static long countWithDynamicQuery(DynamicQuery dynamicQuery) {
+		return getPersistence().countWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#fetchByPrimaryKeys(Set)
+	 */
+	public static Map<Serializable, ItemMatch> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery)
+	 */
+	public static List<ItemMatch> findWithDynamicQuery(
+		DynamicQuery dynamicQuery) {
+		return getPersistence().findWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery, int, int)
+	 */
+	public static List<ItemMatch> findWithDynamicQuery(
+		DynamicQuery dynamicQuery, int start, int end) {
+		return getPersistence().findWithDynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery, int, int, OrderByComparator)
+	 */
+	public static List<ItemMatch> findWithDynamicQuery(
+		DynamicQuery dynamicQuery, int start, int end,
+		OrderByComparator<ItemMatch> orderByComparator) {
+		return getPersistence()
+				   .findWithDynamicQuery(dynamicQuery, start, end,
+			orderByComparator);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#update(com.liferay.portal.kernel.model.BaseModel)
+	 */
+	public static ItemMatch update(ItemMatch itemMatch) {
+		return getPersistence().update(itemMatch);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#update(com.liferay.portal.kernel.model.BaseModel, ServiceContext)
+	 */
+	public static ItemMatch update(ItemMatch itemMatch,
+		ServiceContext serviceContext) {
+		return getPersistence().update(itemMatch, serviceContext);
+	}
+
+	/**
+	* Returns all the item matchs where itemId = &#63;.
+	*
+	* @param itemId the item ID
+	* @return the matching item matchs
+	*/
+	public static List<ItemMatch> findByItemId(long itemId) {
+		return getPersistence().findByItemId(itemId);
+	}
+
+	/**
+	* Returns a range of all the item matchs where itemId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param itemId the item ID
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @return the range of matching item matchs
+	*/
+	public static List<ItemMatch> findByItemId(long itemId, int start, int end) {
+		return getPersistence().findByItemId(itemId, start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the item matchs where itemId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param itemId the item ID
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching item matchs
+	*/
+	public static List<ItemMatch> findByItemId(long itemId, int start, int end,
+		OrderByComparator<ItemMatch> orderByComparator) {
+		return getPersistence()
+				   .findByItemId(itemId, start, end, orderByComparator);
+	}
+
+	/**
+	* Returns an ordered range of all the item matchs where itemId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param itemId the item ID
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of matching item matchs
+	*/
+	public static List<ItemMatch> findByItemId(long itemId, int start, int end,
+		OrderByComparator<ItemMatch> orderByComparator,
+		boolean retrieveFromCache) {
+		return getPersistence()
+				   .findByItemId(itemId, start, end, orderByComparator,
+			retrieveFromCache);
+	}
+
+	/**
+	* Returns the first item match in the ordered set where itemId = &#63;.
+	*
+	* @param itemId the item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching item match
+	* @throws NoSuchItemMatchException if a matching item match could not be found
+	*/
+	public static ItemMatch findByItemId_First(long itemId,
+		OrderByComparator<ItemMatch> orderByComparator)
+		throws net.indaba.lostandfound.exception.NoSuchItemMatchException {
+		return getPersistence().findByItemId_First(itemId, orderByComparator);
+	}
+
+	/**
+	* Returns the first item match in the ordered set where itemId = &#63;.
+	*
+	* @param itemId the item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching item match, or <code>null</code> if a matching item match could not be found
+	*/
+	public static ItemMatch fetchByItemId_First(long itemId,
+		OrderByComparator<ItemMatch> orderByComparator) {
+		return getPersistence().fetchByItemId_First(itemId, orderByComparator);
+	}
+
+	/**
+	* Returns the last item match in the ordered set where itemId = &#63;.
+	*
+	* @param itemId the item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching item match
+	* @throws NoSuchItemMatchException if a matching item match could not be found
+	*/
+	public static ItemMatch findByItemId_Last(long itemId,
+		OrderByComparator<ItemMatch> orderByComparator)
+		throws net.indaba.lostandfound.exception.NoSuchItemMatchException {
+		return getPersistence().findByItemId_Last(itemId, orderByComparator);
+	}
+
+	/**
+	* Returns the last item match in the ordered set where itemId = &#63;.
+	*
+	* @param itemId the item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching item match, or <code>null</code> if a matching item match could not be found
+	*/
+	public static ItemMatch fetchByItemId_Last(long itemId,
+		OrderByComparator<ItemMatch> orderByComparator) {
+		return getPersistence().fetchByItemId_Last(itemId, orderByComparator);
+	}
+
+	/**
+	* Returns the item matchs before and after the current item match in the ordered set where itemId = &#63;.
+	*
+	* @param matchId the primary key of the current item match
+	* @param itemId the item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next item match
+	* @throws NoSuchItemMatchException if a item match with the primary key could not be found
+	*/
+	public static ItemMatch[] findByItemId_PrevAndNext(long matchId,
+		long itemId, OrderByComparator<ItemMatch> orderByComparator)
+		throws net.indaba.lostandfound.exception.NoSuchItemMatchException {
+		return getPersistence()
+				   .findByItemId_PrevAndNext(matchId, itemId, orderByComparator);
+	}
+
+	/**
+	* Removes all the item matchs where itemId = &#63; from the database.
+	*
+	* @param itemId the item ID
+	*/
+	public static void removeByItemId(long itemId) {
+		getPersistence().removeByItemId(itemId);
+	}
+
+	/**
+	* Returns the number of item matchs where itemId = &#63;.
+	*
+	* @param itemId the item ID
+	* @return the number of matching item matchs
+	*/
+	public static int countByItemId(long itemId) {
+		return getPersistence().countByItemId(itemId);
+	}
+
+	/**
+	* Returns all the item matchs where matchedItemId = &#63;.
+	*
+	* @param matchedItemId the matched item ID
+	* @return the matching item matchs
+	*/
+	public static List<ItemMatch> findByMatchedItemId(long matchedItemId) {
+		return getPersistence().findByMatchedItemId(matchedItemId);
+	}
+
+	/**
+	* Returns a range of all the item matchs where matchedItemId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param matchedItemId the matched item ID
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @return the range of matching item matchs
+	*/
+	public static List<ItemMatch> findByMatchedItemId(long matchedItemId,
+		int start, int end) {
+		return getPersistence().findByMatchedItemId(matchedItemId, start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the item matchs where matchedItemId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param matchedItemId the matched item ID
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching item matchs
+	*/
+	public static List<ItemMatch> findByMatchedItemId(long matchedItemId,
+		int start, int end, OrderByComparator<ItemMatch> orderByComparator) {
+		return getPersistence()
+				   .findByMatchedItemId(matchedItemId, start, end,
+			orderByComparator);
+	}
+
+	/**
+	* Returns an ordered range of all the item matchs where matchedItemId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param matchedItemId the matched item ID
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of matching item matchs
+	*/
+	public static List<ItemMatch> findByMatchedItemId(long matchedItemId,
+		int start, int end, OrderByComparator<ItemMatch> orderByComparator,
+		boolean retrieveFromCache) {
+		return getPersistence()
+				   .findByMatchedItemId(matchedItemId, start, end,
+			orderByComparator, retrieveFromCache);
+	}
+
+	/**
+	* Returns the first item match in the ordered set where matchedItemId = &#63;.
+	*
+	* @param matchedItemId the matched item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching item match
+	* @throws NoSuchItemMatchException if a matching item match could not be found
+	*/
+	public static ItemMatch findByMatchedItemId_First(long matchedItemId,
+		OrderByComparator<ItemMatch> orderByComparator)
+		throws net.indaba.lostandfound.exception.NoSuchItemMatchException {
+		return getPersistence()
+				   .findByMatchedItemId_First(matchedItemId, orderByComparator);
+	}
+
+	/**
+	* Returns the first item match in the ordered set where matchedItemId = &#63;.
+	*
+	* @param matchedItemId the matched item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching item match, or <code>null</code> if a matching item match could not be found
+	*/
+	public static ItemMatch fetchByMatchedItemId_First(long matchedItemId,
+		OrderByComparator<ItemMatch> orderByComparator) {
+		return getPersistence()
+				   .fetchByMatchedItemId_First(matchedItemId, orderByComparator);
+	}
+
+	/**
+	* Returns the last item match in the ordered set where matchedItemId = &#63;.
+	*
+	* @param matchedItemId the matched item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching item match
+	* @throws NoSuchItemMatchException if a matching item match could not be found
+	*/
+	public static ItemMatch findByMatchedItemId_Last(long matchedItemId,
+		OrderByComparator<ItemMatch> orderByComparator)
+		throws net.indaba.lostandfound.exception.NoSuchItemMatchException {
+		return getPersistence()
+				   .findByMatchedItemId_Last(matchedItemId, orderByComparator);
+	}
+
+	/**
+	* Returns the last item match in the ordered set where matchedItemId = &#63;.
+	*
+	* @param matchedItemId the matched item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching item match, or <code>null</code> if a matching item match could not be found
+	*/
+	public static ItemMatch fetchByMatchedItemId_Last(long matchedItemId,
+		OrderByComparator<ItemMatch> orderByComparator) {
+		return getPersistence()
+				   .fetchByMatchedItemId_Last(matchedItemId, orderByComparator);
+	}
+
+	/**
+	* Returns the item matchs before and after the current item match in the ordered set where matchedItemId = &#63;.
+	*
+	* @param matchId the primary key of the current item match
+	* @param matchedItemId the matched item ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next item match
+	* @throws NoSuchItemMatchException if a item match with the primary key could not be found
+	*/
+	public static ItemMatch[] findByMatchedItemId_PrevAndNext(long matchId,
+		long matchedItemId, OrderByComparator<ItemMatch> orderByComparator)
+		throws net.indaba.lostandfound.exception.NoSuchItemMatchException {
+		return getPersistence()
+				   .findByMatchedItemId_PrevAndNext(matchId, matchedItemId,
+			orderByComparator);
+	}
+
+	/**
+	* Removes all the item matchs where matchedItemId = &#63; from the database.
+	*
+	* @param matchedItemId the matched item ID
+	*/
+	public static void removeByMatchedItemId(long matchedItemId) {
+		getPersistence().removeByMatchedItemId(matchedItemId);
+	}
+
+	/**
+	* Returns the number of item matchs where matchedItemId = &#63;.
+	*
+	* @param matchedItemId the matched item ID
+	* @return the number of matching item matchs
+	*/
+	public static int countByMatchedItemId(long matchedItemId) {
+		return getPersistence().countByMatchedItemId(matchedItemId);
+	}
+
+	/**
+	* Returns the item match where itemId = &#63; and matchedItemId = &#63; or throws a {@link NoSuchItemMatchException} if it could not be found.
+	*
+	* @param itemId the item ID
+	* @param matchedItemId the matched item ID
+	* @return the matching item match
+	* @throws NoSuchItemMatchException if a matching item match could not be found
+	*/
+	public static ItemMatch findByI_M(long itemId, long matchedItemId)
+		throws net.indaba.lostandfound.exception.NoSuchItemMatchException {
+		return getPersistence().findByI_M(itemId, matchedItemId);
+	}
+
+	/**
+	* Returns the item match where itemId = &#63; and matchedItemId = &#63; or returns <code>null</code> if it could not be found. Uses the finder cache.
+	*
+	* @param itemId the item ID
+	* @param matchedItemId the matched item ID
+	* @return the matching item match, or <code>null</code> if a matching item match could not be found
+	*/
+	public static ItemMatch fetchByI_M(long itemId, long matchedItemId) {
+		return getPersistence().fetchByI_M(itemId, matchedItemId);
+	}
+
+	/**
+	* Returns the item match where itemId = &#63; and matchedItemId = &#63; or returns <code>null</code> if it could not be found, optionally using the finder cache.
+	*
+	* @param itemId the item ID
+	* @param matchedItemId the matched item ID
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the matching item match, or <code>null</code> if a matching item match could not be found
+	*/
+	public static ItemMatch fetchByI_M(long itemId, long matchedItemId,
+		boolean retrieveFromCache) {
+		return getPersistence()
+				   .fetchByI_M(itemId, matchedItemId, retrieveFromCache);
+	}
+
+	/**
+	* Removes the item match where itemId = &#63; and matchedItemId = &#63; from the database.
+	*
+	* @param itemId the item ID
+	* @param matchedItemId the matched item ID
+	* @return the item match that was removed
+	*/
+	public static ItemMatch removeByI_M(long itemId, long matchedItemId)
+		throws net.indaba.lostandfound.exception.NoSuchItemMatchException {
+		return getPersistence().removeByI_M(itemId, matchedItemId);
+	}
+
+	/**
+	* Returns the number of item matchs where itemId = &#63; and matchedItemId = &#63;.
+	*
+	* @param itemId the item ID
+	* @param matchedItemId the matched item ID
+	* @return the number of matching item matchs
+	*/
+	public static int countByI_M(long itemId, long matchedItemId) {
+		return getPersistence().countByI_M(itemId, matchedItemId);
+	}
+
+	/**
+	* Caches the item match in the entity cache if it is enabled.
+	*
+	* @param itemMatch the item match
+	*/
+	public static void cacheResult(ItemMatch itemMatch) {
+		getPersistence().cacheResult(itemMatch);
+	}
+
+	/**
+	* Caches the item matchs in the entity cache if it is enabled.
+	*
+	* @param itemMatchs the item matchs
+	*/
+	public static void cacheResult(List<ItemMatch> itemMatchs) {
+		getPersistence().cacheResult(itemMatchs);
+	}
+
+	/**
+	* Creates a new item match with the primary key. Does not add the item match to the database.
+	*
+	* @param matchId the primary key for the new item match
+	* @return the new item match
+	*/
+	public static ItemMatch create(long matchId) {
+		return getPersistence().create(matchId);
+	}
+
+	/**
+	* Removes the item match with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param matchId the primary key of the item match
+	* @return the item match that was removed
+	* @throws NoSuchItemMatchException if a item match with the primary key could not be found
+	*/
+	public static ItemMatch remove(long matchId)
+		throws net.indaba.lostandfound.exception.NoSuchItemMatchException {
+		return getPersistence().remove(matchId);
+	}
+
+	public static ItemMatch updateImpl(ItemMatch itemMatch) {
+		return getPersistence().updateImpl(itemMatch);
+	}
+
+	/**
+	* Returns the item match with the primary key or throws a {@link NoSuchItemMatchException} if it could not be found.
+	*
+	* @param matchId the primary key of the item match
+	* @return the item match
+	* @throws NoSuchItemMatchException if a item match with the primary key could not be found
+	*/
+	public static ItemMatch findByPrimaryKey(long matchId)
+		throws net.indaba.lostandfound.exception.NoSuchItemMatchException {
+		return getPersistence().findByPrimaryKey(matchId);
+	}
+
+	/**
+	* Returns the item match with the primary key or returns <code>null</code> if it could not be found.
+	*
+	* @param matchId the primary key of the item match
+	* @return the item match, or <code>null</code> if a item match with the primary key could not be found
+	*/
+	public static ItemMatch fetchByPrimaryKey(long matchId) {
+		return getPersistence().fetchByPrimaryKey(matchId);
+	}
+
+	/**
+	* Returns all the item matchs.
+	*
+	* @return the item matchs
+	*/
+	public static List<ItemMatch> findAll() {
+		return getPersistence().findAll();
+	}
+
+	/**
+	* Returns a range of all the item matchs.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @return the range of item matchs
+	*/
+	public static List<ItemMatch> findAll(int start, int end) {
+		return getPersistence().findAll(start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the item matchs.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of item matchs
+	*/
+	public static List<ItemMatch> findAll(int start, int end,
+		OrderByComparator<ItemMatch> orderByComparator) {
+		return getPersistence().findAll(start, end, orderByComparator);
+	}
+
+	/**
+	* Returns an ordered range of all the item matchs.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of item matchs
+	* @param end the upper bound of the range of item matchs (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of item matchs
+	*/
+	public static List<ItemMatch> findAll(int start, int end,
+		OrderByComparator<ItemMatch> orderByComparator,
+		boolean retrieveFromCache) {
+		return getPersistence()
+				   .findAll(start, end, orderByComparator, retrieveFromCache);
+	}
+
+	/**
+	* Removes all the item matchs from the database.
+	*/
+	public static void removeAll() {
+		getPersistence().removeAll();
+	}
+
+	/**
+	* Returns the number of item matchs.
+	*
+	* @return the number of item matchs
+	*/
+	public static int countAll() {
+		return getPersistence().countAll();
+	}
+
+	public static ItemMatchPersistence getPersistence() {
+		if (_persistence == null) {
+			_persistence = (ItemMatchPersistence)PortletBeanLocatorUtil.locate(net.indaba.lostandfound.service.ServletContextUtil.getServletContextName(),
+					ItemMatchPersistence.class.getName());
+
+			ReferenceRegistry.registerReference(ItemMatchUtil.class,
+				"_persistence");
+		}
+
+		return _persistence;
+	}
+
+	private static ItemMatchPersistence _persistence;
+}
\ No newline at end of file
@@ -1,6 +1,15 @@
-create index IX_BC3C2805 on lfvo_Item (groupId);
+create unique index IX_5A1C3E0F on lfvo_FirebaseKey (classNameId, classPK);
+
+create index IX_D59FF91D on lfvo_FirebaseOutboxEntry (classNameId, classPK);
+create index IX_98DF6290 on lfvo_FirebaseOutboxEntry (nextAttemptDate);
+
+create index IX_227D9743 on lfvo_Item (groupId, createDate);
+create index IX_13E12230 on lfvo_Item (groupId, type_[$COLUMN_LENGTH:75$]);
 create index IX_A3B864F9 on lfvo_Item (uuid_[$COLUMN_LENGTH:75$], companyId);
 create unique index IX_73D7D5BB on lfvo_Item (uuid_[$COLUMN_LENGTH:75$], groupId);
 
+create unique index IX_85B0B3B4 on lfvo_ItemMatch (itemId, matchedItemId);
+create index IX_22FE1F76 on lfvo_ItemMatch (matchedItemId);
+
 create index IX_44ACC87D on lfvo_LFImage (itemId);
 create index IX_30C5959 on lfvo_LFImage (uuid_[$COLUMN_LENGTH:75$]);
\ No newline at end of file
@@ -1,3 +1,23 @@
+create table lfvo_FirebaseKey (
+	firebaseKeyId LONG not null primary key,
+	classNameId LONG,
+	classPK LONG,
+	fbKey VARCHAR(75) null,
+	modifiedDate DATE null
+);
+
+create table lfvo_FirebaseOutboxEntry (
+	outboxEntryId LONG not null primary key,
+	createDate DATE null,
+	classNameId LONG,
+	classPK LONG,
+	action VARCHAR(75) null,
+	payload VARCHAR(2000) null,
+	attempts INTEGER,
+	nextAttemptDate DATE null,
+	lastError VARCHAR(2000) null
+);
+
 create table lfvo_Item (
 	uuid_ VARCHAR(75) null,
 	itemId LONG not null primary key,
@@ -15,9 +35,21 @@ create table lfvo_Item (
 	lng LONG
 );
 
+create table lfvo_ItemMatch (
+	matchId LONG not null primary key,
+	companyId LONG,
+	createDate DATE null,
+	itemId LONG,
+	matchedItemId LONG,
+	score DOUBLE
+);
+
 create table lfvo_LFImage (
 	uuid_ VARCHAR(75) null,
 	lfImageId LONG not null primary key,
 	itemId LONG,
+	createDate DATE null,
+	contentType VARCHAR(75) null,
+	size_ LONG,
 	image BLOB
 );
\ No newline at end of file
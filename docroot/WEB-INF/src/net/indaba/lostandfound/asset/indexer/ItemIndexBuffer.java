@@ -0,0 +1,292 @@
+package net.indaba.lostandfound.asset.indexer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.DocumentImpl;
+import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.search.IndexWriterHelperUtil;
+import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+import com.liferay.portal.kernel.search.SearchException;
+import com.liferay.portal.kernel.security.auth.CompanyThreadLocal;
+import com.liferay.portal.kernel.security.permission.PermissionChecker;
+import com.liferay.portal.kernel.security.permission.PermissionCheckerFactoryUtil;
+import com.liferay.portal.kernel.security.permission.PermissionThreadLocal;
+import com.liferay.portal.kernel.service.UserLocalServiceUtil;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.util.portlet.PortletProps;
+
+import net.indaba.lostandfound.model.Item;
+import net.indaba.lostandfound.service.ItemLocalServiceUtil;
+
+/**
+ * Collects the index changes of the items and writes them to the search
+ * engine in bulk, off the request thread. Requests enter the buffer once the
+ * transaction that made them commits, so rolled back changes are never
+ * indexed. Requests for the same item replace each other, the latest one
+ * wins, and the buffer is flushed every flush.interval milliseconds or as
+ * soon as it holds max.size items. The writes do not force a search engine
+ * commit, the engine makes them visible on its next refresh.
+ */
+public class ItemIndexBuffer {
+
+	private static final int QUERY_BATCH_SIZE = 500;
+
+	private static ItemIndexBuffer instance = null;
+
+	private final Map<Long, Request> requests = new LinkedHashMap<Long, Request>();
+
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+	private final ScheduledExecutorService scheduler;
+
+	private final int maxSize;
+
+	private ItemIndexBuffer(long flushInterval, int maxSize) {
+		super();
+		this.maxSize = maxSize;
+		scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "item-index-buffer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleWithFixedDelay(this::flush, flushInterval,
+				flushInterval, TimeUnit.MILLISECONDS);
+	}
+
+	public static synchronized ItemIndexBuffer getInstance() {
+		if (instance == null) {
+			long flushInterval = GetterUtil.getLong(PortletProps.get(
+					"item.index.buffer.flush.interval"), 1000);
+			int maxSize = GetterUtil.getInteger(PortletProps.get(
+					"item.index.buffer.max.size"), 500);
+			instance = new ItemIndexBuffer(flushInterval, maxSize);
+		}
+		return instance;
+	}
+
+	/**
+	 * Writes the pending requests and stops the flush thread
+	 */
+	public static synchronized void shutdown() {
+		if (instance != null) {
+			instance.scheduler.shutdown();
+			instance.flush();
+			instance = null;
+		}
+	}
+
+	/**
+	 * Queues the item to be reindexed after the current transaction commits
+	 *
+	 * @param item
+	 */
+	public void reindex(Item item) {
+		add(new Request(item.getItemId(), item.getCompanyId(), false));
+	}
+
+	/**
+	 * Queues the items to be reindexed after the current transaction commits
+	 *
+	 * @param items
+	 */
+	public void reindex(Collection<Item> items) {
+		List<Request> added = new ArrayList<Request>(items.size());
+		for (Item item : items) {
+			added.add(new Request(item.getItemId(), item.getCompanyId(),
+					false));
+		}
+		add(added);
+	}
+
+	/**
+	 * Queues the document of the item to be deleted after the current
+	 * transaction commits
+	 *
+	 * @param item
+	 */
+	public void delete(Item item) {
+		add(new Request(item.getItemId(), item.getCompanyId(), true));
+	}
+
+	private void add(Request request) {
+		List<Request> added = new ArrayList<Request>(1);
+		added.add(request);
+		add(added);
+	}
+
+	private void add(List<Request> added) {
+		/* Runs right away when there is no transaction */
+		TransactionCommitCallbackUtil.registerCallback(() -> {
+			int size;
+			synchronized (requests) {
+				for (Request request : added) {
+					/* Removing first moves the item to the end of the queue */
+					requests.remove(request.itemId);
+					requests.put(request.itemId, request);
+				}
+				size = requests.size();
+			}
+			if (size >= maxSize && flushScheduled.compareAndSet(false, true)) {
+				scheduler.execute(this::flush);
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * Writes every pending request, one bulk update and one bulk delete per
+	 * company. The documents are built with the company and a permission
+	 * checker of its default user in the thread locals, as on a request
+	 * thread. Requests that fail are queued again unless a newer one for the
+	 * same item arrived meanwhile, so a search engine outage only delays them.
+	 */
+	public void flush() {
+		flushScheduled.set(false);
+		List<Request> pending;
+		synchronized (requests) {
+			if (requests.isEmpty()) {
+				return;
+			}
+			pending = new ArrayList<Request>(requests.values());
+			requests.clear();
+		}
+
+		Map<Long, List<Request>> companyRequests =
+				new LinkedHashMap<Long, List<Request>>();
+		for (Request request : pending) {
+			List<Request> list = companyRequests.get(request.companyId);
+			if (list == null) {
+				list = new ArrayList<Request>();
+				companyRequests.put(request.companyId, list);
+			}
+			list.add(request);
+		}
+
+		Indexer<Item> indexer = IndexerRegistryUtil.nullSafeGetIndexer(
+				Item.class);
+		for (Map.Entry<Long, List<Request>> e : companyRequests.entrySet()) {
+			long companyId = e.getKey();
+			List<Long> reindexIds = new ArrayList<Long>();
+			List<Long> deleteIds = new ArrayList<Long>();
+			for (Request request : e.getValue()) {
+				(request.delete ? deleteIds : reindexIds).add(request.itemId);
+			}
+			long previousCompanyId = CompanyThreadLocal.getCompanyId();
+			PermissionChecker previousPermissionChecker = PermissionThreadLocal
+					.getPermissionChecker();
+			try {
+				CompanyThreadLocal.setCompanyId(companyId);
+				PermissionThreadLocal.setPermissionChecker(
+						PermissionCheckerFactoryUtil.create(UserLocalServiceUtil
+								.getDefaultUser(companyId)));
+				if (!reindexIds.isEmpty()) {
+					reindex(indexer, companyId, reindexIds);
+				}
+				if (!deleteIds.isEmpty()) {
+					delete(indexer, companyId, deleteIds);
+				}
+			} catch (Exception ex) {
+				_log.error("Unable to index " + e.getValue().size()
+						+ " items of company " + companyId
+						+ ", they will be retried", ex);
+				requeue(e.getValue());
+			} finally {
+				CompanyThreadLocal.setCompanyId(previousCompanyId);
+				PermissionThreadLocal.setPermissionChecker(
+						previousPermissionChecker);
+			}
+		}
+		_log.debug("Flushed " + pending.size() + " item index requests");
+	}
+
+	private void requeue(List<Request> failed) {
+		synchronized (requests) {
+			for (Request request : failed) {
+				requests.putIfAbsent(request.itemId, request);
+			}
+		}
+	}
+
+	private void reindex(Indexer<Item> indexer, long companyId,
+			List<Long> itemIds) throws SearchException {
+		/* Keeps the IN lists within what every database accepts */
+		for (int i = 0; i < itemIds.size(); i += QUERY_BATCH_SIZE) {
+			reindexBatch(indexer, companyId, itemIds.subList(i, Math.min(
+					itemIds.size(), i + QUERY_BATCH_SIZE)));
+		}
+	}
+
+	private void reindexBatch(Indexer<Item> indexer, long companyId,
+			List<Long> itemIds) throws SearchException {
+		DynamicQuery dynamicQuery = ItemLocalServiceUtil.dynamicQuery();
+		dynamicQuery.add(RestrictionsFactoryUtil.in("itemId", itemIds));
+		List<Item> items = ItemLocalServiceUtil.dynamicQuery(dynamicQuery);
+		List<Document> documents = new ArrayList<Document>(items.size());
+		for (Item item : items) {
+			try {
+				documents.add(indexer.getDocument(item));
+			} catch (SearchException e) {
+				_log.error("Unable to index item " + item.getItemId(), e);
+			}
+		}
+		if (!documents.isEmpty()) {
+			IndexWriterHelperUtil.updateDocuments(indexer.getSearchEngineId(),
+					companyId, documents, false);
+		}
+		/* Items deleted meanwhile leave no document behind */
+		if (items.size() < itemIds.size()) {
+			List<Long> deletedIds = new ArrayList<Long>(itemIds);
+			for (Item item : items) {
+				deletedIds.remove(Long.valueOf(item.getItemId()));
+			}
+			delete(indexer, companyId, deletedIds);
+		}
+	}
+
+	private void delete(Indexer<Item> indexer, long companyId,
+			List<Long> itemIds) throws SearchException {
+		List<String> uids = new ArrayList<String>(itemIds.size());
+		for (Long itemId : itemIds) {
+			Document document = new DocumentImpl();
+			document.addUID(Item.class.getName(), itemId);
+			uids.add(document.get(Field.UID));
+		}
+		IndexWriterHelperUtil.deleteDocuments(indexer.getSearchEngineId(),
+				companyId, uids, false);
+	}
+
+	private static class Request {
+
+		private final long itemId;
+
+		private final long companyId;
+
+		private final boolean delete;
+
+		public Request(long itemId, long companyId, boolean delete) {
+			super();
+			this.itemId = itemId;
+			this.companyId = companyId;
+			this.delete = delete;
+		}
+
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+			ItemIndexBuffer.class);
+}
@@ -1,13 +1,26 @@
 package net.indaba.lostandfound.asset.indexer;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.portlet.PortletRequest;
 import javax.portlet.PortletResponse;
 
+import com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery;
+import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.search.BaseIndexer;
+import com.liferay.portal.kernel.search.BooleanClauseOccur;
 import com.liferay.portal.kernel.search.Document;
 import com.liferay.portal.kernel.search.Field;
 import com.liferay.portal.kernel.search.Hits;
@@ -15,8 +28,16 @@ import com.liferay.portal.kernel.search.IndexWriterHelperUtil;
 import com.liferay.portal.kernel.search.SearchContext;
 import com.liferay.portal.kernel.search.SearchException;
 import com.liferay.portal.kernel.search.Summary;
+import com.liferay.portal.kernel.search.filter.BooleanFilter;
+import com.liferay.portal.kernel.search.filter.GeoDistanceFilter;
+import com.liferay.portal.kernel.search.geolocation.DistanceUnit;
+import com.liferay.portal.kernel.search.geolocation.GeoDistance;
+import com.liferay.portal.kernel.search.geolocation.GeoLocationPoint;
 import com.liferay.portal.kernel.security.permission.PermissionChecker;
 import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.util.portlet.PortletProps;
 
 import net.indaba.lostandfound.model.Item;
 import net.indaba.lostandfound.service.ItemLocalServiceUtil;
@@ -25,6 +46,37 @@ public class ItemIndexer extends BaseIndexer<Item> {
 	
 	public static final String CLASS_NAME = Item.class.getName();
 
+	public static final String FIELD_ITEM_TYPE = "itemType";
+
+	/**
+	 * Item lat and lng hold millionths of a degree, the geo_point is indexed
+	 * in degrees
+	 */
+	public static final double COORDINATE_SCALE = 1000000.0;
+
+	/**
+	 * Sortable copy of createDate that addDate adds, in milliseconds
+	 */
+	public static final String FIELD_CREATE_DATE_SORTABLE = Field.CREATE_DATE
+			+ "_sortable";
+
+	/**
+	 * Search context attributes bounding createDate, in milliseconds
+	 */
+	public static final String ATTRIBUTE_CREATE_DATE_FROM = "createDateFrom";
+
+	public static final String ATTRIBUTE_CREATE_DATE_TO = "createDateTo";
+
+	/**
+	 * Search context attributes restricting the items to a circle, in degrees
+	 * and meters
+	 */
+	public static final String ATTRIBUTE_NEAR_LATITUDE = "nearLatitude";
+
+	public static final String ATTRIBUTE_NEAR_LONGITUDE = "nearLongitude";
+
+	public static final String ATTRIBUTE_NEAR_RADIUS = "nearRadius";
+
 	@Override
 	public String getClassName() {
 		return CLASS_NAME;
@@ -74,9 +126,51 @@ public class ItemIndexer extends BaseIndexer<Item> {
 		document.addKeyword(Field.GROUP_ID, item.getGroupId());
 		document.addKeyword(Field.SCOPE_GROUP_ID, item.getGroupId());
 
+		/* Filterable and sortable fields for the search-backed item lists.
+		 * The asset category ids are added by getBaseModelDocument. */
+		document.addKeyword(FIELD_ITEM_TYPE, item.getType());
+		document.addDate(Field.CREATE_DATE, item.getCreateDate());
+		if (item.getPublishDate() != null) {
+			document.addDate(Field.PUBLISH_DATE, item.getPublishDate());
+		}
+		if (item.hasLocation()) {
+			document.addGeoLocation(item.getLat() / COORDINATE_SCALE, item
+					.getLng() / COORDINATE_SCALE);
+		}
+
 		return document;
 	}
 
+	@Override
+	public void postProcessContextBooleanFilter(
+			BooleanFilter contextBooleanFilter, SearchContext searchContext)
+			throws Exception {
+		String type = GetterUtil.getString(searchContext.getAttribute(
+				FIELD_ITEM_TYPE));
+		if (Validator.isNotNull(type)) {
+			contextBooleanFilter.addRequiredTerm(FIELD_ITEM_TYPE, type);
+		}
+		long createDateFrom = GetterUtil.getLong(searchContext.getAttribute(
+				ATTRIBUTE_CREATE_DATE_FROM));
+		long createDateTo = GetterUtil.getLong(searchContext.getAttribute(
+				ATTRIBUTE_CREATE_DATE_TO), Long.MAX_VALUE);
+		if (createDateFrom > 0 || createDateTo < Long.MAX_VALUE) {
+			contextBooleanFilter.addRangeTerm(FIELD_CREATE_DATE_SORTABLE,
+					createDateFrom, createDateTo);
+		}
+		double nearRadius = GetterUtil.getDouble(searchContext.getAttribute(
+				ATTRIBUTE_NEAR_RADIUS));
+		if (nearRadius > 0) {
+			GeoLocationPoint center = new GeoLocationPoint(GetterUtil.getDouble(
+					searchContext.getAttribute(ATTRIBUTE_NEAR_LATITUDE)),
+					GetterUtil.getDouble(searchContext.getAttribute(
+							ATTRIBUTE_NEAR_LONGITUDE)));
+			contextBooleanFilter.add(new GeoDistanceFilter(Field.GEO_LOCATION,
+					center, new GeoDistance(nearRadius, DistanceUnit.METERS)),
+					BooleanClauseOccur.MUST);
+		}
+	}
+
 	@Override
 	protected Summary doGetSummary(Document document, Locale locale, String snippet, PortletRequest portletRequest, PortletResponse portletResponse)
 			throws Exception {
@@ -87,7 +181,8 @@ public class ItemIndexer extends BaseIndexer<Item> {
 
 	@Override
 	protected void doReindex(String[] ids) throws Exception {
-		_log.debug("This method is not implemented doReindex @ ItemIndexer " + ids);
+		long companyId = GetterUtil.getLong(ids[0]);
+		reindexItems(companyId);
 	}
 
 	@Override
@@ -108,5 +203,130 @@ public class ItemIndexer extends BaseIndexer<Item> {
 	}
 	
 
+	/**
+	 * Reindexes every item of the company. Items are read page by page and
+	 * the documents of each page are sent to the search engine in a single
+	 * batch. Documents are built on the calling thread, which carries the
+	 * company and permission context getDocument relies on, while up to
+	 * parallelism pages are written on a bounded pool.
+	 *
+	 * @param companyId
+	 */
+	protected void reindexItems(long companyId) throws Exception {
+		int batchSize = GetterUtil.getInteger(PortletProps.get(
+				"item.reindex.batch.size"), 500);
+		int parallelism = GetterUtil.getInteger(PortletProps.get(
+				"item.reindex.parallelism"), Math.max(1, Runtime.getRuntime()
+						.availableProcessors() / 2));
+
+		IndexableActionableDynamicQuery indexableActionableDynamicQuery =
+				ItemLocalServiceUtil.getIndexableActionableDynamicQuery();
+		indexableActionableDynamicQuery.setCompanyId(companyId);
+		indexableActionableDynamicQuery.setInterval(batchSize);
+		indexableActionableDynamicQuery.setSearchEngineId(getSearchEngineId());
+
+		long total = indexableActionableDynamicQuery.performCount();
+		_log.info("Reindexing " + total + " items of company " + companyId);
+
+		List<Item> page = new ArrayList<Item>(batchSize);
+		long[] indexed = new long[1];
+		ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+		Deque<Future<?>> writes = new ArrayDeque<Future<?>>();
+		try {
+			indexableActionableDynamicQuery.setPerformActionMethod(
+					new ActionableDynamicQuery.PerformActionMethod<Item>() {
+
+						@Override
+						public void performAction(Item item)
+								throws PortalException {
+							page.add(item);
+							if (page.size() >= batchSize) {
+								indexed[0] += indexPage(companyId, page, pool,
+										writes, parallelism);
+								logProgress(indexed[0], total);
+							}
+						}
+
+					});
+			indexableActionableDynamicQuery.performActions();
+			if (!page.isEmpty()) {
+				indexed[0] += indexPage(companyId, page, pool, writes,
+						parallelism);
+			}
+			while (!writes.isEmpty()) {
+				awaitWrite(writes.poll());
+			}
+		} finally {
+			pool.shutdown();
+		}
+		_log.info("Reindexed " + indexed[0] + " of " + total
+				+ " items of company " + companyId);
+	}
+
+	/**
+	 * Builds the documents of the page and queues their write. Waits for the
+	 * oldest write first when maxWrites are already pending. The page is
+	 * cleared afterwards.
+	 *
+	 * @return The number of documents queued
+	 */
+	private int indexPage(long companyId, List<Item> page,
+			ExecutorService pool, Deque<Future<?>> writes, int maxWrites)
+			throws PortalException {
+		Collection<Document> documents = new ArrayList<Document>(page.size());
+		for (Item item : page) {
+			Document document = buildDocument(item);
+			if (document != null) {
+				documents.add(document);
+			}
+		}
+		page.clear();
+		if (documents.isEmpty()) {
+			return 0;
+		}
+		while (writes.size() >= maxWrites) {
+			awaitWrite(writes.poll());
+		}
+		String searchEngineId = getSearchEngineId();
+		boolean commitImmediately = isCommitImmediately();
+		writes.add(pool.submit(() -> {
+			IndexWriterHelperUtil.updateDocuments(searchEngineId, companyId,
+					documents, commitImmediately);
+			return null;
+		}));
+		return documents.size();
+	}
+
+	private void awaitWrite(Future<?> write) throws SearchException {
+		try {
+			write.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SearchException("Item reindex interrupted", e);
+		} catch (ExecutionException e) {
+			throw new SearchException("Unable to write item documents", e
+					.getCause());
+		}
+	}
+
+	/**
+	 * @return The document of the item, or null if it cannot be built, so
+	 *         that one broken item does not abort the whole reindex
+	 */
+	private Document buildDocument(Item item) {
+		try {
+			return getDocument(item);
+		} catch (SearchException e) {
+			_log.error("Unable to index item " + item.getItemId(), e);
+			return null;
+		}
+	}
+
+	private void logProgress(long indexed, long total) {
+		if (_log.isInfoEnabled()) {
+			_log.info("Reindexed " + indexed + " of " + total + " items");
+		}
+	}
+
 	private final Log _log = LogFactoryUtil.getLog(this.getClass());
 }
@@ -0,0 +1,129 @@
+package net.indaba.lostandfound.firebase;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+
+import net.thegreshams.firebase4j.error.FirebaseException;
+import net.thegreshams.firebase4j.model.FirebaseResponse;
+
+/**
+ * Collects the writes of one logical operation and sends them to Firebase as
+ * a single multi-location PATCH at the database root. Paths use the flattened
+ * "a/b/c" form and a null value deletes the location.
+ */
+public class FirebaseBatchWriter {
+
+	private final String fbBaseURL;
+
+	private final Map<String, Object> updates = new LinkedHashMap<String, Object>();
+
+	public FirebaseBatchWriter(String fbBaseURL) {
+		super();
+		this.fbBaseURL = fbBaseURL;
+	}
+
+	/**
+	 * Sets the value at the given path, replacing whatever was there
+	 *
+	 * @param path
+	 *            Path relative to the database root
+	 * @param value
+	 * @return This writer
+	 */
+	public FirebaseBatchWriter set(String path, Object value) {
+		updates.put(path, value);
+		return this;
+	}
+
+	/**
+	 * Deletes the value at the given path
+	 *
+	 * @param path
+	 *            Path relative to the database root
+	 * @return This writer
+	 */
+	public FirebaseBatchWriter delete(String path) {
+		return set(path, null);
+	}
+
+	/**
+	 * Merges the values of the map below the given path, leaving any other
+	 * children of the path untouched
+	 *
+	 * @param path
+	 *            Path relative to the database root
+	 * @param values
+	 * @return This writer
+	 */
+	public FirebaseBatchWriter update(String path, Map<String, Object> values) {
+		for (Map.Entry<String, Object> e : flatten(values).entrySet()) {
+			set(path + "/" + e.getKey(), e.getValue());
+		}
+		return this;
+	}
+
+	public boolean isEmpty() {
+		return updates.isEmpty();
+	}
+
+	public int size() {
+		return updates.size();
+	}
+
+	/**
+	 * Sends every collected write in one request
+	 *
+	 * @return true if Firebase accepted the writes
+	 */
+	public boolean commit() throws FirebaseException {
+		if (updates.isEmpty()) {
+			return true;
+		}
+		FirebaseResponse response = FirebaseClient.getInstance().patch(
+				fbBaseURL, updates);
+		if (response.getCode() == 200) {
+			_log.debug("Firebase batch of " + updates.size()
+					+ " writes sucessful");
+			updates.clear();
+			return true;
+		} else {
+			_log.error("Firebase batch unsuccessful. Error "
+					+ response.getCode() + " " + response.getBody().get(
+							"error"));
+			return false;
+		}
+	}
+
+	/**
+	 * Flattens nested maps into a single map with "a/b/c" keys
+	 *
+	 * @param map
+	 * @return The flattened map
+	 */
+	static Map<String, Object> flatten(Map<String, Object> map) {
+		Map<String, Object> result = new LinkedHashMap<String, Object>();
+		Iterator<String> it = map.keySet().iterator();
+		while (it.hasNext()) {
+			String root = it.next();
+			Object o = map.get(root);
+			if (o instanceof Map) {
+				@SuppressWarnings("unchecked")
+				Map<String, Object> m = Map.class.cast(o);
+				m = flatten(m);
+				for (String k : m.keySet()) {
+					result.put(root + "/" + k, m.get(k));
+				}
+			} else {
+				result.put(root, o);
+			}
+		}
+		return result;
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+			FirebaseBatchWriter.class);
+}
@@ -0,0 +1,108 @@
+package net.indaba.lostandfound.firebase;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.Semaphore;
+
+import org.codehaus.jackson.JsonGenerator;
+
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.util.portlet.PortletProps;
+
+/**
+ * Copies blobs into Firebase request bodies through a fixed size buffer, so
+ * an image is never held in memory as a whole. Base64 is produced chunk by
+ * chunk while writing. A fair semaphore caps how many blobs are streamed at
+ * the same time.
+ */
+public class FirebaseBlobStreamer {
+
+	private static FirebaseBlobStreamer instance = null;
+
+	private final Semaphore permits;
+
+	private final int bufferSize;
+
+	private FirebaseBlobStreamer(int maxConcurrent, int bufferSize) {
+		super();
+		this.permits = new Semaphore(maxConcurrent, true);
+		/* Whole base64 groups, so that chunks encode without padding */
+		this.bufferSize = Math.max(3, bufferSize - bufferSize % 3);
+	}
+
+	public static synchronized FirebaseBlobStreamer getInstance() {
+		if (instance == null) {
+			int maxConcurrent = GetterUtil.getInteger(PortletProps.get(
+					"firebase.blob.upload.max.concurrent"), 2);
+			int bufferSize = GetterUtil.getInteger(PortletProps.get(
+					"firebase.blob.upload.buffer.size"), 8192);
+			instance = new FirebaseBlobStreamer(maxConcurrent, bufferSize);
+		}
+		return instance;
+	}
+
+	/**
+	 * Writes the raw bytes of a blob as a base64 JSON string value
+	 * 
+	 * @param generator
+	 *            Generator positioned where the value goes
+	 * @param prefix
+	 *            Text written before the blob content, such as a data URI
+	 *            header. It must not need JSON escaping
+	 * @param blob
+	 */
+	public void writeBase64Value(JsonGenerator generator, String prefix,
+			Blob blob) throws IOException {
+		acquire();
+		try (InputStream in = blob.getBinaryStream()) {
+			/* Base64 needs no JSON escaping, so it is written raw */
+			generator.writeRawValue("\"" + prefix);
+			Base64.Encoder encoder = Base64.getEncoder();
+			byte[] buffer = new byte[bufferSize];
+			int n;
+			while ((n = fill(in, buffer)) > 0) {
+				byte[] chunk = n == buffer.length ? buffer : Arrays.copyOf(
+						buffer, n);
+				generator.writeRaw(new String(encoder.encode(chunk),
+						StandardCharsets.US_ASCII));
+			}
+			generator.writeRaw('"');
+		} catch (SQLException e) {
+			throw new IOException(e);
+		} finally {
+			permits.release();
+		}
+	}
+
+	/**
+	 * Reads until the buffer is full or the stream ends
+	 * 
+	 * @return The number of bytes read
+	 */
+	private int fill(InputStream in, byte[] buffer) throws IOException {
+		int total = 0;
+		int n;
+		while (total < buffer.length && (n = in.read(buffer, total,
+				buffer.length - total)) != -1) {
+			total += n;
+		}
+		return total;
+	}
+
+	private void acquire() throws InterruptedIOException {
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted waiting for an "
+					+ "upload slot");
+		}
+	}
+
+}
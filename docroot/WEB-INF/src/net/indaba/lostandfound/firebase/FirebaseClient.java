@@ -0,0 +1,282 @@
+package net.indaba.lostandfound.firebase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPatch;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.codehaus.jackson.JsonEncoding;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.map.ObjectMapper;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.util.portlet.PortletProps;
+
+import net.thegreshams.firebase4j.error.FirebaseException;
+import net.thegreshams.firebase4j.model.FirebaseResponse;
+
+/**
+ * REST client shared by every Firebase call. Connections to the Firebase host
+ * are pooled and kept alive, so the TLS handshake is paid once per connection
+ * instead of once per request, and responses are accepted gzip-compressed.
+ * URLs are given as with firebase4j, without the ".json" suffix. Request
+ * bodies are written by a JsonWriter straight to the connection.
+ */
+public class FirebaseClient {
+
+	private static FirebaseClient instance = null;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final PoolingHttpClientConnectionManager connectionManager;
+
+	private final CloseableHttpClient httpClient;
+
+	private FirebaseClient(int maxConnections, int connectTimeout,
+			int socketTimeout) {
+		super();
+		connectionManager = new PoolingHttpClientConnectionManager(5,
+				TimeUnit.MINUTES);
+		connectionManager.setMaxTotal(maxConnections);
+		connectionManager.setDefaultMaxPerRoute(maxConnections);
+		RequestConfig requestConfig = RequestConfig.custom()
+				.setConnectTimeout(connectTimeout)
+				.setConnectionRequestTimeout(connectTimeout)
+				.setSocketTimeout(socketTimeout).build();
+		/* Content compression is on by default: Accept-Encoding gzip */
+		httpClient = HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(requestConfig)
+				.evictExpiredConnections()
+				.evictIdleConnections(30, TimeUnit.SECONDS).build();
+	}
+
+	public static synchronized FirebaseClient getInstance() {
+		if (instance == null) {
+			int maxConnections = GetterUtil.getInteger(PortletProps.get(
+					"firebase.http.max.connections"), 20);
+			int connectTimeout = GetterUtil.getInteger(PortletProps.get(
+					"firebase.http.connect.timeout"), 10000);
+			int socketTimeout = GetterUtil.getInteger(PortletProps.get(
+					"firebase.http.socket.timeout"), 30000);
+			instance = new FirebaseClient(maxConnections, connectTimeout,
+					socketTimeout);
+		}
+		return instance;
+	}
+
+	/**
+	 * Closes the pooled connections
+	 */
+	public static synchronized void shutdown() {
+		if (instance != null) {
+			try {
+				instance.httpClient.close();
+			} catch (IOException e) {
+				_log.warn("Unable to close Firebase client: " + e
+						.getMessage());
+			}
+			instance = null;
+		}
+	}
+
+	public FirebaseResponse get(String url) throws FirebaseException {
+		return get(url, null);
+	}
+
+	/**
+	 * @param url
+	 * @param query
+	 *            Query parameters such as orderBy or equalTo, may be null
+	 */
+	public FirebaseResponse get(String url, Map<String, String> query)
+			throws FirebaseException {
+		return execute(new HttpGet(buildURL(url, query)));
+	}
+
+	/**
+	 * Replaces the value at url
+	 */
+	public FirebaseResponse put(String url, Object data)
+			throws FirebaseException {
+		return put(url, toJsonWriter(data));
+	}
+
+	public FirebaseResponse put(String url, JsonWriter writer)
+			throws FirebaseException {
+		return execute(new HttpPut(buildURL(url, null)), writer);
+	}
+
+	/**
+	 * Merges the children of data into the value at url
+	 */
+	public FirebaseResponse patch(String url, Map<String, Object> data)
+			throws FirebaseException {
+		return patch(url, toJsonWriter(data));
+	}
+
+	public FirebaseResponse patch(String url, JsonWriter writer)
+			throws FirebaseException {
+		return execute(new HttpPatch(buildURL(url, null)), writer);
+	}
+
+	/**
+	 * Adds data as a new child of url under a generated key
+	 */
+	public FirebaseResponse post(String url, Map<String, Object> data)
+			throws FirebaseException {
+		return post(url, toJsonWriter(data));
+	}
+
+	public FirebaseResponse post(String url, JsonWriter writer)
+			throws FirebaseException {
+		return execute(new HttpPost(buildURL(url, null)), writer);
+	}
+
+	public FirebaseResponse delete(String url) throws FirebaseException {
+		return execute(new HttpDelete(buildURL(url, null)));
+	}
+
+	private JsonWriter toJsonWriter(Object data) {
+		return generator -> generator.writeObject(data);
+	}
+
+	private FirebaseResponse execute(HttpEntityEnclosingRequestBase request,
+			JsonWriter writer) throws FirebaseException {
+		request.setEntity(new JsonEntity(writer));
+		return execute(request);
+	}
+
+	private FirebaseResponse execute(HttpRequestBase request)
+			throws FirebaseException {
+		try (CloseableHttpResponse response = httpClient.execute(request)) {
+			int code = response.getStatusLine().getStatusCode();
+			HttpEntity entity = response.getEntity();
+			/* Reading the whole entity hands the connection back to the pool */
+			String rawBody = entity != null ? EntityUtils.toString(entity,
+					StandardCharsets.UTF_8) : "";
+			return new FirebaseResponse(code == 200, code, parseBody(rawBody),
+					rawBody);
+		} catch (IOException e) {
+			throw new FirebaseException("Firebase " + request.getMethod() + " "
+					+ request.getURI() + " failed: " + e.getMessage(), e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> parseBody(String rawBody) throws IOException {
+		String body = rawBody.trim();
+		if (body.startsWith("{")) {
+			return objectMapper.readValue(body, LinkedHashMap.class);
+		}
+		/* null, or a primitive value */
+		return new LinkedHashMap<String, Object>();
+	}
+
+	private String buildURL(String url, Map<String, String> query)
+			throws FirebaseException {
+		StringBuilder sb = new StringBuilder(url.trim());
+		if (sb.charAt(sb.length() - 1) == '/') {
+			sb.setLength(sb.length() - 1);
+		}
+		/* The database root is addressed as "https://host/.json" */
+		if (sb.indexOf("/", sb.indexOf("://") + 3) < 0) {
+			sb.append('/');
+		}
+		sb.append(".json");
+		if (query != null && !query.isEmpty()) {
+			char separator = '?';
+			try {
+				for (Map.Entry<String, String> e : query.entrySet()) {
+					sb.append(separator).append(URLEncoder.encode(e.getKey(),
+							"UTF-8")).append('=').append(URLEncoder.encode(e
+									.getValue(), "UTF-8"));
+					separator = '&';
+				}
+			} catch (UnsupportedEncodingException e) {
+				throw new FirebaseException("Unable to encode query", e);
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Writes one JSON value, usually an object, as a request body
+	 */
+	public interface JsonWriter {
+
+		public void write(JsonGenerator generator) throws IOException;
+
+	}
+
+	/**
+	 * Request body generated while it is sent, with chunked transfer encoding,
+	 * so it is never held in memory as a whole
+	 */
+	private class JsonEntity extends AbstractHttpEntity {
+
+		private final JsonWriter writer;
+
+		public JsonEntity(JsonWriter writer) {
+			super();
+			this.writer = writer;
+			setContentType(ContentType.APPLICATION_JSON.toString());
+			setChunked(true);
+		}
+
+		public boolean isRepeatable() {
+			return true;
+		}
+
+		public long getContentLength() {
+			return -1;
+		}
+
+		public InputStream getContent() throws IOException {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			writeTo(out);
+			return new ByteArrayInputStream(out.toByteArray());
+		}
+
+		public void writeTo(OutputStream out) throws IOException {
+			JsonGenerator generator = objectMapper.getJsonFactory()
+					.createJsonGenerator(out, JsonEncoding.UTF8);
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			writer.write(generator);
+			generator.close();
+		}
+
+		public boolean isStreaming() {
+			return false;
+		}
+
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+			FirebaseClient.class);
+}
@@ -0,0 +1,199 @@
+package net.indaba.lostandfound.firebase;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.util.portlet.PortletProps;
+
+/**
+ * Bounded thread pool shared by every FirebaseService. When the queue is full
+ * the submitting thread runs the task itself, which slows producers down
+ * instead of piling up threads.
+ */
+public class FirebaseExecutor implements Executor, FirebaseExecutorMBean {
+
+	public static final String OBJECT_NAME =
+			"net.indaba.lostandfound:type=FirebaseExecutor";
+
+	private static FirebaseExecutor instance = null;
+
+	private final ThreadPoolExecutor executor;
+
+	private final AtomicLong callerRunsCount = new AtomicLong();
+	private final AtomicLong latencyCount = new AtomicLong();
+	private final AtomicLong latencyTotal = new AtomicLong();
+	private final AtomicLong latencyMax = new AtomicLong();
+
+	private FirebaseExecutor(int poolSize, int queueCapacity) {
+		super();
+		executor = new ThreadPoolExecutor(poolSize, poolSize, 60L,
+				TimeUnit.SECONDS,
+				new ArrayBlockingQueue<Runnable>(queueCapacity),
+				new FirebaseThreadFactory(), new CallerRunsPolicy());
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	public static synchronized FirebaseExecutor getInstance() {
+		if (instance == null || instance.executor.isShutdown()) {
+			int poolSize = GetterUtil.getInteger(PortletProps.get(
+					"firebase.executor.pool.size"), 8);
+			int queueCapacity = GetterUtil.getInteger(PortletProps.get(
+					"firebase.executor.queue.capacity"), 500);
+			instance = new FirebaseExecutor(poolSize, queueCapacity);
+			instance.registerMBean();
+		}
+		return instance;
+	}
+
+	/**
+	 * Stops accepting tasks, lets the queued ones finish and removes the MBean
+	 */
+	public static synchronized void shutdown() {
+		if (instance != null) {
+			instance.executor.shutdown();
+			instance.unregisterMBean();
+			instance = null;
+		}
+	}
+
+	/**
+	 * Runs a task on the pool
+	 *
+	 * @param task
+	 *            The task to run
+	 */
+	public void execute(Runnable task) {
+		long submitTime = System.nanoTime();
+		executor.execute(() -> {
+			try {
+				task.run();
+			} finally {
+				recordLatency(System.nanoTime() - submitTime);
+			}
+		});
+	}
+
+	public int getPoolSize() {
+		return executor.getPoolSize();
+	}
+
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	public int getQueueSize() {
+		return executor.getQueue().size();
+	}
+
+	public int getQueueRemainingCapacity() {
+		return executor.getQueue().remainingCapacity();
+	}
+
+	public long getCompletedTaskCount() {
+		return executor.getCompletedTaskCount();
+	}
+
+	public long getCallerRunsCount() {
+		return callerRunsCount.get();
+	}
+
+	public double getAverageTaskLatency() {
+		long count = latencyCount.get();
+		if (count == 0) {
+			return 0;
+		}
+		return latencyTotal.get() / 1000000.0 / count;
+	}
+
+	public long getMaxTaskLatency() {
+		return TimeUnit.NANOSECONDS.toMillis(latencyMax.get());
+	}
+
+	public void resetStatistics() {
+		callerRunsCount.set(0);
+		latencyCount.set(0);
+		latencyTotal.set(0);
+		latencyMax.set(0);
+	}
+
+	private void recordLatency(long nanos) {
+		latencyCount.incrementAndGet();
+		latencyTotal.addAndGet(nanos);
+		latencyMax.accumulateAndGet(nanos, Math::max);
+	}
+
+	private void registerMBean() {
+		try {
+			MBeanServer mBeanServer = ManagementFactory
+					.getPlatformMBeanServer();
+			ObjectName objectName = new ObjectName(OBJECT_NAME);
+			if (mBeanServer.isRegistered(objectName)) {
+				mBeanServer.unregisterMBean(objectName);
+			}
+			mBeanServer.registerMBean(this, objectName);
+		} catch (JMException e) {
+			_log.warn("Unable to register FirebaseExecutor MBean: " + e
+					.getMessage());
+		}
+	}
+
+	private void unregisterMBean() {
+		try {
+			MBeanServer mBeanServer = ManagementFactory
+					.getPlatformMBeanServer();
+			ObjectName objectName = new ObjectName(OBJECT_NAME);
+			if (mBeanServer.isRegistered(objectName)) {
+				mBeanServer.unregisterMBean(objectName);
+			}
+		} catch (JMException e) {
+			_log.warn("Unable to unregister FirebaseExecutor MBean: " + e
+					.getMessage());
+		}
+	}
+
+	private class CallerRunsPolicy implements RejectedExecutionHandler {
+
+		public void rejectedExecution(Runnable r,
+				ThreadPoolExecutor executor) {
+			if (executor.isShutdown()) {
+				/* Fails the pending stage instead of leaving it incomplete */
+				throw new RejectedExecutionException(
+						"FirebaseExecutor has been shut down");
+			}
+			callerRunsCount.incrementAndGet();
+			r.run();
+		}
+
+	}
+
+	private static class FirebaseThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r, "firebase-sync-" + threadNumber
+					.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+			FirebaseExecutor.class);
+}
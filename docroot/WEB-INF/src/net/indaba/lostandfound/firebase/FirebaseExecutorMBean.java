@@ -0,0 +1,34 @@
+package net.indaba.lostandfound.firebase;
+
+/**
+ * JMX view of the shared {@link FirebaseExecutor}
+ */
+public interface FirebaseExecutorMBean {
+
+	public int getPoolSize();
+
+	public int getActiveCount();
+
+	public int getQueueSize();
+
+	public int getQueueRemainingCapacity();
+
+	public long getCompletedTaskCount();
+
+	public long getCallerRunsCount();
+
+	/**
+	 * @return Average time in milliseconds between the submission of a task
+	 *         and its completion
+	 */
+	public double getAverageTaskLatency();
+
+	/**
+	 * @return Maximum time in milliseconds between the submission of a task
+	 *         and its completion
+	 */
+	public long getMaxTaskLatency();
+
+	public void resetStatistics();
+
+}
@@ -0,0 +1,116 @@
+package net.indaba.lostandfound.firebase;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.util.portlet.PortletProps;
+
+import net.indaba.lostandfound.service.FirebaseKeyLocalServiceUtil;
+
+/**
+ * Maps Liferay entities to their Firebase keys. An in-memory LRU map sits in
+ * front of the FirebaseKey table so that steady-state updates need neither a
+ * database nor a Firebase lookup.
+ */
+public class FirebaseKeyCache {
+
+	private static FirebaseKeyCache instance = null;
+
+	private final Map<String, String> keys;
+
+	private FirebaseKeyCache(final int maxSize) {
+		super();
+		keys = Collections.synchronizedMap(new LinkedHashMap<String, String>(
+				16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(
+					Map.Entry<String, String> eldest) {
+				return size() > maxSize;
+			}
+
+		});
+	}
+
+	public static synchronized FirebaseKeyCache getInstance() {
+		if (instance == null) {
+			int maxSize = GetterUtil.getInteger(PortletProps.get(
+					"firebase.key.cache.size"), 10000);
+			instance = new FirebaseKeyCache(maxSize);
+		}
+		return instance;
+	}
+
+	/**
+	 * Gets the stored Firebase key for the entity
+	 *
+	 * @param className
+	 * @param classPK
+	 * @return The FirebaseKey or null if it is not known locally
+	 */
+	public String get(String className, long classPK) {
+		String cacheKey = getCacheKey(className, classPK);
+		String fbKey = keys.get(cacheKey);
+		if (fbKey == null) {
+			try {
+				fbKey = FirebaseKeyLocalServiceUtil.fetchFbKey(className,
+						classPK);
+			} catch (Exception e) {
+				_log.error("Unable to read Firebase key for " + cacheKey, e);
+			}
+			if (fbKey != null) {
+				keys.put(cacheKey, fbKey);
+			}
+		}
+		return fbKey;
+	}
+
+	/**
+	 * Stores the Firebase key for the entity
+	 *
+	 * @param className
+	 * @param classPK
+	 * @param fbKey
+	 */
+	public void put(String className, long classPK, String fbKey) {
+		String cacheKey = getCacheKey(className, classPK);
+		if (fbKey.equals(keys.put(cacheKey, fbKey))) {
+			return;
+		}
+		try {
+			FirebaseKeyLocalServiceUtil.updateFbKey(className, classPK,
+					fbKey);
+		} catch (Exception e) {
+			_log.error("Unable to store Firebase key for " + cacheKey, e);
+		}
+	}
+
+	/**
+	 * Forgets the Firebase key for the entity
+	 *
+	 * @param className
+	 * @param classPK
+	 */
+	public void remove(String className, long classPK) {
+		String cacheKey = getCacheKey(className, classPK);
+		keys.remove(cacheKey);
+		try {
+			FirebaseKeyLocalServiceUtil.deleteFbKey(className, classPK);
+		} catch (Exception e) {
+			_log.error("Unable to remove Firebase key for " + cacheKey, e);
+		}
+	}
+
+	private String getCacheKey(String className, long classPK) {
+		return className + "#" + classPK;
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+			FirebaseKeyCache.class);
+}
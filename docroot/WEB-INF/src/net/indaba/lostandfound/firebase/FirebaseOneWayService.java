@@ -1,14 +1,12 @@
 package net.indaba.lostandfound.firebase;
 
-import java.io.UnsupportedEncodingException;
+import java.util.Collections;
 import java.util.Map;
 
 import com.liferay.portal.kernel.model.BaseModel;
 
 import net.thegreshams.firebase4j.error.FirebaseException;
-import net.thegreshams.firebase4j.error.JacksonUtilityException;
 import net.thegreshams.firebase4j.model.FirebaseResponse;
-import net.thegreshams.firebase4j.service.Firebase;
 
 public class FirebaseOneWayService<T extends BaseModel<T>> extends
 		FirebaseService<T> {
@@ -21,11 +19,11 @@ public class FirebaseOneWayService<T extends BaseModel<T>> extends
 
 	public String add(T entity) {
 		try {
-			Firebase firebase = new Firebase(getFbURI());
-			Map<String, Object> entityMap = getFbMapper().toMap(entity);
-			entityMap.put(getFbIdField(), entity.getPrimaryKeyObj());
-			FirebaseResponse response = firebase.put("/" + entity
-					.getPrimaryKeyObj(), entityMap);
+			Map<String, Object> idField = Collections.singletonMap(
+					getFbIdField(), entity.getPrimaryKeyObj());
+			FirebaseResponse response = FirebaseClient.getInstance().put(
+					getFbURI() + "/" + entity.getPrimaryKeyObj(), toJson(entity,
+							idField));
 			if (response.getCode() == 200) {
 				_log.debug("Firebase create sucessful");
 				return (String) response.getBody().keySet().iterator().next();
@@ -34,8 +32,7 @@ public class FirebaseOneWayService<T extends BaseModel<T>> extends
 						+ response.getCode());
 				return null;
 			}
-		} catch (FirebaseException | JacksonUtilityException
-				| UnsupportedEncodingException e) {
+		} catch (FirebaseException e) {
 			_log.error("Firebase create unsuccessful. Error : " + e
 					.getMessage());
 			e.printStackTrace();
@@ -43,7 +40,15 @@ public class FirebaseOneWayService<T extends BaseModel<T>> extends
 		return null;
 	}
 
+	/**
+	 * Entities are stored under their primary key, so no lookup is needed
+	 */
+	@Override
 	public String getFirebaseKey(T entity) {
+		return findFirebaseKey(entity);
+	}
+
+	protected String findFirebaseKey(T entity) {
 		return String.valueOf(entity.getPrimaryKeyObj());
 	}
 
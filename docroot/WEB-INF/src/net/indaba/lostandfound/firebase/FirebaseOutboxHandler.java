@@ -0,0 +1,72 @@
+package net.indaba.lostandfound.firebase;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.liferay.portal.kernel.model.BaseModel;
+
+/**
+ * Replicates the outbox entries of one entity type. Entries only hold the
+ * primary key of the entity, so the handler reloads it when the entry is
+ * dispatched and replicates whatever state it has by then.
+ */
+public interface FirebaseOutboxHandler<T extends BaseModel<T>> {
+
+	/**
+	 * @param classPK
+	 * @return The entity as currently stored, or null if it no longer exists
+	 */
+	public T fetchEntity(long classPK);
+
+	/**
+	 * Describes the entity before it is deleted from the database
+	 *
+	 * @param entity
+	 * @return Whatever getDeletedEntity needs to rebuild the entity, may be
+	 *         null
+	 */
+	public String getPayload(T entity);
+
+	/**
+	 * Rebuilds a deleted entity well enough to remove it from Firebase
+	 *
+	 * @param classPK
+	 * @param payload
+	 *            The value returned by getPayload
+	 * @return A detached entity
+	 */
+	public T getDeletedEntity(long classPK, String payload);
+
+	/**
+	 * Adds or updates the entity and its relations in Firebase
+	 *
+	 * @param entity
+	 * @return A stage which contains true if Firebase is up to date
+	 */
+	public CompletableFuture<Boolean> update(T entity);
+
+	/**
+	 * Adds or updates many entities. Handlers that can write them at once
+	 * override it, by default each entity is updated on its own.
+	 *
+	 * @param entities
+	 * @return A stage which contains true if Firebase is up to date
+	 */
+	public default CompletableFuture<Boolean> updateAll(List<T> entities) {
+		CompletableFuture<Boolean> result = CompletableFuture.completedFuture(
+				true);
+		for (T entity : entities) {
+			result = result.thenCombine(update(entity), (a, b) -> a && b);
+		}
+		return result;
+	}
+
+	/**
+	 * Removes the entity and its relations from Firebase
+	 *
+	 * @param entity
+	 * @return A stage which contains true if Firebase is up to date
+	 */
+	public CompletableFuture<Boolean> delete(T entity);
+
+}
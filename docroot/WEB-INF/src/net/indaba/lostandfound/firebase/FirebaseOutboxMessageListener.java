@@ -0,0 +1,291 @@
+package net.indaba.lostandfound.firebase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.BaseMessageListener;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.model.BaseModel;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.PortalUtil;
+import com.liferay.util.portlet.PortletProps;
+
+import net.indaba.lostandfound.model.FirebaseOutboxEntry;
+import net.indaba.lostandfound.service.FirebaseOutboxEntryLocalServiceUtil;
+import net.indaba.lostandfound.util.LFVOConstants;
+
+/**
+ * Drains the Firebase outbox in batches. The entries are claimed first, so
+ * that concurrent runs never send the same entry. Entities are replicated one
+ * class at a time, parents before their children, in the order the outbox
+ * handlers were added. Entries of the same entity are replicated one after
+ * the other in the order they were queued, and only while the previous one
+ * succeeds. Different entities of a class are replicated in parallel on the
+ * FirebaseExecutor. Consecutive updates of one entity are coalesced into a
+ * single replication of its latest state, and updates followed by a delete
+ * of the entity are left to the delete. Successful entries are removed,
+ * failed ones are postponed with an exponential backoff.
+ */
+public class FirebaseOutboxMessageListener extends BaseMessageListener {
+
+	@Override
+	protected void doReceive(Message message) throws Exception {
+		int batchSize = GetterUtil.getInteger(PortletProps.get(
+				"firebase.outbox.batch.size"), 100);
+		long timeout = TimeUnit.SECONDS.toMillis(GetterUtil.getLong(
+				PortletProps.get("firebase.outbox.dispatch.timeout"), 60));
+		List<FirebaseOutboxEntry> entries;
+		do {
+			/* Leased long enough to outlive the dispatch of the batch */
+			entries = FirebaseOutboxEntryLocalServiceUtil.claimPendingEntries(
+					batchSize, 2 * timeout);
+			if (!entries.isEmpty()) {
+				dispatch(entries, timeout);
+			}
+		} while (entries.size() == batchSize);
+	}
+
+	private void dispatch(List<FirebaseOutboxEntry> entries, long timeout)
+			throws Exception {
+		long deadline = System.currentTimeMillis() + timeout;
+		Map<Long, List<FirebaseOutboxEntry>> waves =
+				new LinkedHashMap<Long, List<FirebaseOutboxEntry>>();
+		for (String className : FirebaseSynchronizer.getInstance()
+				.getOutboxClassNames()) {
+			waves.put(PortalUtil.getClassNameId(className),
+					new ArrayList<FirebaseOutboxEntry>());
+		}
+		for (FirebaseOutboxEntry entry : entries) {
+			waves.computeIfAbsent(entry.getClassNameId(),
+					k -> new ArrayList<FirebaseOutboxEntry>()).add(entry);
+		}
+
+		Map<FirebaseOutboxEntry, CompletableFuture<Boolean>> results =
+				new LinkedHashMap<FirebaseOutboxEntry, CompletableFuture<Boolean>>();
+		int coalesced = 0;
+		for (Map.Entry<Long, List<FirebaseOutboxEntry>> wave : waves
+				.entrySet()) {
+			if (wave.getValue().isEmpty()) {
+				continue;
+			}
+			if (System.currentTimeMillis() >= deadline) {
+				/* Never replicate children before their parents */
+				for (FirebaseOutboxEntry entry : wave.getValue()) {
+					results.put(entry, failedFuture(new TimeoutException(
+							"Parent entities not replicated in time")));
+				}
+				continue;
+			}
+			Map<FirebaseOutboxEntry, CompletableFuture<Boolean>> waveResults =
+					new LinkedHashMap<FirebaseOutboxEntry, CompletableFuture<Boolean>>();
+			coalesced += dispatchWave(wave.getKey(), wave.getValue(),
+					waveResults);
+			try {
+				CompletableFuture.allOf(waveResults.values().toArray(
+						new CompletableFuture<?>[0])).get(Math.max(0, deadline
+								- System.currentTimeMillis()),
+								TimeUnit.MILLISECONDS);
+			} catch (ExecutionException | TimeoutException e) {
+				/* Reported per entry below */
+			}
+			results.putAll(waveResults);
+		}
+		if (coalesced > 0) {
+			_log.debug("Coalesced " + coalesced + " of " + entries.size()
+					+ " outbox entries");
+		}
+
+		for (Map.Entry<FirebaseOutboxEntry, CompletableFuture<Boolean>> e : results
+				.entrySet()) {
+			FirebaseOutboxEntry entry = e.getKey();
+			String error = null;
+			try {
+				Boolean result = e.getValue().get(Math.max(0, deadline - System
+						.currentTimeMillis()), TimeUnit.MILLISECONDS);
+				if (!Boolean.TRUE.equals(result)) {
+					error = "Firebase replication unsuccessful";
+				}
+			} catch (ExecutionException ee) {
+				error = String.valueOf(ee.getCause());
+			} catch (TimeoutException te) {
+				error = "Firebase replication timed out";
+			}
+			if (error == null) {
+				FirebaseOutboxEntryLocalServiceUtil.deleteFirebaseOutboxEntry(
+						entry);
+			} else {
+				_log.warn("Outbox entry " + entry.getOutboxEntryId()
+						+ " failed (attempt " + (entry.getAttempts() + 1)
+						+ "): " + error);
+				FirebaseOutboxEntryLocalServiceUtil.deferEntry(entry
+						.getOutboxEntryId(), error);
+			}
+		}
+	}
+
+	/**
+	 * Starts the replication of the entries of one class
+	 * 
+	 * @return The number of coalesced entries
+	 */
+	private int dispatchWave(long classNameId,
+			List<FirebaseOutboxEntry> entries,
+			Map<FirebaseOutboxEntry, CompletableFuture<Boolean>> results) {
+		Map<Long, CompletableFuture<Boolean>> lastStages =
+				new HashMap<Long, CompletableFuture<Boolean>>();
+		Map<Long, String> lastActions = new HashMap<Long, String>();
+		List<FirebaseOutboxEntry> updates = new ArrayList<FirebaseOutboxEntry>();
+		CompletableFuture<Boolean> updatesResult =
+				new CompletableFuture<Boolean>();
+		Map<Long, FirebaseOutboxEntry> lastDeletes =
+				new HashMap<Long, FirebaseOutboxEntry>();
+		Map<FirebaseOutboxEntry, FirebaseOutboxEntry> superseded =
+				new LinkedHashMap<FirebaseOutboxEntry, FirebaseOutboxEntry>();
+		int coalesced = 0;
+
+		for (FirebaseOutboxEntry entry : entries) {
+			if (LFVOConstants.OUTBOX_ACTION_DELETE.equals(entry.getAction())) {
+				lastDeletes.put(entry.getClassPK(), entry);
+			}
+		}
+		for (FirebaseOutboxEntry entry : entries) {
+			FirebaseOutboxEntry lastDelete = lastDeletes.get(entry
+					.getClassPK());
+			if (lastDelete != null && lastDelete.getOutboxEntryId() > entry
+					.getOutboxEntryId() && LFVOConstants.OUTBOX_ACTION_UPDATE
+							.equals(entry.getAction())) {
+				/* The entity is gone, the later delete replicates that */
+				superseded.put(entry, lastDelete);
+				coalesced++;
+				continue;
+			}
+			CompletableFuture<Boolean> previousStage = lastStages.get(entry
+					.getClassPK());
+			CompletableFuture<Boolean> result;
+			if (entry.getAction().equals(lastActions.get(entry.getClassPK()))
+					&& LFVOConstants.OUTBOX_ACTION_UPDATE.equals(entry
+							.getAction())) {
+				/* The pending update already replicates the latest state */
+				result = previousStage;
+				coalesced++;
+			} else if (previousStage == null && LFVOConstants.OUTBOX_ACTION_UPDATE
+					.equals(entry.getAction())) {
+				/* Written with the other first updates of the class below */
+				result = updatesResult;
+				updates.add(entry);
+			} else if (previousStage == null) {
+				result = dispatch(entry);
+			} else {
+				/* Retried after the earlier entry, never ahead of it */
+				result = previousStage.handle((r, t) -> Boolean.TRUE.equals(r))
+						.thenCompose(succeeded -> succeeded ? dispatch(entry)
+								: failedFuture(new IllegalStateException(
+										"An earlier entry of the entity "
+												+ "failed")));
+			}
+			lastStages.put(entry.getClassPK(), result);
+			lastActions.put(entry.getClassPK(), entry.getAction());
+			results.put(entry, result);
+		}
+		for (Map.Entry<FirebaseOutboxEntry, FirebaseOutboxEntry> e : superseded
+				.entrySet()) {
+			results.put(e.getKey(), results.get(e.getValue()));
+		}
+		if (!updates.isEmpty()) {
+			dispatchUpdates(classNameId, updates).whenComplete((r, t) -> {
+				if (t != null) {
+					updatesResult.completeExceptionally(t);
+				} else {
+					updatesResult.complete(r);
+				}
+			});
+		}
+		return coalesced;
+	}
+
+	private CompletableFuture<Boolean> dispatch(FirebaseOutboxEntry entry) {
+		String className = PortalUtil.getClassName(entry.getClassNameId());
+		FirebaseOutboxHandler<?> handler = FirebaseSynchronizer.getInstance()
+				.getOutboxHandler(className);
+		if (handler == null) {
+			/* Retrying cannot help, so the entry is dropped */
+			_log.error("No Firebase outbox handler for " + className);
+			return CompletableFuture.completedFuture(true);
+		}
+		try {
+			return dispatch(handler, entry);
+		} catch (Exception e) {
+			return failedFuture(e);
+		}
+	}
+
+	private CompletableFuture<Boolean> dispatchUpdates(long classNameId,
+			List<FirebaseOutboxEntry> entries) {
+		String className = PortalUtil.getClassName(classNameId);
+		FirebaseOutboxHandler<?> handler = FirebaseSynchronizer.getInstance()
+				.getOutboxHandler(className);
+		if (handler == null) {
+			_log.error("No Firebase outbox handler for " + className);
+			return CompletableFuture.completedFuture(true);
+		}
+		try {
+			return dispatchUpdates(handler, entries);
+		} catch (Exception e) {
+			return failedFuture(e);
+		}
+	}
+
+	private <T extends BaseModel<T>> CompletableFuture<Boolean> dispatchUpdates(
+			FirebaseOutboxHandler<T> handler,
+			List<FirebaseOutboxEntry> entries) {
+		List<T> entities = new ArrayList<T>(entries.size());
+		for (FirebaseOutboxEntry entry : entries) {
+			T entity = handler.fetchEntity(entry.getClassPK());
+			/* Deleted meanwhile, its delete entry takes over */
+			if (entity != null) {
+				entities.add(entity);
+			}
+		}
+		if (entities.isEmpty()) {
+			return CompletableFuture.completedFuture(true);
+		}
+		return handler.updateAll(entities);
+	}
+
+	private <T extends BaseModel<T>> CompletableFuture<Boolean> dispatch(
+			FirebaseOutboxHandler<T> handler, FirebaseOutboxEntry entry) {
+		switch (entry.getAction()) {
+		case LFVOConstants.OUTBOX_ACTION_UPDATE:
+			T entity = handler.fetchEntity(entry.getClassPK());
+			if (entity == null) {
+				/* Deleted meanwhile, its delete entry takes over */
+				return CompletableFuture.completedFuture(true);
+			}
+			return handler.update(entity);
+		case LFVOConstants.OUTBOX_ACTION_DELETE:
+			return handler.delete(handler.getDeletedEntity(entry.getClassPK(),
+					entry.getPayload()));
+		default:
+			_log.error("Unknown outbox action " + entry.getAction());
+			return CompletableFuture.completedFuture(true);
+		}
+	}
+
+	private static CompletableFuture<Boolean> failedFuture(Throwable t) {
+		CompletableFuture<Boolean> result = new CompletableFuture<Boolean>();
+		result.completeExceptionally(t);
+		return result;
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+			FirebaseOutboxMessageListener.class);
+}
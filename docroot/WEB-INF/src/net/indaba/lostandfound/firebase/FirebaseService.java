@@ -1,30 +1,29 @@
 package net.indaba.lostandfound.firebase;
 
-import java.io.UnsupportedEncodingException;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.model.BaseModel;
+import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.util.portlet.PortletProps;
 
 import net.thegreshams.firebase4j.error.FirebaseException;
-import net.thegreshams.firebase4j.error.JacksonUtilityException;
 import net.thegreshams.firebase4j.model.FirebaseResponse;
-import net.thegreshams.firebase4j.service.Firebase;
 
 public abstract class FirebaseService<T extends BaseModel<T>> {
-	
-	private ExecutorService executor = Executors.newCachedThreadPool();
+
+	private String fbBaseURL;
 	private String fbURI;
 
 	private String fbModelSingular;
@@ -41,13 +40,27 @@ public abstract class FirebaseService<T extends BaseModel<T>> {
 		this.fbModelPlural = fbModelPlural;
 		this.mapper = mapper;
 
+		this.fbBaseURL = fbBaseURL;
 		this.fbURI = fbBaseURL + "/" + fbModelPlural;
 	}
 
+	public final String getFbBaseURL() {
+		return this.fbBaseURL;
+	}
+
 	public final String getFbURI() {
 		return this.fbURI;
 	}
 
+	/**
+	 * @param fbKey
+	 *            The FirebaseKey for an entity of this service
+	 * @return The path of the entity relative to the database root
+	 */
+	public final String getFbPath(String fbKey) {
+		return this.fbModelPlural + "/" + fbKey;
+	}
+
 	public final String getFbModelSingular() {
 		return this.fbModelSingular;
 	}
@@ -93,11 +106,13 @@ public abstract class FirebaseService<T extends BaseModel<T>> {
 
 	protected String update(T entity, String firebaseKey) {
 		try {
-			Firebase firebase = new Firebase(getFbURI());
-			Map<String, Object> itemMap = mapper.toMap(entity);
-			itemMap.put("_liferay", true);
+			Map<String, Object> extraFields = new LinkedHashMap<String, Object>();
+			extraFields.put("_liferay", true);
+			/* PATCH creates the node if it is missing, so it needs its id */
+			extraFields.put(getFbIdField(), entity.getPrimaryKeyObj());
 			FirebaseResponse response;
-			response = firebase.patch("/" + firebaseKey, itemMap);
+			response = FirebaseClient.getInstance().patch(getFbURI() + "/"
+					+ firebaseKey, toJson(entity, extraFields));
 			if (response.getCode() == 200) {
 				_log.debug("Firebase update sucessful");
 				return (String) response.getBody().keySet().iterator().next();
@@ -105,8 +120,7 @@ public abstract class FirebaseService<T extends BaseModel<T>> {
 				_log.error("Firebase update unsuccessful. Response code: "
 						+ response.getCode());
 			}
-		} catch (FirebaseException | JacksonUtilityException
-				| UnsupportedEncodingException e) {
+		} catch (FirebaseException e) {
 			_log.error("Firebase update unsuccessful. Error: " + e
 					.getMessage());
 			e.printStackTrace();
@@ -129,31 +143,147 @@ public abstract class FirebaseService<T extends BaseModel<T>> {
 		}
 	}
 
+	/**
+	 * Adds or updates many entities with a single multi-location write. Keys
+	 * are resolved with getFirebaseKey, entities not found in Firebase get a
+	 * key from newFirebaseKey, which is derived from the entity, so retrying a
+	 * failed write targets the same locations instead of duplicating them.
+	 * 
+	 * @param entities
+	 * @param batchWrites
+	 *            Adds the writes of each entity's relations to the batch, may
+	 *            be null
+	 * @return true if Firebase accepted every write
+	 */
+	public boolean addOrUpdateAll(List<T> entities, BatchWrites<T> batchWrites)
+			throws FirebaseException {
+		FirebaseBatchWriter batch = new FirebaseBatchWriter(getFbBaseURL());
+		Map<T, String> fbKeys = new LinkedHashMap<T, String>();
+		for (T entity : entities) {
+			String fbKey = getFirebaseKey(entity);
+			boolean added = fbKey == null;
+			if (added) {
+				fbKey = newFirebaseKey(entity);
+			}
+			Map<String, Object> entityMap = mapper.toMap(entity);
+			entityMap.put(getFbIdField(), entity.getPrimaryKeyObj());
+			entityMap.put("_liferay", true);
+			batch.update(getFbPath(fbKey), entityMap);
+			if (batchWrites != null && !batchWrites.addWrites(batch, entity,
+					fbKey, added)) {
+				return false;
+			}
+			fbKeys.put(entity, fbKey);
+		}
+		if (!batch.commit()) {
+			return false;
+		}
+		for (Map.Entry<T, String> e : fbKeys.entrySet()) {
+			cacheFirebaseKey(e.getKey(), e.getValue());
+		}
+		return true;
+	}
+
+	/**
+	 * Asynchronously adds or updates many entities with a single write
+	 * 
+	 * @see #addOrUpdateAll(List, BatchWrites)
+	 */
+	public final CompletableFuture<Boolean> addOrUpdateAllAsync(
+			List<T> entities, BatchWrites<T> batchWrites,
+			CompletionStage<?> previousStage) {
+		return asyncWrapper(previousStage, () -> addOrUpdateAll(entities,
+				batchWrites));
+	}
+
+	/**
+	 * Adds to the batch the references of a many-to-one relationship, the
+	 * same writes setRelationManyToOne sends in its own request. The previous
+	 * reference is only looked up for entities already in Firebase, and its
+	 * back-reference is removed when it changes or the related entity is
+	 * gone.
+	 * 
+	 * @param batch
+	 * @param fbKey
+	 *            The FirebaseKey for the entity
+	 * @param added
+	 *            true if the entity is being added, so it has no previous
+	 *            reference
+	 * @param relatedEntity
+	 *            May be null
+	 * @param relatedEntityService
+	 * @return false if the related entity is not replicated yet or the
+	 *         previous reference cannot be read
+	 */
+	public <S extends BaseModel<S>> boolean setReferenceManyToOne(
+			FirebaseBatchWriter batch, String fbKey, boolean added,
+			S relatedEntity, FirebaseService<S> relatedEntityService)
+			throws FirebaseException {
+		String referenceField = relatedEntityService.getFbModelSingular();
+		String entityRefName = getEntityRefName("Many");
+		String entityPath = getFbPath(fbKey);
+
+		String oldRef = null;
+		if (!added) {
+			FirebaseResponse response = FirebaseClient.getInstance().get(
+					getFbURI() + "/" + fbKey);
+			if (response.getCode() != 200) {
+				return false;
+			}
+			oldRef = (String) response.getBody().get(referenceField);
+		}
+
+		String newRef = null;
+		if (relatedEntity != null) {
+			newRef = relatedEntityService.getFirebaseKey(relatedEntity);
+			if (newRef == null) {
+				return false;
+			}
+			if (!newRef.equals(oldRef)) {
+				relatedEntityService.setReference(batch, "ToMany", "add",
+						newRef, fbKey, entityRefName);
+			}
+		}
+		if (oldRef != null && !oldRef.equals(newRef)) {
+			relatedEntityService.setReference(batch, "ToMany", "delete",
+					oldRef, fbKey, entityRefName);
+		}
+		if (newRef != null) {
+			batch.set(entityPath + "/" + referenceField, newRef);
+		} else if (oldRef != null) {
+			batch.delete(entityPath + "/" + referenceField);
+		}
+		return true;
+	}
+
 	/**
 	 * Deletes the entity in Firebase
 	 * 
 	 * @param entity
-	 * @return True iff the entity was found and removed
+	 * @return True iff the entity is no longer in Firebase
 	 */
 	public boolean delete(T entity) {
 		try {
-			Firebase firebase = new Firebase(getFbURI());
 			String itemKey = getFirebaseKey(entity);
 			FirebaseResponse response;
 			if (itemKey != null) {
-				response = firebase.delete("/" + itemKey);
+				response = FirebaseClient.getInstance().delete(getFbURI()
+						+ "/" + itemKey);
 				if (response.getCode() == 200) {
 					_log.info("Firebase delete sucessful");
+					evictFirebaseKey(entity);
 					return true;
 				} else {
 					_log.error("Firebase delete unsuccessful. Response code: "
 							+ response.getCode());
 				}
 			} else {
-				_log.error("Could not find entity with id " + entity
+				/* Nothing left to delete, so retrying would not help */
+				_log.warn("Could not find entity with id " + entity
 						.getPrimaryKeyObj());
+				return true;
 			}
-		} catch (FirebaseException | UnsupportedEncodingException e) {
+		} catch (FirebaseException e) {
 			_log.error("Firebase delete unsuccessful. Error: " + e
 					.getMessage());
 			e.printStackTrace();
@@ -161,6 +291,62 @@ public abstract class FirebaseService<T extends BaseModel<T>> {
 		return false;
 	}
 
+	/**
+	 * Asynchronously adds the entity to Firebase
+	 * 
+	 * @param entity
+	 * @param previousStage
+	 *            Stage to complete before the method is really executed. Set
+	 *            to null to run it right away
+	 * @return A stage containing the FirebaseKey for the entity
+	 */
+	public final CompletableFuture<String> addAsync(T entity,
+			CompletionStage<?> previousStage) {
+		return asyncWrapper(previousStage, () -> add(entity));
+	}
+
+	/**
+	 * Asynchronously updates the entity in Firebase
+	 * 
+	 * @param entity
+	 * @param previousStage
+	 *            Stage to complete before the method is really executed. Set
+	 *            to null to run it right away
+	 * @return A stage containing the FirebaseKey for the entity
+	 */
+	public final CompletableFuture<String> updateAsync(T entity,
+			CompletionStage<?> previousStage) {
+		return asyncWrapper(previousStage, () -> update(entity));
+	}
+
+	/**
+	 * Asynchronously adds or updates the entity in Firebase
+	 * 
+	 * @param entity
+	 * @param previousStage
+	 *            Stage to complete before the method is really executed. Set
+	 *            to null to run it right away
+	 * @return A stage containing the FirebaseKey for the entity
+	 */
+	public final CompletableFuture<String> addOrUpdateAsync(T entity,
+			CompletionStage<?> previousStage) {
+		return asyncWrapper(previousStage, () -> addOrUpdate(entity));
+	}
+
+	/**
+	 * Asynchronously deletes the entity in Firebase
+	 * 
+	 * @param entity
+	 * @param previousStage
+	 *            Stage to complete before the method is really executed. Set
+	 *            to null to run it right away
+	 * @return A stage with true iff the entity is no longer in Firebase
+	 */
+	public final CompletableFuture<Boolean> deleteAsync(T entity,
+			CompletionStage<?> previousStage) {
+		return asyncWrapper(previousStage, () -> delete(entity));
+	}
+
 	/**
 	 * Asynchronously adds the entity to Firebase
 	 * 
@@ -169,12 +355,10 @@ public abstract class FirebaseService<T extends BaseModel<T>> {
 	 *            Future object to wait for before the method is really
 	 *            executed. Set to null to avoid any wait
 	 * @return A promise containing the FirebaseKey for the entity
+	 * @see #addAsync(BaseModel, CompletionStage)
 	 */
 	public final Future<String> add(T entity, Future<?> previousFuture) {
-		return asyncWrapper(() -> {
-			waitFor(previousFuture);
-			return add(entity);
-		});
+		return addAsync(entity, toStage(previousFuture));
 	};
 
 	/**
@@ -185,12 +369,10 @@ public abstract class FirebaseService<T extends BaseModel<T>> {
 	 *            Future object to wait for before the method is really
 	 *            executed. Set to null to avoid any wait
 	 * @return A promise containing the FirebaseKey for the entity
+	 * @see #updateAsync(BaseModel, CompletionStage)
 	 */
 	public final Future<String> update(T entity, Future<?> previousFuture) {
-		return asyncWrapper(() -> {
-			waitFor(previousFuture);
-			return update(entity);
-		});
+		return updateAsync(entity, toStage(previousFuture));
 	}
 
 	/**
@@ -201,13 +383,11 @@ public abstract class FirebaseService<T extends BaseModel<T>> {
 	 *            Future object to wait for before the method is really
 	 *            executed. Set to null to avoid any wait
 	 * @return A promise containing the FirebaseKey for the entity
+	 * @see #addOrUpdateAsync(BaseModel, CompletionStage)
 	 */
 	public final Future<String> addOrUpdate(T entity,
 			Future<?> previousFuture) {
-		return asyncWrapper(() -> {
-			waitFor(previousFuture);
-			return addOrUpdate(entity);
-		});
+		return addOrUpdateAsync(entity, toStage(previousFuture));
 	}
 
 	/**
@@ -217,18 +397,19 @@ public abstract class FirebaseService<T extends BaseModel<T>> {
 	 * @param previousFuture
 	 *            Future object to wait for before the method is really
 	 *            executed. Set to null to avoid any wait
-	 * @return A promise boolean with true iff the entity was found and removed
+	 * @return A promise boolean with true iff the entity is no longer in
+	 *         Firebase
+	 * @see #deleteAsync(BaseModel, CompletionStage)
 	 */
 	public final Future<Boolean> delete(T entity, Future<?> previousFuture) {
-		return asyncWrapper(() -> {
-			waitFor(previousFuture);
-			return delete(entity);
-		});
+		return deleteAsync(entity, toStage(previousFuture));
 	}
 
 	/**
-	 * Adds/Removes a reference on firebase entity with fbKey
+	 * Queues the addition/removal of a reference on firebase entity with fbKey
 	 * 
+	 * @param batch
+	 *            The batch collecting the writes of the current operation
 	 * @param type
 	 *            A String of the following: {"ToOne", "ToMany"}
 	 * @param operation
@@ -239,75 +420,40 @@ public abstract class FirebaseService<T extends BaseModel<T>> {
 	 *            The Reference value to add
 	 * @param referenceField
 	 *            The field name for the reference
-	 * @param previousFuture
-	 *            Future object to wait for before the method is really
-	 *            executed. Set to null to avoid any wait
-	 * @return A future object which contains true if the reference is
-	 *         successfully added
 	 */
-	private Future<Boolean> setReference(String type, String operation,
-			String fbKey, String referenceKey,
-			String referenceField, Future<?> previousFuture) {
-		return asyncWrapper(() -> {
-			waitFor(previousFuture);
-			String URI = null;
-			Map<String, Object> referenceMap = new LinkedHashMap<String, Object>();
-
-			switch (type) {
-			case "ToOne":
-				referenceMap.put(referenceField, referenceKey);
-				URI = getFbURI() + "/" + fbKey;
-				break;
-			case "ToMany":
-				referenceMap.put(referenceKey, true);
-				URI = getFbURI() + "/" + fbKey + "/" + referenceField;
-				break;
-			}
-			try {
-				Firebase firebase = new Firebase(URI);
-				FirebaseResponse response = null;
-				switch (operation) {
-				case "add":
-					response = firebase.patch(referenceMap);
-					break;
-				case "delete":
-					response = firebase.delete("/" + referenceMap.keySet()
-							.iterator().next());
-					break;
-				}
-				if (response.getCode() == 200) {
-					_log.debug("Reference added on " + fbKey);
-					return true;
-				} else {
-					_log.error("Error adding reference: " + response.getBody()
-							.get("error"));
-					return false;
-				}
-			} catch (FirebaseException | JacksonUtilityException e) {
-				e.printStackTrace();
-			}
-			return false;
-		});
+	private void setReference(FirebaseBatchWriter batch, String type,
+			String operation, String fbKey, String referenceKey,
+			String referenceField) {
+		String path = getFbPath(fbKey) + "/" + referenceField;
+		Object value = null;
+
+		switch (type) {
+		case "ToOne":
+			value = referenceKey;
+			break;
+		case "ToMany":
+			path += "/" + referenceKey;
+			value = true;
+			break;
+		}
+		switch (operation) {
+		case "add":
+			batch.set(path, value);
+			break;
+		case "delete":
+			batch.delete(path);
+			break;
+		}
 	}
 
-	private Map<String, Object> flatten(Map<String, Object> map) {
-		Map<String, Object> result = new LinkedHashMap<String, Object>();
-		Iterator<String> it = map.keySet().iterator();
-		while (it.hasNext()) {
-			String root = it.next();
-			Object o = map.get(root);
-			if (o instanceof Map) {
-				@SuppressWarnings("unchecked")
-				Map<String, Object> m = Map.class.cast(o);
-				m = flatten(m);
-				for (String k : m.keySet()) {
-					result.put(root + "/" + k, m.get(k));
-				}
-			} else {
-				result.put(root, o);
-			}
+	private String getEntityRefName(String X) {
+		switch (X) {
+		case "One":
+			return getFbModelSingular();
+		case "Many":
+			return getFbModelPlural();
 		}
-		return result;
+		return null;
 	}
 
 	/**
@@ -317,94 +463,85 @@ public abstract class FirebaseService<T extends BaseModel<T>> {
 	 *            A String in {"One", "Many"}
 	 * @param entity
 	 * @param relatedEntities
-	 * @param previousFuture
-	 *            Future object to wait for before the method is really
-	 *            executed. Set to null to avoid any wait
-	 * @return A future object which contains true if the reference is
-	 *         successfully added
+	 * @param previousStage
+	 *            Stage to complete before the method is really executed. Set
+	 *            to null to run it right away
+	 * @return A stage which contains true if the reference is successfully
+	 *         added
 	 */
-	private <S extends BaseModel<S>> Future<Boolean> setRelationXToMany(
+	private <S extends BaseModel<S>> CompletableFuture<Boolean> setRelationXToMany(
 			String X, T entity, List<S> relatedEntities,
-			FirebaseService<S> relatedEntityService, Future<?> previousFuture) {
-		return asyncWrapper(() -> {
-			waitFor(previousFuture);
+			FirebaseService<S> relatedEntityService,
+			CompletionStage<?> previousStage) {
+		return asyncWrapper(previousStage, () -> {
 			try {
 				String fbKey = getFirebaseKey(entity);
 				if (fbKey != null) {
 					String referenceField = relatedEntityService
 							.getFbModelPlural();
-					String entityRefName = null;
-					switch (X) {
-					case "One":
-						entityRefName = getFbModelSingular();
-						break;
-					case "Many":
-						entityRefName = getFbModelPlural();
-						break;
-					}
-
-					Firebase firebase;
-					FirebaseResponse response;
+					String entityRefName = getEntityRefName(X);
+					String entityPath = getFbPath(fbKey);
 
 					/* Obtain previous references */
-					firebase = new Firebase(getFbURI() + "/" + fbKey);
-					response = firebase.get("/" + referenceField);
+					FirebaseResponse response = FirebaseClient.getInstance()
+							.get(getFbURI() + "/" + fbKey + "/"
+									+ referenceField);
 					Map<String, Object> oldRefMap = new LinkedHashMap<String, Object>();
 					if (response.getCode() == 200) {
 						Map<String, Object> o = response.getBody();
 						if (o != null) {
-							oldRefMap = flatten(o);
+							oldRefMap = FirebaseBatchWriter.flatten(o);
 						}
 					}
 
+					/* Every write below is sent in a single request */
+					FirebaseBatchWriter batch = new FirebaseBatchWriter(
+							getFbBaseURL());
+					batch.set(entityPath + "/_liferay", true);
+
 					/* Update related-entities */
-					Map<String, Object> newRefMap = new LinkedHashMap<String, Object>();
 					for (S relatedEntity : relatedEntities) {
 						/* Compare oldRelatedEntities with newRelatedEntities */
 						String relatedEntityKey = relatedEntityService
 								.getFirebaseKey(relatedEntity);
+						if (relatedEntityKey == null) {
+							/* Not replicated yet, let the caller retry */
+							_log.warn("Related " + relatedEntityService
+									.getFbModelSingular() + " "
+									+ relatedEntity.getPrimaryKeyObj()
+									+ " not found in Firebase");
+							return false;
+						}
 						if (oldRefMap.containsKey(relatedEntityKey)) {
 							oldRefMap.remove(relatedEntityKey);
 						} else {
-							relatedEntityService.setReference("To" + X, "add",
-									relatedEntityKey, fbKey, entityRefName,
-									null);
+							relatedEntityService.setReference(batch, "To" + X,
+									"add", relatedEntityKey, fbKey,
+									entityRefName);
 						}
-						/* Collect the relatedEntity into the newMap */
-						newRefMap.put(relatedEntityKey, true);
+						/* Set reference on entity to the relatedEntity */
+						batch.set(entityPath + "/" + referenceField + "/"
+								+ relatedEntityKey, true);
 					}
 
 					/*
-					 * Delete references from entity to remaining
+					 * Delete references from and to remaining
 					 * oldRelatedEntities
 					 */
-					for (Entry<String, Object> e : oldRefMap.entrySet()) {
-						String relatedEntityKey = e.getKey();
-						relatedEntityService.setReference("To" + X, "delete",
-								relatedEntityKey, fbKey, entityRefName, null);
-					}
-
-					/* Set references on entity to newRelatedEntities */
-					Map<String, Object> entityMap = new LinkedHashMap<String, Object>();
-					entityMap.put("_liferay", true);
-					if (relatedEntities.size() > 0) {
-						entityMap.put(referenceField, newRefMap);
-					} else {
-						entityMap.put(referenceField, null);
+					for (String relatedEntityKey : oldRefMap.keySet()) {
+						relatedEntityService.setReference(batch, "To" + X,
+								"delete", relatedEntityKey, fbKey,
+								entityRefName);
+						batch.delete(entityPath + "/" + referenceField + "/"
+								+ relatedEntityKey);
 					}
 
-					firebase = new Firebase(getFbURI() + "/" + fbKey);
-					response = firebase.patch(entityMap);
-					if (response.getCode() == 200) {
+					if (batch.commit()) {
 						_log.debug("Firebase relation add sucessful");
 						return true;
-					} else {
-						_log.error("Firebase relation add unsuccessful. Error "
-								+ response.getCode() + " "
-								+ response.getBody().get("error"));
 					}
 				}
-			} catch (FirebaseException | JacksonUtilityException e1) {
+			} catch (FirebaseException e1) {
 				e1.printStackTrace();
 			}
 			return false;
@@ -416,17 +553,39 @@ public abstract class FirebaseService<T extends BaseModel<T>> {
 	 * 
 	 * @param entity
 	 * @param relatedEntities
+	 * @param relatedEntityService
+	 * @param previousStage
+	 *            Stage to complete before the method is really executed. Set
+	 *            to null to run it right away
+	 * @return A stage which contains true if the reference is successfully
+	 *         added
+	 */
+	public <S extends BaseModel<S>> CompletableFuture<Boolean> setRelationManyToManyAsync(
+			T entity, List<S> relatedEntities,
+			FirebaseService<S> relatedEntityService,
+			CompletionStage<?> previousStage) {
+		return setRelationXToMany("Many", entity, relatedEntities,
+				relatedEntityService, previousStage);
+	}
+
+	/**
+	 * Sets the references for a many-to-many relationship
+	 * 
+	 * @param entity
+	 * @param relatedEntities
+	 * @param relatedEntityService
 	 * @param previousFuture
 	 *            Future object to wait for before the method is really
 	 *            executed. Set to null to avoid any wait
 	 * @return A future object which contains true if the reference is
 	 *         successfully added
+	 * @see #setRelationManyToManyAsync
 	 */
 	public <S extends BaseModel<S>> Future<Boolean> setRelationManyToMany(
 			T entity, List<S> relatedEntities,
 			FirebaseService<S> relatedEntityService, Future<?> previousFuture) {
-		return setRelationXToMany("Many", entity, relatedEntities,
-				relatedEntityService, previousFuture);
+		return setRelationManyToManyAsync(entity, relatedEntities,
+				relatedEntityService, toStage(previousFuture));
 	}
 
 	/**
@@ -434,17 +593,39 @@ public abstract class FirebaseService<T extends BaseModel<T>> {
 	 * 
 	 * @param entity
 	 * @param relatedEntities
+	 * @param relatedEntityService
+	 * @param previousStage
+	 *            Stage to complete before the method is really executed. Set
+	 *            to null to run it right away
+	 * @return A stage which contains true if the reference is successfully
+	 *         added
+	 */
+	public <S extends BaseModel<S>> CompletableFuture<Boolean> setRelationOneToManyAsync(
+			T entity, List<S> relatedEntities,
+			FirebaseService<S> relatedEntityService,
+			CompletionStage<?> previousStage) {
+		return setRelationXToMany("One", entity, relatedEntities,
+				relatedEntityService, previousStage);
+	}
+
+	/**
+	 * Sets the references for a one-to-many relationship
+	 * 
+	 * @param entity
+	 * @param relatedEntities
+	 * @param relatedEntityService
 	 * @param previousFuture
 	 *            Future object to wait for before the method is really
 	 *            executed. Set to null to avoid any wait
 	 * @return A future object which contains true if the reference is
 	 *         successfully added
+	 * @see #setRelationOneToManyAsync
 	 */
 	public <S extends BaseModel<S>> Future<Boolean> setRelationOneToMany(
 			T entity, List<S> relatedEntities,
 			FirebaseService<S> relatedEntityService, Future<?> previousFuture) {
-		return setRelationXToMany("One", entity, relatedEntities,
-				relatedEntityService, previousFuture);
+		return setRelationOneToManyAsync(entity, relatedEntities,
+				relatedEntityService, toStage(previousFuture));
 	}
 
 	/**
@@ -454,82 +635,75 @@ public abstract class FirebaseService<T extends BaseModel<T>> {
 	 *            A String in {"One", "Many"}
 	 * @param entity
 	 * @param relatedEntities
-	 * @param previousFuture
-	 *            Future object to wait for before the method is really
-	 *            executed. Set to null to avoid any wait
-	 * @return A future object which contains true if the reference is
-	 *         successfully added
+	 * @param previousStage
+	 *            Stage to complete before the method is really executed. Set
+	 *            to null to run it right away
+	 * @return A stage which contains true if the reference is successfully
+	 *         added
 	 */
-	private <S extends BaseModel<S>> Future<Boolean> setRelationXToOne(String X,
-			T entity, S relatedEntity,
-			FirebaseService<S> relatedEntityService, Future<?> previousFuture) {
-		return asyncWrapper(() -> {
-			waitFor(previousFuture);
+	private <S extends BaseModel<S>> CompletableFuture<Boolean> setRelationXToOne(
+			String X, T entity, S relatedEntity,
+			FirebaseService<S> relatedEntityService,
+			CompletionStage<?> previousStage) {
+		return asyncWrapper(previousStage, () -> {
 			try {
 				String fbKey = getFirebaseKey(entity);
 				if (fbKey != null) {
 					String referenceField = relatedEntityService
 							.getFbModelSingular();
-
-					String entityRefName = null;
-					switch (X) {
-					case "One":
-						entityRefName = getFbModelSingular();
-						break;
-					case "Many":
-						entityRefName = getFbModelPlural();
-						break;
-					}
-
-					Firebase firebase;
-					FirebaseResponse response;
+					String entityRefName = getEntityRefName(X);
+					String entityPath = getFbPath(fbKey);
 
 					/* Obtain previous reference */
-					firebase = new Firebase(getFbURI() + "/" + fbKey);
-					response = firebase.get();
+					FirebaseResponse response = FirebaseClient.getInstance()
+							.get(getFbURI() + "/" + fbKey);
 					String oldRef = null;
 					if (response.getCode() == 200) {
 						oldRef = (String) response.getBody().get(
 								referenceField);
 					}
 
+					/* Every write below is sent in a single request */
+					FirebaseBatchWriter batch = new FirebaseBatchWriter(
+							getFbBaseURL());
+
 					String newRef = null;
 					if (relatedEntity != null) {
 						newRef = relatedEntityService.getFirebaseKey(
 								relatedEntity);
+						if (newRef == null) {
+							/* Not replicated yet, let the caller retry */
+							_log.warn("Related " + relatedEntityService
+									.getFbModelSingular() + " "
+									+ relatedEntity.getPrimaryKeyObj()
+									+ " not found in Firebase");
+							return false;
+						}
 						/* Update relatedEntity's reference(s) */
-						if (newRef != null && !newRef.equals(oldRef)) {
-							relatedEntityService.setReference("To" + X, "add",
-									newRef, fbKey, entityRefName, null);
+						if (!newRef.equals(oldRef)) {
+							relatedEntityService.setReference(batch, "To" + X,
+									"add", newRef, fbKey, entityRefName);
 							if (oldRef != null)
-								relatedEntityService.setReference("To" + X,
-										"delete", oldRef, fbKey, entityRefName,
-										null);
+								relatedEntityService.setReference(batch,
+										"To" + X, "delete", oldRef, fbKey,
+										entityRefName);
 						}
 					} else {
 						if (oldRef != null)
-							relatedEntityService.setReference("To" + X,
-									"delete", oldRef, fbKey, entityRefName,
-									null);
+							relatedEntityService.setReference(batch, "To" + X,
+									"delete", oldRef, fbKey, entityRefName);
 					}
 
 					/* Set references on entity to newRelatedEntity */
-					Map<String, Object> entityMap = new LinkedHashMap<String, Object>();
-					entityMap.put("_liferay", true);
-					entityMap.put(referenceField, newRef);
+					batch.set(entityPath + "/_liferay", true);
+					batch.set(entityPath + "/" + referenceField, newRef);
 
-					firebase = new Firebase(getFbURI() + "/" + fbKey);
-					response = firebase.patch(entityMap);
-					if (response.getCode() == 200) {
+					if (batch.commit()) {
 						_log.info("Firebase relation add sucessful");
 						return true;
-					} else {
-						_log.error("Firebase relation add unsuccessful. Error "
-								+ response.getCode() + " "
-								+ response.getBody().get("error"));
 					}
 				}
-			} catch (FirebaseException | JacksonUtilityException e1) {
+			} catch (FirebaseException e1) {
 				_log.error("Error");
 				e1.printStackTrace();
 			}
@@ -541,46 +715,225 @@ public abstract class FirebaseService<T extends BaseModel<T>> {
 	 * Sets the references for a many-to-one relationship
 	 * 
 	 * @param entity
-	 * @param relatedEntities
-	 * @param @param
-	 *            previousFuture Future object to wait for before the method is
-	 *            really executed. Set to null to avoid any wait
+	 * @param relatedEntity
+	 * @param relatedEntityService
+	 * @param previousStage
+	 *            Stage to complete before the method is really executed. Set
+	 *            to null to run it right away
+	 * @return A stage which contains true if the reference is successfully
+	 *         added
+	 */
+	public <S extends BaseModel<S>> CompletableFuture<Boolean> setRelationManyToOneAsync(
+			T entity, S relatedEntity,
+			FirebaseService<S> relatedEntityService,
+			CompletionStage<?> previousStage) {
+		return setRelationXToOne("Many", entity, relatedEntity,
+				relatedEntityService, previousStage);
+	}
+
+	/**
+	 * Sets the references for a many-to-one relationship
+	 * 
+	 * @param entity
+	 * @param relatedEntity
+	 * @param relatedEntityService
+	 * @param previousFuture
+	 *            Future object to wait for before the method is really
+	 *            executed. Set to null to avoid any wait
 	 * @return A future object which contains true if the reference is
 	 *         successfully added
+	 * @see #setRelationManyToOneAsync
 	 */
 	public <S extends BaseModel<S>> Future<Boolean> setRelationManyToOne(
 			T entity, S relatedEntity,
 			FirebaseService<S> relatedEntityService, Future<?> previousFuture) {
-		return setRelationXToOne("Many", entity, relatedEntity,
-				relatedEntityService, previousFuture);
+		return setRelationManyToOneAsync(entity, relatedEntity,
+				relatedEntityService, toStage(previousFuture));
 	}
 
 	/**
 	 * Sets the references for a one-to-one relationship
 	 * 
 	 * @param entity
-	 * @param relatedEntities
+	 * @param relatedEntity
+	 * @param relatedEntityService
+	 * @param previousStage
+	 *            Stage to complete before the method is really executed. Set
+	 *            to null to run it right away
+	 * @return A stage which contains true if the reference is successfully
+	 *         added
+	 */
+	public <S extends BaseModel<S>> CompletableFuture<Boolean> setRelationOneToOneAsync(
+			T entity, S relatedEntity,
+			FirebaseService<S> relatedEntityService,
+			CompletionStage<?> previousStage) {
+		return setRelationXToOne("One", entity, relatedEntity,
+				relatedEntityService, previousStage);
+	}
+
+	/**
+	 * Sets the references for a one-to-one relationship
+	 * 
+	 * @param entity
+	 * @param relatedEntity
+	 * @param relatedEntityService
 	 * @param previousFuture
 	 *            Future object to wait for before the method is really
 	 *            executed. Set to null to avoid any wait
 	 * @return A future object which contains true if the reference is
 	 *         successfully added
+	 * @see #setRelationOneToOneAsync
 	 */
 	public <S extends BaseModel<S>> Future<Boolean> setRelationOneToOne(
 			T entity, S relatedEntity,
 			FirebaseService<S> relatedEntityService, Future<?> previousFuture) {
-		return setRelationXToOne("One", entity, relatedEntity,
-				relatedEntityService, previousFuture);
+		return setRelationOneToOneAsync(entity, relatedEntity,
+				relatedEntityService, toStage(previousFuture));
 	}
 
 	/**
-	 * Gets the Firebase object key for the given entity if it exists
+	 * Gets the Firebase object key for the given entity if it exists. Keys are
+	 * served from the FirebaseKeyCache when known, otherwise they are looked up
+	 * in Firebase and remembered.
 	 * 
 	 * @param entity
 	 * @return A String containing the FirebaseKey or null if no matching entity
 	 *         was found in Firebase
 	 */
-	public abstract String getFirebaseKey(T entity);
+	public String getFirebaseKey(T entity) {
+		FirebaseKeyCache keyCache = FirebaseKeyCache.getInstance();
+		String fbKey = keyCache.get(entity.getModelClassName(), getClassPK(
+				entity));
+		if (fbKey == null) {
+			fbKey = findFirebaseKey(entity);
+			if (fbKey != null) {
+				keyCache.put(entity.getModelClassName(), getClassPK(entity),
+						fbKey);
+			}
+		}
+		return fbKey;
+	}
+
+	/**
+	 * Looks up the Firebase object key for the given entity in Firebase
+	 * 
+	 * @param entity
+	 * @return A String containing the FirebaseKey or null if no matching entity
+	 *         was found in Firebase
+	 */
+	protected abstract String findFirebaseKey(T entity);
+
+	/**
+	 * Remembers the Firebase key of a newly added entity
+	 * 
+	 * @param entity
+	 * @param fbKey
+	 */
+	protected final void cacheFirebaseKey(T entity, String fbKey) {
+		if (fbKey != null) {
+			FirebaseKeyCache.getInstance().put(entity.getModelClassName(),
+					getClassPK(entity), fbKey);
+		}
+	}
+
+	/**
+	 * Forgets the Firebase key of the entity
+	 * 
+	 * @param entity
+	 */
+	protected final void evictFirebaseKey(T entity) {
+		FirebaseKeyCache.getInstance().remove(entity.getModelClassName(),
+				getClassPK(entity));
+	}
+
+	private long getClassPK(T entity) {
+		return GetterUtil.getLong(entity.getPrimaryKeyObj());
+	}
+
+	/**
+	 * Builds the key of an entity added by addOrUpdateAll. It has the layout
+	 * of a Firebase push key, ordered by createDate when the entity has one,
+	 * but is derived from the primary key instead of random.
+	 * 
+	 * @param entity
+	 * @return A FirebaseKey as getFirebaseKey returns it
+	 */
+	protected String newFirebaseKey(T entity) {
+		Object createDate = entity.getModelAttributes().get("createDate");
+		long timestamp = createDate instanceof Date ? ((Date) createDate)
+				.getTime() : 0;
+		char[] key = new char[20];
+		for (int i = 7; i >= 0; i--) {
+			key[i] = PUSH_CHARS.charAt((int) (timestamp & 63));
+			timestamp >>>= 6;
+		}
+		long classPK = getClassPK(entity);
+		for (int i = 19; i >= 8; i--) {
+			key[i] = PUSH_CHARS.charAt((int) (classPK & 63));
+			classPK >>>= 6;
+		}
+		return new String(key);
+	}
+
+	/**
+	 * Adds further writes for one entity of addOrUpdateAll, such as its
+	 * relations
+	 */
+	public interface BatchWrites<T> {
+
+		/**
+		 * @param batch
+		 * @param entity
+		 * @param fbKey
+		 *            The FirebaseKey the entity is written at
+		 * @param added
+		 *            true if the entity was not found in Firebase
+		 * @return false if the writes cannot be made yet, which fails the
+		 *         whole batch
+		 */
+		public boolean addWrites(FirebaseBatchWriter batch, T entity,
+				String fbKey, boolean added) throws FirebaseException;
+
+	}
+
+	/* Firebase push key alphabet, in ASCII order */
+	private static final String PUSH_CHARS =
+			"-0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ_abcdefghijklmnopqrstuvwxyz";
+
+	/**
+	 * Writes the entity as a JSON object. Streaming mappers write it straight
+	 * to the request body, other mappers go through toMap.
+	 * 
+	 * @param entity
+	 * @param extraFields
+	 *            Fields to write besides the mapped ones
+	 * @return A JsonWriter for the FirebaseClient
+	 */
+	@SuppressWarnings("unchecked")
+	protected final FirebaseClient.JsonWriter toJson(T entity,
+			Map<String, Object> extraFields) {
+		if (mapper instanceof FirebaseStreamingMapper) {
+			FirebaseStreamingMapper<T> streamingMapper =
+					(FirebaseStreamingMapper<T>) mapper;
+			return generator -> {
+				generator.writeStartObject();
+				streamingMapper.writeFields(entity, generator);
+				for (Map.Entry<String, Object> e : extraFields.entrySet()) {
+					generator.writeObjectField(e.getKey(), e.getValue());
+				}
+				generator.writeEndObject();
+			};
+		}
+		return generator -> {
+			Map<String, Object> entityMap = mapper.toMap(entity);
+			entityMap.putAll(extraFields);
+			generator.writeObject(entityMap);
+		};
+	}
+
+	protected final FirebaseClient.JsonWriter toJson(T entity) {
+		return toJson(entity, Collections.<String, Object> emptyMap());
+	}
 
 	/**
 	 * Checks whether synchronization is enabled at portlet.properties
@@ -612,16 +965,68 @@ public abstract class FirebaseService<T extends BaseModel<T>> {
 	}
 
 	/**
-	 * Wraps a Callable object and executes it concurrently
+	 * Adapts a Future to a CompletionStage. Futures created by this service
+	 * already are stages, so only foreign futures need a thread to wait for
+	 * them.
+	 * 
+	 * @param future
+	 *            Future object to adapt, may be null
+	 * @return A stage completing with the future, or null if future is null
+	 */
+	protected CompletionStage<?> toStage(Future<?> future) {
+		if (future == null) {
+			return null;
+		}
+		if (future instanceof CompletionStage) {
+			return (CompletionStage<?>) future;
+		}
+		return asyncWrapper(null, () -> waitFor(future));
+	}
+
+	/**
+	 * Wraps a Callable object and executes it concurrently on the shared
+	 * FirebaseExecutor
 	 * 
 	 * @param task
 	 *            The task to run
 	 * @return A 'future' promise with the result of the task given
 	 */
 	protected <S> Future<S> asyncWrapper(Callable<S> task) {
-		Future<S> future = executor.submit(task);
-		//executor.shutdown();
-		return future;
+		return asyncWrapper(null, task);
+	}
+
+	/**
+	 * Runs a Callable object on the shared FirebaseExecutor once previousStage
+	 * has completed. No thread is blocked while waiting; a failed previous
+	 * stage is logged and the task still runs, as waitFor does.
+	 * 
+	 * @param previousStage
+	 *            Stage to complete before the task is run, may be null
+	 * @param task
+	 *            The task to run
+	 * @return A stage with the result of the task given
+	 */
+	protected <S> CompletableFuture<S> asyncWrapper(
+			CompletionStage<?> previousStage, Callable<S> task) {
+		if (previousStage == null) {
+			return supplyAsync(task);
+		}
+		return previousStage.handle((result, t) -> {
+			if (t != null) {
+				_log.error("Previous method error: " + t.getMessage());
+			}
+			return null;
+		}).thenCompose(result -> supplyAsync(task)).toCompletableFuture();
+	}
+
+	private <S> CompletableFuture<S> supplyAsync(Callable<S> task) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return task.call();
+			} catch (Exception e) {
+				throw new CompletionException(e);
+			}
+		}, FirebaseExecutor.getInstance());
 	}
 
 	protected final Log _log = LogFactoryUtil.getLog(this.getClass());
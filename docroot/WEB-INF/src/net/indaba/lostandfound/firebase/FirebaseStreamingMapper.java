@@ -0,0 +1,28 @@
+package net.indaba.lostandfound.firebase;
+
+import java.io.IOException;
+
+import org.codehaus.jackson.JsonGenerator;
+
+import com.liferay.portal.kernel.model.BaseModel;
+
+/**
+ * A FirebaseMapper that can also write an entity straight to the request body,
+ * without building the intermediate map. FirebaseServices use writeFields
+ * whenever their mapper implements it.
+ */
+public interface FirebaseStreamingMapper<T extends BaseModel<T>> extends
+		FirebaseMapper<T> {
+
+	/**
+	 * Writes the fields of the entity into the JSON object currently open in
+	 * the generator. The id and _liferay fields are added by the service and
+	 * must not be written here.
+	 * 
+	 * @param entity
+	 * @param generator
+	 */
+	public void writeFields(T entity, JsonGenerator generator)
+			throws IOException;
+
+}
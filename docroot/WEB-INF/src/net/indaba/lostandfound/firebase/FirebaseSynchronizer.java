@@ -1,14 +1,14 @@
 package net.indaba.lostandfound.firebase;
 
-import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.liferay.portal.kernel.model.BaseModel;
 import com.liferay.util.portlet.PortletProps;
 
 import net.thegreshams.firebase4j.error.FirebaseException;
-import net.thegreshams.firebase4j.service.Firebase;
 
 public class FirebaseSynchronizer {
 
@@ -16,6 +16,9 @@ public class FirebaseSynchronizer {
 
 	private Map<Class<?>, FirebaseService<?>> firebaseServices = 
 			new LinkedHashMap<Class<?>, FirebaseService<?>>();
+
+	private Map<String, FirebaseOutboxHandler<?>> outboxHandlers =
+			new LinkedHashMap<String, FirebaseOutboxHandler<?>>();
 	
 	private FirebaseSynchronizer() {
 		super();
@@ -43,11 +46,27 @@ public class FirebaseSynchronizer {
 			return null;
 	}
 	
+	public <T extends BaseModel<T>> void addOutboxHandler(Class<T> clazz,
+			FirebaseOutboxHandler<T> handler) {
+		outboxHandlers.put(clazz.getName(), handler);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T extends BaseModel<T>> FirebaseOutboxHandler<T> getOutboxHandler(
+			String className) {
+		return (FirebaseOutboxHandler<T>) outboxHandlers.get(className);
+	}
+
+	/* In the order the handlers were added */
+	public List<String> getOutboxClassNames() {
+		return new ArrayList<String>(outboxHandlers.keySet());
+	}
+
 	public void resync(long date) {
 		try {
-			Firebase firebase = new Firebase(PortletProps.get("firebase.url") + "/_RESTART");
-			firebase.put(String.valueOf(date));
-		} catch (FirebaseException | UnsupportedEncodingException e) {
+			FirebaseClient.getInstance().put(PortletProps.get("firebase.url")
+					+ "/_RESTART", date);
+		} catch (FirebaseException e) {
 			e.printStackTrace();
 		}
 	}
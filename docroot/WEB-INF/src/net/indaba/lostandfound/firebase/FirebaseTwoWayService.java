@@ -1,14 +1,13 @@
 package net.indaba.lostandfound.firebase;
 
-import java.io.UnsupportedEncodingException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import com.liferay.portal.kernel.model.BaseModel;
 
 import net.thegreshams.firebase4j.error.FirebaseException;
-import net.thegreshams.firebase4j.error.JacksonUtilityException;
 import net.thegreshams.firebase4j.model.FirebaseResponse;
-import net.thegreshams.firebase4j.service.Firebase;
 
 public class FirebaseTwoWayService<T extends BaseModel<T>> extends
 		FirebaseService<T> {
@@ -21,20 +20,21 @@ public class FirebaseTwoWayService<T extends BaseModel<T>> extends
 
 	public String add(T entity) {
 		try {
-			Firebase firebase = new Firebase(getFbURI());
-			Map<String, Object> entityMap = getFbMapper().toMap(entity);
-			entityMap.put(getFbIdField(), entity.getPrimaryKeyObj());
-			FirebaseResponse response = firebase.post(entityMap);
+			Map<String, Object> idField = Collections.singletonMap(
+					getFbIdField(), entity.getPrimaryKeyObj());
+			FirebaseResponse response = FirebaseClient.getInstance().post(
+					getFbURI(), toJson(entity, idField));
 			if (response.getCode() == 200) {
 				_log.debug("Firebase create sucessful");
-				return (String) response.getBody().get("name");
+				String fbKey = (String) response.getBody().get("name");
+				cacheFirebaseKey(entity, fbKey);
+				return fbKey;
 			} else {
 				_log.error("Firebase create unsuccessful. Response code: "
 						+ response.getCode());
 				return null;
 			}
-		} catch (FirebaseException | JacksonUtilityException
-				| UnsupportedEncodingException e) {
+		} catch (FirebaseException e) {
 			_log.error("Firebase create unsuccessful. Error : " + e
 					.getMessage());
 			e.printStackTrace();
@@ -42,13 +42,13 @@ public class FirebaseTwoWayService<T extends BaseModel<T>> extends
 		return null;
 	}
 
-	public String getFirebaseKey(T entity) {
+	protected String findFirebaseKey(T entity) {
 		try {
-			Firebase firebase = new Firebase(getFbURI());
-			firebase.addQuery("orderBy", '"' + getFbIdField() + '"');
-			firebase.addQuery("equalTo", String.valueOf(entity
-					.getPrimaryKeyObj()));
-			FirebaseResponse response = firebase.get();
+			Map<String, String> query = new LinkedHashMap<String, String>();
+			query.put("orderBy", '"' + getFbIdField() + '"');
+			query.put("equalTo", String.valueOf(entity.getPrimaryKeyObj()));
+			FirebaseResponse response = FirebaseClient.getInstance().get(
+					getFbURI(), query);
 			if (response.getCode() == 200) {
 				Map<String, Object> responseMap = response.getBody();
 				Object[] keys = responseMap.keySet().toArray();
@@ -61,7 +61,7 @@ public class FirebaseTwoWayService<T extends BaseModel<T>> extends
 				_log.error("Firebase get key unsuccessfull. Error: " + response
 						.getCode() + " " + response.getBody().get("error"));
 			}
-		} catch (FirebaseException | UnsupportedEncodingException e) {
+		} catch (FirebaseException e) {
 			e.printStackTrace();
 		}
 		return null;
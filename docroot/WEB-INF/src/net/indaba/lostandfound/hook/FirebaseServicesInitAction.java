@@ -1,33 +1,46 @@
 package net.indaba.lostandfound.hook;
 
-import java.io.UnsupportedEncodingException;
+import java.io.IOException;
 import java.sql.Blob;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.codehaus.jackson.JsonGenerator;
 
 import com.liferay.asset.kernel.model.AssetCategory;
-import com.liferay.asset.kernel.model.AssetTag;
-import com.liferay.asset.kernel.service.AssetTagLocalServiceUtil;
+import com.liferay.asset.kernel.model.AssetEntry;
+import com.liferay.asset.kernel.service.AssetCategoryLocalServiceUtil;
+import com.liferay.asset.kernel.service.AssetEntryLocalServiceUtil;
 import com.liferay.message.boards.kernel.model.MBMessage;
 import com.liferay.message.boards.kernel.service.MBMessageLocalServiceUtil;
+import com.liferay.portal.kernel.dao.jdbc.OutputBlob;
 import com.liferay.portal.kernel.events.ActionException;
 import com.liferay.portal.kernel.events.SimpleAction;
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayInputStream;
 import com.liferay.portal.kernel.model.Group;
+import com.liferay.portal.kernel.service.GroupLocalServiceUtil;
 import com.liferay.util.portlet.PortletProps;
 
+import net.indaba.lostandfound.firebase.FirebaseBlobStreamer;
+import net.indaba.lostandfound.firebase.FirebaseClient;
 import net.indaba.lostandfound.firebase.FirebaseMapper;
+import net.indaba.lostandfound.firebase.FirebaseOutboxHandler;
 import net.indaba.lostandfound.firebase.FirebaseService;
 import net.indaba.lostandfound.firebase.FirebaseServiceFactory;
+import net.indaba.lostandfound.firebase.FirebaseStreamingMapper;
 import net.indaba.lostandfound.firebase.FirebaseSynchronizer;
 import net.indaba.lostandfound.model.Item;
 import net.indaba.lostandfound.model.LFImage;
 import net.indaba.lostandfound.service.ItemLocalServiceUtil;
+import net.indaba.lostandfound.service.LFImageLocalServiceUtil;
 import net.thegreshams.firebase4j.error.FirebaseException;
-import net.thegreshams.firebase4j.error.JacksonUtilityException;
 import net.thegreshams.firebase4j.model.FirebaseResponse;
-import net.thegreshams.firebase4j.service.Firebase;
 
 public class FirebaseServicesInitAction extends SimpleAction {
 
@@ -99,19 +112,19 @@ public class FirebaseServicesInitAction extends SimpleAction {
 		public String add(Item item) {
 			try {
 				String itemType = getItemType(item);
-				Firebase firebase = new Firebase(getFbURI() + "/" + itemType);
-				Map<String, Object> entityMap = getFbMapper().toMap(item);
-				FirebaseResponse response = firebase.post(entityMap);
+				FirebaseResponse response = FirebaseClient.getInstance().post(
+						getFbURI() + "/" + itemType, toJson(item));
 				if (response.getCode() == 200) {
 					_log.debug("Firebase create sucessful");
-					return (String) response.getBody().get("name");
+					String fbKey = (String) response.getBody().get("name");
+					cacheFirebaseKey(item, itemType + "/" + fbKey);
+					return fbKey;
 				} else {
 					_log.error("Firebase create unsuccessful. Response code: "
 							+ response.getCode());
 					return null;
 				}
-			} catch (FirebaseException | JacksonUtilityException
-					| UnsupportedEncodingException e) {
+			} catch (FirebaseException e) {
 				_log.error("Firebase create unsuccessful. Error : "
 						+ e.getMessage());
 				e.printStackTrace();
@@ -119,15 +132,30 @@ public class FirebaseServicesInitAction extends SimpleAction {
 			return null;
 		}
 
+		@Override
+		protected String newFirebaseKey(Item item) {
+			return getItemType(item) + "/" + super.newFirebaseKey(item);
+		}
+
+		@Override
 		public String getFirebaseKey(Item item) {
+			String fbKey = super.getFirebaseKey(item);
+			/* A type change moves the item to the other subtree */
+			if (fbKey != null && !fbKey.startsWith(getItemType(item) + "/")) {
+				evictFirebaseKey(item);
+				fbKey = super.getFirebaseKey(item);
+			}
+			return fbKey;
+		}
+
+		protected String findFirebaseKey(Item item) {
 			try {
 				String itemType = getItemType(item);
-				Firebase firebase = new Firebase(getFbURI() + "/" + itemType);
-
-				firebase.addQuery("orderBy", '"' + getFbIdField() + '"');
-				firebase.addQuery("equalTo",
-						String.valueOf(item.getPrimaryKeyObj()));
-				FirebaseResponse response = firebase.get();
+				Map<String, String> query = new HashMap<String, String>();
+				query.put("orderBy", '"' + getFbIdField() + '"');
+				query.put("equalTo", String.valueOf(item.getPrimaryKeyObj()));
+				FirebaseResponse response = FirebaseClient.getInstance().get(
+						getFbURI() + "/" + itemType, query);
 				if (response.getCode() == 200) {
 					Map<String, Object> responseMap = response.getBody();
 					Object[] keys = responseMap.keySet().toArray();
@@ -141,7 +169,7 @@ public class FirebaseServicesInitAction extends SimpleAction {
 							+ response.getCode() + " "
 							+ response.getBody().get("error"));
 				}
-			} catch (FirebaseException | UnsupportedEncodingException e) {
+			} catch (FirebaseException e) {
 				e.printStackTrace();
 			}
 			return null;
@@ -185,27 +213,86 @@ public class FirebaseServicesInitAction extends SimpleAction {
 			.createService(FirebaseServiceFactory.SYNC_TYPE.ONE_WAY, "category",
 					"categories", catMapper);
 
-	private FirebaseMapper<LFImage> imgMapper = new FirebaseMapper<LFImage>() {
+	private FirebaseMapper<LFImage> imgMapper = new FirebaseStreamingMapper<LFImage>() {
 
+		/* Same fields as writeFields, which is used for every write */
 		public Map<String, Object> toMap(LFImage image) {
-			Map<String, Object> imageMap = image.getModelAttributes();
-			imageMap.remove("lfImageId");
-			imageMap.put("id", image.getPrimaryKey());
+			Map<String, Object> imageMap = new HashMap<String, Object>();
+			imageMap.put("uuid", image.getUuid());
+			imageMap.put("itemId", image.getItemId());
+			imageMap.put("createDate", image.getCreateDate());
+			imageMap.put("contentType", image.getImageContentType());
+			imageMap.put("size", image.getSize());
 			try {
-				Blob imageBlob = image.getImage();
-				byte[] b = imageBlob.getBytes(1, (int) imageBlob.length());
-				String imageString = "data:image/jpeg;base64,";
-				imageString += new String(b);
-				imageMap.replace("image", imageString);
-			} catch (SQLException e) {
+				imageMap.put("image", image.toDataURI());
+			} catch (IOException | SQLException e) {
 				e.printStackTrace();
 			}
 			return imageMap;
 		}
 
-		public LFImage parseMap(Map<String, Object> entityMap) {
-			// TODO implement method body
-			return null;
+		public void writeFields(LFImage image, JsonGenerator generator)
+				throws IOException {
+			generator.writeStringField("uuid", image.getUuid());
+			generator.writeNumberField("itemId", image.getItemId());
+			if (image.getCreateDate() == null) {
+				generator.writeNullField("createDate");
+			} else {
+				generator.writeNumberField("createDate", image.getCreateDate()
+						.getTime());
+			}
+			generator.writeStringField("contentType", image
+					.getImageContentType());
+			generator.writeNumberField("size", image.getSize());
+			Blob imageBlob = image.getImage();
+			if (imageBlob == null) {
+				generator.writeNullField("image");
+				return;
+			}
+			generator.writeFieldName("image");
+			FirebaseBlobStreamer.getInstance().writeBase64Value(generator,
+					"data:" + image.getImageContentType() + ";base64,",
+					imageBlob);
+		}
+
+		public LFImage parseMap(Map<String, Object> imageMap) {
+			LFImage image;
+			Object o = imageMap.get("id");
+			if (o == null) {
+				image = LFImageLocalServiceUtil.createLFImage(0);
+				image.setNew(true);
+			} else {
+				image = LFImageLocalServiceUtil.createLFImage(Long.valueOf(o
+						.toString()));
+				image.setNew(false);
+			}
+			o = imageMap.get("uuid");
+			if (o != null) {
+				image.setUuid(o.toString());
+			}
+			o = imageMap.get("itemId");
+			if (o != null) {
+				image.setItemId(Long.valueOf(o.toString()));
+			}
+			o = imageMap.get("createDate");
+			if (o != null) {
+				image.setCreateDate(new Date(Long.valueOf(o.toString())));
+			}
+			o = imageMap.get("contentType");
+			if (o != null) {
+				image.setContentType(o.toString());
+			}
+			o = imageMap.get("image");
+			if (o != null) {
+				/* A data URI, the column holds the decoded bytes */
+				String dataURI = o.toString();
+				byte[] bytes = Base64.getDecoder().decode(dataURI.substring(
+						dataURI.indexOf(',') + 1));
+				image.setSize(bytes.length);
+				image.setImage(new OutputBlob(new UnsyncByteArrayInputStream(
+						bytes), bytes.length));
+			}
+			return image;
 		}
 
 	};
@@ -225,7 +312,7 @@ public class FirebaseServicesInitAction extends SimpleAction {
 		};
 
 		public Group parseMap(Map<String, Object> entityMap) {
-			// TODO implement method body
+			// Never used, offices are only replicated to Firebase
 			return null;
 		}
 	};
@@ -298,6 +385,198 @@ public class FirebaseServicesInitAction extends SimpleAction {
 			.createService(FirebaseServiceFactory.SYNC_TYPE.TWO_WAY, "message",
 					"messages", msgMapper);
 
+	private FirebaseOutboxHandler<Item> itemHandler = new FirebaseOutboxHandler<Item>() {
+
+		public Item fetchEntity(long classPK) {
+			return ItemLocalServiceUtil.fetchItem(classPK);
+		}
+
+		/* The type tells which subtree the item lives in */
+		public String getPayload(Item item) {
+			return item.getType();
+		}
+
+		public Item getDeletedEntity(long classPK, String payload) {
+			Item item = ItemLocalServiceUtil.createItem(classPK);
+			item.setType(payload);
+			return item;
+		}
+
+		public CompletableFuture<Boolean> update(Item item) {
+			CompletableFuture<String> fbKey = fbItemService.addOrUpdateAsync(
+					item, null);
+			AssetCategory category = null;
+			AssetEntry assetEntry = AssetEntryLocalServiceUtil.fetchEntry(
+					Item.class.getName(), item.getItemId());
+			if (assetEntry != null) {
+				List<AssetCategory> categories = AssetCategoryLocalServiceUtil
+						.getAssetEntryAssetCategories(assetEntry.getEntryId());
+				if (!categories.isEmpty())
+					category = categories.get(0);
+			}
+			return fbKey.thenCombine(fbItemService.setRelationManyToOneAsync(
+					item, category, fbCatService, fbKey), (k, r) -> k != null
+							&& r);
+		}
+
+		/* Items and their category references are written at once */
+		public CompletableFuture<Boolean> updateAll(List<Item> items) {
+			long[] itemIds = new long[items.size()];
+			for (int i = 0; i < itemIds.length; i++) {
+				itemIds[i] = items.get(i).getItemId();
+			}
+			Map<Long, List<AssetCategory>> itemsCategories = ItemLocalServiceUtil
+					.getItemsCategories(itemIds);
+			return fbItemService.addOrUpdateAllAsync(items, (batch, item,
+					fbKey, added) -> {
+				List<AssetCategory> categories = itemsCategories.get(item
+						.getItemId());
+				AssetCategory category = categories != null && !categories
+						.isEmpty() ? categories.get(0) : null;
+				return fbItemService.setReferenceManyToOne(batch, fbKey,
+						added, category, fbCatService);
+			}, null);
+		}
+
+		public CompletableFuture<Boolean> delete(Item item) {
+			CompletableFuture<Boolean> result = fbItemService
+					.setRelationManyToOneAsync(item, null, fbCatService, null);
+			return fbItemService.deleteAsync(item, result);
+		}
+
+	};
+
+	private FirebaseOutboxHandler<AssetCategory> catHandler = new FirebaseOutboxHandler<AssetCategory>() {
+
+		public AssetCategory fetchEntity(long classPK) {
+			return AssetCategoryLocalServiceUtil.fetchAssetCategory(classPK);
+		}
+
+		public String getPayload(AssetCategory category) {
+			return null;
+		}
+
+		public AssetCategory getDeletedEntity(long classPK, String payload) {
+			return AssetCategoryLocalServiceUtil.createAssetCategory(classPK);
+		}
+
+		public CompletableFuture<Boolean> update(AssetCategory category) {
+			CompletableFuture<String> fbKey = fbCatService.addOrUpdateAsync(
+					category, null);
+			List<AssetEntry> assetEntries = AssetEntryLocalServiceUtil
+					.getAssetCategoryAssetEntries(category.getCategoryId());
+			List<Item> items = new ArrayList<Item>();
+			for (AssetEntry ae : assetEntries) {
+				if (ae.getClassName().equals(Item.class.getName())) {
+					Item item = ItemLocalServiceUtil.fetchItem(ae.getClassPK());
+					if (item != null)
+						items.add(item);
+				}
+			}
+			return fbKey.thenCombine(fbCatService.setRelationOneToManyAsync(
+					category, items, fbItemService, fbKey), (k, r) -> k != null
+							&& r);
+		}
+
+		public CompletableFuture<Boolean> delete(AssetCategory category) {
+			CompletableFuture<Boolean> result = fbCatService
+					.setRelationOneToManyAsync(category,
+							new ArrayList<Item>(), fbItemService, null);
+			return fbCatService.deleteAsync(category, result);
+		}
+
+	};
+
+	private FirebaseOutboxHandler<LFImage> imageHandler = new FirebaseOutboxHandler<LFImage>() {
+
+		public LFImage fetchEntity(long classPK) {
+			return LFImageLocalServiceUtil.fetchLFImage(classPK);
+		}
+
+		public String getPayload(LFImage image) {
+			return null;
+		}
+
+		public LFImage getDeletedEntity(long classPK, String payload) {
+			return LFImageLocalServiceUtil.createLFImage(classPK);
+		}
+
+		public CompletableFuture<Boolean> update(LFImage image) {
+			/* addOrUpdate keeps retries from posting the image twice */
+			CompletableFuture<String> fbKey = fbImageService.addOrUpdateAsync(
+					image, null);
+			Item item = ItemLocalServiceUtil.fetchItem(image.getItemId());
+			return fbKey.thenCombine(fbImageService.setRelationManyToOneAsync(
+					image, item, fbItemService, fbKey), (k, r) -> k != null
+							&& r);
+		}
+
+		public CompletableFuture<Boolean> delete(LFImage image) {
+			CompletableFuture<Boolean> result = fbImageService
+					.setRelationManyToOneAsync(image, null, fbItemService,
+							null);
+			return fbImageService.deleteAsync(image, result);
+		}
+
+	};
+
+	private FirebaseOutboxHandler<Group> groupHandler = new FirebaseOutboxHandler<Group>() {
+
+		public Group fetchEntity(long classPK) {
+			return GroupLocalServiceUtil.fetchGroup(classPK);
+		}
+
+		public String getPayload(Group group) {
+			return null;
+		}
+
+		public Group getDeletedEntity(long classPK, String payload) {
+			return GroupLocalServiceUtil.createGroup(classPK);
+		}
+
+		public CompletableFuture<Boolean> update(Group group) {
+			return fbGroupService.addOrUpdateAsync(group, null).thenApply(
+					k -> k != null);
+		}
+
+		public CompletableFuture<Boolean> delete(Group group) {
+			return fbGroupService.deleteAsync(group, null);
+		}
+
+	};
+
+	private FirebaseOutboxHandler<MBMessage> msgHandler = new FirebaseOutboxHandler<MBMessage>() {
+
+		public MBMessage fetchEntity(long classPK) {
+			return MBMessageLocalServiceUtil.fetchMBMessage(classPK);
+		}
+
+		public String getPayload(MBMessage message) {
+			return null;
+		}
+
+		public MBMessage getDeletedEntity(long classPK, String payload) {
+			return MBMessageLocalServiceUtil.createMBMessage(classPK);
+		}
+
+		public CompletableFuture<Boolean> update(MBMessage message) {
+			CompletableFuture<String> fbKey = fbMsgService.addOrUpdateAsync(
+					message, null);
+			Item item = ItemLocalServiceUtil.fetchItem(message.getClassPK());
+			return fbKey.thenCombine(fbMsgService.setRelationManyToOneAsync(
+					message, item, fbItemService, fbKey), (k, r) -> k != null
+							&& r);
+		}
+
+		public CompletableFuture<Boolean> delete(MBMessage message) {
+			CompletableFuture<Boolean> result = fbMsgService
+					.setRelationManyToOneAsync(message, null, fbItemService,
+							null);
+			return fbMsgService.deleteAsync(message, result);
+		}
+
+	};
+
 	@Override
 	public void run(String[] arg0) throws ActionException {
 		FirebaseSynchronizer fbs = FirebaseSynchronizer.getInstance();
@@ -306,6 +585,12 @@ public class FirebaseServicesInitAction extends SimpleAction {
 		fbs.addService(AssetCategory.class, fbCatService);
 		fbs.addService(Group.class, fbGroupService);
 		fbs.addService(MBMessage.class, fbMsgService);
+		/* Parents first, the outbox is replicated in this order */
+		fbs.addOutboxHandler(Group.class, groupHandler);
+		fbs.addOutboxHandler(AssetCategory.class, catHandler);
+		fbs.addOutboxHandler(Item.class, itemHandler);
+		fbs.addOutboxHandler(LFImage.class, imageHandler);
+		fbs.addOutboxHandler(MBMessage.class, msgHandler);
 		fbs.resync(-1);
 	}
 
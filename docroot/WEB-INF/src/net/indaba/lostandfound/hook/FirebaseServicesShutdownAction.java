@@ -0,0 +1,23 @@
+package net.indaba.lostandfound.hook;
+
+import com.liferay.portal.kernel.events.ActionException;
+import com.liferay.portal.kernel.events.SimpleAction;
+
+import net.indaba.lostandfound.asset.indexer.ItemIndexBuffer;
+import net.indaba.lostandfound.firebase.FirebaseClient;
+import net.indaba.lostandfound.firebase.FirebaseExecutor;
+import net.indaba.lostandfound.util.ItemMatchQueue;
+import net.indaba.lostandfound.util.cache.ItemOffHeapCache;
+
+public class FirebaseServicesShutdownAction extends SimpleAction {
+
+	@Override
+	public void run(String[] arg0) throws ActionException {
+		FirebaseExecutor.shutdown();
+		FirebaseClient.shutdown();
+		ItemIndexBuffer.shutdown();
+		ItemMatchQueue.shutdown();
+		ItemOffHeapCache.shutdown();
+	}
+
+}
@@ -6,6 +6,7 @@ import com.liferay.portal.kernel.model.Group;
 
 import net.indaba.lostandfound.firebase.FirebaseService;
 import net.indaba.lostandfound.firebase.FirebaseSynchronizer;
+import net.indaba.lostandfound.service.FirebaseOutboxEntryLocalServiceUtil;
 
 public class LFGroupModelListener extends BaseModelListener<Group> {
 
@@ -21,7 +22,7 @@ public class LFGroupModelListener extends BaseModelListener<Group> {
 	@Override
 	public void onAfterCreate(Group group) throws ModelListenerException {
 		if (updateFirebase(group)) {
-			getFbService().add(group);
+			FirebaseOutboxEntryLocalServiceUtil.addUpdateEntry(group);
 		}
 		super.onAfterCreate(group);
 	}
@@ -29,7 +30,7 @@ public class LFGroupModelListener extends BaseModelListener<Group> {
 	@Override
 	public void onAfterUpdate(Group group) throws ModelListenerException {
 		if (updateFirebase(group)) {
-			getFbService().update(group);
+			FirebaseOutboxEntryLocalServiceUtil.addUpdateEntry(group);
 		}
 		super.onAfterUpdate(group);
 	}
@@ -37,7 +38,7 @@ public class LFGroupModelListener extends BaseModelListener<Group> {
 	@Override
 	public void onAfterRemove(Group group) throws ModelListenerException {
 		if (updateFirebase(group)) {
-			getFbService().delete(group);
+			FirebaseOutboxEntryLocalServiceUtil.addDeleteEntry(group);
 		}
 		super.onAfterRemove(group);
 	}
@@ -1,7 +1,5 @@
 package net.indaba.lostandfound.hook;
 
-import java.util.concurrent.Future;
-
 import com.liferay.message.boards.kernel.model.MBMessage;
 import com.liferay.message.boards.kernel.model.MBMessageDisplay;
 import com.liferay.message.boards.kernel.model.MBThread;
@@ -21,7 +19,7 @@ import com.liferay.portal.kernel.workflow.WorkflowConstants;
 import net.indaba.lostandfound.firebase.FirebaseService;
 import net.indaba.lostandfound.firebase.FirebaseSynchronizer;
 import net.indaba.lostandfound.model.Item;
-import net.indaba.lostandfound.service.ItemLocalServiceUtil;
+import net.indaba.lostandfound.service.FirebaseOutboxEntryLocalServiceUtil;
 
 public class LFMBMessageLocalService extends MBMessageLocalServiceWrapper {
 
@@ -98,12 +96,7 @@ public class LFMBMessageLocalService extends MBMessageLocalServiceWrapper {
 				message.getPrimaryKey(), false, true, true);
 
 		if (updateFirebase(message, serviceContext) && !isThemeDisplayNull) {
-			Future<String> fbKey = getFbService().add(message, null);
-			Item item = ItemLocalServiceUtil.fetchItem(message.getClassPK());
-			FirebaseService<Item> fbItemService = FirebaseSynchronizer
-					.getInstance().getService(Item.class);
-			getFbService().setRelationManyToOne(message, item, fbItemService,
-					fbKey);
+			FirebaseOutboxEntryLocalServiceUtil.addUpdateEntry(message);
 		}
 		return message;
 	}
@@ -137,12 +130,7 @@ public class LFMBMessageLocalService extends MBMessageLocalServiceWrapper {
 				classPK, subject, body,
 				serviceContext);
 		if (updateFirebase(message, serviceContext) && !isThemeDisplayNull) {
-			Future<String> fbKey = getFbService().update(message, null);
-			Item item = ItemLocalServiceUtil.fetchItem(message.getClassPK());
-			FirebaseService<Item> fbItemService = FirebaseSynchronizer
-					.getInstance().getService(Item.class);
-			getFbService().setRelationManyToOne(message, item, fbItemService,
-					fbKey);
+			FirebaseOutboxEntryLocalServiceUtil.addUpdateEntry(message);
 		}
 		return message;
 	}
@@ -150,11 +138,7 @@ public class LFMBMessageLocalService extends MBMessageLocalServiceWrapper {
 	@Override
 	public MBMessage deleteMessage(MBMessage message) throws PortalException {
 		if (updateFirebase(message, null)) {
-			FirebaseService<Item> fbItemService = FirebaseSynchronizer
-					.getInstance().getService(Item.class);
-			Future<Boolean> result = getFbService().setRelationManyToOne(message,
-					null, fbItemService, null);
-			getFbService().delete(message, result);
+			FirebaseOutboxEntryLocalServiceUtil.addDeleteEntry(message);
 		}
 		return super.deleteMessage(message);
 	}
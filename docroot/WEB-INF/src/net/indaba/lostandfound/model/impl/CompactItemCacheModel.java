@@ -0,0 +1,60 @@
+package net.indaba.lostandfound.model.impl;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import net.indaba.lostandfound.util.cache.ItemCacheModelCodec;
+
+/**
+ * ItemCacheModel externalized in the compact format of ItemCacheModelCodec.
+ * ItemImpl hands it to the entity cache, so it is also the form in which
+ * items are replicated to the other nodes of the cluster.
+ */
+public class CompactItemCacheModel extends ItemCacheModel {
+
+	private static final ItemCacheModelCodec CODEC = new ItemCacheModelCodec();
+
+	public CompactItemCacheModel() {
+		super();
+	}
+
+	public CompactItemCacheModel(ItemCacheModel cacheModel) {
+		super();
+		uuid = cacheModel.uuid;
+		itemId = cacheModel.itemId;
+		groupId = cacheModel.groupId;
+		companyId = cacheModel.companyId;
+		userId = cacheModel.userId;
+		createDate = cacheModel.createDate;
+		modifiedDate = cacheModel.modifiedDate;
+		publishDate = cacheModel.publishDate;
+		objectId = cacheModel.objectId;
+		name = cacheModel.name;
+		type = cacheModel.type;
+		description = cacheModel.description;
+		lat = cacheModel.lat;
+		lng = cacheModel.lng;
+	}
+
+	public void write(DataOutput out) throws IOException {
+		CODEC.write(this, out);
+	}
+
+	public void read(DataInput in) throws IOException {
+		CODEC.read(in, this);
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput objectOutput) throws IOException {
+		write(objectOutput);
+	}
+
+	@Override
+	public void readExternal(ObjectInput objectInput) throws IOException {
+		read(objectInput);
+	}
+
+}
@@ -0,0 +1,42 @@
+package net.indaba.lostandfound.model.impl;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import net.indaba.lostandfound.util.cache.LFImageCacheModelCodec;
+
+/**
+ * LFImageCacheModel externalized in the compact format of
+ * LFImageCacheModelCodec
+ */
+public class CompactLFImageCacheModel extends LFImageCacheModel {
+
+	private static final LFImageCacheModelCodec CODEC =
+			new LFImageCacheModelCodec();
+
+	public CompactLFImageCacheModel() {
+		super();
+	}
+
+	public CompactLFImageCacheModel(LFImageCacheModel cacheModel) {
+		super();
+		uuid = cacheModel.uuid;
+		lfImageId = cacheModel.lfImageId;
+		itemId = cacheModel.itemId;
+		createDate = cacheModel.createDate;
+		contentType = cacheModel.contentType;
+		size = cacheModel.size;
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput objectOutput) throws IOException {
+		CODEC.write(this, objectOutput);
+	}
+
+	@Override
+	public void readExternal(ObjectInput objectInput) throws IOException {
+		CODEC.read(objectInput, this);
+	}
+
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import net.indaba.lostandfound.model.FirebaseKey;
+import net.indaba.lostandfound.service.FirebaseKeyLocalServiceUtil;
+
+/**
+ * The extended model base implementation for the FirebaseKey service. Represents a row in the &quot;lfvo_FirebaseKey&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This class exists only as a container for the default extended model level methods generated by ServiceBuilder. Helper methods and all application logic should be put in {@link FirebaseKeyImpl}.
+ * </p>
+ *
+ * @author aritz
+ * @see FirebaseKeyImpl
+ * @see FirebaseKey
+ * @generated
+ */
+@ProviderType
+public abstract class FirebaseKeyBaseImpl extends FirebaseKeyModelImpl
+	implements FirebaseKey {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. All methods that expect a firebase key model instance should use the {@link FirebaseKey} interface instead.
+	 */
+	@Override
+	public void persist() {
+		if (this.isNew()) {
+			FirebaseKeyLocalServiceUtil.addFirebaseKey(this);
+		}
+		else {
+			FirebaseKeyLocalServiceUtil.updateFirebaseKey(this);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.util.HashUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+
+import net.indaba.lostandfound.model.FirebaseKey;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import java.util.Date;
+
+/**
+ * The cache model class for representing FirebaseKey in entity cache.
+ *
+ * @author aritz
+ * @see FirebaseKey
+ * @generated
+ */
+@ProviderType
+public class FirebaseKeyCacheModel implements CacheModel<FirebaseKey>,
+	Externalizable {
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof FirebaseKeyCacheModel)) {
+			return false;
+		}
+
+		FirebaseKeyCacheModel firebaseKeyCacheModel = (FirebaseKeyCacheModel)obj;
+
+		if (firebaseKeyId == firebaseKeyCacheModel.firebaseKeyId) {
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return HashUtil.hash(0, firebaseKeyId);
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(11);
+
+		sb.append("{firebaseKeyId=");
+		sb.append(firebaseKeyId);
+		sb.append(", classNameId=");
+		sb.append(classNameId);
+		sb.append(", classPK=");
+		sb.append(classPK);
+		sb.append(", fbKey=");
+		sb.append(fbKey);
+		sb.append(", modifiedDate=");
+		sb.append(modifiedDate);
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	@Override
+	public FirebaseKey toEntityModel() {
+		FirebaseKeyImpl firebaseKeyImpl = new FirebaseKeyImpl();
+
+		firebaseKeyImpl.setFirebaseKeyId(firebaseKeyId);
+		firebaseKeyImpl.setClassNameId(classNameId);
+		firebaseKeyImpl.setClassPK(classPK);
+
+		if (fbKey == null) {
+			firebaseKeyImpl.setFbKey(StringPool.BLANK);
+		}
+		else {
+			firebaseKeyImpl.setFbKey(fbKey);
+		}
+
+		if (modifiedDate == Long.MIN_VALUE) {
+			firebaseKeyImpl.setModifiedDate(null);
+		}
+		else {
+			firebaseKeyImpl.setModifiedDate(new Date(modifiedDate));
+		}
+
+		firebaseKeyImpl.resetOriginalValues();
+
+		return firebaseKeyImpl;
+	}
+
+	@Override
+	public void readExternal(ObjectInput objectInput) throws IOException {
+		firebaseKeyId = objectInput.readLong();
+
+		classNameId = objectInput.readLong();
+
+		classPK = objectInput.readLong();
+		fbKey = objectInput.readUTF();
+		modifiedDate = objectInput.readLong();
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput objectOutput)
+		throws IOException {
+		objectOutput.writeLong(firebaseKeyId);
+
+		objectOutput.writeLong(classNameId);
+
+		objectOutput.writeLong(classPK);
+
+		if (fbKey == null) {
+			objectOutput.writeUTF(StringPool.BLANK);
+		}
+		else {
+			objectOutput.writeUTF(fbKey);
+		}
+
+		objectOutput.writeLong(modifiedDate);
+	}
+
+	public long firebaseKeyId;
+	public long classNameId;
+	public long classPK;
+	public String fbKey;
+	public long modifiedDate;
+}
\ No newline at end of file
@@ -0,0 +1,493 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.expando.kernel.model.ExpandoBridge;
+import com.liferay.expando.kernel.util.ExpandoBridgeFactoryUtil;
+
+import com.liferay.portal.kernel.bean.AutoEscapeBeanHandler;
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.model.impl.BaseModelImpl;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.PortalUtil;
+import com.liferay.portal.kernel.util.ProxyUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Validator;
+
+import net.indaba.lostandfound.model.FirebaseKey;
+import net.indaba.lostandfound.model.FirebaseKeyModel;
+
+import java.io.Serializable;
+
+import java.sql.Types;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The base model implementation for the FirebaseKey service. Represents a row in the &quot;lfvo_FirebaseKey&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This implementation and its corresponding interface {@link FirebaseKeyModel} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link FirebaseKeyImpl}.
+ * </p>
+ *
+ * @author aritz
+ * @see FirebaseKeyImpl
+ * @see FirebaseKey
+ * @see FirebaseKeyModel
+ * @generated
+ */
+@ProviderType
+public class FirebaseKeyModelImpl extends BaseModelImpl<FirebaseKey>
+	implements FirebaseKeyModel {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. All methods that expect a firebase key model instance should use the {@link FirebaseKey} interface instead.
+	 */
+	public static final String TABLE_NAME = "lfvo_FirebaseKey";
+	public static final Object[][] TABLE_COLUMNS = {
+			{ "firebaseKeyId", Types.BIGINT },
+			{ "classNameId", Types.BIGINT },
+			{ "classPK", Types.BIGINT },
+			{ "fbKey", Types.VARCHAR },
+			{ "modifiedDate", Types.TIMESTAMP }
+		};
+	public static final Map<String, Integer> TABLE_COLUMNS_MAP = new HashMap<String, Integer>();
+
+	static {
+		TABLE_COLUMNS_MAP.put("firebaseKeyId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("classNameId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("classPK", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("fbKey", Types.VARCHAR);
+		TABLE_COLUMNS_MAP.put("modifiedDate", Types.TIMESTAMP);
+	}
+
+	public static final String TABLE_SQL_CREATE = "create table lfvo_FirebaseKey (firebaseKeyId LONG not null primary key,classNameId LONG,classPK LONG,fbKey VARCHAR(75) null,modifiedDate DATE null)";
+	public static final String TABLE_SQL_DROP = "drop table lfvo_FirebaseKey";
+	public static final String ORDER_BY_JPQL = " ORDER BY firebaseKey.firebaseKeyId ASC";
+	public static final String ORDER_BY_SQL = " ORDER BY lfvo_FirebaseKey.firebaseKeyId ASC";
+	public static final String DATA_SOURCE = "liferayDataSource";
+	public static final String SESSION_FACTORY = "liferaySessionFactory";
+	public static final String TX_MANAGER = "liferayTransactionManager";
+	public static final boolean ENTITY_CACHE_ENABLED = GetterUtil.getBoolean(com.liferay.util.service.ServiceProps.get(
+				"value.object.entity.cache.enabled.net.indaba.lostandfound.model.FirebaseKey"),
+			true);
+	public static final boolean FINDER_CACHE_ENABLED = GetterUtil.getBoolean(com.liferay.util.service.ServiceProps.get(
+				"value.object.finder.cache.enabled.net.indaba.lostandfound.model.FirebaseKey"),
+			true);
+	public static final boolean COLUMN_BITMASK_ENABLED = GetterUtil.getBoolean(com.liferay.util.service.ServiceProps.get(
+				"value.object.column.bitmask.enabled.net.indaba.lostandfound.model.FirebaseKey"),
+			true);
+	public static final long CLASSNAMEID_COLUMN_BITMASK = 1L;
+	public static final long CLASSPK_COLUMN_BITMASK = 2L;
+	public static final long FIREBASEKEYID_COLUMN_BITMASK = 4L;
+	public static final long LOCK_EXPIRATION_TIME = GetterUtil.getLong(com.liferay.util.service.ServiceProps.get(
+				"lock.expiration.time.net.indaba.lostandfound.model.FirebaseKey"));
+
+	public FirebaseKeyModelImpl() {
+	}
+
+	@Override
+	public long getPrimaryKey() {
+		return _firebaseKeyId;
+	}
+
+	@Override
+	public void setPrimaryKey(long primaryKey) {
+		setFirebaseKeyId(primaryKey);
+	}
+
+	@Override
+	public Serializable getPrimaryKeyObj() {
+		return _firebaseKeyId;
+	}
+
+	@Override
+	public void setPrimaryKeyObj(Serializable primaryKeyObj) {
+		setPrimaryKey(((Long)primaryKeyObj).longValue());
+	}
+
+	@Override
+	public Class<?> getModelClass() {
+		return FirebaseKey.class;
+	}
+
+	@Override
+	public String getModelClassName() {
+		return FirebaseKey.class.getName();
+	}
+
+	@Override
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("firebaseKeyId", getFirebaseKeyId());
+		attributes.put("classNameId", getClassNameId());
+		attributes.put("classPK", getClassPK());
+		attributes.put("fbKey", getFbKey());
+		attributes.put("modifiedDate", getModifiedDate());
+
+		attributes.put("entityCacheEnabled", isEntityCacheEnabled());
+		attributes.put("finderCacheEnabled", isFinderCacheEnabled());
+
+		return attributes;
+	}
+
+	@Override
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long firebaseKeyId = (Long)attributes.get("firebaseKeyId");
+
+		if (firebaseKeyId != null) {
+			setFirebaseKeyId(firebaseKeyId);
+		}
+
+		Long classNameId = (Long)attributes.get("classNameId");
+
+		if (classNameId != null) {
+			setClassNameId(classNameId);
+		}
+
+		Long classPK = (Long)attributes.get("classPK");
+
+		if (classPK != null) {
+			setClassPK(classPK);
+		}
+
+		String fbKey = (String)attributes.get("fbKey");
+
+		if (fbKey != null) {
+			setFbKey(fbKey);
+		}
+
+		Date modifiedDate = (Date)attributes.get("modifiedDate");
+
+		if (modifiedDate != null) {
+			setModifiedDate(modifiedDate);
+		}
+	}
+
+	@Override
+	public long getFirebaseKeyId() {
+		return _firebaseKeyId;
+	}
+
+	@Override
+	public void setFirebaseKeyId(long firebaseKeyId) {
+		_firebaseKeyId = firebaseKeyId;
+	}
+
+	@Override
+	public String getClassName() {
+		if (getClassNameId() <= 0) {
+			return StringPool.BLANK;
+		}
+
+		return PortalUtil.getClassName(getClassNameId());
+	}
+
+	@Override
+	public void setClassName(String className) {
+		long classNameId = 0;
+
+		if (Validator.isNotNull(className)) {
+			classNameId = PortalUtil.getClassNameId(className);
+		}
+
+		setClassNameId(classNameId);
+	}
+
+	@Override
+	public long getClassNameId() {
+		return _classNameId;
+	}
+
+	@Override
+	public void setClassNameId(long classNameId) {
+		_columnBitmask |= CLASSNAMEID_COLUMN_BITMASK;
+
+		if (!_setOriginalClassNameId) {
+			_setOriginalClassNameId = true;
+
+			_originalClassNameId = _classNameId;
+		}
+
+		_classNameId = classNameId;
+	}
+
+	public long getOriginalClassNameId() {
+		return _originalClassNameId;
+	}
+
+	@Override
+	public long getClassPK() {
+		return _classPK;
+	}
+
+	@Override
+	public void setClassPK(long classPK) {
+		_columnBitmask |= CLASSPK_COLUMN_BITMASK;
+
+		if (!_setOriginalClassPK) {
+			_setOriginalClassPK = true;
+
+			_originalClassPK = _classPK;
+		}
+
+		_classPK = classPK;
+	}
+
+	public long getOriginalClassPK() {
+		return _originalClassPK;
+	}
+
+	@Override
+	public String getFbKey() {
+		if (_fbKey == null) {
+			return StringPool.BLANK;
+		}
+		else {
+			return _fbKey;
+		}
+	}
+
+	@Override
+	public void setFbKey(String fbKey) {
+		_fbKey = fbKey;
+	}
+
+	@Override
+	public Date getModifiedDate() {
+		return _modifiedDate;
+	}
+
+	@Override
+	public void setModifiedDate(Date modifiedDate) {
+		_modifiedDate = modifiedDate;
+	}
+
+	public long getColumnBitmask() {
+		return _columnBitmask;
+	}
+
+	@Override
+	public ExpandoBridge getExpandoBridge() {
+		return ExpandoBridgeFactoryUtil.getExpandoBridge(0,
+			FirebaseKey.class.getName(), getPrimaryKey());
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext) {
+		ExpandoBridge expandoBridge = getExpandoBridge();
+
+		expandoBridge.setAttributes(serviceContext);
+	}
+
+	@Override
+	public FirebaseKey toEscapedModel() {
+		if (_escapedModel == null) {
+			_escapedModel = (FirebaseKey)ProxyUtil.newProxyInstance(_classLoader,
+					_escapedModelInterfaces, new AutoEscapeBeanHandler(this));
+		}
+
+		return _escapedModel;
+	}
+
+	@Override
+	public Object clone() {
+		FirebaseKeyImpl firebaseKeyImpl = new FirebaseKeyImpl();
+
+		firebaseKeyImpl.setFirebaseKeyId(getFirebaseKeyId());
+		firebaseKeyImpl.setClassNameId(getClassNameId());
+		firebaseKeyImpl.setClassPK(getClassPK());
+		firebaseKeyImpl.setFbKey(getFbKey());
+		firebaseKeyImpl.setModifiedDate(getModifiedDate());
+
+		firebaseKeyImpl.resetOriginalValues();
+
+		return firebaseKeyImpl;
+	}
+
+	@Override
+	public int compareTo(FirebaseKey firebaseKey) {
+		long primaryKey = firebaseKey.getPrimaryKey();
+
+		if (getPrimaryKey() < primaryKey) {
+			return -1;
+		}
+		else if (getPrimaryKey() > primaryKey) {
+			return 1;
+		}
+		else {
+			return 0;
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof FirebaseKey)) {
+			return false;
+		}
+
+		FirebaseKey firebaseKey = (FirebaseKey)obj;
+
+		long primaryKey = firebaseKey.getPrimaryKey();
+
+		if (getPrimaryKey() == primaryKey) {
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return (int)getPrimaryKey();
+	}
+
+	@Override
+	public boolean isEntityCacheEnabled() {
+		return ENTITY_CACHE_ENABLED;
+	}
+
+	@Override
+	public boolean isFinderCacheEnabled() {
+		return FINDER_CACHE_ENABLED;
+	}
+
+	@Override
+	public void resetOriginalValues() {
+		FirebaseKeyModelImpl firebaseKeyModelImpl = this;
+
+		firebaseKeyModelImpl._originalClassNameId = firebaseKeyModelImpl._classNameId;
+
+		firebaseKeyModelImpl._setOriginalClassNameId = false;
+
+		firebaseKeyModelImpl._originalClassPK = firebaseKeyModelImpl._classPK;
+
+		firebaseKeyModelImpl._setOriginalClassPK = false;
+
+		firebaseKeyModelImpl._columnBitmask = 0;
+	}
+
+	@Override
+	public CacheModel<FirebaseKey> toCacheModel() {
+		FirebaseKeyCacheModel firebaseKeyCacheModel = new FirebaseKeyCacheModel();
+
+		firebaseKeyCacheModel.firebaseKeyId = getFirebaseKeyId();
+
+		firebaseKeyCacheModel.classNameId = getClassNameId();
+
+		firebaseKeyCacheModel.classPK = getClassPK();
+
+		firebaseKeyCacheModel.fbKey = getFbKey();
+
+		String fbKey = firebaseKeyCacheModel.fbKey;
+
+		if ((fbKey != null) && (fbKey.length() == 0)) {
+			firebaseKeyCacheModel.fbKey = null;
+		}
+
+		Date modifiedDate = getModifiedDate();
+
+		if (modifiedDate != null) {
+			firebaseKeyCacheModel.modifiedDate = modifiedDate.getTime();
+		}
+		else {
+			firebaseKeyCacheModel.modifiedDate = Long.MIN_VALUE;
+		}
+
+		return firebaseKeyCacheModel;
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(11);
+
+		sb.append("{firebaseKeyId=");
+		sb.append(getFirebaseKeyId());
+		sb.append(", classNameId=");
+		sb.append(getClassNameId());
+		sb.append(", classPK=");
+		sb.append(getClassPK());
+		sb.append(", fbKey=");
+		sb.append(getFbKey());
+		sb.append(", modifiedDate=");
+		sb.append(getModifiedDate());
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	@Override
+	public String toXmlString() {
+		StringBundler sb = new StringBundler(19);
+
+		sb.append("<model><model-name>");
+		sb.append("net.indaba.lostandfound.model.FirebaseKey");
+		sb.append("</model-name>");
+
+		sb.append(
+			"<column><column-name>firebaseKeyId</column-name><column-value><![CDATA[");
+		sb.append(getFirebaseKeyId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>classNameId</column-name><column-value><![CDATA[");
+		sb.append(getClassNameId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>classPK</column-name><column-value><![CDATA[");
+		sb.append(getClassPK());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>fbKey</column-name><column-value><![CDATA[");
+		sb.append(getFbKey());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>modifiedDate</column-name><column-value><![CDATA[");
+		sb.append(getModifiedDate());
+		sb.append("]]></column-value></column>");
+
+		sb.append("</model>");
+
+		return sb.toString();
+	}
+
+	private static final ClassLoader _classLoader = FirebaseKey.class.getClassLoader();
+	private static final Class<?>[] _escapedModelInterfaces = new Class[] {
+			FirebaseKey.class
+		};
+	private long _firebaseKeyId;
+	private long _classNameId;
+	private long _originalClassNameId;
+	private boolean _setOriginalClassNameId;
+	private long _classPK;
+	private long _originalClassPK;
+	private boolean _setOriginalClassPK;
+	private String _fbKey;
+	private Date _modifiedDate;
+	private long _columnBitmask;
+	private FirebaseKey _escapedModel;
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import net.indaba.lostandfound.model.FirebaseOutboxEntry;
+import net.indaba.lostandfound.service.FirebaseOutboxEntryLocalServiceUtil;
+
+/**
+ * The extended model base implementation for the FirebaseOutboxEntry service. Represents a row in the &quot;lfvo_FirebaseOutboxEntry&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This class exists only as a container for the default extended model level methods generated by ServiceBuilder. Helper methods and all application logic should be put in {@link FirebaseOutboxEntryImpl}.
+ * </p>
+ *
+ * @author aritz
+ * @see FirebaseOutboxEntryImpl
+ * @see FirebaseOutboxEntry
+ * @generated
+ */
+@ProviderType
+public abstract class FirebaseOutboxEntryBaseImpl
+	extends FirebaseOutboxEntryModelImpl implements FirebaseOutboxEntry {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. All methods that expect a firebase outbox entry model instance should use the {@link FirebaseOutboxEntry} interface instead.
+	 */
+	@Override
+	public void persist() {
+		if (this.isNew()) {
+			FirebaseOutboxEntryLocalServiceUtil.addFirebaseOutboxEntry(this);
+		}
+		else {
+			FirebaseOutboxEntryLocalServiceUtil.updateFirebaseOutboxEntry(this);
+		}
+	}
+}
\ No newline at end of file
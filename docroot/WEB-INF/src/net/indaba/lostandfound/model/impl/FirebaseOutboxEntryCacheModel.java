@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.util.HashUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+
+import net.indaba.lostandfound.model.FirebaseOutboxEntry;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import java.util.Date;
+
+/**
+ * The cache model class for representing FirebaseOutboxEntry in entity cache.
+ *
+ * @author aritz
+ * @see FirebaseOutboxEntry
+ * @generated
+ */
+@ProviderType
+public class FirebaseOutboxEntryCacheModel implements CacheModel<FirebaseOutboxEntry>,
+	Externalizable {
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof FirebaseOutboxEntryCacheModel)) {
+			return false;
+		}
+
+		FirebaseOutboxEntryCacheModel firebaseOutboxEntryCacheModel = (FirebaseOutboxEntryCacheModel)obj;
+
+		if (outboxEntryId == firebaseOutboxEntryCacheModel.outboxEntryId) {
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return HashUtil.hash(0, outboxEntryId);
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(19);
+
+		sb.append("{outboxEntryId=");
+		sb.append(outboxEntryId);
+		sb.append(", createDate=");
+		sb.append(createDate);
+		sb.append(", classNameId=");
+		sb.append(classNameId);
+		sb.append(", classPK=");
+		sb.append(classPK);
+		sb.append(", action=");
+		sb.append(action);
+		sb.append(", payload=");
+		sb.append(payload);
+		sb.append(", attempts=");
+		sb.append(attempts);
+		sb.append(", nextAttemptDate=");
+		sb.append(nextAttemptDate);
+		sb.append(", lastError=");
+		sb.append(lastError);
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	@Override
+	public FirebaseOutboxEntry toEntityModel() {
+		FirebaseOutboxEntryImpl firebaseOutboxEntryImpl = new FirebaseOutboxEntryImpl();
+
+		firebaseOutboxEntryImpl.setOutboxEntryId(outboxEntryId);
+
+		if (createDate == Long.MIN_VALUE) {
+			firebaseOutboxEntryImpl.setCreateDate(null);
+		}
+		else {
+			firebaseOutboxEntryImpl.setCreateDate(new Date(createDate));
+		}
+
+		firebaseOutboxEntryImpl.setClassNameId(classNameId);
+		firebaseOutboxEntryImpl.setClassPK(classPK);
+
+		if (action == null) {
+			firebaseOutboxEntryImpl.setAction(StringPool.BLANK);
+		}
+		else {
+			firebaseOutboxEntryImpl.setAction(action);
+		}
+
+		if (payload == null) {
+			firebaseOutboxEntryImpl.setPayload(StringPool.BLANK);
+		}
+		else {
+			firebaseOutboxEntryImpl.setPayload(payload);
+		}
+
+		firebaseOutboxEntryImpl.setAttempts(attempts);
+
+		if (nextAttemptDate == Long.MIN_VALUE) {
+			firebaseOutboxEntryImpl.setNextAttemptDate(null);
+		}
+		else {
+			firebaseOutboxEntryImpl.setNextAttemptDate(new Date(nextAttemptDate));
+		}
+
+		if (lastError == null) {
+			firebaseOutboxEntryImpl.setLastError(StringPool.BLANK);
+		}
+		else {
+			firebaseOutboxEntryImpl.setLastError(lastError);
+		}
+
+		firebaseOutboxEntryImpl.resetOriginalValues();
+
+		return firebaseOutboxEntryImpl;
+	}
+
+	@Override
+	public void readExternal(ObjectInput objectInput) throws IOException {
+		outboxEntryId = objectInput.readLong();
+		createDate = objectInput.readLong();
+
+		classNameId = objectInput.readLong();
+
+		classPK = objectInput.readLong();
+		action = objectInput.readUTF();
+		payload = objectInput.readUTF();
+
+		attempts = objectInput.readInt();
+		nextAttemptDate = objectInput.readLong();
+		lastError = objectInput.readUTF();
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput objectOutput)
+		throws IOException {
+		objectOutput.writeLong(outboxEntryId);
+		objectOutput.writeLong(createDate);
+
+		objectOutput.writeLong(classNameId);
+
+		objectOutput.writeLong(classPK);
+
+		if (action == null) {
+			objectOutput.writeUTF(StringPool.BLANK);
+		}
+		else {
+			objectOutput.writeUTF(action);
+		}
+
+		if (payload == null) {
+			objectOutput.writeUTF(StringPool.BLANK);
+		}
+		else {
+			objectOutput.writeUTF(payload);
+		}
+
+		objectOutput.writeInt(attempts);
+		objectOutput.writeLong(nextAttemptDate);
+
+		if (lastError == null) {
+			objectOutput.writeUTF(StringPool.BLANK);
+		}
+		else {
+			objectOutput.writeUTF(lastError);
+		}
+	}
+
+	public long outboxEntryId;
+	public long createDate;
+	public long classNameId;
+	public long classPK;
+	public String action;
+	public String payload;
+	public int attempts;
+	public long nextAttemptDate;
+	public String lastError;
+}
\ No newline at end of file
@@ -0,0 +1,658 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.expando.kernel.model.ExpandoBridge;
+import com.liferay.expando.kernel.util.ExpandoBridgeFactoryUtil;
+
+import com.liferay.portal.kernel.bean.AutoEscapeBeanHandler;
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.model.impl.BaseModelImpl;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.PortalUtil;
+import com.liferay.portal.kernel.util.ProxyUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Validator;
+
+import net.indaba.lostandfound.model.FirebaseOutboxEntry;
+import net.indaba.lostandfound.model.FirebaseOutboxEntryModel;
+
+import java.io.Serializable;
+
+import java.sql.Types;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The base model implementation for the FirebaseOutboxEntry service. Represents a row in the &quot;lfvo_FirebaseOutboxEntry&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This implementation and its corresponding interface {@link FirebaseOutboxEntryModel} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link FirebaseOutboxEntryImpl}.
+ * </p>
+ *
+ * @author aritz
+ * @see FirebaseOutboxEntryImpl
+ * @see FirebaseOutboxEntry
+ * @see FirebaseOutboxEntryModel
+ * @generated
+ */
+@ProviderType
+public class FirebaseOutboxEntryModelImpl extends BaseModelImpl<FirebaseOutboxEntry>
+	implements FirebaseOutboxEntryModel {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. All methods that expect a firebase outbox entry model instance should use the {@link FirebaseOutboxEntry} interface instead.
+	 */
+	public static final String TABLE_NAME = "lfvo_FirebaseOutboxEntry";
+	public static final Object[][] TABLE_COLUMNS = {
+			{ "outboxEntryId", Types.BIGINT },
+			{ "createDate", Types.TIMESTAMP },
+			{ "classNameId", Types.BIGINT },
+			{ "classPK", Types.BIGINT },
+			{ "action", Types.VARCHAR },
+			{ "payload", Types.VARCHAR },
+			{ "attempts", Types.INTEGER },
+			{ "nextAttemptDate", Types.TIMESTAMP },
+			{ "lastError", Types.VARCHAR }
+		};
+	public static final Map<String, Integer> TABLE_COLUMNS_MAP = new HashMap<String, Integer>();
+
+	static {
+		TABLE_COLUMNS_MAP.put("outboxEntryId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("createDate", Types.TIMESTAMP);
+		TABLE_COLUMNS_MAP.put("classNameId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("classPK", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("action", Types.VARCHAR);
+		TABLE_COLUMNS_MAP.put("payload", Types.VARCHAR);
+		TABLE_COLUMNS_MAP.put("attempts", Types.INTEGER);
+		TABLE_COLUMNS_MAP.put("nextAttemptDate", Types.TIMESTAMP);
+		TABLE_COLUMNS_MAP.put("lastError", Types.VARCHAR);
+	}
+
+	public static final String TABLE_SQL_CREATE = "create table lfvo_FirebaseOutboxEntry (outboxEntryId LONG not null primary key,createDate DATE null,classNameId LONG,classPK LONG,action VARCHAR(75) null,payload VARCHAR(2000) null,attempts INTEGER,nextAttemptDate DATE null,lastError VARCHAR(2000) null)";
+	public static final String TABLE_SQL_DROP = "drop table lfvo_FirebaseOutboxEntry";
+	public static final String ORDER_BY_JPQL = " ORDER BY firebaseOutboxEntry.outboxEntryId ASC";
+	public static final String ORDER_BY_SQL = " ORDER BY lfvo_FirebaseOutboxEntry.outboxEntryId ASC";
+	public static final String DATA_SOURCE = "liferayDataSource";
+	public static final String SESSION_FACTORY = "liferaySessionFactory";
+	public static final String TX_MANAGER = "liferayTransactionManager";
+	public static final boolean ENTITY_CACHE_ENABLED = GetterUtil.getBoolean(com.liferay.util.service.ServiceProps.get(
+				"value.object.entity.cache.enabled.net.indaba.lostandfound.model.FirebaseOutboxEntry"),
+			true);
+	public static final boolean FINDER_CACHE_ENABLED = GetterUtil.getBoolean(com.liferay.util.service.ServiceProps.get(
+				"value.object.finder.cache.enabled.net.indaba.lostandfound.model.FirebaseOutboxEntry"),
+			true);
+	public static final boolean COLUMN_BITMASK_ENABLED = GetterUtil.getBoolean(com.liferay.util.service.ServiceProps.get(
+				"value.object.column.bitmask.enabled.net.indaba.lostandfound.model.FirebaseOutboxEntry"),
+			true);
+	public static final long CLASSNAMEID_COLUMN_BITMASK = 1L;
+	public static final long CLASSPK_COLUMN_BITMASK = 2L;
+	public static final long NEXTATTEMPTDATE_COLUMN_BITMASK = 4L;
+	public static final long OUTBOXENTRYID_COLUMN_BITMASK = 8L;
+	public static final long LOCK_EXPIRATION_TIME = GetterUtil.getLong(com.liferay.util.service.ServiceProps.get(
+				"lock.expiration.time.net.indaba.lostandfound.model.FirebaseOutboxEntry"));
+
+	public FirebaseOutboxEntryModelImpl() {
+	}
+
+	@Override
+	public long getPrimaryKey() {
+		return _outboxEntryId;
+	}
+
+	@Override
+	public void setPrimaryKey(long primaryKey) {
+		setOutboxEntryId(primaryKey);
+	}
+
+	@Override
+	public Serializable getPrimaryKeyObj() {
+		return _outboxEntryId;
+	}
+
+	@Override
+	public void setPrimaryKeyObj(Serializable primaryKeyObj) {
+		setPrimaryKey(((Long)primaryKeyObj).longValue());
+	}
+
+	@Override
+	public Class<?> getModelClass() {
+		return FirebaseOutboxEntry.class;
+	}
+
+	@Override
+	public String getModelClassName() {
+		return FirebaseOutboxEntry.class.getName();
+	}
+
+	@Override
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("outboxEntryId", getOutboxEntryId());
+		attributes.put("createDate", getCreateDate());
+		attributes.put("classNameId", getClassNameId());
+		attributes.put("classPK", getClassPK());
+		attributes.put("action", getAction());
+		attributes.put("payload", getPayload());
+		attributes.put("attempts", getAttempts());
+		attributes.put("nextAttemptDate", getNextAttemptDate());
+		attributes.put("lastError", getLastError());
+
+		attributes.put("entityCacheEnabled", isEntityCacheEnabled());
+		attributes.put("finderCacheEnabled", isFinderCacheEnabled());
+
+		return attributes;
+	}
+
+	@Override
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long outboxEntryId = (Long)attributes.get("outboxEntryId");
+
+		if (outboxEntryId != null) {
+			setOutboxEntryId(outboxEntryId);
+		}
+
+		Date createDate = (Date)attributes.get("createDate");
+
+		if (createDate != null) {
+			setCreateDate(createDate);
+		}
+
+		Long classNameId = (Long)attributes.get("classNameId");
+
+		if (classNameId != null) {
+			setClassNameId(classNameId);
+		}
+
+		Long classPK = (Long)attributes.get("classPK");
+
+		if (classPK != null) {
+			setClassPK(classPK);
+		}
+
+		String action = (String)attributes.get("action");
+
+		if (action != null) {
+			setAction(action);
+		}
+
+		String payload = (String)attributes.get("payload");
+
+		if (payload != null) {
+			setPayload(payload);
+		}
+
+		Integer attempts = (Integer)attributes.get("attempts");
+
+		if (attempts != null) {
+			setAttempts(attempts);
+		}
+
+		Date nextAttemptDate = (Date)attributes.get("nextAttemptDate");
+
+		if (nextAttemptDate != null) {
+			setNextAttemptDate(nextAttemptDate);
+		}
+
+		String lastError = (String)attributes.get("lastError");
+
+		if (lastError != null) {
+			setLastError(lastError);
+		}
+	}
+
+	@Override
+	public long getOutboxEntryId() {
+		return _outboxEntryId;
+	}
+
+	@Override
+	public void setOutboxEntryId(long outboxEntryId) {
+		_columnBitmask = -1L;
+
+		_outboxEntryId = outboxEntryId;
+	}
+
+	@Override
+	public Date getCreateDate() {
+		return _createDate;
+	}
+
+	@Override
+	public void setCreateDate(Date createDate) {
+		_createDate = createDate;
+	}
+
+	@Override
+	public String getClassName() {
+		if (getClassNameId() <= 0) {
+			return StringPool.BLANK;
+		}
+
+		return PortalUtil.getClassName(getClassNameId());
+	}
+
+	@Override
+	public void setClassName(String className) {
+		long classNameId = 0;
+
+		if (Validator.isNotNull(className)) {
+			classNameId = PortalUtil.getClassNameId(className);
+		}
+
+		setClassNameId(classNameId);
+	}
+
+	@Override
+	public long getClassNameId() {
+		return _classNameId;
+	}
+
+	@Override
+	public void setClassNameId(long classNameId) {
+		_columnBitmask |= CLASSNAMEID_COLUMN_BITMASK;
+
+		if (!_setOriginalClassNameId) {
+			_setOriginalClassNameId = true;
+
+			_originalClassNameId = _classNameId;
+		}
+
+		_classNameId = classNameId;
+	}
+
+	public long getOriginalClassNameId() {
+		return _originalClassNameId;
+	}
+
+	@Override
+	public long getClassPK() {
+		return _classPK;
+	}
+
+	@Override
+	public void setClassPK(long classPK) {
+		_columnBitmask |= CLASSPK_COLUMN_BITMASK;
+
+		if (!_setOriginalClassPK) {
+			_setOriginalClassPK = true;
+
+			_originalClassPK = _classPK;
+		}
+
+		_classPK = classPK;
+	}
+
+	public long getOriginalClassPK() {
+		return _originalClassPK;
+	}
+
+	@Override
+	public String getAction() {
+		if (_action == null) {
+			return StringPool.BLANK;
+		}
+		else {
+			return _action;
+		}
+	}
+
+	@Override
+	public void setAction(String action) {
+		_action = action;
+	}
+
+	@Override
+	public String getPayload() {
+		if (_payload == null) {
+			return StringPool.BLANK;
+		}
+		else {
+			return _payload;
+		}
+	}
+
+	@Override
+	public void setPayload(String payload) {
+		_payload = payload;
+	}
+
+	@Override
+	public int getAttempts() {
+		return _attempts;
+	}
+
+	@Override
+	public void setAttempts(int attempts) {
+		_attempts = attempts;
+	}
+
+	@Override
+	public Date getNextAttemptDate() {
+		return _nextAttemptDate;
+	}
+
+	@Override
+	public void setNextAttemptDate(Date nextAttemptDate) {
+		if (_originalNextAttemptDate == null) {
+			_originalNextAttemptDate = _nextAttemptDate;
+		}
+
+		_nextAttemptDate = nextAttemptDate;
+	}
+
+	public Date getOriginalNextAttemptDate() {
+		return _originalNextAttemptDate;
+	}
+
+	@Override
+	public String getLastError() {
+		if (_lastError == null) {
+			return StringPool.BLANK;
+		}
+		else {
+			return _lastError;
+		}
+	}
+
+	@Override
+	public void setLastError(String lastError) {
+		_lastError = lastError;
+	}
+
+	public long getColumnBitmask() {
+		return _columnBitmask;
+	}
+
+	@Override
+	public ExpandoBridge getExpandoBridge() {
+		return ExpandoBridgeFactoryUtil.getExpandoBridge(0,
+			FirebaseOutboxEntry.class.getName(), getPrimaryKey());
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext) {
+		ExpandoBridge expandoBridge = getExpandoBridge();
+
+		expandoBridge.setAttributes(serviceContext);
+	}
+
+	@Override
+	public FirebaseOutboxEntry toEscapedModel() {
+		if (_escapedModel == null) {
+			_escapedModel = (FirebaseOutboxEntry)ProxyUtil.newProxyInstance(_classLoader,
+					_escapedModelInterfaces, new AutoEscapeBeanHandler(this));
+		}
+
+		return _escapedModel;
+	}
+
+	@Override
+	public Object clone() {
+		FirebaseOutboxEntryImpl firebaseOutboxEntryImpl = new FirebaseOutboxEntryImpl();
+
+		firebaseOutboxEntryImpl.setOutboxEntryId(getOutboxEntryId());
+		firebaseOutboxEntryImpl.setCreateDate(getCreateDate());
+		firebaseOutboxEntryImpl.setClassNameId(getClassNameId());
+		firebaseOutboxEntryImpl.setClassPK(getClassPK());
+		firebaseOutboxEntryImpl.setAction(getAction());
+		firebaseOutboxEntryImpl.setPayload(getPayload());
+		firebaseOutboxEntryImpl.setAttempts(getAttempts());
+		firebaseOutboxEntryImpl.setNextAttemptDate(getNextAttemptDate());
+		firebaseOutboxEntryImpl.setLastError(getLastError());
+
+		firebaseOutboxEntryImpl.resetOriginalValues();
+
+		return firebaseOutboxEntryImpl;
+	}
+
+	@Override
+	public int compareTo(FirebaseOutboxEntry firebaseOutboxEntry) {
+		int value = 0;
+
+		if (getOutboxEntryId() < firebaseOutboxEntry.getOutboxEntryId()) {
+			value = -1;
+		}
+		else if (getOutboxEntryId() > firebaseOutboxEntry.getOutboxEntryId()) {
+			value = 1;
+		}
+		else {
+			value = 0;
+		}
+
+		if (value != 0) {
+			return value;
+		}
+
+		return 0;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof FirebaseOutboxEntry)) {
+			return false;
+		}
+
+		FirebaseOutboxEntry firebaseOutboxEntry = (FirebaseOutboxEntry)obj;
+
+		long primaryKey = firebaseOutboxEntry.getPrimaryKey();
+
+		if (getPrimaryKey() == primaryKey) {
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return (int)getPrimaryKey();
+	}
+
+	@Override
+	public boolean isEntityCacheEnabled() {
+		return ENTITY_CACHE_ENABLED;
+	}
+
+	@Override
+	public boolean isFinderCacheEnabled() {
+		return FINDER_CACHE_ENABLED;
+	}
+
+	@Override
+	public void resetOriginalValues() {
+		FirebaseOutboxEntryModelImpl firebaseOutboxEntryModelImpl = this;
+
+		firebaseOutboxEntryModelImpl._originalClassNameId = firebaseOutboxEntryModelImpl._classNameId;
+
+		firebaseOutboxEntryModelImpl._setOriginalClassNameId = false;
+
+		firebaseOutboxEntryModelImpl._originalClassPK = firebaseOutboxEntryModelImpl._classPK;
+
+		firebaseOutboxEntryModelImpl._setOriginalClassPK = false;
+
+		firebaseOutboxEntryModelImpl._originalNextAttemptDate = firebaseOutboxEntryModelImpl._nextAttemptDate;
+
+		firebaseOutboxEntryModelImpl._columnBitmask = 0;
+	}
+
+	@Override
+	public CacheModel<FirebaseOutboxEntry> toCacheModel() {
+		FirebaseOutboxEntryCacheModel firebaseOutboxEntryCacheModel = new FirebaseOutboxEntryCacheModel();
+
+		firebaseOutboxEntryCacheModel.outboxEntryId = getOutboxEntryId();
+
+		Date createDate = getCreateDate();
+
+		if (createDate != null) {
+			firebaseOutboxEntryCacheModel.createDate = createDate.getTime();
+		}
+		else {
+			firebaseOutboxEntryCacheModel.createDate = Long.MIN_VALUE;
+		}
+
+		firebaseOutboxEntryCacheModel.classNameId = getClassNameId();
+
+		firebaseOutboxEntryCacheModel.classPK = getClassPK();
+
+		firebaseOutboxEntryCacheModel.action = getAction();
+
+		String action = firebaseOutboxEntryCacheModel.action;
+
+		if ((action != null) && (action.length() == 0)) {
+			firebaseOutboxEntryCacheModel.action = null;
+		}
+
+		firebaseOutboxEntryCacheModel.payload = getPayload();
+
+		String payload = firebaseOutboxEntryCacheModel.payload;
+
+		if ((payload != null) && (payload.length() == 0)) {
+			firebaseOutboxEntryCacheModel.payload = null;
+		}
+
+		firebaseOutboxEntryCacheModel.attempts = getAttempts();
+
+		Date nextAttemptDate = getNextAttemptDate();
+
+		if (nextAttemptDate != null) {
+			firebaseOutboxEntryCacheModel.nextAttemptDate = nextAttemptDate.getTime();
+		}
+		else {
+			firebaseOutboxEntryCacheModel.nextAttemptDate = Long.MIN_VALUE;
+		}
+
+		firebaseOutboxEntryCacheModel.lastError = getLastError();
+
+		String lastError = firebaseOutboxEntryCacheModel.lastError;
+
+		if ((lastError != null) && (lastError.length() == 0)) {
+			firebaseOutboxEntryCacheModel.lastError = null;
+		}
+
+		return firebaseOutboxEntryCacheModel;
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(19);
+
+		sb.append("{outboxEntryId=");
+		sb.append(getOutboxEntryId());
+		sb.append(", createDate=");
+		sb.append(getCreateDate());
+		sb.append(", classNameId=");
+		sb.append(getClassNameId());
+		sb.append(", classPK=");
+		sb.append(getClassPK());
+		sb.append(", action=");
+		sb.append(getAction());
+		sb.append(", payload=");
+		sb.append(getPayload());
+		sb.append(", attempts=");
+		sb.append(getAttempts());
+		sb.append(", nextAttemptDate=");
+		sb.append(getNextAttemptDate());
+		sb.append(", lastError=");
+		sb.append(getLastError());
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	@Override
+	public String toXmlString() {
+		StringBundler sb = new StringBundler(31);
+
+		sb.append("<model><model-name>");
+		sb.append("net.indaba.lostandfound.model.FirebaseOutboxEntry");
+		sb.append("</model-name>");
+
+		sb.append(
+			"<column><column-name>outboxEntryId</column-name><column-value><![CDATA[");
+		sb.append(getOutboxEntryId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>createDate</column-name><column-value><![CDATA[");
+		sb.append(getCreateDate());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>classNameId</column-name><column-value><![CDATA[");
+		sb.append(getClassNameId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>classPK</column-name><column-value><![CDATA[");
+		sb.append(getClassPK());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>action</column-name><column-value><![CDATA[");
+		sb.append(getAction());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>payload</column-name><column-value><![CDATA[");
+		sb.append(getPayload());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>attempts</column-name><column-value><![CDATA[");
+		sb.append(getAttempts());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>nextAttemptDate</column-name><column-value><![CDATA[");
+		sb.append(getNextAttemptDate());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>lastError</column-name><column-value><![CDATA[");
+		sb.append(getLastError());
+		sb.append("]]></column-value></column>");
+
+		sb.append("</model>");
+
+		return sb.toString();
+	}
+
+	private static final ClassLoader _classLoader = FirebaseOutboxEntry.class.getClassLoader();
+	private static final Class<?>[] _escapedModelInterfaces = new Class[] {
+			FirebaseOutboxEntry.class
+		};
+	private long _outboxEntryId;
+	private Date _createDate;
+	private long _classNameId;
+	private long _originalClassNameId;
+	private boolean _setOriginalClassNameId;
+	private long _classPK;
+	private long _originalClassPK;
+	private boolean _setOriginalClassPK;
+	private String _action;
+	private String _payload;
+	private int _attempts;
+	private Date _nextAttemptDate;
+	private Date _originalNextAttemptDate;
+	private String _lastError;
+	private long _columnBitmask;
+	private FirebaseOutboxEntry _escapedModel;
+}
\ No newline at end of file
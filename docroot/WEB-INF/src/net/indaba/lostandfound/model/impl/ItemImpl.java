@@ -14,7 +14,10 @@
 
 package net.indaba.lostandfound.model.impl;
 
+import com.liferay.portal.kernel.model.CacheModel;
+
 import aQute.bnd.annotation.ProviderType;
+import net.indaba.lostandfound.model.Item;
 
 /**
  * The extended model implementation for the Item service. Represents a row in the &quot;lfvo_Item&quot; database table, with each column mapped to a property of this class.
@@ -34,4 +37,22 @@ public class ItemImpl extends ItemBaseImpl {
 	 */
 	public ItemImpl() {
 	}
+
+	/**
+	 * @return false for items saved without a location, which have both
+	 *         coordinates set to 0
+	 */
+	public boolean hasLocation() {
+		return getLat() != 0 || getLng() != 0;
+	}
+
+	/**
+	 * Items are cached and replicated in the compact format
+	 */
+	@Override
+	public CacheModel<Item> toCacheModel() {
+		return new CompactItemCacheModel((ItemCacheModel) super
+				.toCacheModel());
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.util.HashUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+
+import net.indaba.lostandfound.model.ItemMatch;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import java.util.Date;
+
+/**
+ * The cache model class for representing ItemMatch in entity cache.
+ *
+ * @author aritz
+ * @see ItemMatch
+ * @generated
+ */
+@ProviderType
+public class ItemMatchCacheModel implements CacheModel<ItemMatch>,
+	Externalizable {
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof ItemMatchCacheModel)) {
+			return false;
+		}
+
+		ItemMatchCacheModel itemMatchCacheModel = (ItemMatchCacheModel)obj;
+
+		if (matchId == itemMatchCacheModel.matchId) {
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return HashUtil.hash(0, matchId);
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(13);
+
+		sb.append("{matchId=");
+		sb.append(matchId);
+		sb.append(", companyId=");
+		sb.append(companyId);
+		sb.append(", createDate=");
+		sb.append(createDate);
+		sb.append(", itemId=");
+		sb.append(itemId);
+		sb.append(", matchedItemId=");
+		sb.append(matchedItemId);
+		sb.append(", score=");
+		sb.append(score);
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	@Override
+	public ItemMatch toEntityModel() {
+		ItemMatchImpl itemMatchImpl = new ItemMatchImpl();
+
+		itemMatchImpl.setMatchId(matchId);
+		itemMatchImpl.setCompanyId(companyId);
+
+		if (createDate == Long.MIN_VALUE) {
+			itemMatchImpl.setCreateDate(null);
+		}
+		else {
+			itemMatchImpl.setCreateDate(new Date(createDate));
+		}
+
+		itemMatchImpl.setItemId(itemId);
+		itemMatchImpl.setMatchedItemId(matchedItemId);
+		itemMatchImpl.setScore(score);
+
+		itemMatchImpl.resetOriginalValues();
+
+		return itemMatchImpl;
+	}
+
+	@Override
+	public void readExternal(ObjectInput objectInput) throws IOException {
+		matchId = objectInput.readLong();
+
+		companyId = objectInput.readLong();
+		createDate = objectInput.readLong();
+
+		itemId = objectInput.readLong();
+
+		matchedItemId = objectInput.readLong();
+
+		score = objectInput.readDouble();
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput objectOutput)
+		throws IOException {
+		objectOutput.writeLong(matchId);
+
+		objectOutput.writeLong(companyId);
+		objectOutput.writeLong(createDate);
+
+		objectOutput.writeLong(itemId);
+
+		objectOutput.writeLong(matchedItemId);
+
+		objectOutput.writeDouble(score);
+	}
+
+	public long matchId;
+	public long companyId;
+	public long createDate;
+	public long itemId;
+	public long matchedItemId;
+	public double score;
+}
\ No newline at end of file
@@ -0,0 +1,498 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.model.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.expando.kernel.model.ExpandoBridge;
+import com.liferay.expando.kernel.util.ExpandoBridgeFactoryUtil;
+
+import com.liferay.portal.kernel.bean.AutoEscapeBeanHandler;
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.model.impl.BaseModelImpl;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.ProxyUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+
+import net.indaba.lostandfound.model.ItemMatch;
+import net.indaba.lostandfound.model.ItemMatchModel;
+
+import java.io.Serializable;
+
+import java.sql.Types;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The base model implementation for the ItemMatch service. Represents a row in the &quot;lfvo_ItemMatch&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This implementation and its corresponding interface {@link ItemMatchModel} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link ItemMatchImpl}.
+ * </p>
+ *
+ * @author aritz
+ * @see ItemMatchImpl
+ * @see ItemMatch
+ * @see ItemMatchModel
+ * @generated
+ */
+@ProviderType
+public class ItemMatchModelImpl extends BaseModelImpl<ItemMatch>
+	implements ItemMatchModel {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. All methods that expect a item match model instance should use the {@link ItemMatch} interface instead.
+	 */
+	public static final String TABLE_NAME = "lfvo_ItemMatch";
+	public static final Object[][] TABLE_COLUMNS = {
+			{ "matchId", Types.BIGINT },
+			{ "companyId", Types.BIGINT },
+			{ "createDate", Types.TIMESTAMP },
+			{ "itemId", Types.BIGINT },
+			{ "matchedItemId", Types.BIGINT },
+			{ "score", Types.DOUBLE }
+		};
+	public static final Map<String, Integer> TABLE_COLUMNS_MAP = new HashMap<String, Integer>();
+
+	static {
+		TABLE_COLUMNS_MAP.put("matchId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("companyId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("createDate", Types.TIMESTAMP);
+		TABLE_COLUMNS_MAP.put("itemId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("matchedItemId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("score", Types.DOUBLE);
+	}
+
+	public static final String TABLE_SQL_CREATE = "create table lfvo_ItemMatch (matchId LONG not null primary key,companyId LONG,createDate DATE null,itemId LONG,matchedItemId LONG,score DOUBLE)";
+	public static final String TABLE_SQL_DROP = "drop table lfvo_ItemMatch";
+	public static final String ORDER_BY_JPQL = " ORDER BY itemMatch.score DESC";
+	public static final String ORDER_BY_SQL = " ORDER BY lfvo_ItemMatch.score DESC";
+	public static final String DATA_SOURCE = "liferayDataSource";
+	public static final String SESSION_FACTORY = "liferaySessionFactory";
+	public static final String TX_MANAGER = "liferayTransactionManager";
+	public static final boolean ENTITY_CACHE_ENABLED = GetterUtil.getBoolean(com.liferay.util.service.ServiceProps.get(
+				"value.object.entity.cache.enabled.net.indaba.lostandfound.model.ItemMatch"),
+			true);
+	public static final boolean FINDER_CACHE_ENABLED = GetterUtil.getBoolean(com.liferay.util.service.ServiceProps.get(
+				"value.object.finder.cache.enabled.net.indaba.lostandfound.model.ItemMatch"),
+			true);
+	public static final boolean COLUMN_BITMASK_ENABLED = GetterUtil.getBoolean(com.liferay.util.service.ServiceProps.get(
+				"value.object.column.bitmask.enabled.net.indaba.lostandfound.model.ItemMatch"),
+			true);
+	public static final long ITEMID_COLUMN_BITMASK = 1L;
+	public static final long MATCHEDITEMID_COLUMN_BITMASK = 2L;
+	public static final long SCORE_COLUMN_BITMASK = 4L;
+	public static final long LOCK_EXPIRATION_TIME = GetterUtil.getLong(com.liferay.util.service.ServiceProps.get(
+				"lock.expiration.time.net.indaba.lostandfound.model.ItemMatch"));
+
+	public ItemMatchModelImpl() {
+	}
+
+	@Override
+	public long getPrimaryKey() {
+		return _matchId;
+	}
+
+	@Override
+	public void setPrimaryKey(long primaryKey) {
+		setMatchId(primaryKey);
+	}
+
+	@Override
+	public Serializable getPrimaryKeyObj() {
+		return _matchId;
+	}
+
+	@Override
+	public void setPrimaryKeyObj(Serializable primaryKeyObj) {
+		setPrimaryKey(((Long)primaryKeyObj).longValue());
+	}
+
+	@Override
+	public Class<?> getModelClass() {
+		return ItemMatch.class;
+	}
+
+	@Override
+	public String getModelClassName() {
+		return ItemMatch.class.getName();
+	}
+
+	@Override
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("matchId", getMatchId());
+		attributes.put("companyId", getCompanyId());
+		attributes.put("createDate", getCreateDate());
+		attributes.put("itemId", getItemId());
+		attributes.put("matchedItemId", getMatchedItemId());
+		attributes.put("score", getScore());
+
+		attributes.put("entityCacheEnabled", isEntityCacheEnabled());
+		attributes.put("finderCacheEnabled", isFinderCacheEnabled());
+
+		return attributes;
+	}
+
+	@Override
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long matchId = (Long)attributes.get("matchId");
+
+		if (matchId != null) {
+			setMatchId(matchId);
+		}
+
+		Long companyId = (Long)attributes.get("companyId");
+
+		if (companyId != null) {
+			setCompanyId(companyId);
+		}
+
+		Date createDate = (Date)attributes.get("createDate");
+
+		if (createDate != null) {
+			setCreateDate(createDate);
+		}
+
+		Long itemId = (Long)attributes.get("itemId");
+
+		if (itemId != null) {
+			setItemId(itemId);
+		}
+
+		Long matchedItemId = (Long)attributes.get("matchedItemId");
+
+		if (matchedItemId != null) {
+			setMatchedItemId(matchedItemId);
+		}
+
+		Double score = (Double)attributes.get("score");
+
+		if (score != null) {
+			setScore(score);
+		}
+	}
+
+	@Override
+	public long getMatchId() {
+		return _matchId;
+	}
+
+	@Override
+	public void setMatchId(long matchId) {
+		_matchId = matchId;
+	}
+
+	@Override
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	@Override
+	public void setCompanyId(long companyId) {
+		_companyId = companyId;
+	}
+
+	@Override
+	public Date getCreateDate() {
+		return _createDate;
+	}
+
+	@Override
+	public void setCreateDate(Date createDate) {
+		_createDate = createDate;
+	}
+
+	@Override
+	public long getItemId() {
+		return _itemId;
+	}
+
+	@Override
+	public void setItemId(long itemId) {
+		_columnBitmask |= ITEMID_COLUMN_BITMASK;
+
+		if (!_setOriginalItemId) {
+			_setOriginalItemId = true;
+
+			_originalItemId = _itemId;
+		}
+
+		_itemId = itemId;
+	}
+
+	public long getOriginalItemId() {
+		return _originalItemId;
+	}
+
+	@Override
+	public long getMatchedItemId() {
+		return _matchedItemId;
+	}
+
+	@Override
+	public void setMatchedItemId(long matchedItemId) {
+		_columnBitmask |= MATCHEDITEMID_COLUMN_BITMASK;
+
+		if (!_setOriginalMatchedItemId) {
+			_setOriginalMatchedItemId = true;
+
+			_originalMatchedItemId = _matchedItemId;
+		}
+
+		_matchedItemId = matchedItemId;
+	}
+
+	public long getOriginalMatchedItemId() {
+		return _originalMatchedItemId;
+	}
+
+	@Override
+	public double getScore() {
+		return _score;
+	}
+
+	@Override
+	public void setScore(double score) {
+		_columnBitmask = -1L;
+
+		_score = score;
+	}
+
+	public long getColumnBitmask() {
+		return _columnBitmask;
+	}
+
+	@Override
+	public ExpandoBridge getExpandoBridge() {
+		return ExpandoBridgeFactoryUtil.getExpandoBridge(getCompanyId(),
+			ItemMatch.class.getName(), getPrimaryKey());
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext) {
+		ExpandoBridge expandoBridge = getExpandoBridge();
+
+		expandoBridge.setAttributes(serviceContext);
+	}
+
+	@Override
+	public ItemMatch toEscapedModel() {
+		if (_escapedModel == null) {
+			_escapedModel = (ItemMatch)ProxyUtil.newProxyInstance(_classLoader,
+					_escapedModelInterfaces, new AutoEscapeBeanHandler(this));
+		}
+
+		return _escapedModel;
+	}
+
+	@Override
+	public Object clone() {
+		ItemMatchImpl itemMatchImpl = new ItemMatchImpl();
+
+		itemMatchImpl.setMatchId(getMatchId());
+		itemMatchImpl.setCompanyId(getCompanyId());
+		itemMatchImpl.setCreateDate(getCreateDate());
+		itemMatchImpl.setItemId(getItemId());
+		itemMatchImpl.setMatchedItemId(getMatchedItemId());
+		itemMatchImpl.setScore(getScore());
+
+		itemMatchImpl.resetOriginalValues();
+
+		return itemMatchImpl;
+	}
+
+	@Override
+	public int compareTo(ItemMatch itemMatch) {
+		int value = 0;
+
+		if (getScore() < itemMatch.getScore()) {
+			value = -1;
+		}
+		else if (getScore() > itemMatch.getScore()) {
+			value = 1;
+		}
+		else {
+			value = 0;
+		}
+
+		value = value * -1;
+
+		if (value != 0) {
+			return value;
+		}
+
+		return 0;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof ItemMatch)) {
+			return false;
+		}
+
+		ItemMatch itemMatch = (ItemMatch)obj;
+
+		long primaryKey = itemMatch.getPrimaryKey();
+
+		if (getPrimaryKey() == primaryKey) {
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return (int)getPrimaryKey();
+	}
+
+	@Override
+	public boolean isEntityCacheEnabled() {
+		return ENTITY_CACHE_ENABLED;
+	}
+
+	@Override
+	public boolean isFinderCacheEnabled() {
+		return FINDER_CACHE_ENABLED;
+	}
+
+	@Override
+	public void resetOriginalValues() {
+		ItemMatchModelImpl itemMatchModelImpl = this;
+
+		itemMatchModelImpl._originalItemId = itemMatchModelImpl._itemId;
+
+		itemMatchModelImpl._setOriginalItemId = false;
+
+		itemMatchModelImpl._originalMatchedItemId = itemMatchModelImpl._matchedItemId;
+
+		itemMatchModelImpl._setOriginalMatchedItemId = false;
+
+		itemMatchModelImpl._columnBitmask = 0;
+	}
+
+	@Override
+	public CacheModel<ItemMatch> toCacheModel() {
+		ItemMatchCacheModel itemMatchCacheModel = new ItemMatchCacheModel();
+
+		itemMatchCacheModel.matchId = getMatchId();
+
+		itemMatchCacheModel.companyId = getCompanyId();
+
+		Date createDate = getCreateDate();
+
+		if (createDate != null) {
+			itemMatchCacheModel.createDate = createDate.getTime();
+		}
+		else {
+			itemMatchCacheModel.createDate = Long.MIN_VALUE;
+		}
+
+		itemMatchCacheModel.itemId = getItemId();
+
+		itemMatchCacheModel.matchedItemId = getMatchedItemId();
+
+		itemMatchCacheModel.score = getScore();
+
+		return itemMatchCacheModel;
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(13);
+
+		sb.append("{matchId=");
+		sb.append(getMatchId());
+		sb.append(", companyId=");
+		sb.append(getCompanyId());
+		sb.append(", createDate=");
+		sb.append(getCreateDate());
+		sb.append(", itemId=");
+		sb.append(getItemId());
+		sb.append(", matchedItemId=");
+		sb.append(getMatchedItemId());
+		sb.append(", score=");
+		sb.append(getScore());
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	@Override
+	public String toXmlString() {
+		StringBundler sb = new StringBundler(22);
+
+		sb.append("<model><model-name>");
+		sb.append("net.indaba.lostandfound.model.ItemMatch");
+		sb.append("</model-name>");
+
+		sb.append(
+			"<column><column-name>matchId</column-name><column-value><![CDATA[");
+		sb.append(getMatchId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>companyId</column-name><column-value><![CDATA[");
+		sb.append(getCompanyId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>createDate</column-name><column-value><![CDATA[");
+		sb.append(getCreateDate());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>itemId</column-name><column-value><![CDATA[");
+		sb.append(getItemId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>matchedItemId</column-name><column-value><![CDATA[");
+		sb.append(getMatchedItemId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>score</column-name><column-value><![CDATA[");
+		sb.append(getScore());
+		sb.append("]]></column-value></column>");
+
+		sb.append("</model>");
+
+		return sb.toString();
+	}
+
+	private static final ClassLoader _classLoader = ItemMatch.class.getClassLoader();
+	private static final Class<?>[] _escapedModelInterfaces = new Class[] {
+			ItemMatch.class
+		};
+	private long _matchId;
+	private long _companyId;
+	private Date _createDate;
+	private long _itemId;
+	private long _originalItemId;
+	private boolean _setOriginalItemId;
+	private long _matchedItemId;
+	private long _originalMatchedItemId;
+	private boolean _setOriginalMatchedItemId;
+	private double _score;
+	private long _columnBitmask;
+	private ItemMatch _escapedModel;
+}
\ No newline at end of file
@@ -124,9 +124,10 @@ public class ItemModelImpl extends BaseModelImpl<Item> implements ItemModel {
 				"value.object.column.bitmask.enabled.net.indaba.lostandfound.model.Item"),
 			true);
 	public static final long COMPANYID_COLUMN_BITMASK = 1L;
-	public static final long GROUPID_COLUMN_BITMASK = 2L;
-	public static final long UUID_COLUMN_BITMASK = 4L;
-	public static final long CREATEDATE_COLUMN_BITMASK = 8L;
+	public static final long CREATEDATE_COLUMN_BITMASK = 2L;
+	public static final long GROUPID_COLUMN_BITMASK = 4L;
+	public static final long TYPE_COLUMN_BITMASK = 8L;
+	public static final long UUID_COLUMN_BITMASK = 16L;
 
 	/**
 	 * Converts the soap model instance into a normal model instance.
@@ -445,9 +446,17 @@ public class ItemModelImpl extends BaseModelImpl<Item> implements ItemModel {
 	public void setCreateDate(Date createDate) {
 		_columnBitmask = -1L;
 
+		if (_originalCreateDate == null) {
+			_originalCreateDate = _createDate;
+		}
+
 		_createDate = createDate;
 	}
 
+	public Date getOriginalCreateDate() {
+		return _originalCreateDate;
+	}
+
 	@JSON
 	@Override
 	public Date getModifiedDate() {
@@ -521,9 +530,17 @@ public class ItemModelImpl extends BaseModelImpl<Item> implements ItemModel {
 
 	@Override
 	public void setType(String type) {
+		if (_originalType == null) {
+			_originalType = _type;
+		}
+
 		_type = type;
 	}
 
+	public String getOriginalType() {
+		return GetterUtil.getString(_originalType);
+	}
+
 	@JSON
 	@Override
 	public String getDescription() {
@@ -683,8 +700,12 @@ public class ItemModelImpl extends BaseModelImpl<Item> implements ItemModel {
 
 		itemModelImpl._setOriginalCompanyId = false;
 
+		itemModelImpl._originalCreateDate = itemModelImpl._createDate;
+
 		itemModelImpl._setModifiedDate = false;
 
+		itemModelImpl._originalType = itemModelImpl._type;
+
 		itemModelImpl._columnBitmask = 0;
 	}
 
@@ -896,12 +917,14 @@ public class ItemModelImpl extends BaseModelImpl<Item> implements ItemModel {
 	private boolean _setOriginalCompanyId;
 	private long _userId;
 	private Date _createDate;
+	private Date _originalCreateDate;
 	private Date _modifiedDate;
 	private boolean _setModifiedDate;
 	private Date _publishDate;
 	private String _objectId;
 	private String _name;
 	private String _type;
+	private String _originalType;
 	private String _description;
 	private long _lat;
 	private long _lng;
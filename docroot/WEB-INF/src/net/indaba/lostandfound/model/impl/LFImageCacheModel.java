@@ -28,6 +28,8 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 
+import java.util.Date;
+
 /**
  * The cache model class for representing LFImage in entity cache.
  *
@@ -63,7 +65,7 @@ public class LFImageCacheModel implements CacheModel<LFImage>, Externalizable {
 
 	@Override
 	public String toString() {
-		StringBundler sb = new StringBundler(7);
+		StringBundler sb = new StringBundler(13);
 
 		sb.append("{uuid=");
 		sb.append(uuid);
@@ -71,6 +73,12 @@ public class LFImageCacheModel implements CacheModel<LFImage>, Externalizable {
 		sb.append(lfImageId);
 		sb.append(", itemId=");
 		sb.append(itemId);
+		sb.append(", createDate=");
+		sb.append(createDate);
+		sb.append(", contentType=");
+		sb.append(contentType);
+		sb.append(", size=");
+		sb.append(size);
 
 		return sb.toString();
 	}
@@ -89,6 +97,22 @@ public class LFImageCacheModel implements CacheModel<LFImage>, Externalizable {
 		lfImageImpl.setLfImageId(lfImageId);
 		lfImageImpl.setItemId(itemId);
 
+		if (createDate == Long.MIN_VALUE) {
+			lfImageImpl.setCreateDate(null);
+		}
+		else {
+			lfImageImpl.setCreateDate(new Date(createDate));
+		}
+
+		if (contentType == null) {
+			lfImageImpl.setContentType(StringPool.BLANK);
+		}
+		else {
+			lfImageImpl.setContentType(contentType);
+		}
+
+		lfImageImpl.setSize(size);
+
 		lfImageImpl.resetOriginalValues();
 
 		return lfImageImpl;
@@ -101,6 +125,10 @@ public class LFImageCacheModel implements CacheModel<LFImage>, Externalizable {
 		lfImageId = objectInput.readLong();
 
 		itemId = objectInput.readLong();
+		createDate = objectInput.readLong();
+		contentType = objectInput.readUTF();
+
+		size = objectInput.readLong();
 	}
 
 	@Override
@@ -116,9 +144,22 @@ public class LFImageCacheModel implements CacheModel<LFImage>, Externalizable {
 		objectOutput.writeLong(lfImageId);
 
 		objectOutput.writeLong(itemId);
+		objectOutput.writeLong(createDate);
+
+		if (contentType == null) {
+			objectOutput.writeUTF(StringPool.BLANK);
+		}
+		else {
+			objectOutput.writeUTF(contentType);
+		}
+
+		objectOutput.writeLong(size);
 	}
 
 	public String uuid;
 	public long lfImageId;
 	public long itemId;
+	public long createDate;
+	public String contentType;
+	public long size;
 }
\ No newline at end of file
@@ -14,7 +14,18 @@
 
 package net.indaba.lostandfound.model.impl;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.Base64;
+
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.Validator;
+
 import aQute.bnd.annotation.ProviderType;
+import net.indaba.lostandfound.model.LFImage;
 
 /**
  * The extended model implementation for the LFImage service. Represents a row in the &quot;lfvo_LFImage&quot; database table, with each column mapped to a property of this class.
@@ -34,4 +45,43 @@ public class LFImageImpl extends LFImageBaseImpl {
 	 */
 	public LFImageImpl() {
 	}
+
+	/**
+	 * The image column holds the raw bytes, so base64 is only produced by the
+	 * callers that need it, such as this one
+	 *
+	 * @return The image as a data URI, or null if there is no image
+	 */
+	public String toDataURI() throws IOException, SQLException {
+		Blob blob = getImage();
+		if (blob == null) {
+			return null;
+		}
+		byte[] bytes;
+		try (InputStream in = blob.getBinaryStream()) {
+			bytes = FileUtil.getBytes(in);
+		}
+		return "data:" + getImageContentType() + ";base64," + Base64
+				.getEncoder().encodeToString(bytes);
+	}
+
+	/**
+	 * @return The content type, or image/jpeg for images stored without one
+	 */
+	public String getImageContentType() {
+		String contentType = getContentType();
+		if (Validator.isNull(contentType)) {
+			return "image/jpeg";
+		}
+		return contentType;
+	}
+
+	/**
+	 * Images are cached and replicated in the compact format
+	 */
+	@Override
+	public CacheModel<LFImage> toCacheModel() {
+		return new CompactLFImageCacheModel((LFImageCacheModel) super
+				.toCacheModel());
+	}
 }
\ No newline at end of file
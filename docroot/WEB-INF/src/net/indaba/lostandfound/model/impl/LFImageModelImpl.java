@@ -41,6 +41,7 @@ import java.sql.Blob;
 import java.sql.Types;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -72,6 +73,9 @@ public class LFImageModelImpl extends BaseModelImpl<LFImage>
 			{ "uuid_", Types.VARCHAR },
 			{ "lfImageId", Types.BIGINT },
 			{ "itemId", Types.BIGINT },
+			{ "createDate", Types.TIMESTAMP },
+			{ "contentType", Types.VARCHAR },
+			{ "size_", Types.BIGINT },
 			{ "image", Types.BLOB }
 		};
 	public static final Map<String, Integer> TABLE_COLUMNS_MAP = new HashMap<String, Integer>();
@@ -80,10 +84,13 @@ public class LFImageModelImpl extends BaseModelImpl<LFImage>
 		TABLE_COLUMNS_MAP.put("uuid_", Types.VARCHAR);
 		TABLE_COLUMNS_MAP.put("lfImageId", Types.BIGINT);
 		TABLE_COLUMNS_MAP.put("itemId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("createDate", Types.TIMESTAMP);
+		TABLE_COLUMNS_MAP.put("contentType", Types.VARCHAR);
+		TABLE_COLUMNS_MAP.put("size_", Types.BIGINT);
 		TABLE_COLUMNS_MAP.put("image", Types.BLOB);
 	}
 
-	public static final String TABLE_SQL_CREATE = "create table lfvo_LFImage (uuid_ VARCHAR(75) null,lfImageId LONG not null primary key,itemId LONG,image BLOB)";
+	public static final String TABLE_SQL_CREATE = "create table lfvo_LFImage (uuid_ VARCHAR(75) null,lfImageId LONG not null primary key,itemId LONG,createDate DATE null,contentType VARCHAR(75) null,size_ LONG,image BLOB)";
 	public static final String TABLE_SQL_DROP = "drop table lfvo_LFImage";
 	public static final String ORDER_BY_JPQL = " ORDER BY lfImage.lfImageId ASC";
 	public static final String ORDER_BY_SQL = " ORDER BY lfvo_LFImage.lfImageId ASC";
@@ -119,6 +126,9 @@ public class LFImageModelImpl extends BaseModelImpl<LFImage>
 		model.setUuid(soapModel.getUuid());
 		model.setLfImageId(soapModel.getLfImageId());
 		model.setItemId(soapModel.getItemId());
+		model.setCreateDate(soapModel.getCreateDate());
+		model.setContentType(soapModel.getContentType());
+		model.setSize(soapModel.getSize());
 		model.setImage(soapModel.getImage());
 
 		return model;
@@ -187,6 +197,9 @@ public class LFImageModelImpl extends BaseModelImpl<LFImage>
 		attributes.put("uuid", getUuid());
 		attributes.put("lfImageId", getLfImageId());
 		attributes.put("itemId", getItemId());
+		attributes.put("createDate", getCreateDate());
+		attributes.put("contentType", getContentType());
+		attributes.put("size", getSize());
 		attributes.put("image", getImage());
 
 		attributes.put("entityCacheEnabled", isEntityCacheEnabled());
@@ -215,6 +228,24 @@ public class LFImageModelImpl extends BaseModelImpl<LFImage>
 			setItemId(itemId);
 		}
 
+		Date createDate = (Date)attributes.get("createDate");
+
+		if (createDate != null) {
+			setCreateDate(createDate);
+		}
+
+		String contentType = (String)attributes.get("contentType");
+
+		if (contentType != null) {
+			setContentType(contentType);
+		}
+
+		Long size = (Long)attributes.get("size");
+
+		if (size != null) {
+			setSize(size);
+		}
+
 		Blob image = (Blob)attributes.get("image");
 
 		if (image != null) {
@@ -280,6 +311,44 @@ public class LFImageModelImpl extends BaseModelImpl<LFImage>
 		return _originalItemId;
 	}
 
+	@JSON
+	@Override
+	public Date getCreateDate() {
+		return _createDate;
+	}
+
+	@Override
+	public void setCreateDate(Date createDate) {
+		_createDate = createDate;
+	}
+
+	@JSON
+	@Override
+	public String getContentType() {
+		if (_contentType == null) {
+			return StringPool.BLANK;
+		}
+		else {
+			return _contentType;
+		}
+	}
+
+	@Override
+	public void setContentType(String contentType) {
+		_contentType = contentType;
+	}
+
+	@JSON
+	@Override
+	public long getSize() {
+		return _size;
+	}
+
+	@Override
+	public void setSize(long size) {
+		_size = size;
+	}
+
 	@JSON
 	@Override
 	public Blob getImage() {
@@ -344,6 +413,9 @@ public class LFImageModelImpl extends BaseModelImpl<LFImage>
 		lfImageImpl.setUuid(getUuid());
 		lfImageImpl.setLfImageId(getLfImageId());
 		lfImageImpl.setItemId(getItemId());
+		lfImageImpl.setCreateDate(getCreateDate());
+		lfImageImpl.setContentType(getContentType());
+		lfImageImpl.setSize(getSize());
 
 		lfImageImpl.resetOriginalValues();
 
@@ -433,12 +505,31 @@ public class LFImageModelImpl extends BaseModelImpl<LFImage>
 
 		lfImageCacheModel.itemId = getItemId();
 
+		Date createDate = getCreateDate();
+
+		if (createDate != null) {
+			lfImageCacheModel.createDate = createDate.getTime();
+		}
+		else {
+			lfImageCacheModel.createDate = Long.MIN_VALUE;
+		}
+
+		lfImageCacheModel.contentType = getContentType();
+
+		String contentType = lfImageCacheModel.contentType;
+
+		if ((contentType != null) && (contentType.length() == 0)) {
+			lfImageCacheModel.contentType = null;
+		}
+
+		lfImageCacheModel.size = getSize();
+
 		return lfImageCacheModel;
 	}
 
 	@Override
 	public String toString() {
-		StringBundler sb = new StringBundler(9);
+		StringBundler sb = new StringBundler(15);
 
 		sb.append("{uuid=");
 		sb.append(getUuid());
@@ -446,13 +537,19 @@ public class LFImageModelImpl extends BaseModelImpl<LFImage>
 		sb.append(getLfImageId());
 		sb.append(", itemId=");
 		sb.append(getItemId());
+		sb.append(", createDate=");
+		sb.append(getCreateDate());
+		sb.append(", contentType=");
+		sb.append(getContentType());
+		sb.append(", size=");
+		sb.append(getSize());
 
 		return sb.toString();
 	}
 
 	@Override
 	public String toXmlString() {
-		StringBundler sb = new StringBundler(16);
+		StringBundler sb = new StringBundler(25);
 
 		sb.append("<model><model-name>");
 		sb.append("net.indaba.lostandfound.model.LFImage");
@@ -470,6 +567,18 @@ public class LFImageModelImpl extends BaseModelImpl<LFImage>
 			"<column><column-name>itemId</column-name><column-value><![CDATA[");
 		sb.append(getItemId());
 		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>createDate</column-name><column-value><![CDATA[");
+		sb.append(getCreateDate());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>contentType</column-name><column-value><![CDATA[");
+		sb.append(getContentType());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>size</column-name><column-value><![CDATA[");
+		sb.append(getSize());
+		sb.append("]]></column-value></column>");
 
 		sb.append("</model>");
 
@@ -486,6 +595,9 @@ public class LFImageModelImpl extends BaseModelImpl<LFImage>
 	private long _itemId;
 	private long _originalItemId;
 	private boolean _setOriginalItemId;
+	private Date _createDate;
+	private String _contentType;
+	private long _size;
 	private LFImageImageBlobModel _imageBlobModel;
 	private long _columnBitmask;
 	private LFImage _escapedModel;
@@ -18,9 +18,9 @@ import com.liferay.portal.kernel.theme.ThemeDisplay;
 import com.liferay.portal.kernel.util.ParamUtil;
 import com.liferay.portal.kernel.util.WebKeys;
 
+import net.indaba.lostandfound.firebase.FirebaseClient;
 import net.thegreshams.firebase4j.error.FirebaseException;
 import net.thegreshams.firebase4j.model.FirebaseResponse;
-import net.thegreshams.firebase4j.service.Firebase;
 
 /**
  * Portlet implementation class AppManagerPortlet
@@ -53,8 +53,8 @@ public class AppManagerPortlet extends MVCPortlet{
 			    .getInstance()
 			    .getReference("/offices/" + officeId);
 		try {
-			Firebase firebase = new Firebase(ref.toString());
-			FirebaseResponse response = firebase.get();
+			FirebaseResponse response = FirebaseClient.getInstance().get(ref
+					.toString());
 			HashMap<String, Object> office = (HashMap<String, Object>)response.getBody();
 			renderRequest.setAttribute("officeInfo", office);
 		} catch (FirebaseException e) {
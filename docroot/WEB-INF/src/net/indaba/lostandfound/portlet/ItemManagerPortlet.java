@@ -1,36 +1,52 @@
 package net.indaba.lostandfound.portlet;
 
-import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Date;
 import java.util.List;
 
 import javax.portlet.ActionRequest;
 import javax.portlet.ActionResponse;
 import javax.portlet.PortletException;
+import javax.portlet.PortletURL;
 import javax.portlet.RenderRequest;
 import javax.portlet.RenderResponse;
 import javax.portlet.ResourceRequest;
 import javax.portlet.ResourceResponse;
+import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
-
-import com.liferay.counter.kernel.service.CounterLocalServiceUtil;
+import com.liferay.asset.kernel.AssetRendererFactoryRegistryUtil;
+import com.liferay.asset.kernel.model.AssetEntry;
+import com.liferay.asset.kernel.model.AssetRendererFactory;
+import com.liferay.asset.kernel.service.AssetEntryLocalServiceUtil;
 import com.liferay.portal.kernel.dao.jdbc.OutputBlob;
+import com.liferay.portal.kernel.dao.search.SearchContainer;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.portlet.bridges.mvc.MVCPortlet;
+import com.liferay.portal.kernel.security.permission.ActionKeys;
+import com.liferay.portal.kernel.security.permission.PermissionChecker;
 import com.liferay.portal.kernel.service.ServiceContext;
 import com.liferay.portal.kernel.service.ServiceContextFactory;
+import com.liferay.portal.kernel.service.permission.GroupPermissionUtil;
+import com.liferay.portal.kernel.servlet.HttpHeaders;
 import com.liferay.portal.kernel.theme.ThemeDisplay;
 import com.liferay.portal.kernel.upload.UploadPortletRequest;
-import com.liferay.portal.kernel.util.Base64;
+import com.liferay.portal.kernel.util.MimeTypesUtil;
 import com.liferay.portal.kernel.util.ParamUtil;
 import com.liferay.portal.kernel.util.PortalUtil;
+import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.util.WebKeys;
 
 import net.indaba.lostandfound.firebase.FirebaseSynchronizer;
@@ -40,6 +56,9 @@ import net.indaba.lostandfound.service.ItemLocalServiceUtil;
 import net.indaba.lostandfound.service.ItemServiceUtil;
 import net.indaba.lostandfound.service.LFImageLocalServiceUtil;
 import net.indaba.lostandfound.service.LFImageServiceUtil;
+import net.indaba.lostandfound.util.IdAllocator;
+import net.indaba.lostandfound.util.LFImageThumbnailCache;
+import net.indaba.lostandfound.util.comparator.ItemCreateDateComparator;
 
 public class ItemManagerPortlet extends MVCPortlet {
 
@@ -47,18 +66,76 @@ public class ItemManagerPortlet extends MVCPortlet {
 	public void doView(RenderRequest renderRequest, RenderResponse renderResponse)
 			throws IOException, PortletException {
 		_log.debug("doView");
-		ThemeDisplay themeDisplay = (ThemeDisplay)renderRequest.getAttribute(WebKeys.THEME_DISPLAY);
-		List<Item> items;
-		try {
-			items = ItemLocalServiceUtil.getItems(themeDisplay.getScopeGroupId(), -1, -1);
-			renderRequest.setAttribute("items", items);
-		} catch (PortalException e) {
-			e.printStackTrace();
+		if (Validator.isNull(ParamUtil.getString(renderRequest, "mvcPath"))) {
+			ThemeDisplay themeDisplay = (ThemeDisplay)renderRequest.getAttribute(WebKeys.THEME_DISPLAY);
+			SearchContainer<Item> searchContainer = getItemSearchContainer(renderRequest, renderResponse, themeDisplay.getScopeGroupId());
+			renderRequest.setAttribute("itemSearchContainer", searchContainer);
+			/* One lookup for the whole page instead of one per row */
+			List<Item> items = searchContainer.getResults();
+			long[] itemIds = new long[items.size()];
+			for (int i = 0; i < itemIds.length; i++) {
+				itemIds[i] = items.get(i).getItemId();
+			}
+			renderRequest.setAttribute("itemCategories", ItemLocalServiceUtil.getItemsCategories(itemIds));
 		}
 		
 		super.doView(renderRequest, renderResponse);
 	}
 
+	/**
+	 * Loads only the visible page of items. Moving to the next page seeks from
+	 * the last item shown, carried in the keyset parameters of the iterator
+	 * URL, so deep pages do not scan the skipped rows. Any other jump falls
+	 * back to an offset.
+	 */
+	protected SearchContainer<Item> getItemSearchContainer(RenderRequest renderRequest, RenderResponse renderResponse, long groupId) {
+		PortletURL iteratorURL = renderResponse.createRenderURL();
+		iteratorURL.setParameter("navigation", "items");
+		String type = ParamUtil.getString(renderRequest, "type");
+		if (Validator.isNotNull(type)) {
+			iteratorURL.setParameter("type", type);
+		}
+		SearchContainer<Item> searchContainer = new SearchContainer<Item>(renderRequest, null, null, SearchContainer.DEFAULT_CUR_PARAM, SearchContainer.DEFAULT_DELTA, iteratorURL, null, "no-item-was-found");
+
+		String orderByType = ParamUtil.getString(renderRequest, "orderByType", "asc");
+		boolean ascending = !orderByType.equals("desc");
+		searchContainer.setOrderByCol("createDate");
+		searchContainer.setOrderByType(ascending ? "asc" : "desc");
+		searchContainer.setOrderByComparator(new ItemCreateDateComparator(ascending));
+
+		List<Item> items;
+		if (Validator.isNotNull(type)) {
+			/* Served by the G_T finder and its (groupId, type) index */
+			searchContainer.setTotal(ItemLocalServiceUtil.getItemsByTypeCount(groupId, type));
+			items = ItemLocalServiceUtil.getItemsByType(groupId, type, searchContainer.getStart(), searchContainer.getEnd(), searchContainer.getOrderByComparator());
+			searchContainer.setResults(items);
+			return searchContainer;
+		}
+		searchContainer.setTotal(ItemLocalServiceUtil.getItemsCount(groupId));
+
+		int cur = searchContainer.getCur();
+		long keysetItemId = ParamUtil.getLong(renderRequest, "keysetItemId");
+		if (cur > 1 && keysetItemId > 0 && ParamUtil.getInteger(renderRequest, "keysetCur") == cur - 1
+				&& ParamUtil.getInteger(renderRequest, "keysetDelta") == searchContainer.getDelta()) {
+			Date keysetCreateDate = new Date(ParamUtil.getLong(renderRequest, "keysetCreateDate"));
+			items = ItemLocalServiceUtil.getItemsAfter(groupId, keysetCreateDate, keysetItemId, ascending, searchContainer.getDelta());
+		} else {
+			items = ItemLocalServiceUtil.getItems(groupId, searchContainer.getStart(), searchContainer.getEnd(), searchContainer.getOrderByComparator());
+		}
+		searchContainer.setResults(items);
+
+		if (!items.isEmpty()) {
+			Item last = items.get(items.size() - 1);
+			if (last.getCreateDate() != null) {
+				iteratorURL.setParameter("keysetCur", String.valueOf(cur));
+				iteratorURL.setParameter("keysetDelta", String.valueOf(searchContainer.getDelta()));
+				iteratorURL.setParameter("keysetCreateDate", String.valueOf(last.getCreateDate().getTime()));
+				iteratorURL.setParameter("keysetItemId", String.valueOf(last.getItemId()));
+			}
+		}
+		return searchContainer;
+	}
+
 	public void addOrUpdateItem(ActionRequest actionRequest, ActionResponse actionResponse)
 			throws IOException, PortletException, PortalException {
 		ServiceContext serviceContext = ServiceContextFactory.getInstance(actionRequest);
@@ -151,14 +228,18 @@ public class ItemManagerPortlet extends MVCPortlet {
 			_itemId = itemId;
 		_log.debug("addItemImage to item " + _itemId);
 
-		String imageBase63String = Base64.encode(IOUtils.toByteArray(new FileInputStream(file)));
-		ByteArrayInputStream imageBase64 = new ByteArrayInputStream(imageBase63String.getBytes(StandardCharsets.UTF_8));
-		OutputBlob dataOutputBlob = new OutputBlob(imageBase64, imageBase63String.length());
-		
-		LFImage lfImage = LFImageLocalServiceUtil.createLFImage(CounterLocalServiceUtil.increment());
-		lfImage.setItemId(_itemId);
-		lfImage.setImage(dataOutputBlob);
-		LFImageServiceUtil.addLFImage(lfImage, serviceContext);
+		String contentType = uploadRequest.getContentType("itemImage");
+		if (Validator.isNull(contentType) || !contentType.startsWith("image/"))
+			contentType = MimeTypesUtil.getContentType(file);
+
+		try (InputStream is = new FileInputStream(file)) {
+			LFImage lfImage = LFImageLocalServiceUtil.createLFImage(IdAllocator.getInstance(LFImage.class).nextId());
+			lfImage.setItemId(_itemId);
+			lfImage.setContentType(contentType);
+			lfImage.setSize(file.length());
+			lfImage.setImage(new OutputBlob(is, file.length()));
+			LFImageServiceUtil.addLFImage(lfImage, serviceContext);
+		}
 	}
 	
 	public void addMessage(ActionRequest actionRequest, ActionResponse actionResponse)
@@ -169,12 +250,206 @@ public class ItemManagerPortlet extends MVCPortlet {
 	@Override
 	public void serveResource(ResourceRequest resourceRequest, ResourceResponse resourceResponse) throws IOException, PortletException {
 		_log.debug("servingResource.");
+		if (RESOURCE_IMAGE.equals(resourceRequest.getResourceID())) {
+			serveImage(resourceRequest, resourceResponse);
+			return;
+		}
 		super.serveResource(resourceRequest, resourceResponse);
 		
 	}
 
+	/**
+	 * Streams the bytes of one image, or of its thumbnail when a display size
+	 * is given. Images are never modified once added, so the browser may keep
+	 * them for as long as it likes and revalidate with the ETag. A single byte
+	 * range is served when requested. Images of items the user may not view
+	 * are answered as missing, so that their ids cannot be probed.
+	 */
+	protected void serveImage(ResourceRequest resourceRequest, ResourceResponse resourceResponse)
+			throws IOException, PortletException {
+		long lfImageId = ParamUtil.getLong(resourceRequest, "lfImageId");
+		LFImage lfImage = LFImageLocalServiceUtil.fetchLFImage(lfImageId);
+		if (lfImage == null || !hasViewPermission(resourceRequest, lfImage)) {
+			resourceResponse.setProperty(ResourceResponse.HTTP_STATUS_CODE, String.valueOf(HttpServletResponse.SC_NOT_FOUND));
+			return;
+		}
+
+		LFImageThumbnailCache thumbnailCache = LFImageThumbnailCache.getInstance();
+		int size = ParamUtil.getInteger(resourceRequest, "size");
+		int thumbnailSize = size > 0 ? thumbnailCache.getThumbnailSize(size) : 0;
+
+		String eTag = "\"" + lfImage.getLfImageId() + "-" + lfImage.getSize() + (thumbnailSize > 0 ? "-t" + thumbnailSize : "") + "\"";
+		resourceResponse.setProperty("ETag", eTag);
+		resourceResponse.setProperty(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable");
+		resourceResponse.setProperty("Accept-Ranges", "bytes");
+		Date createDate = lfImage.getCreateDate();
+		if (createDate != null) {
+			resourceResponse.setProperty(HttpHeaders.LAST_MODIFIED, toHttpDate(createDate));
+		}
+
+		if (isNotModified(resourceRequest, eTag, createDate)) {
+			resourceResponse.setProperty(ResourceResponse.HTTP_STATUS_CODE, String.valueOf(HttpServletResponse.SC_NOT_MODIFIED));
+			return;
+		}
+
+		try {
+			File thumbnail = null;
+			if (thumbnailSize > 0) {
+				/* Falls back to the original if the image cannot be decoded */
+				thumbnail = thumbnailCache.getThumbnail(lfImage, thumbnailSize);
+			}
+			Blob blob = null;
+			long length;
+			String contentType;
+			if (thumbnail != null) {
+				length = thumbnail.length();
+				contentType = thumbnailCache.getContentType(lfImage);
+			} else {
+				blob = lfImage.getImage();
+				if (blob == null) {
+					resourceResponse.setProperty(ResourceResponse.HTTP_STATUS_CODE, String.valueOf(HttpServletResponse.SC_NOT_FOUND));
+					return;
+				}
+				length = lfImage.getSize() > 0 ? lfImage.getSize() : blob.length();
+				contentType = lfImage.getImageContentType();
+			}
+
+			long start = 0;
+			long end = length - 1;
+			String range = resourceRequest.getProperty("Range");
+			String ifRange = resourceRequest.getProperty("If-Range");
+			/* Multiple ranges are answered with the whole image */
+			if (Validator.isNotNull(range) && range.startsWith("bytes=") && range.indexOf(',') < 0
+					&& (Validator.isNull(ifRange) || ifRange.equals(eTag))) {
+				long[] bounds = parseRange(range, length);
+				if (bounds == null) {
+					resourceResponse.setProperty("Content-Range", "bytes */" + length);
+					resourceResponse.setProperty(ResourceResponse.HTTP_STATUS_CODE, String.valueOf(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE));
+					return;
+				}
+				start = bounds[0];
+				end = bounds[1];
+				resourceResponse.setProperty("Content-Range", "bytes " + start + "-" + end + "/" + length);
+				resourceResponse.setProperty(ResourceResponse.HTTP_STATUS_CODE, String.valueOf(HttpServletResponse.SC_PARTIAL_CONTENT));
+			}
+
+			resourceResponse.setContentType(contentType);
+			resourceResponse.setContentLength((int) (end - start + 1));
+			try (InputStream in = thumbnail != null ? new FileInputStream(thumbnail) : blob.getBinaryStream()) {
+				copy(in, resourceResponse.getPortletOutputStream(), start, end - start + 1);
+			}
+		} catch (SQLException e) {
+			throw new PortletException(e);
+		}
+	}
+
+	/**
+	 * @return Whether the user may view the image's item. Items published as
+	 *         visible assets follow their asset renderer, so guests see the
+	 *         images of the items they can see, other items require the view
+	 *         permission on their group.
+	 */
+	private boolean hasViewPermission(ResourceRequest resourceRequest, LFImage lfImage) {
+		Item item = ItemLocalServiceUtil.fetchItem(lfImage.getItemId());
+		if (item == null) {
+			return false;
+		}
+		ThemeDisplay themeDisplay = (ThemeDisplay)resourceRequest.getAttribute(WebKeys.THEME_DISPLAY);
+		PermissionChecker permissionChecker = themeDisplay.getPermissionChecker();
+		try {
+			AssetEntry assetEntry = AssetEntryLocalServiceUtil.fetchEntry(Item.class.getName(), item.getItemId());
+			if (assetEntry != null && assetEntry.isVisible()) {
+				AssetRendererFactory<?> assetRendererFactory = AssetRendererFactoryRegistryUtil.getAssetRendererFactoryByClassName(Item.class.getName());
+				if (assetRendererFactory != null && assetRendererFactory.getAssetRenderer(item.getItemId()).hasViewPermission(permissionChecker)) {
+					return true;
+				}
+			}
+			return GroupPermissionUtil.contains(permissionChecker, item.getGroupId(), ActionKeys.VIEW);
+		} catch (PortalException e) {
+			_log.debug("Unable to check the permission on item " + item.getItemId(), e);
+			return false;
+		}
+	}
+
+	private boolean isNotModified(ResourceRequest resourceRequest, String eTag, Date lastModified) {
+		String ifNoneMatch = resourceRequest.getProperty("If-None-Match");
+		if (Validator.isNotNull(ifNoneMatch)) {
+			return ifNoneMatch.equals("*") || ifNoneMatch.contains(eTag);
+		}
+		String ifModifiedSince = resourceRequest.getProperty(HttpHeaders.IF_MODIFIED_SINCE);
+		if (Validator.isNotNull(ifModifiedSince) && lastModified != null) {
+			try {
+				long since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+				/* HTTP dates have a one second resolution */
+				return lastModified.getTime() / 1000 <= since / 1000;
+			} catch (DateTimeParseException e) {
+				return false;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param range
+	 *            A single range of bytes
+	 * @return The first and last byte of the range, or null if the range
+	 *         cannot be satisfied
+	 */
+	private long[] parseRange(String range, long length) {
+		String spec = range.substring(6).trim();
+		int dash = spec.indexOf('-');
+		if (dash < 0) {
+			return null;
+		}
+		long start;
+		long end;
+		try {
+			if (dash == 0) {
+				long suffix = Long.parseLong(spec.substring(1));
+				start = Math.max(0, length - suffix);
+				end = length - 1;
+			} else {
+				start = Long.parseLong(spec.substring(0, dash));
+				end = dash == spec.length() - 1 ? length - 1 : Math.min(length - 1, Long.parseLong(spec.substring(dash + 1)));
+			}
+		} catch (NumberFormatException e) {
+			return null;
+		}
+		if (start >= length || start > end) {
+			return null;
+		}
+		return new long[] {start, end};
+	}
+
+	private void copy(InputStream in, OutputStream out, long offset, long count) throws IOException {
+		while (offset > 0) {
+			long skipped = in.skip(offset);
+			if (skipped <= 0) {
+				throw new EOFException("Image shorter than its size");
+			}
+			offset -= skipped;
+		}
+		byte[] buffer = new byte[8192];
+		while (count > 0) {
+			int n = in.read(buffer, 0, (int) Math.min(buffer.length, count));
+			if (n == -1) {
+				throw new EOFException("Image shorter than its size");
+			}
+			out.write(buffer, 0, n);
+			count -= n;
+		}
+	}
+
+	private String toHttpDate(Date date) {
+		return DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(date.toInstant(), ZoneOffset.UTC));
+	}
+
 	Log _log = LogFactoryUtil.getLog(this.getClass());
 
 	public static final String PATH_EDIT_ITEM = "/html/manager/edit_item.jsp";
 
+	public static final String RESOURCE_IMAGE = "serveImage";
+
+	public static final int THUMBNAIL_SIZE_CARD = 128;
+
 }
@@ -148,30 +148,95 @@ public class ItemLocalServiceClpInvoker {
 				"net.indaba.lostandfound.model.Item"
 			};
 
-		_methodName55 = "getOSGiServiceIdentifier";
+		_methodName71 = "getOSGiServiceIdentifier";
 
-		_methodParameterTypes55 = new String[] {  };
+		_methodParameterTypes71 = new String[] {  };
 
-		_methodName62 = "getItems";
+		_methodName83 = "getItems";
 
-		_methodParameterTypes62 = new String[] { "long", "int", "int" };
+		_methodParameterTypes83 = new String[] { "long", "int", "int" };
 
-		_methodName63 = "addOrUpdateItem";
+		_methodName84 = "getItems";
 
-		_methodParameterTypes63 = new String[] {
+		_methodParameterTypes84 = new String[] {
+				"long", "int", "int",
+				"com.liferay.portal.kernel.util.OrderByComparator"
+			};
+
+		_methodName85 = "getItemsCount";
+
+		_methodParameterTypes85 = new String[] { "long" };
+
+		_methodName86 = "getItemsByType";
+
+		_methodParameterTypes86 = new String[] {
+				"long", "java.lang.String", "int", "int",
+				"com.liferay.portal.kernel.util.OrderByComparator"
+			};
+
+		_methodName87 = "getItemsByTypeCount";
+
+		_methodParameterTypes87 = new String[] { "long", "java.lang.String" };
+
+		_methodName88 = "getItemsByCreateDate";
+
+		_methodParameterTypes88 = new String[] {
+				"long", "java.util.Date", "java.util.Date", "int", "int"
+			};
+
+		_methodName89 = "getItemsByCreateDateCount";
+
+		_methodParameterTypes89 = new String[] {
+				"long", "java.util.Date", "java.util.Date"
+			};
+
+		_methodName90 = "getItemsAfter";
+
+		_methodParameterTypes90 = new String[] {
+				"long", "java.util.Date", "long", "boolean", "int"
+			};
+
+		_methodName91 = "searchItems";
+
+		_methodParameterTypes91 = new String[] {
+				"long", "long", "java.lang.String", "java.util.Date",
+				"java.util.Date", "long[]", "int", "int",
+				"com.liferay.portal.kernel.search.Sort"
+			};
+
+		_methodName92 = "findNearby";
+
+		_methodParameterTypes92 = new String[] {
+				"double", "double", "double", "java.lang.String", "int", "int"
+			};
+
+		_methodName96 = "getItemsCategories";
+
+		_methodParameterTypes96 = new String[] { "long[]" };
+
+		_methodName97 = "addOrUpdateItem";
+
+		_methodParameterTypes97 = new String[] {
 				"net.indaba.lostandfound.model.Item",
 				"com.liferay.portal.kernel.service.ServiceContext"
 			};
 
-		_methodName64 = "deleteItem";
+		_methodName98 = "addItems";
+
+		_methodParameterTypes98 = new String[] {
+				"java.util.List",
+				"com.liferay.portal.kernel.service.ServiceContext"
+			};
+
+		_methodName99 = "deleteItem";
 
-		_methodParameterTypes64 = new String[] {
+		_methodParameterTypes99 = new String[] {
 				"long", "com.liferay.portal.kernel.service.ServiceContext"
 			};
 
-		_methodName65 = "deleteItem";
+		_methodName100 = "deleteItem";
 
-		_methodParameterTypes65 = new String[] {
+		_methodParameterTypes100 = new String[] {
 				"net.indaba.lostandfound.model.Item",
 				"com.liferay.portal.kernel.service.ServiceContext"
 			};
@@ -313,32 +378,114 @@ public class ItemLocalServiceClpInvoker {
 			return ItemLocalServiceUtil.updateItem((net.indaba.lostandfound.model.Item)arguments[0]);
 		}
 
-		if (_methodName55.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes55, parameterTypes)) {
+		if (_methodName71.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes71, parameterTypes)) {
 			return ItemLocalServiceUtil.getOSGiServiceIdentifier();
 		}
 
-		if (_methodName62.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes62, parameterTypes)) {
+		if (_methodName83.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes83, parameterTypes)) {
 			return ItemLocalServiceUtil.getItems(((Long)arguments[0]).longValue(),
 				((Integer)arguments[1]).intValue(),
 				((Integer)arguments[2]).intValue());
 		}
 
-		if (_methodName63.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes63, parameterTypes)) {
+		if (_methodName84.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes84, parameterTypes)) {
+			return ItemLocalServiceUtil.getItems(((Long)arguments[0]).longValue(),
+				((Integer)arguments[1]).intValue(),
+				((Integer)arguments[2]).intValue(),
+				(com.liferay.portal.kernel.util.OrderByComparator<net.indaba.lostandfound.model.Item>)arguments[3]);
+		}
+
+		if (_methodName85.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes85, parameterTypes)) {
+			return ItemLocalServiceUtil.getItemsCount(((Long)arguments[0]).longValue());
+		}
+
+		if (_methodName86.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes86, parameterTypes)) {
+			return ItemLocalServiceUtil.getItemsByType(((Long)arguments[0]).longValue(),
+				(java.lang.String)arguments[1],
+				((Integer)arguments[2]).intValue(),
+				((Integer)arguments[3]).intValue(),
+				(com.liferay.portal.kernel.util.OrderByComparator<net.indaba.lostandfound.model.Item>)arguments[4]);
+		}
+
+		if (_methodName87.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes87, parameterTypes)) {
+			return ItemLocalServiceUtil.getItemsByTypeCount(((Long)arguments[0]).longValue(),
+				(java.lang.String)arguments[1]);
+		}
+
+		if (_methodName88.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes88, parameterTypes)) {
+			return ItemLocalServiceUtil.getItemsByCreateDate(((Long)arguments[0]).longValue(),
+				(java.util.Date)arguments[1], (java.util.Date)arguments[2],
+				((Integer)arguments[3]).intValue(),
+				((Integer)arguments[4]).intValue());
+		}
+
+		if (_methodName89.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes89, parameterTypes)) {
+			return ItemLocalServiceUtil.getItemsByCreateDateCount(((Long)arguments[0]).longValue(),
+				(java.util.Date)arguments[1], (java.util.Date)arguments[2]);
+		}
+
+		if (_methodName90.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes90, parameterTypes)) {
+			return ItemLocalServiceUtil.getItemsAfter(((Long)arguments[0]).longValue(),
+				(java.util.Date)arguments[1], ((Long)arguments[2]).longValue(),
+				((Boolean)arguments[3]).booleanValue(),
+				((Integer)arguments[4]).intValue());
+		}
+
+		if (_methodName91.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes91, parameterTypes)) {
+			return ItemLocalServiceUtil.searchItems(((Long)arguments[0]).longValue(),
+				((Long)arguments[1]).longValue(),
+				(java.lang.String)arguments[2], (java.util.Date)arguments[3],
+				(java.util.Date)arguments[4], (long[])arguments[5],
+				((Integer)arguments[6]).intValue(),
+				((Integer)arguments[7]).intValue(),
+				(com.liferay.portal.kernel.search.Sort)arguments[8]);
+		}
+
+		if (_methodName92.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes92, parameterTypes)) {
+			return ItemLocalServiceUtil.findNearby(((Double)arguments[0]).doubleValue(),
+				((Double)arguments[1]).doubleValue(),
+				((Double)arguments[2]).doubleValue(),
+				(java.lang.String)arguments[3],
+				((Integer)arguments[4]).intValue(),
+				((Integer)arguments[5]).intValue());
+		}
+
+		if (_methodName96.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes96, parameterTypes)) {
+			return ItemLocalServiceUtil.getItemsCategories((long[])arguments[0]);
+		}
+
+		if (_methodName97.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes97, parameterTypes)) {
 			return ItemLocalServiceUtil.addOrUpdateItem((net.indaba.lostandfound.model.Item)arguments[0],
 				(com.liferay.portal.kernel.service.ServiceContext)arguments[1]);
 		}
 
-		if (_methodName64.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes64, parameterTypes)) {
+		if (_methodName98.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes98, parameterTypes)) {
+			return ItemLocalServiceUtil.addItems((java.util.List<net.indaba.lostandfound.model.Item>)arguments[0],
+				(com.liferay.portal.kernel.service.ServiceContext)arguments[1]);
+		}
+
+		if (_methodName99.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes99, parameterTypes)) {
 			return ItemLocalServiceUtil.deleteItem(((Long)arguments[0]).longValue(),
 				(com.liferay.portal.kernel.service.ServiceContext)arguments[1]);
 		}
 
-		if (_methodName65.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes65, parameterTypes)) {
+		if (_methodName100.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes100, parameterTypes)) {
 			return ItemLocalServiceUtil.deleteItem((net.indaba.lostandfound.model.Item)arguments[0],
 				(com.liferay.portal.kernel.service.ServiceContext)arguments[1]);
 		}
@@ -394,14 +541,36 @@ public class ItemLocalServiceClpInvoker {
 	private String[] _methodParameterTypes23;
 	private String _methodName24;
 	private String[] _methodParameterTypes24;
-	private String _methodName55;
-	private String[] _methodParameterTypes55;
-	private String _methodName62;
-	private String[] _methodParameterTypes62;
-	private String _methodName63;
-	private String[] _methodParameterTypes63;
-	private String _methodName64;
-	private String[] _methodParameterTypes64;
-	private String _methodName65;
-	private String[] _methodParameterTypes65;
+	private String _methodName71;
+	private String[] _methodParameterTypes71;
+	private String _methodName83;
+	private String[] _methodParameterTypes83;
+	private String _methodName84;
+	private String[] _methodParameterTypes84;
+	private String _methodName85;
+	private String[] _methodParameterTypes85;
+	private String _methodName86;
+	private String[] _methodParameterTypes86;
+	private String _methodName87;
+	private String[] _methodParameterTypes87;
+	private String _methodName88;
+	private String[] _methodParameterTypes88;
+	private String _methodName89;
+	private String[] _methodParameterTypes89;
+	private String _methodName90;
+	private String[] _methodParameterTypes90;
+	private String _methodName91;
+	private String[] _methodParameterTypes91;
+	private String _methodName92;
+	private String[] _methodParameterTypes92;
+	private String _methodName96;
+	private String[] _methodParameterTypes96;
+	private String _methodName97;
+	private String[] _methodParameterTypes97;
+	private String _methodName98;
+	private String[] _methodParameterTypes98;
+	private String _methodName99;
+	private String[] _methodParameterTypes99;
+	private String _methodName100;
+	private String[] _methodParameterTypes100;
 }
\ No newline at end of file
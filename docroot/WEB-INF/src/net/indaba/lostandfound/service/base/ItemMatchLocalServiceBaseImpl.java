@@ -0,0 +1,728 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service.base;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.bean.BeanReference;
+import com.liferay.portal.kernel.dao.db.DB;
+import com.liferay.portal.kernel.dao.db.DBManagerUtil;
+import com.liferay.portal.kernel.dao.jdbc.SqlUpdate;
+import com.liferay.portal.kernel.dao.jdbc.SqlUpdateFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DefaultActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.orm.Projection;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.model.PersistedModel;
+import com.liferay.portal.kernel.module.framework.service.IdentifiableOSGiService;
+import com.liferay.portal.kernel.search.Indexable;
+import com.liferay.portal.kernel.search.IndexableType;
+import com.liferay.portal.kernel.service.BaseLocalServiceImpl;
+import com.liferay.portal.kernel.service.PersistedModelLocalServiceRegistryUtil;
+import com.liferay.portal.kernel.service.persistence.ClassNamePersistence;
+import com.liferay.portal.kernel.service.persistence.UserPersistence;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.PortalUtil;
+
+import net.indaba.lostandfound.model.ItemMatch;
+import net.indaba.lostandfound.service.ItemMatchLocalService;
+import net.indaba.lostandfound.service.persistence.FirebaseKeyPersistence;
+import net.indaba.lostandfound.service.persistence.FirebaseOutboxEntryPersistence;
+import net.indaba.lostandfound.service.persistence.ItemMatchPersistence;
+import net.indaba.lostandfound.service.persistence.ItemPersistence;
+import net.indaba.lostandfound.service.persistence.LFImagePersistence;
+
+import java.io.Serializable;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+/**
+ * Provides the base implementation for the item match local service.
+ *
+ * <p>
+ * This implementation exists only as a container for the default service methods generated by ServiceBuilder. All custom service methods should be put in {@link net.indaba.lostandfound.service.impl.ItemMatchLocalServiceImpl}.
+ * </p>
+ *
+ * @author aritz
+ * @see net.indaba.lostandfound.service.impl.ItemMatchLocalServiceImpl
+ * @see net.indaba.lostandfound.service.ItemMatchLocalServiceUtil
+ * @generated
+ */
+@ProviderType
+public abstract class ItemMatchLocalServiceBaseImpl extends BaseLocalServiceImpl
+	implements ItemMatchLocalService, IdentifiableOSGiService {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. Always use {@link net.indaba.lostandfound.service.ItemMatchLocalServiceUtil} to access the item match local service.
+	 */
+
+	/**
+	 * Adds the item match to the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param itemMatch the item match
+	 * @return the item match that was added
+	 */
+	@Indexable(type = IndexableType.REINDEX)
+	@Override
+	public ItemMatch addItemMatch(ItemMatch itemMatch) {
+		itemMatch.setNew(true);
+
+		return itemMatchPersistence.update(itemMatch);
+	}
+
+	/**
+	 * Creates a new item match with the primary key. Does not add the item match to the database.
+	 *
+	 * @param matchId the primary key for the new item match
+	 * @return the new item match
+	 */
+	@Override
+	public ItemMatch createItemMatch(long matchId) {
+		return itemMatchPersistence.create(matchId);
+	}
+
+	/**
+	 * Deletes the item match with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param matchId the primary key of the item match
+	 * @return the item match that was removed
+	 * @throws PortalException if a item match with the primary key could not be found
+	 */
+	@Indexable(type = IndexableType.DELETE)
+	@Override
+	public ItemMatch deleteItemMatch(long matchId) throws PortalException {
+		return itemMatchPersistence.remove(matchId);
+	}
+
+	/**
+	 * Deletes the item match from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param itemMatch the item match
+	 * @return the item match that was removed
+	 */
+	@Indexable(type = IndexableType.DELETE)
+	@Override
+	public ItemMatch deleteItemMatch(ItemMatch itemMatch) {
+		return itemMatchPersistence.remove(itemMatch);
+	}
+
+	@Override
+	public DynamicQuery dynamicQuery() {
+		Class<?> clazz = getClass();
+
+		return DynamicQueryFactoryUtil.forClass(ItemMatch.class,
+			clazz.getClassLoader());
+	}
+
+	/**
+	 * Performs a dynamic query on the database and returns the matching rows.
+	 *
+	 * @param dynamicQuery the dynamic query
+	 * @return the matching rows
+	 */
+	@Override
+	public <T> List<T> dynamicQuery(DynamicQuery dynamicQuery) {
+		return itemMatchPersistence.findWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * Performs a dynamic query on the database and returns a range of the matching rows.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param dynamicQuery the dynamic query
+	 * @param start the lower bound of the range of model instances
+	 * @param end the upper bound of the range of model instances (not inclusive)
+	 * @return the range of matching rows
+	 */
+	@Override
+	public <T> List<T> dynamicQuery(DynamicQuery dynamicQuery, int start,
+		int end) {
+		return itemMatchPersistence.findWithDynamicQuery(dynamicQuery, start,
+			end);
+	}
+
+	/**
+	 * Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param dynamicQuery the dynamic query
+	 * @param start the lower bound of the range of model instances
+	 * @param end the upper bound of the range of model instances (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching rows
+	 */
+	@Override
+	public <T> List<T> dynamicQuery(DynamicQuery dynamicQuery, int start,
+		int end, OrderByComparator<T> orderByComparator) {
+		return itemMatchPersistence.findWithDynamicQuery(dynamicQuery, start,
+			end, orderByComparator);
+	}
+
+	/**
+	 * Returns the number of rows matching the dynamic query.
+	 *
+	 * @param dynamicQuery the dynamic query
+	 * @return the number of rows matching the dynamic query
+	 */
+	@Override
+	public long dynamicQueryCount(DynamicQuery dynamicQuery) {
+		return itemMatchPersistence.countWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * Returns the number of rows matching the dynamic query.
+	 *
+	 * @param dynamicQuery the dynamic query
+	 * @param projection the projection to apply to the query
+	 * @return the number of rows matching the dynamic query
+	 */
+	@Override
+	public long dynamicQueryCount(DynamicQuery dynamicQuery,
+		Projection projection) {
+		return itemMatchPersistence.countWithDynamicQuery(dynamicQuery,
+			projection);
+	}
+
+	@Override
+	public ItemMatch fetchItemMatch(long matchId) {
+		return itemMatchPersistence.fetchByPrimaryKey(matchId);
+	}
+
+	/**
+	 * Returns the item match with the primary key.
+	 *
+	 * @param matchId the primary key of the item match
+	 * @return the item match
+	 * @throws PortalException if a item match with the primary key could not be found
+	 */
+	@Override
+	public ItemMatch getItemMatch(long matchId) throws PortalException {
+		return itemMatchPersistence.findByPrimaryKey(matchId);
+	}
+
+	@Override
+	public ActionableDynamicQuery getActionableDynamicQuery() {
+		ActionableDynamicQuery actionableDynamicQuery = new DefaultActionableDynamicQuery();
+
+		actionableDynamicQuery.setBaseLocalService(net.indaba.lostandfound.service.ItemMatchLocalServiceUtil.getService());
+		actionableDynamicQuery.setClassLoader(getClassLoader());
+		actionableDynamicQuery.setModelClass(ItemMatch.class);
+
+		actionableDynamicQuery.setPrimaryKeyPropertyName("matchId");
+
+		return actionableDynamicQuery;
+	}
+
+	@Override
+	public IndexableActionableDynamicQuery getIndexableActionableDynamicQuery() {
+		IndexableActionableDynamicQuery indexableActionableDynamicQuery = new IndexableActionableDynamicQuery();
+
+		indexableActionableDynamicQuery.setBaseLocalService(net.indaba.lostandfound.service.ItemMatchLocalServiceUtil.getService());
+		indexableActionableDynamicQuery.setClassLoader(getClassLoader());
+		indexableActionableDynamicQuery.setModelClass(ItemMatch.class);
+
+		indexableActionableDynamicQuery.setPrimaryKeyPropertyName("matchId");
+
+		return indexableActionableDynamicQuery;
+	}
+
+	protected void initActionableDynamicQuery(
+		ActionableDynamicQuery actionableDynamicQuery) {
+		actionableDynamicQuery.setBaseLocalService(net.indaba.lostandfound.service.ItemMatchLocalServiceUtil.getService());
+		actionableDynamicQuery.setClassLoader(getClassLoader());
+		actionableDynamicQuery.setModelClass(ItemMatch.class);
+
+		actionableDynamicQuery.setPrimaryKeyPropertyName("matchId");
+	}
+
+	/**
+	 * @throws PortalException
+	 */
+	@Override
+	public PersistedModel deletePersistedModel(PersistedModel persistedModel)
+		throws PortalException {
+		return itemMatchLocalService.deleteItemMatch((ItemMatch)persistedModel);
+	}
+
+	@Override
+	public PersistedModel getPersistedModel(Serializable primaryKeyObj)
+		throws PortalException {
+		return itemMatchPersistence.findByPrimaryKey(primaryKeyObj);
+	}
+
+	/**
+	 * Returns a range of all the item matchs.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link net.indaba.lostandfound.model.impl.ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of item matchs
+	 * @param end the upper bound of the range of item matchs (not inclusive)
+	 * @return the range of item matchs
+	 */
+	@Override
+	public List<ItemMatch> getItemMatchs(int start, int end) {
+		return itemMatchPersistence.findAll(start, end);
+	}
+
+	/**
+	 * Returns the number of item matchs.
+	 *
+	 * @return the number of item matchs
+	 */
+	@Override
+	public int getItemMatchsCount() {
+		return itemMatchPersistence.countAll();
+	}
+
+	/**
+	 * Updates the item match in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	 *
+	 * @param itemMatch the item match
+	 * @return the item match that was updated
+	 */
+	@Indexable(type = IndexableType.REINDEX)
+	@Override
+	public ItemMatch updateItemMatch(ItemMatch itemMatch) {
+		return itemMatchPersistence.update(itemMatch);
+	}
+
+	/**
+	 * Returns the firebase key local service.
+	 *
+	 * @return the firebase key local service
+	 */
+	public net.indaba.lostandfound.service.FirebaseKeyLocalService getFirebaseKeyLocalService() {
+		return firebaseKeyLocalService;
+	}
+
+	/**
+	 * Sets the firebase key local service.
+	 *
+	 * @param firebaseKeyLocalService the firebase key local service
+	 */
+	public void setFirebaseKeyLocalService(
+		net.indaba.lostandfound.service.FirebaseKeyLocalService firebaseKeyLocalService) {
+		this.firebaseKeyLocalService = firebaseKeyLocalService;
+	}
+
+	/**
+	 * Returns the firebase key persistence.
+	 *
+	 * @return the firebase key persistence
+	 */
+	public FirebaseKeyPersistence getFirebaseKeyPersistence() {
+		return firebaseKeyPersistence;
+	}
+
+	/**
+	 * Sets the firebase key persistence.
+	 *
+	 * @param firebaseKeyPersistence the firebase key persistence
+	 */
+	public void setFirebaseKeyPersistence(
+		FirebaseKeyPersistence firebaseKeyPersistence) {
+		this.firebaseKeyPersistence = firebaseKeyPersistence;
+	}
+
+	/**
+	 * Returns the firebase outbox entry local service.
+	 *
+	 * @return the firebase outbox entry local service
+	 */
+	public net.indaba.lostandfound.service.FirebaseOutboxEntryLocalService getFirebaseOutboxEntryLocalService() {
+		return firebaseOutboxEntryLocalService;
+	}
+
+	/**
+	 * Sets the firebase outbox entry local service.
+	 *
+	 * @param firebaseOutboxEntryLocalService the firebase outbox entry local service
+	 */
+	public void setFirebaseOutboxEntryLocalService(
+		net.indaba.lostandfound.service.FirebaseOutboxEntryLocalService firebaseOutboxEntryLocalService) {
+		this.firebaseOutboxEntryLocalService = firebaseOutboxEntryLocalService;
+	}
+
+	/**
+	 * Returns the firebase outbox entry persistence.
+	 *
+	 * @return the firebase outbox entry persistence
+	 */
+	public FirebaseOutboxEntryPersistence getFirebaseOutboxEntryPersistence() {
+		return firebaseOutboxEntryPersistence;
+	}
+
+	/**
+	 * Sets the firebase outbox entry persistence.
+	 *
+	 * @param firebaseOutboxEntryPersistence the firebase outbox entry persistence
+	 */
+	public void setFirebaseOutboxEntryPersistence(
+		FirebaseOutboxEntryPersistence firebaseOutboxEntryPersistence) {
+		this.firebaseOutboxEntryPersistence = firebaseOutboxEntryPersistence;
+	}
+
+	/**
+	 * Returns the item local service.
+	 *
+	 * @return the item local service
+	 */
+	public net.indaba.lostandfound.service.ItemLocalService getItemLocalService() {
+		return itemLocalService;
+	}
+
+	/**
+	 * Sets the item local service.
+	 *
+	 * @param itemLocalService the item local service
+	 */
+	public void setItemLocalService(
+		net.indaba.lostandfound.service.ItemLocalService itemLocalService) {
+		this.itemLocalService = itemLocalService;
+	}
+
+	/**
+	 * Returns the item persistence.
+	 *
+	 * @return the item persistence
+	 */
+	public ItemPersistence getItemPersistence() {
+		return itemPersistence;
+	}
+
+	/**
+	 * Sets the item persistence.
+	 *
+	 * @param itemPersistence the item persistence
+	 */
+	public void setItemPersistence(ItemPersistence itemPersistence) {
+		this.itemPersistence = itemPersistence;
+	}
+
+	/**
+	 * Returns the item match local service.
+	 *
+	 * @return the item match local service
+	 */
+	public ItemMatchLocalService getItemMatchLocalService() {
+		return itemMatchLocalService;
+	}
+
+	/**
+	 * Sets the item match local service.
+	 *
+	 * @param itemMatchLocalService the item match local service
+	 */
+	public void setItemMatchLocalService(
+		ItemMatchLocalService itemMatchLocalService) {
+		this.itemMatchLocalService = itemMatchLocalService;
+	}
+
+	/**
+	 * Returns the item match persistence.
+	 *
+	 * @return the item match persistence
+	 */
+	public ItemMatchPersistence getItemMatchPersistence() {
+		return itemMatchPersistence;
+	}
+
+	/**
+	 * Sets the item match persistence.
+	 *
+	 * @param itemMatchPersistence the item match persistence
+	 */
+	public void setItemMatchPersistence(
+		ItemMatchPersistence itemMatchPersistence) {
+		this.itemMatchPersistence = itemMatchPersistence;
+	}
+
+	/**
+	 * Returns the l f image local service.
+	 *
+	 * @return the l f image local service
+	 */
+	public net.indaba.lostandfound.service.LFImageLocalService getLFImageLocalService() {
+		return lfImageLocalService;
+	}
+
+	/**
+	 * Sets the l f image local service.
+	 *
+	 * @param lfImageLocalService the l f image local service
+	 */
+	public void setLFImageLocalService(
+		net.indaba.lostandfound.service.LFImageLocalService lfImageLocalService) {
+		this.lfImageLocalService = lfImageLocalService;
+	}
+
+	/**
+	 * Returns the l f image persistence.
+	 *
+	 * @return the l f image persistence
+	 */
+	public LFImagePersistence getLFImagePersistence() {
+		return lfImagePersistence;
+	}
+
+	/**
+	 * Sets the l f image persistence.
+	 *
+	 * @param lfImagePersistence the l f image persistence
+	 */
+	public void setLFImagePersistence(LFImagePersistence lfImagePersistence) {
+		this.lfImagePersistence = lfImagePersistence;
+	}
+
+	/**
+	 * Returns the counter local service.
+	 *
+	 * @return the counter local service
+	 */
+	public com.liferay.counter.kernel.service.CounterLocalService getCounterLocalService() {
+		return counterLocalService;
+	}
+
+	/**
+	 * Sets the counter local service.
+	 *
+	 * @param counterLocalService the counter local service
+	 */
+	public void setCounterLocalService(
+		com.liferay.counter.kernel.service.CounterLocalService counterLocalService) {
+		this.counterLocalService = counterLocalService;
+	}
+
+	/**
+	 * Returns the class name local service.
+	 *
+	 * @return the class name local service
+	 */
+	public com.liferay.portal.kernel.service.ClassNameLocalService getClassNameLocalService() {
+		return classNameLocalService;
+	}
+
+	/**
+	 * Sets the class name local service.
+	 *
+	 * @param classNameLocalService the class name local service
+	 */
+	public void setClassNameLocalService(
+		com.liferay.portal.kernel.service.ClassNameLocalService classNameLocalService) {
+		this.classNameLocalService = classNameLocalService;
+	}
+
+	/**
+	 * Returns the class name persistence.
+	 *
+	 * @return the class name persistence
+	 */
+	public ClassNamePersistence getClassNamePersistence() {
+		return classNamePersistence;
+	}
+
+	/**
+	 * Sets the class name persistence.
+	 *
+	 * @param classNamePersistence the class name persistence
+	 */
+	public void setClassNamePersistence(
+		ClassNamePersistence classNamePersistence) {
+		this.classNamePersistence = classNamePersistence;
+	}
+
+	/**
+	 * Returns the resource local service.
+	 *
+	 * @return the resource local service
+	 */
+	public com.liferay.portal.kernel.service.ResourceLocalService getResourceLocalService() {
+		return resourceLocalService;
+	}
+
+	/**
+	 * Sets the resource local service.
+	 *
+	 * @param resourceLocalService the resource local service
+	 */
+	public void setResourceLocalService(
+		com.liferay.portal.kernel.service.ResourceLocalService resourceLocalService) {
+		this.resourceLocalService = resourceLocalService;
+	}
+
+	/**
+	 * Returns the user local service.
+	 *
+	 * @return the user local service
+	 */
+	public com.liferay.portal.kernel.service.UserLocalService getUserLocalService() {
+		return userLocalService;
+	}
+
+	/**
+	 * Sets the user local service.
+	 *
+	 * @param userLocalService the user local service
+	 */
+	public void setUserLocalService(
+		com.liferay.portal.kernel.service.UserLocalService userLocalService) {
+		this.userLocalService = userLocalService;
+	}
+
+	/**
+	 * Returns the user persistence.
+	 *
+	 * @return the user persistence
+	 */
+	public UserPersistence getUserPersistence() {
+		return userPersistence;
+	}
+
+	/**
+	 * Sets the user persistence.
+	 *
+	 * @param userPersistence the user persistence
+	 */
+	public void setUserPersistence(UserPersistence userPersistence) {
+		this.userPersistence = userPersistence;
+	}
+
+	public void afterPropertiesSet() {
+		Class<?> clazz = getClass();
+
+		_classLoader = clazz.getClassLoader();
+
+		PersistedModelLocalServiceRegistryUtil.register("net.indaba.lostandfound.model.ItemMatch",
+			itemMatchLocalService);
+	}
+
+	public void destroy() {
+		PersistedModelLocalServiceRegistryUtil.unregister(
+			"net.indaba.lostandfound.model.ItemMatch");
+	}
+
+	/**
+	 * Returns the OSGi service identifier.
+	 *
+	 * @return the OSGi service identifier
+	 */
+	@Override
+	public String getOSGiServiceIdentifier() {
+		return ItemMatchLocalService.class.getName();
+	}
+
+	@Override
+	public Object invokeMethod(String name, String[] parameterTypes,
+		Object[] arguments) throws Throwable {
+		Thread currentThread = Thread.currentThread();
+
+		ClassLoader contextClassLoader = currentThread.getContextClassLoader();
+
+		if (contextClassLoader != _classLoader) {
+			currentThread.setContextClassLoader(_classLoader);
+		}
+
+		try {
+			return _clpInvoker.invokeMethod(name, parameterTypes, arguments);
+		}
+		finally {
+			if (contextClassLoader != _classLoader) {
+				currentThread.setContextClassLoader(contextClassLoader);
+			}
+		}
+	}
+
+	protected Class<?> getModelClass() {
+		return ItemMatch.class;
+	}
+
+	protected String getModelClassName() {
+		return ItemMatch.class.getName();
+	}
+
+	/**
+	 * Performs a SQL query.
+	 *
+	 * @param sql the sql query
+	 */
+	protected void runSQL(String sql) {
+		try {
+			DataSource dataSource = itemMatchPersistence.getDataSource();
+
+			DB db = DBManagerUtil.getDB();
+
+			sql = db.buildSQL(sql);
+			sql = PortalUtil.transformSQL(sql);
+
+			SqlUpdate sqlUpdate = SqlUpdateFactoryUtil.getSqlUpdate(dataSource,
+					sql);
+
+			sqlUpdate.update();
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+	}
+
+	@BeanReference(type = net.indaba.lostandfound.service.FirebaseKeyLocalService.class)
+	protected net.indaba.lostandfound.service.FirebaseKeyLocalService firebaseKeyLocalService;
+	@BeanReference(type = FirebaseKeyPersistence.class)
+	protected FirebaseKeyPersistence firebaseKeyPersistence;
+	@BeanReference(type = net.indaba.lostandfound.service.FirebaseOutboxEntryLocalService.class)
+	protected net.indaba.lostandfound.service.FirebaseOutboxEntryLocalService firebaseOutboxEntryLocalService;
+	@BeanReference(type = FirebaseOutboxEntryPersistence.class)
+	protected FirebaseOutboxEntryPersistence firebaseOutboxEntryPersistence;
+	@BeanReference(type = net.indaba.lostandfound.service.ItemLocalService.class)
+	protected net.indaba.lostandfound.service.ItemLocalService itemLocalService;
+	@BeanReference(type = ItemPersistence.class)
+	protected ItemPersistence itemPersistence;
+	@BeanReference(type = net.indaba.lostandfound.service.ItemMatchLocalService.class)
+	protected ItemMatchLocalService itemMatchLocalService;
+	@BeanReference(type = ItemMatchPersistence.class)
+	protected ItemMatchPersistence itemMatchPersistence;
+	@BeanReference(type = net.indaba.lostandfound.service.LFImageLocalService.class)
+	protected net.indaba.lostandfound.service.LFImageLocalService lfImageLocalService;
+	@BeanReference(type = LFImagePersistence.class)
+	protected LFImagePersistence lfImagePersistence;
+	@BeanReference(type = com.liferay.counter.kernel.service.CounterLocalService.class)
+	protected com.liferay.counter.kernel.service.CounterLocalService counterLocalService;
+	@BeanReference(type = com.liferay.portal.kernel.service.ClassNameLocalService.class)
+	protected com.liferay.portal.kernel.service.ClassNameLocalService classNameLocalService;
+	@BeanReference(type = ClassNamePersistence.class)
+	protected ClassNamePersistence classNamePersistence;
+	@BeanReference(type = com.liferay.portal.kernel.service.ResourceLocalService.class)
+	protected com.liferay.portal.kernel.service.ResourceLocalService resourceLocalService;
+	@BeanReference(type = com.liferay.portal.kernel.service.UserLocalService.class)
+	protected com.liferay.portal.kernel.service.UserLocalService userLocalService;
+	@BeanReference(type = UserPersistence.class)
+	protected UserPersistence userPersistence;
+	private ClassLoader _classLoader;
+	private ItemMatchLocalServiceClpInvoker _clpInvoker = new ItemMatchLocalServiceClpInvoker();
+}
\ No newline at end of file
@@ -14,6 +14,7 @@
 
 package net.indaba.lostandfound.service.base;
 
+import com.liferay.asset.kernel.service.persistence.AssetCategoryPersistence;
 import com.liferay.asset.kernel.service.persistence.AssetEntryPersistence;
 import com.liferay.asset.kernel.service.persistence.AssetLinkPersistence;
 
@@ -31,6 +32,9 @@ import com.liferay.portal.kernel.util.PortalUtil;
 
 import net.indaba.lostandfound.model.Item;
 import net.indaba.lostandfound.service.ItemService;
+import net.indaba.lostandfound.service.persistence.FirebaseKeyPersistence;
+import net.indaba.lostandfound.service.persistence.FirebaseOutboxEntryPersistence;
+import net.indaba.lostandfound.service.persistence.ItemMatchPersistence;
 import net.indaba.lostandfound.service.persistence.ItemPersistence;
 import net.indaba.lostandfound.service.persistence.LFImagePersistence;
 
@@ -56,6 +60,82 @@ public abstract class ItemServiceBaseImpl extends BaseServiceImpl
 	 * Never modify or reference this class directly. Always use {@link net.indaba.lostandfound.service.ItemServiceUtil} to access the item remote service.
 	 */
 
+	/**
+	 * Returns the firebase key local service.
+	 *
+	 * @return the firebase key local service
+	 */
+	public net.indaba.lostandfound.service.FirebaseKeyLocalService getFirebaseKeyLocalService() {
+		return firebaseKeyLocalService;
+	}
+
+	/**
+	 * Sets the firebase key local service.
+	 *
+	 * @param firebaseKeyLocalService the firebase key local service
+	 */
+	public void setFirebaseKeyLocalService(
+		net.indaba.lostandfound.service.FirebaseKeyLocalService firebaseKeyLocalService) {
+		this.firebaseKeyLocalService = firebaseKeyLocalService;
+	}
+
+	/**
+	 * Returns the firebase key persistence.
+	 *
+	 * @return the firebase key persistence
+	 */
+	public FirebaseKeyPersistence getFirebaseKeyPersistence() {
+		return firebaseKeyPersistence;
+	}
+
+	/**
+	 * Sets the firebase key persistence.
+	 *
+	 * @param firebaseKeyPersistence the firebase key persistence
+	 */
+	public void setFirebaseKeyPersistence(
+		FirebaseKeyPersistence firebaseKeyPersistence) {
+		this.firebaseKeyPersistence = firebaseKeyPersistence;
+	}
+
+	/**
+	 * Returns the firebase outbox entry local service.
+	 *
+	 * @return the firebase outbox entry local service
+	 */
+	public net.indaba.lostandfound.service.FirebaseOutboxEntryLocalService getFirebaseOutboxEntryLocalService() {
+		return firebaseOutboxEntryLocalService;
+	}
+
+	/**
+	 * Sets the firebase outbox entry local service.
+	 *
+	 * @param firebaseOutboxEntryLocalService the firebase outbox entry local service
+	 */
+	public void setFirebaseOutboxEntryLocalService(
+		net.indaba.lostandfound.service.FirebaseOutboxEntryLocalService firebaseOutboxEntryLocalService) {
+		this.firebaseOutboxEntryLocalService = firebaseOutboxEntryLocalService;
+	}
+
+	/**
+	 * Returns the firebase outbox entry persistence.
+	 *
+	 * @return the firebase outbox entry persistence
+	 */
+	public FirebaseOutboxEntryPersistence getFirebaseOutboxEntryPersistence() {
+		return firebaseOutboxEntryPersistence;
+	}
+
+	/**
+	 * Sets the firebase outbox entry persistence.
+	 *
+	 * @param firebaseOutboxEntryPersistence the firebase outbox entry persistence
+	 */
+	public void setFirebaseOutboxEntryPersistence(
+		FirebaseOutboxEntryPersistence firebaseOutboxEntryPersistence) {
+		this.firebaseOutboxEntryPersistence = firebaseOutboxEntryPersistence;
+	}
+
 	/**
 	 * Returns the item local service.
 	 *
@@ -111,6 +191,44 @@ public abstract class ItemServiceBaseImpl extends BaseServiceImpl
 		this.itemPersistence = itemPersistence;
 	}
 
+	/**
+	 * Returns the item match local service.
+	 *
+	 * @return the item match local service
+	 */
+	public net.indaba.lostandfound.service.ItemMatchLocalService getItemMatchLocalService() {
+		return itemMatchLocalService;
+	}
+
+	/**
+	 * Sets the item match local service.
+	 *
+	 * @param itemMatchLocalService the item match local service
+	 */
+	public void setItemMatchLocalService(
+		net.indaba.lostandfound.service.ItemMatchLocalService itemMatchLocalService) {
+		this.itemMatchLocalService = itemMatchLocalService;
+	}
+
+	/**
+	 * Returns the item match persistence.
+	 *
+	 * @return the item match persistence
+	 */
+	public ItemMatchPersistence getItemMatchPersistence() {
+		return itemMatchPersistence;
+	}
+
+	/**
+	 * Sets the item match persistence.
+	 *
+	 * @param itemMatchPersistence the item match persistence
+	 */
+	public void setItemMatchPersistence(
+		ItemMatchPersistence itemMatchPersistence) {
+		this.itemMatchPersistence = itemMatchPersistence;
+	}
+
 	/**
 	 * Returns the l f image local service.
 	 *
@@ -318,6 +436,63 @@ public abstract class ItemServiceBaseImpl extends BaseServiceImpl
 		this.userPersistence = userPersistence;
 	}
 
+	/**
+	 * Returns the asset category local service.
+	 *
+	 * @return the asset category local service
+	 */
+	public com.liferay.asset.kernel.service.AssetCategoryLocalService getAssetCategoryLocalService() {
+		return assetCategoryLocalService;
+	}
+
+	/**
+	 * Sets the asset category local service.
+	 *
+	 * @param assetCategoryLocalService the asset category local service
+	 */
+	public void setAssetCategoryLocalService(
+		com.liferay.asset.kernel.service.AssetCategoryLocalService assetCategoryLocalService) {
+		this.assetCategoryLocalService = assetCategoryLocalService;
+	}
+
+	/**
+	 * Returns the asset category remote service.
+	 *
+	 * @return the asset category remote service
+	 */
+	public com.liferay.asset.kernel.service.AssetCategoryService getAssetCategoryService() {
+		return assetCategoryService;
+	}
+
+	/**
+	 * Sets the asset category remote service.
+	 *
+	 * @param assetCategoryService the asset category remote service
+	 */
+	public void setAssetCategoryService(
+		com.liferay.asset.kernel.service.AssetCategoryService assetCategoryService) {
+		this.assetCategoryService = assetCategoryService;
+	}
+
+	/**
+	 * Returns the asset category persistence.
+	 *
+	 * @return the asset category persistence
+	 */
+	public AssetCategoryPersistence getAssetCategoryPersistence() {
+		return assetCategoryPersistence;
+	}
+
+	/**
+	 * Sets the asset category persistence.
+	 *
+	 * @param assetCategoryPersistence the asset category persistence
+	 */
+	public void setAssetCategoryPersistence(
+		AssetCategoryPersistence assetCategoryPersistence) {
+		this.assetCategoryPersistence = assetCategoryPersistence;
+	}
+
 	/**
 	 * Returns the asset entry local service.
 	 *
@@ -485,12 +660,24 @@ public abstract class ItemServiceBaseImpl extends BaseServiceImpl
 		}
 	}
 
+	@BeanReference(type = net.indaba.lostandfound.service.FirebaseKeyLocalService.class)
+	protected net.indaba.lostandfound.service.FirebaseKeyLocalService firebaseKeyLocalService;
+	@BeanReference(type = FirebaseKeyPersistence.class)
+	protected FirebaseKeyPersistence firebaseKeyPersistence;
+	@BeanReference(type = net.indaba.lostandfound.service.FirebaseOutboxEntryLocalService.class)
+	protected net.indaba.lostandfound.service.FirebaseOutboxEntryLocalService firebaseOutboxEntryLocalService;
+	@BeanReference(type = FirebaseOutboxEntryPersistence.class)
+	protected FirebaseOutboxEntryPersistence firebaseOutboxEntryPersistence;
 	@BeanReference(type = net.indaba.lostandfound.service.ItemLocalService.class)
 	protected net.indaba.lostandfound.service.ItemLocalService itemLocalService;
 	@BeanReference(type = net.indaba.lostandfound.service.ItemService.class)
 	protected ItemService itemService;
 	@BeanReference(type = ItemPersistence.class)
 	protected ItemPersistence itemPersistence;
+	@BeanReference(type = net.indaba.lostandfound.service.ItemMatchLocalService.class)
+	protected net.indaba.lostandfound.service.ItemMatchLocalService itemMatchLocalService;
+	@BeanReference(type = ItemMatchPersistence.class)
+	protected ItemMatchPersistence itemMatchPersistence;
 	@BeanReference(type = net.indaba.lostandfound.service.LFImageLocalService.class)
 	protected net.indaba.lostandfound.service.LFImageLocalService lfImageLocalService;
 	@BeanReference(type = net.indaba.lostandfound.service.LFImageService.class)
@@ -513,6 +700,12 @@ public abstract class ItemServiceBaseImpl extends BaseServiceImpl
 	protected com.liferay.portal.kernel.service.UserService userService;
 	@BeanReference(type = UserPersistence.class)
 	protected UserPersistence userPersistence;
+	@BeanReference(type = com.liferay.asset.kernel.service.AssetCategoryLocalService.class)
+	protected com.liferay.asset.kernel.service.AssetCategoryLocalService assetCategoryLocalService;
+	@BeanReference(type = com.liferay.asset.kernel.service.AssetCategoryService.class)
+	protected com.liferay.asset.kernel.service.AssetCategoryService assetCategoryService;
+	@BeanReference(type = AssetCategoryPersistence.class)
+	protected AssetCategoryPersistence assetCategoryPersistence;
 	@BeanReference(type = com.liferay.asset.kernel.service.AssetEntryLocalService.class)
 	protected com.liferay.asset.kernel.service.AssetEntryLocalService assetEntryLocalService;
 	@BeanReference(type = com.liferay.asset.kernel.service.AssetEntryService.class)
@@ -27,26 +27,26 @@ import java.util.Arrays;
 @ProviderType
 public class ItemServiceClpInvoker {
 	public ItemServiceClpInvoker() {
-		_methodName40 = "getOSGiServiceIdentifier";
+		_methodName58 = "getOSGiServiceIdentifier";
 
-		_methodParameterTypes40 = new String[] {  };
+		_methodParameterTypes58 = new String[] {  };
 
-		_methodName45 = "addOrUpdateItem";
+		_methodName63 = "addOrUpdateItem";
 
-		_methodParameterTypes45 = new String[] {
+		_methodParameterTypes63 = new String[] {
 				"net.indaba.lostandfound.model.Item",
 				"com.liferay.portal.kernel.service.ServiceContext"
 			};
 
-		_methodName46 = "deleteItem";
+		_methodName64 = "deleteItem";
 
-		_methodParameterTypes46 = new String[] {
+		_methodParameterTypes64 = new String[] {
 				"long", "com.liferay.portal.kernel.service.ServiceContext"
 			};
 
-		_methodName47 = "deleteItem";
+		_methodName65 = "deleteItem";
 
-		_methodParameterTypes47 = new String[] {
+		_methodParameterTypes65 = new String[] {
 				"net.indaba.lostandfound.model.Item",
 				"com.liferay.portal.kernel.service.ServiceContext"
 			};
@@ -54,25 +54,25 @@ public class ItemServiceClpInvoker {
 
 	public Object invokeMethod(String name, String[] parameterTypes,
 		Object[] arguments) throws Throwable {
-		if (_methodName40.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes40, parameterTypes)) {
+		if (_methodName58.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes58, parameterTypes)) {
 			return ItemServiceUtil.getOSGiServiceIdentifier();
 		}
 
-		if (_methodName45.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes45, parameterTypes)) {
+		if (_methodName63.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes63, parameterTypes)) {
 			return ItemServiceUtil.addOrUpdateItem((net.indaba.lostandfound.model.Item)arguments[0],
 				(com.liferay.portal.kernel.service.ServiceContext)arguments[1]);
 		}
 
-		if (_methodName46.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes46, parameterTypes)) {
+		if (_methodName64.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes64, parameterTypes)) {
 			return ItemServiceUtil.deleteItem(((Long)arguments[0]).longValue(),
 				(com.liferay.portal.kernel.service.ServiceContext)arguments[1]);
 		}
 
-		if (_methodName47.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes47, parameterTypes)) {
+		if (_methodName65.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes65, parameterTypes)) {
 			return ItemServiceUtil.deleteItem((net.indaba.lostandfound.model.Item)arguments[0],
 				(com.liferay.portal.kernel.service.ServiceContext)arguments[1]);
 		}
@@ -80,12 +80,12 @@ public class ItemServiceClpInvoker {
 		throw new UnsupportedOperationException();
 	}
 
-	private String _methodName40;
-	private String[] _methodParameterTypes40;
-	private String _methodName45;
-	private String[] _methodParameterTypes45;
-	private String _methodName46;
-	private String[] _methodParameterTypes46;
-	private String _methodName47;
-	private String[] _methodParameterTypes47;
+	private String _methodName58;
+	private String[] _methodParameterTypes58;
+	private String _methodName63;
+	private String[] _methodParameterTypes63;
+	private String _methodName64;
+	private String[] _methodParameterTypes64;
+	private String _methodName65;
+	private String[] _methodParameterTypes65;
 }
\ No newline at end of file
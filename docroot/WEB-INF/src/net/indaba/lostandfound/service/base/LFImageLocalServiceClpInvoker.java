@@ -127,37 +127,56 @@ public class LFImageLocalServiceClpInvoker {
 
 		_methodParameterTypes20 = new String[] { "java.io.Serializable" };
 
-		_methodName43 = "getOSGiServiceIdentifier";
+		_methodName55 = "getOSGiServiceIdentifier";
 
-		_methodParameterTypes43 = new String[] {  };
+		_methodParameterTypes55 = new String[] {  };
 
-		_methodName50 = "findByItemId";
+		_methodName62 = "findByItemId";
 
-		_methodParameterTypes50 = new String[] { "long" };
+		_methodParameterTypes62 = new String[] { "long" };
 
-		_methodName51 = "addLFImage";
+		_methodName63 = "findMetadataByItemId";
 
-		_methodParameterTypes51 = new String[] {
+		_methodParameterTypes63 = new String[] { "long" };
+
+		_methodName64 = "getImages";
+
+		_methodParameterTypes64 = new String[] { "long[]" };
+
+		_methodName65 = "addLFImage";
+
+		_methodParameterTypes65 = new String[] {
 				"net.indaba.lostandfound.model.LFImage",
 				"com.liferay.portal.kernel.service.ServiceContext"
 			};
 
-		_methodName52 = "deleteLFImage";
+		_methodName66 = "addLFImage";
+
+		_methodParameterTypes66 = new String[] {
+				"long", "java.io.InputStream", "long", "java.lang.String",
+				"com.liferay.portal.kernel.service.ServiceContext"
+			};
+
+		_methodName67 = "deleteLFImage";
 
-		_methodParameterTypes52 = new String[] {
+		_methodParameterTypes67 = new String[] {
 				"net.indaba.lostandfound.model.LFImage",
 				"com.liferay.portal.kernel.service.ServiceContext"
 			};
 
-		_methodName53 = "deleteLFImage";
+		_methodName68 = "generateThumbnails";
+
+		_methodParameterTypes68 = new String[] { "long" };
+
+		_methodName69 = "deleteLFImage";
 
-		_methodParameterTypes53 = new String[] {
+		_methodParameterTypes69 = new String[] {
 				"long", "com.liferay.portal.kernel.service.ServiceContext"
 			};
 
-		_methodName54 = "deleteByItemId";
+		_methodName70 = "deleteByItemId";
 
-		_methodParameterTypes54 = new String[] {
+		_methodParameterTypes70 = new String[] {
 				"long", "com.liferay.portal.kernel.service.ServiceContext"
 			};
 	}
@@ -271,36 +290,62 @@ public class LFImageLocalServiceClpInvoker {
 			return LFImageLocalServiceUtil.getImageBlobModel((java.io.Serializable)arguments[0]);
 		}
 
-		if (_methodName43.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes43, parameterTypes)) {
+		if (_methodName55.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes55, parameterTypes)) {
 			return LFImageLocalServiceUtil.getOSGiServiceIdentifier();
 		}
 
-		if (_methodName50.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes50, parameterTypes)) {
+		if (_methodName62.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes62, parameterTypes)) {
 			return LFImageLocalServiceUtil.findByItemId(((Long)arguments[0]).longValue());
 		}
 
-		if (_methodName51.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes51, parameterTypes)) {
+		if (_methodName63.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes63, parameterTypes)) {
+			return LFImageLocalServiceUtil.findMetadataByItemId(((Long)arguments[0]).longValue());
+		}
+
+		if (_methodName64.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes64, parameterTypes)) {
+			return LFImageLocalServiceUtil.getImages((long[])arguments[0]);
+		}
+
+		if (_methodName65.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes65, parameterTypes)) {
 			return LFImageLocalServiceUtil.addLFImage((net.indaba.lostandfound.model.LFImage)arguments[0],
 				(com.liferay.portal.kernel.service.ServiceContext)arguments[1]);
 		}
 
-		if (_methodName52.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes52, parameterTypes)) {
+		if (_methodName66.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes66, parameterTypes)) {
+			return LFImageLocalServiceUtil.addLFImage(((Long)arguments[0]).longValue(),
+				(java.io.InputStream)arguments[1],
+				((Long)arguments[2]).longValue(),
+				(java.lang.String)arguments[3],
+				(com.liferay.portal.kernel.service.ServiceContext)arguments[4]);
+		}
+
+		if (_methodName67.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes67, parameterTypes)) {
 			return LFImageLocalServiceUtil.deleteLFImage((net.indaba.lostandfound.model.LFImage)arguments[0],
 				(com.liferay.portal.kernel.service.ServiceContext)arguments[1]);
 		}
 
-		if (_methodName53.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes53, parameterTypes)) {
+		if (_methodName68.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes68, parameterTypes)) {
+			LFImageLocalServiceUtil.generateThumbnails(((Long)arguments[0]).longValue());
+
+			return null;
+		}
+
+		if (_methodName69.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes69, parameterTypes)) {
 			return LFImageLocalServiceUtil.deleteLFImage(((Long)arguments[0]).longValue(),
 				(com.liferay.portal.kernel.service.ServiceContext)arguments[1]);
 		}
 
-		if (_methodName54.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes54, parameterTypes)) {
+		if (_methodName70.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes70, parameterTypes)) {
 			LFImageLocalServiceUtil.deleteByItemId(((Long)arguments[0]).longValue(),
 				(com.liferay.portal.kernel.service.ServiceContext)arguments[1]);
 
@@ -350,16 +395,24 @@ public class LFImageLocalServiceClpInvoker {
 	private String[] _methodParameterTypes19;
 	private String _methodName20;
 	private String[] _methodParameterTypes20;
-	private String _methodName43;
-	private String[] _methodParameterTypes43;
-	private String _methodName50;
-	private String[] _methodParameterTypes50;
-	private String _methodName51;
-	private String[] _methodParameterTypes51;
-	private String _methodName52;
-	private String[] _methodParameterTypes52;
-	private String _methodName53;
-	private String[] _methodParameterTypes53;
-	private String _methodName54;
-	private String[] _methodParameterTypes54;
+	private String _methodName55;
+	private String[] _methodParameterTypes55;
+	private String _methodName62;
+	private String[] _methodParameterTypes62;
+	private String _methodName63;
+	private String[] _methodParameterTypes63;
+	private String _methodName64;
+	private String[] _methodParameterTypes64;
+	private String _methodName65;
+	private String[] _methodParameterTypes65;
+	private String _methodName66;
+	private String[] _methodParameterTypes66;
+	private String _methodName67;
+	private String[] _methodParameterTypes67;
+	private String _methodName68;
+	private String[] _methodParameterTypes68;
+	private String _methodName69;
+	private String[] _methodParameterTypes69;
+	private String _methodName70;
+	private String[] _methodParameterTypes70;
 }
\ No newline at end of file
@@ -27,43 +27,43 @@ import java.util.Arrays;
 @ProviderType
 public class LFImageServiceClpInvoker {
 	public LFImageServiceClpInvoker() {
-		_methodName30 = "getOSGiServiceIdentifier";
+		_methodName42 = "getOSGiServiceIdentifier";
 
-		_methodParameterTypes30 = new String[] {  };
+		_methodParameterTypes42 = new String[] {  };
 
-		_methodName35 = "findByItemId";
+		_methodName47 = "findByItemId";
 
-		_methodParameterTypes35 = new String[] { "long" };
+		_methodParameterTypes47 = new String[] { "long" };
 
-		_methodName36 = "addLFImage";
+		_methodName48 = "addLFImage";
 
-		_methodParameterTypes36 = new String[] {
+		_methodParameterTypes48 = new String[] {
 				"net.indaba.lostandfound.model.LFImage",
 				"com.liferay.portal.kernel.service.ServiceContext"
 			};
 
-		_methodName37 = "deleteLFImage";
+		_methodName49 = "deleteLFImage";
 
-		_methodParameterTypes37 = new String[] {
+		_methodParameterTypes49 = new String[] {
 				"net.indaba.lostandfound.model.LFImage",
 				"com.liferay.portal.kernel.service.ServiceContext"
 			};
 
-		_methodName38 = "deleteLFImage";
+		_methodName50 = "deleteLFImage";
 
-		_methodParameterTypes38 = new String[] {
+		_methodParameterTypes50 = new String[] {
 				"long", "com.liferay.portal.kernel.service.ServiceContext"
 			};
 
-		_methodName39 = "deleteByItemId";
+		_methodName51 = "deleteByItemId";
 
-		_methodParameterTypes39 = new String[] {
+		_methodParameterTypes51 = new String[] {
 				"long", "com.liferay.portal.kernel.service.ServiceContext"
 			};
 
-		_methodName40 = "addLFImage";
+		_methodName52 = "addLFImage";
 
-		_methodParameterTypes40 = new String[] {
+		_methodParameterTypes52 = new String[] {
 				"java.lang.String", "long",
 				"com.liferay.portal.kernel.service.ServiceContext"
 			};
@@ -71,44 +71,44 @@ public class LFImageServiceClpInvoker {
 
 	public Object invokeMethod(String name, String[] parameterTypes,
 		Object[] arguments) throws Throwable {
-		if (_methodName30.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes30, parameterTypes)) {
+		if (_methodName42.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes42, parameterTypes)) {
 			return LFImageServiceUtil.getOSGiServiceIdentifier();
 		}
 
-		if (_methodName35.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes35, parameterTypes)) {
+		if (_methodName47.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes47, parameterTypes)) {
 			return LFImageServiceUtil.findByItemId(((Long)arguments[0]).longValue());
 		}
 
-		if (_methodName36.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes36, parameterTypes)) {
+		if (_methodName48.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes48, parameterTypes)) {
 			return LFImageServiceUtil.addLFImage((net.indaba.lostandfound.model.LFImage)arguments[0],
 				(com.liferay.portal.kernel.service.ServiceContext)arguments[1]);
 		}
 
-		if (_methodName37.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes37, parameterTypes)) {
+		if (_methodName49.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes49, parameterTypes)) {
 			return LFImageServiceUtil.deleteLFImage((net.indaba.lostandfound.model.LFImage)arguments[0],
 				(com.liferay.portal.kernel.service.ServiceContext)arguments[1]);
 		}
 
-		if (_methodName38.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes38, parameterTypes)) {
+		if (_methodName50.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes50, parameterTypes)) {
 			return LFImageServiceUtil.deleteLFImage(((Long)arguments[0]).longValue(),
 				(com.liferay.portal.kernel.service.ServiceContext)arguments[1]);
 		}
 
-		if (_methodName39.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes39, parameterTypes)) {
+		if (_methodName51.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes51, parameterTypes)) {
 			LFImageServiceUtil.deleteByItemId(((Long)arguments[0]).longValue(),
 				(com.liferay.portal.kernel.service.ServiceContext)arguments[1]);
 
 			return null;
 		}
 
-		if (_methodName40.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes40, parameterTypes)) {
+		if (_methodName52.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes52, parameterTypes)) {
 			return LFImageServiceUtil.addLFImage((java.lang.String)arguments[0],
 				((Long)arguments[1]).longValue(),
 				(com.liferay.portal.kernel.service.ServiceContext)arguments[2]);
@@ -117,18 +117,18 @@ public class LFImageServiceClpInvoker {
 		throw new UnsupportedOperationException();
 	}
 
-	private String _methodName30;
-	private String[] _methodParameterTypes30;
-	private String _methodName35;
-	private String[] _methodParameterTypes35;
-	private String _methodName36;
-	private String[] _methodParameterTypes36;
-	private String _methodName37;
-	private String[] _methodParameterTypes37;
-	private String _methodName38;
-	private String[] _methodParameterTypes38;
-	private String _methodName39;
-	private String[] _methodParameterTypes39;
-	private String _methodName40;
-	private String[] _methodParameterTypes40;
+	private String _methodName42;
+	private String[] _methodParameterTypes42;
+	private String _methodName47;
+	private String[] _methodParameterTypes47;
+	private String _methodName48;
+	private String[] _methodParameterTypes48;
+	private String _methodName49;
+	private String[] _methodParameterTypes49;
+	private String _methodName50;
+	private String[] _methodParameterTypes50;
+	private String _methodName51;
+	private String[] _methodParameterTypes51;
+	private String _methodName52;
+	private String[] _methodParameterTypes52;
 }
\ No newline at end of file
@@ -143,6 +143,10 @@ public class LFImageServiceSoap {
 		}
 	}
 
+	/**
+	* Adds an image sent as base64 text, optionally as a data URI. It is
+	* decoded once here and stored as raw bytes.
+	*/
 	public static net.indaba.lostandfound.model.LFImageSoap addLFImage(
 		java.lang.String imageBase64String, long itemId,
 		com.liferay.portal.kernel.service.ServiceContext serviceContext)
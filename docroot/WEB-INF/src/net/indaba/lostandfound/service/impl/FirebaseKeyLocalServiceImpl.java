@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service.impl;
+
+import java.util.Date;
+
+import aQute.bnd.annotation.ProviderType;
+import net.indaba.lostandfound.model.FirebaseKey;
+import net.indaba.lostandfound.service.base.FirebaseKeyLocalServiceBaseImpl;
+
+/**
+ * The implementation of the firebase key local service.
+ *
+ * <p>
+ * All custom service methods should be put in this class. Whenever methods are
+ * added, rerun ServiceBuilder to copy their definitions into the
+ * {@link net.indaba.lostandfound.service.FirebaseKeyLocalService} interface.
+ *
+ * <p>
+ * This is a local service. Methods of this service will not have security
+ * checks based on the propagated JAAS credentials because this service can only
+ * be accessed from within the same VM.
+ * </p>
+ *
+ * @author aritz
+ * @see FirebaseKeyLocalServiceBaseImpl
+ * @see net.indaba.lostandfound.service.FirebaseKeyLocalServiceUtil
+ */
+@ProviderType
+public class FirebaseKeyLocalServiceImpl extends
+		FirebaseKeyLocalServiceBaseImpl {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never reference this class directly. Always use {@link
+	 * net.indaba.lostandfound.service.FirebaseKeyLocalServiceUtil} to access
+	 * the firebase key local service.
+	 */
+
+	/**
+	 * Returns the Firebase key stored for the entity
+	 * 
+	 * @param className
+	 * @param classPK
+	 * @return The FirebaseKey for the entity or null if none was stored
+	 */
+	public String fetchFbKey(String className, long classPK) {
+		FirebaseKey firebaseKey = firebaseKeyPersistence.fetchByC_C(
+				classNameLocalService.getClassNameId(className), classPK);
+		if (firebaseKey == null) {
+			return null;
+		}
+		return firebaseKey.getFbKey();
+	}
+
+	/**
+	 * Stores the Firebase key for the entity, replacing any previous one
+	 * 
+	 * @param className
+	 * @param classPK
+	 * @param fbKey
+	 * @return The stored mapping
+	 */
+	public FirebaseKey updateFbKey(String className, long classPK,
+			String fbKey) {
+		long classNameId = classNameLocalService.getClassNameId(className);
+		FirebaseKey firebaseKey = firebaseKeyPersistence.fetchByC_C(
+				classNameId, classPK);
+		if (firebaseKey == null) {
+			firebaseKey = firebaseKeyPersistence.create(counterLocalService
+					.increment(FirebaseKey.class.getName()));
+			firebaseKey.setClassNameId(classNameId);
+			firebaseKey.setClassPK(classPK);
+		}
+		firebaseKey.setFbKey(fbKey);
+		firebaseKey.setModifiedDate(new Date());
+		return firebaseKeyPersistence.update(firebaseKey);
+	}
+
+	/**
+	 * Removes the Firebase key stored for the entity, if any
+	 * 
+	 * @param className
+	 * @param classPK
+	 */
+	public void deleteFbKey(String className, long classPK) {
+		FirebaseKey firebaseKey = firebaseKeyPersistence.fetchByC_C(
+				classNameLocalService.getClassNameId(className), classPK);
+		if (firebaseKey != null) {
+			firebaseKeyPersistence.remove(firebaseKey);
+		}
+	}
+
+}
@@ -0,0 +1,234 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service.impl;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.SQLQuery;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.model.BaseModel;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.util.portlet.PortletProps;
+
+import aQute.bnd.annotation.ProviderType;
+import net.indaba.lostandfound.firebase.FirebaseOutboxHandler;
+import net.indaba.lostandfound.firebase.FirebaseSynchronizer;
+import net.indaba.lostandfound.model.FirebaseOutboxEntry;
+import net.indaba.lostandfound.service.base.FirebaseOutboxEntryLocalServiceBaseImpl;
+import net.indaba.lostandfound.util.LFVOConstants;
+
+/**
+ * The implementation of the firebase outbox entry local service.
+ *
+ * <p>
+ * All custom service methods should be put in this class. Whenever methods are
+ * added, rerun ServiceBuilder to copy their definitions into the
+ * {@link net.indaba.lostandfound.service.FirebaseOutboxEntryLocalService}
+ * interface.
+ *
+ * <p>
+ * This is a local service. Methods of this service will not have security
+ * checks based on the propagated JAAS credentials because this service can only
+ * be accessed from within the same VM.
+ * </p>
+ *
+ * @author aritz
+ * @see FirebaseOutboxEntryLocalServiceBaseImpl
+ * @see net.indaba.lostandfound.service.FirebaseOutboxEntryLocalServiceUtil
+ */
+@ProviderType
+public class FirebaseOutboxEntryLocalServiceImpl extends
+		FirebaseOutboxEntryLocalServiceBaseImpl {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never reference this class directly. Always use {@link
+	 * net.indaba.lostandfound.service.FirebaseOutboxEntryLocalServiceUtil} to
+	 * access the firebase outbox entry local service.
+	 */
+
+	/**
+	 * Queues the replication of the entity's current state. Call it from the
+	 * transaction that changes the entity so that both commit together. The
+	 * entry only becomes due after firebase.outbox.coalesce.window, so that
+	 * further changes to the entity within the window are replicated at once.
+	 * 
+	 * @param entity
+	 * @return The queued entry
+	 */
+	public FirebaseOutboxEntry addUpdateEntry(BaseModel<?> entity) {
+		return addEntry(entity, LFVOConstants.OUTBOX_ACTION_UPDATE, null,
+				getCoalesceWindow());
+	}
+
+	/**
+	 * Queues the removal of the entity. Call it from the transaction that
+	 * deletes the entity so that both commit together. The entry waits the
+	 * same firebase.outbox.coalesce.window as updates, so that it is never
+	 * due before an update queued earlier and both are replicated together.
+	 * 
+	 * @param entity
+	 * @return The queued entry
+	 */
+	public FirebaseOutboxEntry addDeleteEntry(BaseModel<?> entity) {
+		FirebaseOutboxHandler<?> handler = FirebaseSynchronizer.getInstance()
+				.getOutboxHandler(entity.getModelClassName());
+		String payload = null;
+		if (handler != null) {
+			payload = getPayload(handler, entity);
+		}
+		return addEntry(entity, LFVOConstants.OUTBOX_ACTION_DELETE, payload,
+				getCoalesceWindow());
+	}
+
+	/**
+	 * Claims the entries whose next attempt is due, in the order they were
+	 * queued. A claimed entry is postponed by the lease time, so that no other
+	 * dispatcher picks it up while it is being sent. An entity's entries are
+	 * only claimed once all its earlier entries are gone, so they are sent in
+	 * the order they were queued even when an earlier one is being retried.
+	 * 
+	 * @param count
+	 *            Maximum number of due entries to consider
+	 * @param leaseTime
+	 *            Time in milliseconds the claimed entries are reserved for
+	 * @return The claimed entries, oldest first
+	 */
+	public List<FirebaseOutboxEntry> claimPendingEntries(int count,
+			long leaseTime) {
+		Date now = new Date();
+		Date leaseDate = new Date(now.getTime() + leaseTime);
+		List<FirebaseOutboxEntry> claimed = new ArrayList<FirebaseOutboxEntry>();
+		Set<String> claimedKeys = new HashSet<String>();
+		Set<String> heldKeys = new HashSet<String>();
+		Session session = null;
+		try {
+			session = firebaseOutboxEntryPersistence.openSession();
+			for (FirebaseOutboxEntry entry : firebaseOutboxEntryPersistence
+					.findByLtNextAttemptDate(now, 0, count)) {
+				String key = entry.getClassNameId() + "#" + entry.getClassPK();
+				if (heldKeys.contains(key)) {
+					continue;
+				}
+				if (!claimedKeys.contains(key)) {
+					FirebaseOutboxEntry first = firebaseOutboxEntryPersistence
+							.fetchByC_C_First(entry.getClassNameId(), entry
+									.getClassPK(), null);
+					if (first != null && first.getOutboxEntryId() < entry
+							.getOutboxEntryId()) {
+						/* An earlier entry is being retried or sent */
+						heldKeys.add(key);
+						continue;
+					}
+				}
+				/* Only succeeds if no other dispatcher claimed it meanwhile */
+				SQLQuery query = session.createSynchronizedSQLQuery(
+						"UPDATE lfvo_FirebaseOutboxEntry SET nextAttemptDate = "
+								+ "? WHERE outboxEntryId = ? AND "
+								+ "nextAttemptDate <= ?");
+				QueryPos qPos = QueryPos.getInstance(query);
+				qPos.add(new Timestamp(leaseDate.getTime()));
+				qPos.add(entry.getOutboxEntryId());
+				qPos.add(new Timestamp(now.getTime()));
+				firebaseOutboxEntryPersistence.clearCache(entry);
+				if (query.executeUpdate() == 0) {
+					heldKeys.add(key);
+					continue;
+				}
+				entry.setNextAttemptDate(leaseDate);
+				claimed.add(entry);
+				claimedKeys.add(key);
+			}
+		} catch (Exception e) {
+			throw firebaseOutboxEntryPersistence.processException(e);
+		} finally {
+			firebaseOutboxEntryPersistence.closeSession(session);
+		}
+		return claimed;
+	}
+
+	/**
+	 * Records a failed attempt and postpones the entry. The delay doubles with
+	 * every attempt up to firebase.outbox.retry.max.delay.
+	 * 
+	 * @param outboxEntryId
+	 * @param error
+	 *            Description of the failure
+	 * @return The postponed entry
+	 * @throws PortalException
+	 *             If the entry does not exist
+	 */
+	public FirebaseOutboxEntry deferEntry(long outboxEntryId, String error)
+			throws PortalException {
+		FirebaseOutboxEntry entry = firebaseOutboxEntryPersistence
+				.findByPrimaryKey(outboxEntryId);
+		long retryDelay = GetterUtil.getLong(PortletProps.get(
+				"firebase.outbox.retry.delay"), 10);
+		long maxRetryDelay = GetterUtil.getLong(PortletProps.get(
+				"firebase.outbox.retry.max.delay"), 3600);
+		int attempts = entry.getAttempts() + 1;
+		long delay = Math.min(maxRetryDelay, retryDelay << Math.min(
+				attempts - 1, 20));
+		entry.setAttempts(attempts);
+		entry.setNextAttemptDate(new Date(System.currentTimeMillis() + delay
+				* 1000));
+		entry.setLastError(StringUtil.shorten(error, 2000));
+		return firebaseOutboxEntryPersistence.update(entry);
+	}
+
+	private long getCoalesceWindow() {
+		return GetterUtil.getLong(PortletProps.get(
+				"firebase.outbox.coalesce.window"), 1000);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends BaseModel<T>> String getPayload(
+			FirebaseOutboxHandler<T> handler, BaseModel<?> entity) {
+		/* Handlers are registered under the class name of their model */
+		return handler.getPayload((T) entity);
+	}
+
+	private FirebaseOutboxEntry addEntry(BaseModel<?> entity, String action,
+			String payload, long delay) {
+		return addEntry(classNameLocalService.getClassNameId(entity
+				.getModelClassName()), GetterUtil.getLong(entity
+						.getPrimaryKeyObj()), action, payload, delay);
+	}
+
+	private FirebaseOutboxEntry addEntry(long classNameId, long classPK,
+			String action, String payload, long delay) {
+		FirebaseOutboxEntry entry = firebaseOutboxEntryPersistence.create(
+				counterLocalService.increment(FirebaseOutboxEntry.class
+						.getName()));
+		Date now = new Date();
+		entry.setCreateDate(now);
+		entry.setClassNameId(classNameId);
+		entry.setClassPK(classPK);
+		entry.setAction(action);
+		entry.setPayload(payload);
+		entry.setAttempts(0);
+		entry.setNextAttemptDate(new Date(now.getTime() + delay));
+		return firebaseOutboxEntryPersistence.update(entry);
+	}
+
+}
@@ -14,33 +14,69 @@
 
 package net.indaba.lostandfound.service.impl;
 
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.Future;
+import java.util.Map;
+import java.util.Set;
 
 import com.liferay.asset.kernel.model.AssetCategory;
 import com.liferay.asset.kernel.model.AssetEntry;
 import com.liferay.asset.kernel.model.AssetLinkConstants;
-import com.liferay.asset.kernel.service.AssetCategoryLocalServiceUtil;
-import com.liferay.counter.kernel.service.CounterLocalServiceUtil;
+import com.liferay.counter.kernel.model.Counter;
 import com.liferay.message.boards.kernel.model.MBMessage;
 import com.liferay.message.boards.kernel.service.MBMessageLocalServiceUtil;
 import com.liferay.portal.kernel.comment.CommentManagerUtil;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.SQLQuery;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.dao.orm.Type;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.search.BaseModelSearchResult;
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.GeoDistanceSort;
+import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.search.Hits;
 import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.Indexable;
+import com.liferay.portal.kernel.search.IndexableType;
 import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+import com.liferay.portal.kernel.search.QueryConfig;
+import com.liferay.portal.kernel.search.SearchContext;
+import com.liferay.portal.kernel.search.Sort;
+import com.liferay.portal.kernel.search.geolocation.GeoLocationPoint;
+import com.liferay.portal.kernel.security.auth.CompanyThreadLocal;
 import com.liferay.portal.kernel.service.ServiceContext;
 import com.liferay.portal.kernel.theme.ThemeDisplay;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.util.WebKeys;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
 
 import aQute.bnd.annotation.ProviderType;
+import net.indaba.lostandfound.asset.indexer.ItemIndexBuffer;
+import net.indaba.lostandfound.asset.indexer.ItemIndexer;
 import net.indaba.lostandfound.firebase.FirebaseService;
 import net.indaba.lostandfound.firebase.FirebaseSynchronizer;
 import net.indaba.lostandfound.model.Item;
 import net.indaba.lostandfound.service.LFImageLocalServiceUtil;
 import net.indaba.lostandfound.service.base.ItemLocalServiceBaseImpl;
+import net.indaba.lostandfound.util.IdAllocator;
+import net.indaba.lostandfound.util.ItemMatchQueue;
+import net.indaba.lostandfound.util.cache.ItemOffHeapCache;
+import net.indaba.lostandfound.util.comparator.ItemCreateDateComparator;
 
 /**
  * The implementation of the item local service.
@@ -77,63 +113,511 @@ public class ItemLocalServiceImpl extends ItemLocalServiceBaseImpl {
 	private boolean updateFirebase(Item item, ServiceContext serviceContext) {
 		ThemeDisplay themeDisplay = new ThemeDisplay();
 		if (serviceContext != null) {
-			themeDisplay = (ThemeDisplay) serviceContext.getRequest()
-					.getAttribute(
-							WebKeys.THEME_DISPLAY);
+			/* Calls from outside a request, such as imports, have none */
+			themeDisplay = serviceContext.getRequest() == null ? null
+					: (ThemeDisplay) serviceContext.getRequest()
+							.getAttribute(WebKeys.THEME_DISPLAY);
 		}
 		return (getFbService().isSyncEnabled()
 				&& themeDisplay != null);
 	}
 
+	/**
+	 * Looks the item up in the off-heap cache before the persistence
+	 */
+	@Override
+	public Item fetchItem(long itemId) {
+		ItemOffHeapCache cache = ItemOffHeapCache.getInstance();
+		Item item = cache.get(itemId);
+		if (item == null) {
+			long generation = cache.getGeneration(itemId);
+			item = super.fetchItem(itemId);
+			if (item != null) {
+				cache.put(item, generation);
+			}
+		}
+		return item;
+	}
+
+	@Override
+	public Item getItem(long itemId) throws PortalException {
+		Item item = fetchItem(itemId);
+		if (item == null) {
+			/* Throws NoSuchItemException */
+			return super.getItem(itemId);
+		}
+		return item;
+	}
+
+	/**
+	 * Removes the item from the off-heap cache, here and on the other nodes
+	 */
+	@Indexable(type = IndexableType.REINDEX)
+	@Override
+	public Item updateItem(Item item) {
+		item = super.updateItem(item);
+		ItemOffHeapCache.getInstance().invalidate(item.getItemId());
+		return item;
+	}
+
+	/**
+	 * Removes the item from the off-heap cache, here and on the other nodes
+	 */
+	@Indexable(type = IndexableType.DELETE)
+	@Override
+	public Item deleteItem(long itemId) throws PortalException {
+		Item item = super.deleteItem(itemId);
+		ItemOffHeapCache.getInstance().invalidate(itemId);
+		return item;
+	}
+
+	/**
+	 * Removes the item from the off-heap cache, here and on the other nodes
+	 */
+	@Indexable(type = IndexableType.DELETE)
+	@Override
+	public Item deleteItem(Item item) {
+		item = super.deleteItem(item);
+		ItemOffHeapCache.getInstance().invalidate(item.getItemId());
+		return item;
+	}
+
 	public List<Item> getItems(long groupId, int start, int end)
 			throws PortalException {
 		return itemPersistence.findByGroupId(groupId, start, end);
 	}
 
+	public List<Item> getItems(long groupId, int start, int end,
+			OrderByComparator<Item> orderByComparator) {
+		return itemPersistence.findByGroupId(groupId, start, end,
+				orderByComparator);
+	}
+
+	public int getItemsCount(long groupId) {
+		return itemPersistence.countByGroupId(groupId);
+	}
+
+	public List<Item> getItemsByType(long groupId, String type, int start,
+			int end, OrderByComparator<Item> orderByComparator) {
+		return itemPersistence.findByG_T(groupId, type, start, end,
+				orderByComparator);
+	}
+
+	public int getItemsByTypeCount(long groupId, String type) {
+		return itemPersistence.countByG_T(groupId, type);
+	}
+
+	/**
+	 * Gets the items of an office created within a period, oldest first. The
+	 * G_CD finder only bounds createDate from below, but as it returns the
+	 * items in createDate order, the ones past the period can only follow the
+	 * ones within it and are cut off the page.
+	 *
+	 * @param groupId
+	 * @param createDateFrom
+	 *            Inclusive
+	 * @param createDateTo
+	 *            Exclusive
+	 * @param start
+	 * @param end
+	 * @return The page of items
+	 */
+	public List<Item> getItemsByCreateDate(long groupId, Date createDateFrom,
+			Date createDateTo, int start, int end) {
+		List<Item> items = itemPersistence.findByG_CD(groupId, createDateFrom,
+				start, end, new ItemCreateDateComparator(true));
+		for (int i = 0; i < items.size(); i++) {
+			if (!items.get(i).getCreateDate().before(createDateTo)) {
+				return new ArrayList<Item>(items.subList(0, i));
+			}
+		}
+		return items;
+	}
+
+	public int getItemsByCreateDateCount(long groupId, Date createDateFrom,
+			Date createDateTo) {
+		if (!createDateFrom.before(createDateTo)) {
+			return 0;
+		}
+		return itemPersistence.countByG_CD(groupId, createDateFrom)
+				- itemPersistence.countByG_CD(groupId, createDateTo);
+	}
+
+	/**
+	 * Gets the page of items following an item in (createDate, itemId) order.
+	 * Unlike an offset, the position is found through the index, so deep pages
+	 * cost the same as the first one.
+	 *
+	 * @param groupId
+	 * @param createDate
+	 *            createDate of the last item of the previous page
+	 * @param itemId
+	 *            itemId of the last item of the previous page
+	 * @param ascending
+	 * @param count
+	 *            Page size
+	 * @return The items following the given one
+	 */
+	public List<Item> getItemsAfter(long groupId, Date createDate, long itemId,
+			boolean ascending, int count) {
+		DynamicQuery dynamicQuery = dynamicQuery();
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("groupId", groupId));
+		Property createDateProperty = PropertyFactoryUtil.forName(
+				"createDate");
+		Property itemIdProperty = PropertyFactoryUtil.forName("itemId");
+		if (ascending) {
+			dynamicQuery.add(RestrictionsFactoryUtil.or(createDateProperty.gt(
+					createDate), RestrictionsFactoryUtil.and(createDateProperty
+							.eq(createDate), itemIdProperty.gt(itemId))));
+			dynamicQuery.addOrder(OrderFactoryUtil.asc("createDate"));
+			dynamicQuery.addOrder(OrderFactoryUtil.asc("itemId"));
+		} else {
+			dynamicQuery.add(RestrictionsFactoryUtil.or(createDateProperty.lt(
+					createDate), RestrictionsFactoryUtil.and(createDateProperty
+							.eq(createDate), itemIdProperty.lt(itemId))));
+			dynamicQuery.addOrder(OrderFactoryUtil.desc("createDate"));
+			dynamicQuery.addOrder(OrderFactoryUtil.desc("itemId"));
+		}
+		return dynamicQuery(dynamicQuery, 0, count);
+	}
+
+	/**
+	 * Gets a page of items from the search index instead of the database, so
+	 * filtering and sorting never scan the item table. Only the ids are read
+	 * from the hits, the items are then loaded by primary key.
+	 *
+	 * @param companyId
+	 * @param groupId
+	 *            Office to list, or 0 for every office
+	 * @param type
+	 *            lost, found, alert or office, or null for every type
+	 * @param createDateFrom
+	 *            May be null
+	 * @param createDateTo
+	 *            May be null
+	 * @param assetCategoryIds
+	 *            Categories every item must have, may be null
+	 * @param start
+	 * @param end
+	 * @param sort
+	 *            Sort on an indexed field, newest first if null
+	 * @return The page of items and the total number of matching items
+	 */
+	public BaseModelSearchResult<Item> searchItems(long companyId,
+			long groupId, String type, Date createDateFrom, Date createDateTo,
+			long[] assetCategoryIds, int start, int end, Sort sort)
+			throws PortalException {
+		SearchContext searchContext = createSearchContext(companyId, groupId,
+				type, start, end);
+		searchContext.setAssetCategoryIds(assetCategoryIds);
+		if (createDateFrom != null) {
+			searchContext.setAttribute(ItemIndexer.ATTRIBUTE_CREATE_DATE_FROM,
+					createDateFrom.getTime());
+		}
+		if (createDateTo != null) {
+			searchContext.setAttribute(ItemIndexer.ATTRIBUTE_CREATE_DATE_TO,
+					createDateTo.getTime());
+		}
+		if (sort == null) {
+			sort = new Sort(Field.CREATE_DATE, Sort.LONG_TYPE, true);
+		}
+		searchContext.setSorts(sort);
+		return search(searchContext);
+	}
+
+	/**
+	 * Gets the items of the current company within a distance of a point,
+	 * nearest first. The search engine answers through its geo_point index on
+	 * the item locations, so the cost does not grow with the number of items
+	 * outside the radius. Items without a location are never returned.
+	 *
+	 * @param latitude
+	 *            In degrees
+	 * @param longitude
+	 *            In degrees
+	 * @param radius
+	 *            In meters
+	 * @param type
+	 *            lost, found, alert or office, or null for every type
+	 * @param start
+	 * @param end
+	 * @return The items, nearest first
+	 */
+	public List<Item> findNearby(double latitude, double longitude,
+			double radius, String type, int start, int end)
+			throws PortalException {
+		SearchContext searchContext = createSearchContext(CompanyThreadLocal
+				.getCompanyId(), 0, type, start, end);
+		searchContext.setAttribute(ItemIndexer.ATTRIBUTE_NEAR_LATITUDE,
+				latitude);
+		searchContext.setAttribute(ItemIndexer.ATTRIBUTE_NEAR_LONGITUDE,
+				longitude);
+		searchContext.setAttribute(ItemIndexer.ATTRIBUTE_NEAR_RADIUS, radius);
+		GeoDistanceSort geoDistanceSort = new GeoDistanceSort();
+		geoDistanceSort.setFieldName(Field.GEO_LOCATION);
+		geoDistanceSort.addGeoLocationPoint(new GeoLocationPoint(latitude,
+				longitude));
+		searchContext.setSorts(geoDistanceSort);
+		return search(searchContext).getBaseModels();
+	}
+
+	private SearchContext createSearchContext(long companyId, long groupId,
+			String type, int start, int end) {
+		SearchContext searchContext = new SearchContext();
+		searchContext.setCompanyId(companyId);
+		if (groupId > 0) {
+			searchContext.setGroupIds(new long[] { groupId });
+		}
+		/* Items have no workflow, so their documents carry no status */
+		searchContext.setAttribute(Field.STATUS,
+				WorkflowConstants.STATUS_ANY);
+		if (Validator.isNotNull(type)) {
+			searchContext.setAttribute(ItemIndexer.FIELD_ITEM_TYPE, type);
+		}
+		searchContext.setStart(start);
+		searchContext.setEnd(end);
+		QueryConfig queryConfig = searchContext.getQueryConfig();
+		queryConfig.setHighlightEnabled(false);
+		queryConfig.setScoreEnabled(false);
+		queryConfig.setSelectedFieldNames(Field.ENTRY_CLASS_PK);
+		return searchContext;
+	}
+
+	private BaseModelSearchResult<Item> search(SearchContext searchContext)
+			throws PortalException {
+		Indexer<Item> indexer = IndexerRegistryUtil.nullSafeGetIndexer(
+				Item.class);
+		Hits hits = indexer.search(searchContext);
+		return new BaseModelSearchResult<Item>(getItems(hits), hits
+				.getLength());
+	}
+
+	/**
+	 * @return The items of the hits, in the order of the hits. Hits of items
+	 *         deleted since they were indexed are left out
+	 */
+	protected List<Item> getItems(Hits hits) {
+		List<Long> itemIds = new ArrayList<Long>(hits.getDocs().length);
+		for (Document document : hits.getDocs()) {
+			itemIds.add(GetterUtil.getLong(document.get(
+					Field.ENTRY_CLASS_PK)));
+		}
+		List<Item> items = new ArrayList<Item>(itemIds.size());
+		if (itemIds.isEmpty()) {
+			return items;
+		}
+		DynamicQuery dynamicQuery = dynamicQuery();
+		dynamicQuery.add(RestrictionsFactoryUtil.in("itemId", itemIds));
+		List<Item> found = dynamicQuery(dynamicQuery);
+		Map<Long, Item> itemsById = new HashMap<Long, Item>();
+		for (Item item : found) {
+			itemsById.put(item.getItemId(), item);
+		}
+		for (Long itemId : itemIds) {
+			Item item = itemsById.get(itemId);
+			if (item != null) {
+				items.add(item);
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Gets the asset categories of many items with two queries, one for the
+	 * category ids of every item and one for the categories themselves
+	 *
+	 * @param itemIds
+	 * @return The categories by itemId. Items without categories are left out
+	 */
+	public Map<Long, List<AssetCategory>> getItemsCategories(long[] itemIds) {
+		Map<Long, List<AssetCategory>> itemsCategories =
+				new HashMap<Long, List<AssetCategory>>();
+		if (itemIds.length == 0) {
+			return itemsCategories;
+		}
+
+		Map<Long, List<Long>> categoryIdsByItem =
+				new LinkedHashMap<Long, List<Long>>();
+		Set<Long> categoryIds = new HashSet<Long>();
+		Session session = null;
+		try {
+			session = itemPersistence.openSession();
+			/* The ids are longs, so inlining them is safe */
+			SQLQuery query = session.createSynchronizedSQLQuery(
+					"SELECT AssetEntry.classPK AS classPK, "
+							+ "AssetEntries_AssetCategories.categoryId AS "
+							+ "categoryId FROM AssetEntry INNER JOIN "
+							+ "AssetEntries_AssetCategories ON "
+							+ "AssetEntries_AssetCategories.entryId = "
+							+ "AssetEntry.entryId WHERE AssetEntry.classNameId "
+							+ "= ? AND AssetEntry.classPK IN (" + StringUtil
+									.merge(itemIds) + ")");
+			query.addScalar("classPK", Type.LONG);
+			query.addScalar("categoryId", Type.LONG);
+			QueryPos qPos = QueryPos.getInstance(query);
+			qPos.add(classNameLocalService.getClassNameId(Item.class));
+			for (Object o : query.list()) {
+				Object[] row = (Object[]) o;
+				Long itemId = (Long) row[0];
+				Long categoryId = (Long) row[1];
+				List<Long> ids = categoryIdsByItem.get(itemId);
+				if (ids == null) {
+					ids = new ArrayList<Long>();
+					categoryIdsByItem.put(itemId, ids);
+				}
+				ids.add(categoryId);
+				categoryIds.add(categoryId);
+			}
+		} catch (Exception e) {
+			throw itemPersistence.processException(e);
+		} finally {
+			itemPersistence.closeSession(session);
+		}
+		if (categoryIds.isEmpty()) {
+			return itemsCategories;
+		}
+
+		DynamicQuery dynamicQuery = assetCategoryLocalService.dynamicQuery();
+		dynamicQuery.add(RestrictionsFactoryUtil.in("categoryId",
+				categoryIds));
+		List<AssetCategory> categories = assetCategoryLocalService
+				.dynamicQuery(dynamicQuery);
+		Map<Long, AssetCategory> categoriesById =
+				new HashMap<Long, AssetCategory>();
+		for (AssetCategory category : categories) {
+			categoriesById.put(category.getCategoryId(), category);
+		}
+
+		for (Map.Entry<Long, List<Long>> e : categoryIdsByItem.entrySet()) {
+			List<AssetCategory> itemCategories = new ArrayList<AssetCategory>();
+			for (Long categoryId : e.getValue()) {
+				AssetCategory category = categoriesById.get(categoryId);
+				if (category != null) {
+					itemCategories.add(category);
+				}
+			}
+			itemsCategories.put(e.getKey(), itemCategories);
+		}
+		return itemsCategories;
+	}
+
 	public Item addOrUpdateItem(Item item, ServiceContext serviceContext)
 			throws PortalException {
 		_log.debug("addOrUpdateItem");
 
+		/* Pages are ordered and sought by createDate, so it must be set */
+		Date now = new Date();
+		if (item.getCreateDate() == null) {
+			item.setCreateDate(now);
+		}
+		if (item.getModifiedDate() == null) {
+			item.setModifiedDate(now);
+		}
 		if (item.isNew()) {
-			item.setItemId(CounterLocalServiceUtil.increment());
+			item.setItemId(IdAllocator.getInstance(Item.class).nextId());
 			item = super.addItem(item);
 			CommentManagerUtil.addDiscussion(serviceContext.getUserId(),
 					serviceContext.getScopeGroupId(),
 					Item.class.getName(), item.getPrimaryKey(), null);
 		} else {
-			item = super.updateItem(item);
+			item = updateItem(item);
 		}
 
 		/* UserId needs to be set on REST API calls */
-		AssetEntry assetEntry = updateAsset(serviceContext.getUserId(), item,
+		updateAsset(serviceContext.getUserId(), item,
 				serviceContext.getAssetCategoryIds(),
 				serviceContext.getAssetTagNames(), serviceContext
 						.getAssetLinkEntryIds(), serviceContext);
 		if (updateFirebase(item, serviceContext)) {
-			try {
-				Future<String> firebaseKey = getFbService().addOrUpdate(item,
-						null);
-				List<AssetCategory> categories = AssetCategoryLocalServiceUtil
-						.getAssetEntryAssetCategories(assetEntry.getEntryId());
-				AssetCategory category = null;
-				if (!categories.isEmpty())
-					category = categories.get(0);
-				FirebaseService<AssetCategory> fbCatService = FirebaseSynchronizer
-						.getInstance().getService(AssetCategory.class);
-				getFbService().setRelationManyToOne(item, category, fbCatService,
-						firebaseKey);
-			} catch (Exception e) {
-				_log.error("Error updating item " + item.getItemId(), e);
-			}
+			firebaseOutboxEntryLocalService.addUpdateEntry(item);
 		}
 
-		Indexer<Item> indexer = IndexerRegistryUtil.nullSafeGetIndexer(
-				Item.class);
-		indexer.reindex(item);
+		ItemIndexBuffer.getInstance().reindex(item);
+		ItemMatchQueue.getInstance().add(item.getItemId());
 
 		return item;
 	}
 
+	/**
+	 * Adds many new items at once, such as an office's historical records.
+	 * Compared to calling addOrUpdateItem for each item:
+	 * <ul>
+	 * <li>The ids come from a single counter reservation</li>
+	 * <li>The rows are written by the persistence directly, so Hibernate
+	 * flushes them as JDBC batches when the transaction commits</li>
+	 * <li>The items are reindexed together in one bulk update</li>
+	 * <li>The outbox entries of the items are dispatched together, so that
+	 * Firebase receives one write for all of them instead of one per
+	 * item</li>
+	 * </ul>
+	 * Discussions and asset entries are still created per item, within the
+	 * same transaction, as the portal offers no bulk API for them.
+	 *
+	 * @param items
+	 *            New items, their itemIds are assigned here
+	 * @param serviceContext
+	 *            Categories, tags and links of the service context are set on
+	 *            every item
+	 * @return The added items
+	 */
+	public List<Item> addItems(List<Item> items, ServiceContext serviceContext)
+			throws PortalException {
+		List<Item> addedItems = new ArrayList<Item>(items.size());
+		if (items.isEmpty()) {
+			return addedItems;
+		}
+
+		long itemId = counterLocalService.increment(Counter.class.getName(),
+				items.size()) - items.size() + 1;
+		Date now = new Date();
+		for (Item item : items) {
+			item.setNew(true);
+			item.setItemId(itemId++);
+			if (item.getGroupId() == 0) {
+				item.setGroupId(serviceContext.getScopeGroupId());
+			}
+			if (item.getCompanyId() == 0) {
+				item.setCompanyId(serviceContext.getCompanyId());
+			}
+			if (item.getUserId() == 0) {
+				item.setUserId(serviceContext.getUserId());
+			}
+			if (item.getCreateDate() == null) {
+				item.setCreateDate(now);
+			}
+			if (item.getModifiedDate() == null) {
+				item.setModifiedDate(now);
+			}
+			/* Bypasses addItem, which would reindex every item on its own */
+			addedItems.add(itemPersistence.update(item));
+		}
+
+		for (Item item : addedItems) {
+			CommentManagerUtil.addDiscussion(serviceContext.getUserId(), item
+					.getGroupId(), Item.class.getName(), item.getItemId(),
+					null);
+			updateAsset(serviceContext.getUserId(), item, serviceContext
+					.getAssetCategoryIds(), serviceContext.getAssetTagNames(),
+					serviceContext.getAssetLinkEntryIds(), serviceContext);
+		}
+
+		/*
+		 * Imports usually run outside a request, so unlike updateFirebase this
+		 * only depends on whether synchronization is enabled
+		 */
+		boolean syncEnabled = getFbService().isSyncEnabled();
+		for (Item item : addedItems) {
+			if (syncEnabled) {
+				firebaseOutboxEntryLocalService.addUpdateEntry(item);
+			}
+			ItemMatchQueue.getInstance().add(item.getItemId());
+		}
+
+		ItemIndexBuffer.getInstance().reindex(addedItems);
+
+		return addedItems;
+	}
+
 	public Item deleteItem(long itemId, ServiceContext serviceContext)
 			throws PortalException {
 		return deleteItem(itemPersistence.fetchByPrimaryKey(itemId),
@@ -151,9 +635,7 @@ public class ItemLocalServiceImpl extends ItemLocalServiceBaseImpl {
 			_log.error("Error deleting assetEntry");
 		}
 
-		Indexer<Item> indexer = IndexerRegistryUtil.nullSafeGetIndexer(
-				Item.class);
-		indexer.delete(item);
+		ItemIndexBuffer.getInstance().delete(item);
 
 		/* Delete related messages */
 		List<MBMessage> msgs = MBMessageLocalServiceUtil
@@ -172,13 +654,12 @@ public class ItemLocalServiceImpl extends ItemLocalServiceBaseImpl {
 		/* Delete related LFImages */
 		LFImageLocalServiceUtil.deleteByItemId(item.getItemId(),
 				serviceContext);
+		itemMatchLocalService.deleteItemMatches(item.getItemId());
 		if (updateFirebase(item, serviceContext)) {
-			Future<Boolean> future = getFbService().setRelationManyToOne(item, null, FirebaseSynchronizer
-					.getInstance().getService(AssetCategory.class), null);
-			_log.debug("Deleting item in Firebase");
-			getFbService().delete(item, future);
+			_log.debug("Queueing item deletion in Firebase");
+			firebaseOutboxEntryLocalService.addDeleteEntry(item);
 		}
-		return super.deleteItem(item);
+		return deleteItem(item);
 	}
 
 	private AssetEntry updateAsset(long userId, Item item,
@@ -0,0 +1,400 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.liferay.asset.kernel.model.AssetCategory;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.search.Hits;
+import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+import com.liferay.portal.kernel.search.QueryConfig;
+import com.liferay.portal.kernel.search.SearchContext;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.kernel.workflow.WorkflowConstants;
+import com.liferay.util.portlet.PortletProps;
+
+import aQute.bnd.annotation.ProviderType;
+import net.indaba.lostandfound.asset.indexer.ItemIndexer;
+import net.indaba.lostandfound.model.Item;
+import net.indaba.lostandfound.model.ItemMatch;
+import net.indaba.lostandfound.service.base.ItemMatchLocalServiceBaseImpl;
+import net.indaba.lostandfound.util.LFVOConstants;
+
+/**
+ * The implementation of the item match local service.
+ *
+ * <p>
+ * All custom service methods should be put in this class. Whenever methods are
+ * added, rerun ServiceBuilder to copy their definitions into the
+ * {@link net.indaba.lostandfound.service.ItemMatchLocalService} interface.
+ *
+ * <p>
+ * This is a local service. Methods of this service will not have security
+ * checks based on the propagated JAAS credentials because this service can only
+ * be accessed from within the same VM.
+ * </p>
+ *
+ * @author aritz
+ * @see ItemMatchLocalServiceBaseImpl
+ * @see net.indaba.lostandfound.service.ItemMatchLocalServiceUtil
+ */
+@ProviderType
+public class ItemMatchLocalServiceImpl extends ItemMatchLocalServiceBaseImpl {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never reference this class directly. Always use {@link
+	 * net.indaba.lostandfound.service.ItemMatchLocalServiceUtil} to access the
+	 * item match local service.
+	 */
+
+	/**
+	 * Weights of the text, category, distance and date scores. They add up to
+	 * 1, so the match score is between 0 and 1.
+	 */
+	private static final double WEIGHT_TEXT = 0.4;
+	private static final double WEIGHT_CATEGORY = 0.25;
+	private static final double WEIGHT_DISTANCE = 0.2;
+	private static final double WEIGHT_DATE = 0.15;
+
+	/**
+	 * Score given to the distance when either item has no location
+	 */
+	private static final double UNKNOWN_DISTANCE_SCORE = 0.5;
+
+	private static final int KEYWORDS_MAX_LENGTH = 500;
+
+	private static final double EARTH_RADIUS = 6371000;
+
+	/**
+	 * Gets the stored match candidates of an item, best first
+	 *
+	 * @param itemId
+	 * @param start
+	 * @param end
+	 * @return The matches, each naming the candidate in matchedItemId
+	 */
+	public List<ItemMatch> getItemMatches(long itemId, int start, int end) {
+		return itemMatchPersistence.findByItemId(itemId, start, end);
+	}
+
+	public int getItemMatchesCount(long itemId) {
+		return itemMatchPersistence.countByItemId(itemId);
+	}
+
+	/**
+	 * Recomputes the match candidates of an item. Lost items are matched
+	 * against found ones and the other way round, other types have no
+	 * candidates. The candidates are the found (or lost) items the search
+	 * index ranks highest for the item's name and description, created within
+	 * item.match.max.days of it. Each is scored on the text relevance, the
+	 * shared asset categories, the distance between the locations and the
+	 * time between the reports. The best item.match.max.results candidates
+	 * scoring at least item.match.min.score are stored in both directions, so
+	 * the item also shows up among the candidates of each of its matches.
+	 * Matches already stored are updated in place and those no longer found
+	 * are removed, so each pair of items is stored at most once per
+	 * direction.
+	 *
+	 * @param itemId
+	 * @return The stored matches of the item
+	 */
+	public List<ItemMatch> updateItemMatches(long itemId)
+			throws PortalException {
+		List<ItemMatch> itemMatches = new ArrayList<ItemMatch>();
+		Item item = itemPersistence.fetchByPrimaryKey(itemId);
+		if (item == null) {
+			deleteItemMatches(itemId);
+			return itemMatches;
+		}
+
+		Set<Long> matchedItemIds = new HashSet<Long>();
+		Date now = new Date();
+		for (Object[] s : scoreCandidates(item)) {
+			Item candidate = (Item) s[0];
+			double score = (Double) s[1];
+			itemMatches.add(updateItemMatch(item, candidate.getItemId(),
+					score, now));
+			updateItemMatch(candidate, itemId, score, now);
+			matchedItemIds.add(candidate.getItemId());
+		}
+		for (ItemMatch itemMatch : itemMatchPersistence.findByItemId(itemId)) {
+			if (!matchedItemIds.contains(itemMatch.getMatchedItemId())) {
+				itemMatchPersistence.remove(itemMatch);
+			}
+		}
+		for (ItemMatch itemMatch : itemMatchPersistence.findByMatchedItemId(
+				itemId)) {
+			if (!matchedItemIds.contains(itemMatch.getItemId())) {
+				itemMatchPersistence.remove(itemMatch);
+			}
+		}
+		_log.debug("Stored " + itemMatches.size() + " matches of item "
+				+ itemId);
+		return itemMatches;
+	}
+
+	/**
+	 * Removes every stored match of the item, in both directions
+	 *
+	 * @param itemId
+	 */
+	public void deleteItemMatches(long itemId) {
+		itemMatchPersistence.removeByItemId(itemId);
+		itemMatchPersistence.removeByMatchedItemId(itemId);
+	}
+
+	/**
+	 * @return The best candidates of the item with their scores, best first
+	 */
+	private List<Object[]> scoreCandidates(Item item) throws PortalException {
+		List<Object[]> scored = new ArrayList<Object[]>();
+		String candidateType = getCandidateType(item.getType());
+		if (candidateType == null) {
+			return scored;
+		}
+
+		int maxCandidates = GetterUtil.getInteger(PortletProps.get(
+				"item.match.candidates"), 50);
+		int maxResults = GetterUtil.getInteger(PortletProps.get(
+				"item.match.max.results"), 20);
+		double minScore = GetterUtil.getDouble(PortletProps.get(
+				"item.match.min.score"), 0.35);
+		long maxDays = GetterUtil.getLong(PortletProps.get(
+				"item.match.max.days"), 90);
+		double distanceScale = GetterUtil.getDouble(PortletProps.get(
+				"item.match.distance.scale"), 5000);
+
+		Map<Long, Double> textScores = searchCandidates(item, candidateType,
+				TimeUnit.DAYS.toMillis(maxDays), maxCandidates);
+		if (textScores.isEmpty()) {
+			return scored;
+		}
+
+		DynamicQuery dynamicQuery = itemLocalService.dynamicQuery();
+		dynamicQuery.add(RestrictionsFactoryUtil.in("itemId", textScores
+				.keySet()));
+		List<Item> candidates = itemLocalService.dynamicQuery(dynamicQuery);
+
+		long[] itemIds = new long[candidates.size() + 1];
+		itemIds[0] = item.getItemId();
+		for (int i = 0; i < candidates.size(); i++) {
+			itemIds[i + 1] = candidates.get(i).getItemId();
+		}
+		Map<Long, List<AssetCategory>> categories = itemLocalService
+				.getItemsCategories(itemIds);
+		Set<Long> categoryIds = getCategoryIds(categories.get(item
+				.getItemId()));
+
+		for (Item candidate : candidates) {
+			double score = WEIGHT_TEXT * textScores.get(candidate.getItemId())
+					+ WEIGHT_CATEGORY * getCategoryScore(categoryIds,
+							getCategoryIds(categories.get(candidate
+									.getItemId())))
+					+ WEIGHT_DISTANCE * getDistanceScore(item, candidate,
+							distanceScale)
+					+ WEIGHT_DATE * getDateScore(item, candidate, maxDays);
+			if (score >= minScore) {
+				scored.add(new Object[] { candidate, score });
+			}
+		}
+		Collections.sort(scored, (a, b) -> Double.compare((Double) b[1],
+				(Double) a[1]));
+		if (scored.size() > maxResults) {
+			scored = scored.subList(0, maxResults);
+		}
+		return scored;
+	}
+
+	/**
+	 * Stores the match, or updates the score of the one already stored for the
+	 * same pair of items
+	 */
+	private ItemMatch updateItemMatch(Item item, long matchedItemId,
+			double score, Date createDate) {
+		ItemMatch itemMatch = itemMatchPersistence.fetchByI_M(item
+				.getItemId(), matchedItemId);
+		if (itemMatch == null) {
+			itemMatch = itemMatchPersistence.create(counterLocalService
+					.increment(ItemMatch.class.getName()));
+			itemMatch.setCompanyId(item.getCompanyId());
+			itemMatch.setItemId(item.getItemId());
+			itemMatch.setMatchedItemId(matchedItemId);
+		}
+		itemMatch.setCreateDate(createDate);
+		itemMatch.setScore(score);
+		return itemMatchPersistence.update(itemMatch);
+	}
+
+	/**
+	 * @return The type of the items a lost or found item is matched against,
+	 *         or null for the other types
+	 */
+	private String getCandidateType(String type) {
+		if (LFVOConstants.ITEM_TYPE_LOST.equals(type)) {
+			return LFVOConstants.ITEM_TYPE_FOUND;
+		} else if (LFVOConstants.ITEM_TYPE_FOUND.equals(type)) {
+			return LFVOConstants.ITEM_TYPE_LOST;
+		}
+		return null;
+	}
+
+	/**
+	 * Searches the index for the items of the candidate type whose text is
+	 * closest to the item's
+	 *
+	 * @return The relevance of each candidate by itemId, relative to the best
+	 *         one, so between 0 and 1
+	 */
+	private Map<Long, Double> searchCandidates(Item item, String candidateType,
+			long maxAge, int maxCandidates) throws PortalException {
+		Map<Long, Double> textScores = new HashMap<Long, Double>();
+		String keywords = StringUtil.shorten(StringUtil.merge(new String[] {
+				item.getName(), item.getDescription() }, " ").trim(),
+				KEYWORDS_MAX_LENGTH);
+		if (Validator.isNull(keywords)) {
+			return textScores;
+		}
+
+		SearchContext searchContext = new SearchContext();
+		searchContext.setCompanyId(item.getCompanyId());
+		searchContext.setKeywords(keywords);
+		searchContext.setAttribute(Field.STATUS,
+				WorkflowConstants.STATUS_ANY);
+		searchContext.setAttribute(ItemIndexer.FIELD_ITEM_TYPE, candidateType);
+		if (item.getCreateDate() != null) {
+			long createDate = item.getCreateDate().getTime();
+			searchContext.setAttribute(ItemIndexer.ATTRIBUTE_CREATE_DATE_FROM,
+					createDate - maxAge);
+			searchContext.setAttribute(ItemIndexer.ATTRIBUTE_CREATE_DATE_TO,
+					createDate + maxAge);
+		}
+		searchContext.setStart(0);
+		searchContext.setEnd(maxCandidates);
+		QueryConfig queryConfig = searchContext.getQueryConfig();
+		queryConfig.setHighlightEnabled(false);
+		queryConfig.setScoreEnabled(true);
+		queryConfig.setSelectedFieldNames(Field.ENTRY_CLASS_PK);
+
+		Indexer<Item> indexer = IndexerRegistryUtil.nullSafeGetIndexer(
+				Item.class);
+		Hits hits = indexer.search(searchContext);
+		Document[] documents = hits.getDocs();
+		float[] scores = hits.getScores();
+		float maxScore = 0;
+		for (float score : scores) {
+			maxScore = Math.max(maxScore, score);
+		}
+		for (int i = 0; i < documents.length; i++) {
+			long candidateId = GetterUtil.getLong(documents[i].get(
+					Field.ENTRY_CLASS_PK));
+			if (candidateId != item.getItemId()) {
+				textScores.put(candidateId, maxScore > 0 ? (double) scores[i]
+						/ maxScore : 0.0);
+			}
+		}
+		return textScores;
+	}
+
+	private Set<Long> getCategoryIds(List<AssetCategory> categories) {
+		Set<Long> categoryIds = new HashSet<Long>();
+		if (categories != null) {
+			for (AssetCategory category : categories) {
+				categoryIds.add(category.getCategoryId());
+			}
+		}
+		return categoryIds;
+	}
+
+	/**
+	 * @return The Jaccard similarity of the category sets, 0 if either is
+	 *         empty
+	 */
+	private double getCategoryScore(Set<Long> categoryIds,
+			Set<Long> candidateCategoryIds) {
+		if (categoryIds.isEmpty() || candidateCategoryIds.isEmpty()) {
+			return 0;
+		}
+		Set<Long> union = new HashSet<Long>(categoryIds);
+		union.addAll(candidateCategoryIds);
+		int shared = categoryIds.size() + candidateCategoryIds.size() - union
+				.size();
+		return (double) shared / union.size();
+	}
+
+	/**
+	 * @return 1 for the same place, halving every distanceScale meters
+	 */
+	private double getDistanceScore(Item item, Item candidate,
+			double distanceScale) {
+		if (!item.hasLocation() || !candidate.hasLocation()) {
+			return UNKNOWN_DISTANCE_SCORE;
+		}
+		double scale = ItemIndexer.COORDINATE_SCALE;
+		double distance = getDistance(item.getLat() / scale, item.getLng()
+				/ scale, candidate.getLat() / scale, candidate.getLng() / scale);
+		return Math.pow(0.5, distance / distanceScale);
+	}
+
+	/**
+	 * @return 1 for reports made at the same time, down to 0 at maxDays apart
+	 */
+	private double getDateScore(Item item, Item candidate, long maxDays) {
+		if (item.getCreateDate() == null || candidate.getCreateDate() == null
+				|| maxDays <= 0) {
+			return 0;
+		}
+		double days = Math.abs(item.getCreateDate().getTime() - candidate
+				.getCreateDate().getTime()) / (double) TimeUnit.DAYS.toMillis(
+						1);
+		return Math.max(0, 1 - days / maxDays);
+	}
+
+	/**
+	 * Great-circle distance with the haversine formula
+	 *
+	 * @return The distance in meters
+	 */
+	private double getDistance(double lat1, double lng1, double lat2,
+			double lng2) {
+		double dLat = Math.toRadians(lat2 - lat1);
+		double dLng = Math.toRadians(lng2 - lng1);
+		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) + Math.cos(Math
+				.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(
+						dLng / 2) * Math.sin(dLng / 2);
+		return 2 * EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a)));
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+			ItemMatchLocalServiceImpl.class);
+}
@@ -14,21 +14,44 @@
 
 package net.indaba.lostandfound.service.impl;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.Future;
+import java.util.Map;
 
+import com.liferay.portal.kernel.dao.jdbc.OutputBlob;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionList;
+import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.service.ServiceContext;
 import com.liferay.portal.kernel.theme.ThemeDisplay;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.WebKeys;
 
 import aQute.bnd.annotation.ProviderType;
 import net.indaba.lostandfound.firebase.FirebaseService;
 import net.indaba.lostandfound.firebase.FirebaseSynchronizer;
-import net.indaba.lostandfound.model.Item;
 import net.indaba.lostandfound.model.LFImage;
-import net.indaba.lostandfound.service.ItemLocalServiceUtil;
+import net.indaba.lostandfound.model.LFImageImageBlobModel;
+import net.indaba.lostandfound.model.impl.LFImageImpl;
 import net.indaba.lostandfound.service.base.LFImageLocalServiceBaseImpl;
+import net.indaba.lostandfound.util.IdAllocator;
+import net.indaba.lostandfound.util.LFImageThumbnailCache;
 
 /**
  * The implementation of the l f image local service.
@@ -76,36 +99,153 @@ public class LFImageLocalServiceImpl extends LFImageLocalServiceBaseImpl {
 		return lfImagePersistence.findByItemId(itemId);
 	}
 
+	/**
+	 * Gets the images of an item for listing. Only the metadata columns are
+	 * selected and the returned images are detached, so nothing is loaded
+	 * until getImage is called. Use getImages to load the content of many
+	 * images at once.
+	 * 
+	 * @param itemId
+	 * @return The images with id, uuid, itemId, createDate, contentType and
+	 *         size set
+	 */
+	public List<LFImage> findMetadataByItemId(long itemId) {
+		DynamicQuery dynamicQuery = dynamicQuery();
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("itemId", itemId));
+		ProjectionList projectionList = ProjectionFactoryUtil
+				.projectionList();
+		projectionList.add(ProjectionFactoryUtil.property("lfImageId"));
+		projectionList.add(ProjectionFactoryUtil.property("uuid"));
+		projectionList.add(ProjectionFactoryUtil.property("createDate"));
+		projectionList.add(ProjectionFactoryUtil.property("contentType"));
+		projectionList.add(ProjectionFactoryUtil.property("size"));
+		dynamicQuery.setProjection(projectionList);
+		dynamicQuery.addOrder(OrderFactoryUtil.asc("lfImageId"));
+
+		List<Object[]> rows = dynamicQuery(dynamicQuery);
+		List<LFImage> images = new ArrayList<LFImage>(rows.size());
+		for (Object[] row : rows) {
+			LFImage image = new LFImageImpl();
+			image.setLfImageId((Long) row[0]);
+			image.setUuid((String) row[1]);
+			image.setItemId(itemId);
+			image.setCreateDate((Date) row[2]);
+			image.setContentType((String) row[3]);
+			image.setSize(GetterUtil.getLong(row[4]));
+			image.setNew(false);
+			images.add(image);
+		}
+		return images;
+	}
+
+	/**
+	 * Loads the content of many images with one query per
+	 * IMAGE_BATCH_SIZE images, instead of one query per image
+	 * 
+	 * @param lfImageIds
+	 * @return The image content by lfImageId, missing images are left out
+	 */
+	public Map<Long, Blob> getImages(long[] lfImageIds) {
+		Map<Long, Blob> images = new LinkedHashMap<Long, Blob>();
+		Session session = null;
+		try {
+			session = lfImagePersistence.openSession();
+			for (int i = 0; i < lfImageIds.length; i += IMAGE_BATCH_SIZE) {
+				long[] batch = Arrays.copyOfRange(lfImageIds, i, Math.min(
+						lfImageIds.length, i + IMAGE_BATCH_SIZE));
+				/* The ids are longs, so inlining them is safe */
+				Query query = session.createQuery("FROM "
+						+ LFImageImageBlobModel.class.getName()
+						+ " WHERE lfImageId IN (" + StringUtil.merge(batch)
+						+ ")");
+				for (Object o : query.list()) {
+					LFImageImageBlobModel blobModel =
+							(LFImageImageBlobModel) o;
+					images.put(blobModel.getLfImageId(), blobModel
+							.getImageBlob());
+				}
+			}
+		} catch (Exception e) {
+			throw lfImagePersistence.processException(e);
+		} finally {
+			lfImagePersistence.closeSession(session);
+		}
+		return images;
+	}
+
 	public LFImage addLFImage(LFImage lfImage, ServiceContext serviceContext) {
 		/*
 		 * supermethod needs to be called first, otherwise it somehow does not
 		 * store the image blob into the database
 		 */
+		if (lfImage.getCreateDate() == null) {
+			lfImage.setCreateDate(new Date());
+		}
 		LFImage image = super.addLFImage(lfImage);
 		if (updateFirebase(lfImage, serviceContext)) {
-			Future<String> fbKey = getFbService().add(image, null);
-			Item item = ItemLocalServiceUtil.fetchItem(lfImage.getItemId());
-			FirebaseService<Item> fbItemService = FirebaseSynchronizer
-					.getInstance().getService(Item.class);
-			getFbService().setRelationManyToOne(lfImage, item, fbItemService,
-					fbKey);
+			firebaseOutboxEntryLocalService.addUpdateEntry(image);
 		}
+		final long lfImageId = image.getLfImageId();
+		/* The blob stream is consumed by now, the thumbnails read it back */
+		TransactionCommitCallbackUtil.registerCallback(() -> {
+			generateThumbnails(lfImageId);
+			return null;
+		});
 		return image;
 	}
 
+	/**
+	 * Adds an image holding the raw bytes read from the stream
+	 * 
+	 * @param itemId
+	 * @param is
+	 *            Image content, read before the method returns
+	 * @param size
+	 *            Number of bytes of the content
+	 * @param contentType
+	 *            MIME type of the content, such as image/png
+	 * @param serviceContext
+	 * @return The added image
+	 */
+	public LFImage addLFImage(long itemId, InputStream is, long size,
+			String contentType, ServiceContext serviceContext) {
+		LFImage lfImage = createLFImage(IdAllocator.getInstance(
+				LFImage.class).nextId());
+		lfImage.setItemId(itemId);
+		lfImage.setContentType(contentType);
+		lfImage.setSize(size);
+		lfImage.setImage(new OutputBlob(is, size));
+		return addLFImage(lfImage, serviceContext);
+	}
+
 	public LFImage deleteLFImage(LFImage lfImage,
 			ServiceContext serviceContext) {
 		if (updateFirebase(lfImage, serviceContext)) {
-			Item item = ItemLocalServiceUtil.fetchItem(lfImage.getItemId());
-			FirebaseService<Item> fbItemService = FirebaseSynchronizer
-					.getInstance().getService(Item.class);
-			Future<Boolean> result = getFbService().setRelationManyToOne(lfImage,
-					item, fbItemService, null);
-			getFbService().delete(lfImage, result);
+			firebaseOutboxEntryLocalService.addDeleteEntry(lfImage);
 		}
+		LFImageThumbnailCache.getInstance().delete(lfImage);
 		return super.deleteLFImage(lfImage);
 	}
 
+	/**
+	 * Generates the thumbnails of an image. Failures are only logged, the
+	 * thumbnails are generated again when first requested.
+	 * 
+	 * @param lfImageId
+	 */
+	public void generateThumbnails(long lfImageId) {
+		LFImage image = fetchLFImage(lfImageId);
+		if (image == null) {
+			return;
+		}
+		try {
+			LFImageThumbnailCache.getInstance().generate(image);
+		} catch (IOException | SQLException e) {
+			_log.error("Unable to generate thumbnails of image " + lfImageId,
+					e);
+		}
+	}
+
 	public LFImage deleteLFImage(long lfImageId, ServiceContext serviceContext)
 			throws PortalException {
 		return deleteLFImage(getLFImage(lfImageId), serviceContext);
@@ -118,8 +258,15 @@ public class LFImageLocalServiceImpl extends LFImageLocalServiceBaseImpl {
 				deleteLFImage(i, serviceContext);
 			}
 		} else {
+			for (LFImage i : lfImagePersistence.findByItemId(itemId)) {
+				LFImageThumbnailCache.getInstance().delete(i);
+			}
 			lfImagePersistence.removeByItemId(itemId);
 		}
 	}
 
-}
\ No newline at end of file
+	private static final int IMAGE_BATCH_SIZE = 500;
+
+	private static final Log _log = LogFactoryUtil.getLog(
+			LFImageLocalServiceImpl.class);
+}
@@ -15,13 +15,12 @@
 package net.indaba.lostandfound.service.impl;
 
 import java.io.ByteArrayInputStream;
-import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 
-import com.liferay.counter.kernel.service.CounterLocalServiceUtil;
-import com.liferay.portal.kernel.dao.jdbc.OutputBlob;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.util.MimeTypesUtil;
 
 import aQute.bnd.annotation.ProviderType;
 import net.indaba.lostandfound.model.LFImage;
@@ -77,18 +76,22 @@ public class LFImageServiceImpl extends LFImageServiceBaseImpl {
 		LFImageLocalServiceUtil.deleteByItemId(itemId, serviceContext);
 	}
 
+	/**
+	 * Adds an image sent as base64 text, optionally as a data URI. It is
+	 * decoded once here and stored as raw bytes.
+	 */
 	public LFImage addLFImage(String imageBase64String, long itemId,
 			ServiceContext serviceContext) {
-		ByteArrayInputStream imageBase64 = new ByteArrayInputStream(
-				imageBase64String.getBytes(StandardCharsets.UTF_8));
-		OutputBlob dataOutputBlob = new OutputBlob(imageBase64,
-				imageBase64String.length());
-
-		LFImage lfImage = LFImageLocalServiceUtil.createLFImage(
-				CounterLocalServiceUtil.increment());
-		lfImage.setItemId(itemId);
-		lfImage.setImage(dataOutputBlob);
-		return LFImageLocalServiceUtil.addLFImage(lfImage, serviceContext);
+		int dataStart = imageBase64String.indexOf(";base64,");
+		if (imageBase64String.startsWith("data:") && dataStart > 0) {
+			imageBase64String = imageBase64String.substring(dataStart + 8);
+		}
+		byte[] bytes = Base64.getMimeDecoder().decode(imageBase64String);
+		String contentType = MimeTypesUtil.getContentType(
+				new ByteArrayInputStream(bytes), null);
+		return LFImageLocalServiceUtil.addLFImage(itemId,
+				new ByteArrayInputStream(bytes), bytes.length, contentType,
+				serviceContext);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,1039 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service.persistence.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.dao.orm.EntityCache;
+import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderCache;
+import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderPath;
+import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.service.persistence.impl.BasePersistenceImpl;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+
+import net.indaba.lostandfound.exception.NoSuchFirebaseKeyException;
+import net.indaba.lostandfound.model.FirebaseKey;
+import net.indaba.lostandfound.model.impl.FirebaseKeyImpl;
+import net.indaba.lostandfound.model.impl.FirebaseKeyModelImpl;
+import net.indaba.lostandfound.service.persistence.FirebaseKeyPersistence;
+
+import java.io.Serializable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persistence implementation for the firebase key service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author aritz
+ * @see FirebaseKeyPersistence
+ * @see net.indaba.lostandfound.service.persistence.FirebaseKeyUtil
+ * @generated
+ */
+@ProviderType
+public class FirebaseKeyPersistenceImpl extends BasePersistenceImpl<FirebaseKey>
+	implements FirebaseKeyPersistence {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. Always use {@link FirebaseKeyUtil} to access the firebase key persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+	public static final String FINDER_CLASS_NAME_ENTITY = FirebaseKeyImpl.class.getName();
+	public static final String FINDER_CLASS_NAME_LIST_WITH_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List1";
+	public static final String FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List2";
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_ALL = new FinderPath(FirebaseKeyModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseKeyModelImpl.FINDER_CACHE_ENABLED, FirebaseKeyImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL = new FinderPath(FirebaseKeyModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseKeyModelImpl.FINDER_CACHE_ENABLED, FirebaseKeyImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_COUNT_ALL = new FinderPath(FirebaseKeyModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseKeyModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countAll", new String[0]);
+	public static final FinderPath FINDER_PATH_FETCH_BY_C_C = new FinderPath(FirebaseKeyModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseKeyModelImpl.FINDER_CACHE_ENABLED, FirebaseKeyImpl.class,
+			FINDER_CLASS_NAME_ENTITY, "fetchByC_C",
+			new String[] { Long.class.getName(), Long.class.getName() },
+			FirebaseKeyModelImpl.CLASSNAMEID_COLUMN_BITMASK |
+			FirebaseKeyModelImpl.CLASSPK_COLUMN_BITMASK);
+	public static final FinderPath FINDER_PATH_COUNT_BY_C_C = new FinderPath(FirebaseKeyModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseKeyModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_C",
+			new String[] { Long.class.getName(), Long.class.getName() });
+
+	/**
+	 * Returns the firebase key where classNameId = &#63; and classPK = &#63; or throws a {@link NoSuchFirebaseKeyException} if it could not be found.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @return the matching firebase key
+	 * @throws NoSuchFirebaseKeyException if a matching firebase key could not be found
+	 */
+	@Override
+	public FirebaseKey findByC_C(long classNameId, long classPK)
+		throws NoSuchFirebaseKeyException {
+		FirebaseKey firebaseKey = fetchByC_C(classNameId, classPK);
+
+		if (firebaseKey == null) {
+			StringBundler msg = new StringBundler(6);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("classNameId=");
+			msg.append(classNameId);
+
+			msg.append(", classPK=");
+			msg.append(classPK);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			if (_log.isWarnEnabled()) {
+				_log.warn(msg.toString());
+			}
+
+			throw new NoSuchFirebaseKeyException(msg.toString());
+		}
+
+		return firebaseKey;
+	}
+
+	/**
+	 * Returns the firebase key where classNameId = &#63; and classPK = &#63; or returns <code>null</code> if it could not be found. Uses the finder cache.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @return the matching firebase key, or <code>null</code> if a matching firebase key could not be found
+	 */
+	@Override
+	public FirebaseKey fetchByC_C(long classNameId, long classPK) {
+		return fetchByC_C(classNameId, classPK, true);
+	}
+
+	/**
+	 * Returns the firebase key where classNameId = &#63; and classPK = &#63; or returns <code>null</code> if it could not be found, optionally using the finder cache.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the matching firebase key, or <code>null</code> if a matching firebase key could not be found
+	 */
+	@Override
+	public FirebaseKey fetchByC_C(long classNameId, long classPK,
+		boolean retrieveFromCache) {
+		Object[] finderArgs = new Object[] { classNameId, classPK };
+
+		Object result = null;
+
+		if (retrieveFromCache) {
+			result = finderCache.getResult(FINDER_PATH_FETCH_BY_C_C,
+					finderArgs, this);
+		}
+
+		if (result instanceof FirebaseKey) {
+			FirebaseKey firebaseKey = (FirebaseKey)result;
+
+			if ((classNameId != firebaseKey.getClassNameId()) ||
+					(classPK != firebaseKey.getClassPK())) {
+				result = null;
+			}
+		}
+
+		if (result == null) {
+			StringBundler query = new StringBundler(4);
+
+			query.append(_SQL_SELECT_FIREBASEKEY_WHERE);
+
+			query.append(_FINDER_COLUMN_C_C_CLASSNAMEID_2);
+
+			query.append(_FINDER_COLUMN_C_C_CLASSPK_2);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(classNameId);
+
+				qPos.add(classPK);
+
+				List<FirebaseKey> list = q.list();
+
+				if (list.isEmpty()) {
+					finderCache.putResult(FINDER_PATH_FETCH_BY_C_C, finderArgs,
+						list);
+				}
+				else {
+					FirebaseKey firebaseKey = list.get(0);
+
+					result = firebaseKey;
+
+					cacheResult(firebaseKey);
+
+					if ((firebaseKey.getClassNameId() != classNameId) ||
+							(firebaseKey.getClassPK() != classPK)) {
+						finderCache.putResult(FINDER_PATH_FETCH_BY_C_C,
+							finderArgs, firebaseKey);
+					}
+				}
+			}
+			catch (Exception e) {
+				finderCache.removeResult(FINDER_PATH_FETCH_BY_C_C, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		if (result instanceof List<?>) {
+			return null;
+		}
+		else {
+			return (FirebaseKey)result;
+		}
+	}
+
+	/**
+	 * Removes the firebase key where classNameId = &#63; and classPK = &#63; from the database.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @return the firebase key that was removed
+	 */
+	@Override
+	public FirebaseKey removeByC_C(long classNameId, long classPK)
+		throws NoSuchFirebaseKeyException {
+		FirebaseKey firebaseKey = findByC_C(classNameId, classPK);
+
+		return remove(firebaseKey);
+	}
+
+	/**
+	 * Returns the number of firebase keies where classNameId = &#63; and classPK = &#63;.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @return the number of matching firebase keies
+	 */
+	@Override
+	public int countByC_C(long classNameId, long classPK) {
+		FinderPath finderPath = FINDER_PATH_COUNT_BY_C_C;
+
+		Object[] finderArgs = new Object[] { classNameId, classPK };
+
+		Long count = (Long)finderCache.getResult(finderPath, finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(3);
+
+			query.append(_SQL_COUNT_FIREBASEKEY_WHERE);
+
+			query.append(_FINDER_COLUMN_C_C_CLASSNAMEID_2);
+
+			query.append(_FINDER_COLUMN_C_C_CLASSPK_2);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(classNameId);
+
+				qPos.add(classPK);
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(finderPath, finderArgs, count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	private static final String _FINDER_COLUMN_C_C_CLASSNAMEID_2 = "firebaseKey.classNameId = ? AND ";
+	private static final String _FINDER_COLUMN_C_C_CLASSPK_2 = "firebaseKey.classPK = ?";
+
+	public FirebaseKeyPersistenceImpl() {
+		setModelClass(FirebaseKey.class);
+	}
+
+	/**
+	 * Caches the firebase key in the entity cache if it is enabled.
+	 *
+	 * @param firebaseKey the firebase key
+	 */
+	@Override
+	public void cacheResult(FirebaseKey firebaseKey) {
+		entityCache.putResult(FirebaseKeyModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseKeyImpl.class, firebaseKey.getPrimaryKey(), firebaseKey);
+
+		finderCache.putResult(FINDER_PATH_FETCH_BY_C_C,
+			new Object[] { firebaseKey.getClassNameId(), firebaseKey.getClassPK() },
+			firebaseKey);
+
+		firebaseKey.resetOriginalValues();
+	}
+
+	/**
+	 * Caches the firebase keies in the entity cache if it is enabled.
+	 *
+	 * @param firebaseKeies the firebase keies
+	 */
+	@Override
+	public void cacheResult(List<FirebaseKey> firebaseKeies) {
+		for (FirebaseKey firebaseKey : firebaseKeies) {
+			if (entityCache.getResult(
+						FirebaseKeyModelImpl.ENTITY_CACHE_ENABLED,
+						FirebaseKeyImpl.class, firebaseKey.getPrimaryKey()) == null) {
+				cacheResult(firebaseKey);
+			}
+			else {
+				firebaseKey.resetOriginalValues();
+			}
+		}
+	}
+
+	/**
+	 * Clears the cache for all firebase keies.
+	 *
+	 * <p>
+	 * The {@link EntityCache} and {@link FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache() {
+		entityCache.clearCache(FirebaseKeyImpl.class);
+
+		finderCache.clearCache(FINDER_CLASS_NAME_ENTITY);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	/**
+	 * Clears the cache for the firebase key.
+	 *
+	 * <p>
+	 * The {@link EntityCache} and {@link FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache(FirebaseKey firebaseKey) {
+		entityCache.removeResult(FirebaseKeyModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseKeyImpl.class, firebaseKey.getPrimaryKey());
+
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		clearUniqueFindersCache((FirebaseKeyModelImpl)firebaseKey);
+	}
+
+	@Override
+	public void clearCache(List<FirebaseKey> firebaseKeies) {
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		for (FirebaseKey firebaseKey : firebaseKeies) {
+			entityCache.removeResult(FirebaseKeyModelImpl.ENTITY_CACHE_ENABLED,
+				FirebaseKeyImpl.class, firebaseKey.getPrimaryKey());
+
+			clearUniqueFindersCache((FirebaseKeyModelImpl)firebaseKey);
+		}
+	}
+
+	protected void cacheUniqueFindersCache(
+		FirebaseKeyModelImpl firebaseKeyModelImpl, boolean isNew) {
+		if (isNew) {
+			Object[] args = new Object[] {
+					firebaseKeyModelImpl.getClassNameId(),
+					firebaseKeyModelImpl.getClassPK()
+				};
+
+			finderCache.putResult(FINDER_PATH_COUNT_BY_C_C, args,
+				Long.valueOf(1));
+			finderCache.putResult(FINDER_PATH_FETCH_BY_C_C, args,
+				firebaseKeyModelImpl);
+		}
+		else {
+			if ((firebaseKeyModelImpl.getColumnBitmask() &
+					FINDER_PATH_FETCH_BY_C_C.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						firebaseKeyModelImpl.getClassNameId(),
+						firebaseKeyModelImpl.getClassPK()
+					};
+
+				finderCache.putResult(FINDER_PATH_COUNT_BY_C_C, args,
+					Long.valueOf(1));
+				finderCache.putResult(FINDER_PATH_FETCH_BY_C_C, args,
+					firebaseKeyModelImpl);
+			}
+		}
+	}
+
+	protected void clearUniqueFindersCache(
+		FirebaseKeyModelImpl firebaseKeyModelImpl) {
+		Object[] args = new Object[] {
+				firebaseKeyModelImpl.getClassNameId(),
+				firebaseKeyModelImpl.getClassPK()
+			};
+
+		finderCache.removeResult(FINDER_PATH_COUNT_BY_C_C, args);
+		finderCache.removeResult(FINDER_PATH_FETCH_BY_C_C, args);
+
+		if ((firebaseKeyModelImpl.getColumnBitmask() &
+				FINDER_PATH_FETCH_BY_C_C.getColumnBitmask()) != 0) {
+			args = new Object[] {
+					firebaseKeyModelImpl.getOriginalClassNameId(),
+					firebaseKeyModelImpl.getOriginalClassPK()
+				};
+
+			finderCache.removeResult(FINDER_PATH_COUNT_BY_C_C, args);
+			finderCache.removeResult(FINDER_PATH_FETCH_BY_C_C, args);
+		}
+	}
+
+	/**
+	 * Creates a new firebase key with the primary key. Does not add the firebase key to the database.
+	 *
+	 * @param firebaseKeyId the primary key for the new firebase key
+	 * @return the new firebase key
+	 */
+	@Override
+	public FirebaseKey create(long firebaseKeyId) {
+		FirebaseKey firebaseKey = new FirebaseKeyImpl();
+
+		firebaseKey.setNew(true);
+		firebaseKey.setPrimaryKey(firebaseKeyId);
+
+		return firebaseKey;
+	}
+
+	/**
+	 * Removes the firebase key with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param firebaseKeyId the primary key of the firebase key
+	 * @return the firebase key that was removed
+	 * @throws NoSuchFirebaseKeyException if a firebase key with the primary key could not be found
+	 */
+	@Override
+	public FirebaseKey remove(long firebaseKeyId)
+		throws NoSuchFirebaseKeyException {
+		return remove((Serializable)firebaseKeyId);
+	}
+
+	/**
+	 * Removes the firebase key with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param primaryKey the primary key of the firebase key
+	 * @return the firebase key that was removed
+	 * @throws NoSuchFirebaseKeyException if a firebase key with the primary key could not be found
+	 */
+	@Override
+	public FirebaseKey remove(Serializable primaryKey)
+		throws NoSuchFirebaseKeyException {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			FirebaseKey firebaseKey = (FirebaseKey)session.get(FirebaseKeyImpl.class,
+					primaryKey);
+
+			if (firebaseKey == null) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + primaryKey);
+				}
+
+				throw new NoSuchFirebaseKeyException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+					primaryKey);
+			}
+
+			return remove(firebaseKey);
+		}
+		catch (NoSuchFirebaseKeyException nsee) {
+			throw nsee;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	protected FirebaseKey removeImpl(FirebaseKey firebaseKey) {
+		firebaseKey = toUnwrappedModel(firebaseKey);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			if (!session.contains(firebaseKey)) {
+				firebaseKey = (FirebaseKey)session.get(FirebaseKeyImpl.class,
+						firebaseKey.getPrimaryKeyObj());
+			}
+
+			if (firebaseKey != null) {
+				session.delete(firebaseKey);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		if (firebaseKey != null) {
+			clearCache(firebaseKey);
+		}
+
+		return firebaseKey;
+	}
+
+	@Override
+	public FirebaseKey updateImpl(FirebaseKey firebaseKey) {
+		firebaseKey = toUnwrappedModel(firebaseKey);
+
+		boolean isNew = firebaseKey.isNew();
+
+		FirebaseKeyModelImpl firebaseKeyModelImpl = (FirebaseKeyModelImpl)firebaseKey;
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			if (firebaseKey.isNew()) {
+				session.save(firebaseKey);
+
+				firebaseKey.setNew(false);
+			}
+			else {
+				firebaseKey = (FirebaseKey)session.merge(firebaseKey);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+
+		if (isNew || !FirebaseKeyModelImpl.COLUMN_BITMASK_ENABLED) {
+			finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		}
+
+		entityCache.putResult(FirebaseKeyModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseKeyImpl.class, firebaseKey.getPrimaryKey(), firebaseKey,
+			false);
+
+		clearUniqueFindersCache(firebaseKeyModelImpl);
+		cacheUniqueFindersCache(firebaseKeyModelImpl, isNew);
+
+		firebaseKey.resetOriginalValues();
+
+		return firebaseKey;
+	}
+
+	protected FirebaseKey toUnwrappedModel(FirebaseKey firebaseKey) {
+		if (firebaseKey instanceof FirebaseKeyImpl) {
+			return firebaseKey;
+		}
+
+		FirebaseKeyImpl firebaseKeyImpl = new FirebaseKeyImpl();
+
+		firebaseKeyImpl.setNew(firebaseKey.isNew());
+		firebaseKeyImpl.setPrimaryKey(firebaseKey.getPrimaryKey());
+
+		firebaseKeyImpl.setFirebaseKeyId(firebaseKey.getFirebaseKeyId());
+		firebaseKeyImpl.setClassNameId(firebaseKey.getClassNameId());
+		firebaseKeyImpl.setClassPK(firebaseKey.getClassPK());
+		firebaseKeyImpl.setFbKey(firebaseKey.getFbKey());
+		firebaseKeyImpl.setModifiedDate(firebaseKey.getModifiedDate());
+
+		return firebaseKeyImpl;
+	}
+
+	/**
+	 * Returns the firebase key with the primary key or throws a {@link com.liferay.portal.kernel.exception.NoSuchModelException} if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the firebase key
+	 * @return the firebase key
+	 * @throws NoSuchFirebaseKeyException if a firebase key with the primary key could not be found
+	 */
+	@Override
+	public FirebaseKey findByPrimaryKey(Serializable primaryKey)
+		throws NoSuchFirebaseKeyException {
+		FirebaseKey firebaseKey = fetchByPrimaryKey(primaryKey);
+
+		if (firebaseKey == null) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + primaryKey);
+			}
+
+			throw new NoSuchFirebaseKeyException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+				primaryKey);
+		}
+
+		return firebaseKey;
+	}
+
+	/**
+	 * Returns the firebase key with the primary key or throws a {@link NoSuchFirebaseKeyException} if it could not be found.
+	 *
+	 * @param firebaseKeyId the primary key of the firebase key
+	 * @return the firebase key
+	 * @throws NoSuchFirebaseKeyException if a firebase key with the primary key could not be found
+	 */
+	@Override
+	public FirebaseKey findByPrimaryKey(long firebaseKeyId)
+		throws NoSuchFirebaseKeyException {
+		return findByPrimaryKey((Serializable)firebaseKeyId);
+	}
+
+	/**
+	 * Returns the firebase key with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the firebase key
+	 * @return the firebase key, or <code>null</code> if a firebase key with the primary key could not be found
+	 */
+	@Override
+	public FirebaseKey fetchByPrimaryKey(Serializable primaryKey) {
+		FirebaseKey firebaseKey = (FirebaseKey)entityCache.getResult(FirebaseKeyModelImpl.ENTITY_CACHE_ENABLED,
+				FirebaseKeyImpl.class, primaryKey);
+
+		if (firebaseKey == _nullFirebaseKey) {
+			return null;
+		}
+
+		if (firebaseKey == null) {
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				firebaseKey = (FirebaseKey)session.get(FirebaseKeyImpl.class,
+						primaryKey);
+
+				if (firebaseKey != null) {
+					cacheResult(firebaseKey);
+				}
+				else {
+					entityCache.putResult(FirebaseKeyModelImpl.ENTITY_CACHE_ENABLED,
+						FirebaseKeyImpl.class, primaryKey, _nullFirebaseKey);
+				}
+			}
+			catch (Exception e) {
+				entityCache.removeResult(FirebaseKeyModelImpl.ENTITY_CACHE_ENABLED,
+					FirebaseKeyImpl.class, primaryKey);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return firebaseKey;
+	}
+
+	/**
+	 * Returns the firebase key with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param firebaseKeyId the primary key of the firebase key
+	 * @return the firebase key, or <code>null</code> if a firebase key with the primary key could not be found
+	 */
+	@Override
+	public FirebaseKey fetchByPrimaryKey(long firebaseKeyId) {
+		return fetchByPrimaryKey((Serializable)firebaseKeyId);
+	}
+
+	@Override
+	public Map<Serializable, FirebaseKey> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, FirebaseKey> map = new HashMap<Serializable, FirebaseKey>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			FirebaseKey firebaseKey = fetchByPrimaryKey(primaryKey);
+
+			if (firebaseKey != null) {
+				map.put(primaryKey, firebaseKey);
+			}
+
+			return map;
+		}
+
+		Set<Serializable> uncachedPrimaryKeys = null;
+
+		for (Serializable primaryKey : primaryKeys) {
+			FirebaseKey firebaseKey = (FirebaseKey)entityCache.getResult(FirebaseKeyModelImpl.ENTITY_CACHE_ENABLED,
+					FirebaseKeyImpl.class, primaryKey);
+
+			if (firebaseKey == null) {
+				if (uncachedPrimaryKeys == null) {
+					uncachedPrimaryKeys = new HashSet<Serializable>();
+				}
+
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else {
+				map.put(primaryKey, firebaseKey);
+			}
+		}
+
+		if (uncachedPrimaryKeys == null) {
+			return map;
+		}
+
+		StringBundler query = new StringBundler((uncachedPrimaryKeys.size() * 2) +
+				1);
+
+		query.append(_SQL_SELECT_FIREBASEKEY_WHERE_PKS_IN);
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			query.append(String.valueOf(primaryKey));
+
+			query.append(StringPool.COMMA);
+		}
+
+		query.setIndex(query.index() - 1);
+
+		query.append(StringPool.CLOSE_PARENTHESIS);
+
+		String sql = query.toString();
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			Query q = session.createQuery(sql);
+
+			for (FirebaseKey firebaseKey : (List<FirebaseKey>)q.list()) {
+				map.put(firebaseKey.getPrimaryKeyObj(), firebaseKey);
+
+				cacheResult(firebaseKey);
+
+				uncachedPrimaryKeys.remove(firebaseKey.getPrimaryKeyObj());
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				entityCache.putResult(FirebaseKeyModelImpl.ENTITY_CACHE_ENABLED,
+					FirebaseKeyImpl.class, primaryKey, _nullFirebaseKey);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
+	/**
+	 * Returns all the firebase keies.
+	 *
+	 * @return the firebase keies
+	 */
+	@Override
+	public List<FirebaseKey> findAll() {
+		return findAll(QueryUtil.ALL_POS, QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the firebase keies.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseKeyModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of firebase keies
+	 * @param end the upper bound of the range of firebase keies (not inclusive)
+	 * @return the range of firebase keies
+	 */
+	@Override
+	public List<FirebaseKey> findAll(int start, int end) {
+		return findAll(start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the firebase keies.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseKeyModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of firebase keies
+	 * @param end the upper bound of the range of firebase keies (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of firebase keies
+	 */
+	@Override
+	public List<FirebaseKey> findAll(int start, int end,
+		OrderByComparator<FirebaseKey> orderByComparator) {
+		return findAll(start, end, orderByComparator, true);
+	}
+
+	/**
+	 * Returns an ordered range of all the firebase keies.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseKeyModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of firebase keies
+	 * @param end the upper bound of the range of firebase keies (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the ordered range of firebase keies
+	 */
+	@Override
+	public List<FirebaseKey> findAll(int start, int end,
+		OrderByComparator<FirebaseKey> orderByComparator,
+		boolean retrieveFromCache) {
+		boolean pagination = true;
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			pagination = false;
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL;
+			finderArgs = FINDER_ARGS_EMPTY;
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_ALL;
+			finderArgs = new Object[] { start, end, orderByComparator };
+		}
+
+		List<FirebaseKey> list = null;
+
+		if (retrieveFromCache) {
+			list = (List<FirebaseKey>)finderCache.getResult(finderPath,
+					finderArgs, this);
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+			String sql = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(2 +
+						(orderByComparator.getOrderByFields().length * 2));
+
+				query.append(_SQL_SELECT_FIREBASEKEY);
+
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+
+				sql = query.toString();
+			}
+			else {
+				sql = _SQL_SELECT_FIREBASEKEY;
+
+				if (pagination) {
+					sql = sql.concat(FirebaseKeyModelImpl.ORDER_BY_JPQL);
+				}
+			}
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				if (!pagination) {
+					list = (List<FirebaseKey>)QueryUtil.list(q, getDialect(),
+							start, end, false);
+
+					Collections.sort(list);
+
+					list = Collections.unmodifiableList(list);
+				}
+				else {
+					list = (List<FirebaseKey>)QueryUtil.list(q, getDialect(),
+							start, end);
+				}
+
+				cacheResult(list);
+
+				finderCache.putResult(finderPath, finderArgs, list);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Removes all the firebase keies from the database.
+	 *
+	 */
+	@Override
+	public void removeAll() {
+		for (FirebaseKey firebaseKey : findAll()) {
+			remove(firebaseKey);
+		}
+	}
+
+	/**
+	 * Returns the number of firebase keies.
+	 *
+	 * @return the number of firebase keies
+	 */
+	@Override
+	public int countAll() {
+		Long count = (Long)finderCache.getResult(FINDER_PATH_COUNT_ALL,
+				FINDER_ARGS_EMPTY, this);
+
+		if (count == null) {
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(_SQL_COUNT_FIREBASEKEY);
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(FINDER_PATH_COUNT_ALL, FINDER_ARGS_EMPTY,
+					count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(FINDER_PATH_COUNT_ALL,
+					FINDER_ARGS_EMPTY);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	@Override
+	protected Map<String, Integer> getTableColumnsMap() {
+		return FirebaseKeyModelImpl.TABLE_COLUMNS_MAP;
+	}
+
+	/**
+	 * Initializes the firebase key persistence.
+	 */
+	public void afterPropertiesSet() {
+	}
+
+	public void destroy() {
+		entityCache.removeCache(FirebaseKeyImpl.class.getName());
+		finderCache.removeCache(FINDER_CLASS_NAME_ENTITY);
+		finderCache.removeCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.removeCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	protected EntityCache entityCache = EntityCacheUtil.getEntityCache();
+	protected FinderCache finderCache = FinderCacheUtil.getFinderCache();
+	private static final String _SQL_SELECT_FIREBASEKEY = "SELECT firebaseKey FROM FirebaseKey firebaseKey";
+	private static final String _SQL_SELECT_FIREBASEKEY_WHERE_PKS_IN = "SELECT firebaseKey FROM FirebaseKey firebaseKey WHERE firebaseKeyId IN (";
+	private static final String _SQL_SELECT_FIREBASEKEY_WHERE = "SELECT firebaseKey FROM FirebaseKey firebaseKey WHERE ";
+	private static final String _SQL_COUNT_FIREBASEKEY = "SELECT COUNT(firebaseKey) FROM FirebaseKey firebaseKey";
+	private static final String _SQL_COUNT_FIREBASEKEY_WHERE = "SELECT COUNT(firebaseKey) FROM FirebaseKey firebaseKey WHERE ";
+	private static final String _ORDER_BY_ENTITY_ALIAS = "firebaseKey.";
+	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No FirebaseKey exists with the primary key ";
+	private static final String _NO_SUCH_ENTITY_WITH_KEY = "No FirebaseKey exists with the key {";
+	private static final Log _log = LogFactoryUtil.getLog(FirebaseKeyPersistenceImpl.class);
+	private static final FirebaseKey _nullFirebaseKey = new FirebaseKeyImpl() {
+			@Override
+			public Object clone() {
+				return this;
+			}
+
+			@Override
+			public CacheModel<FirebaseKey> toCacheModel() {
+				return _nullFirebaseKeyCacheModel;
+			}
+		};
+
+	private static final CacheModel<FirebaseKey> _nullFirebaseKeyCacheModel = new CacheModel<FirebaseKey>() {
+			@Override
+			public FirebaseKey toEntityModel() {
+				return _nullFirebaseKey;
+			}
+		};
+}
\ No newline at end of file
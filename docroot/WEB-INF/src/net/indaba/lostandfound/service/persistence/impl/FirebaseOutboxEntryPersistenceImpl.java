@@ -0,0 +1,1887 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service.persistence.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.dao.orm.EntityCache;
+import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderCache;
+import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderPath;
+import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.service.persistence.impl.BasePersistenceImpl;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+
+import net.indaba.lostandfound.exception.NoSuchFirebaseOutboxEntryException;
+import net.indaba.lostandfound.model.FirebaseOutboxEntry;
+import net.indaba.lostandfound.model.impl.FirebaseOutboxEntryImpl;
+import net.indaba.lostandfound.model.impl.FirebaseOutboxEntryModelImpl;
+import net.indaba.lostandfound.service.persistence.FirebaseOutboxEntryPersistence;
+
+import java.io.Serializable;
+
+import java.sql.Timestamp;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persistence implementation for the firebase outbox entry service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author aritz
+ * @see FirebaseOutboxEntryPersistence
+ * @see net.indaba.lostandfound.service.persistence.FirebaseOutboxEntryUtil
+ * @generated
+ */
+@ProviderType
+public class FirebaseOutboxEntryPersistenceImpl extends BasePersistenceImpl<FirebaseOutboxEntry>
+	implements FirebaseOutboxEntryPersistence {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. Always use {@link FirebaseOutboxEntryUtil} to access the firebase outbox entry persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+	public static final String FINDER_CLASS_NAME_ENTITY = FirebaseOutboxEntryImpl.class.getName();
+	public static final String FINDER_CLASS_NAME_LIST_WITH_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List1";
+	public static final String FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List2";
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_ALL = new FinderPath(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseOutboxEntryModelImpl.FINDER_CACHE_ENABLED,
+			FirebaseOutboxEntryImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL = new FinderPath(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseOutboxEntryModelImpl.FINDER_CACHE_ENABLED,
+			FirebaseOutboxEntryImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_COUNT_ALL = new FinderPath(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseOutboxEntryModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countAll", new String[0]);
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_LTNEXTATTEMPTDATE =
+		new FinderPath(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseOutboxEntryModelImpl.FINDER_CACHE_ENABLED,
+			FirebaseOutboxEntryImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByLtNextAttemptDate",
+			new String[] {
+				Date.class.getName(),
+				
+			Integer.class.getName(), Integer.class.getName(),
+				OrderByComparator.class.getName()
+			});
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_COUNT_BY_LTNEXTATTEMPTDATE =
+		new FinderPath(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseOutboxEntryModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "countByLtNextAttemptDate",
+			new String[] { Date.class.getName() });
+
+	/**
+	 * Returns all the firebase outbox entries where nextAttemptDate &le; &#63;.
+	 *
+	 * @param nextAttemptDate the next attempt date
+	 * @return the matching firebase outbox entries
+	 */
+	@Override
+	public List<FirebaseOutboxEntry> findByLtNextAttemptDate(
+		Date nextAttemptDate) {
+		return findByLtNextAttemptDate(nextAttemptDate, QueryUtil.ALL_POS,
+			QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the firebase outbox entries where nextAttemptDate &le; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param nextAttemptDate the next attempt date
+	 * @param start the lower bound of the range of firebase outbox entries
+	 * @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	 * @return the range of matching firebase outbox entries
+	 */
+	@Override
+	public List<FirebaseOutboxEntry> findByLtNextAttemptDate(
+		Date nextAttemptDate, int start, int end) {
+		return findByLtNextAttemptDate(nextAttemptDate, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the firebase outbox entries where nextAttemptDate &le; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param nextAttemptDate the next attempt date
+	 * @param start the lower bound of the range of firebase outbox entries
+	 * @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching firebase outbox entries
+	 */
+	@Override
+	public List<FirebaseOutboxEntry> findByLtNextAttemptDate(
+		Date nextAttemptDate, int start, int end,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator) {
+		return findByLtNextAttemptDate(nextAttemptDate, start, end,
+			orderByComparator, true);
+	}
+
+	/**
+	 * Returns an ordered range of all the firebase outbox entries where nextAttemptDate &le; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param nextAttemptDate the next attempt date
+	 * @param start the lower bound of the range of firebase outbox entries
+	 * @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the ordered range of matching firebase outbox entries
+	 */
+	@Override
+	public List<FirebaseOutboxEntry> findByLtNextAttemptDate(
+		Date nextAttemptDate, int start, int end,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator,
+		boolean retrieveFromCache) {
+		boolean pagination = true;
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_LTNEXTATTEMPTDATE;
+		finderArgs = new Object[] { nextAttemptDate, start, end, orderByComparator };
+
+		List<FirebaseOutboxEntry> list = null;
+
+		if (retrieveFromCache) {
+			list = (List<FirebaseOutboxEntry>)finderCache.getResult(finderPath,
+					finderArgs, this);
+
+			if ((list != null) && !list.isEmpty()) {
+				for (FirebaseOutboxEntry firebaseOutboxEntry : list) {
+					if ((nextAttemptDate.getTime() < firebaseOutboxEntry.getNextAttemptDate()
+																			.getTime())) {
+						list = null;
+
+						break;
+					}
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(3 +
+						(orderByComparator.getOrderByFields().length * 2));
+			}
+			else {
+				query = new StringBundler(3);
+			}
+
+			query.append(_SQL_SELECT_FIREBASEOUTBOXENTRY_WHERE);
+
+			boolean bindNextAttemptDate = false;
+
+			if (nextAttemptDate == null) {
+				query.append(_FINDER_COLUMN_LTNEXTATTEMPTDATE_NEXTATTEMPTDATE_1);
+			}
+			else {
+				bindNextAttemptDate = true;
+
+				query.append(_FINDER_COLUMN_LTNEXTATTEMPTDATE_NEXTATTEMPTDATE_2);
+			}
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+			else
+			 if (pagination) {
+				query.append(FirebaseOutboxEntryModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				if (bindNextAttemptDate) {
+					qPos.add(new Timestamp(nextAttemptDate.getTime()));
+				}
+
+				if (!pagination) {
+					list = (List<FirebaseOutboxEntry>)QueryUtil.list(q,
+							getDialect(), start, end, false);
+
+					Collections.sort(list);
+
+					list = Collections.unmodifiableList(list);
+				}
+				else {
+					list = (List<FirebaseOutboxEntry>)QueryUtil.list(q,
+							getDialect(), start, end);
+				}
+
+				cacheResult(list);
+
+				finderCache.putResult(finderPath, finderArgs, list);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first firebase outbox entry in the ordered set where nextAttemptDate &le; &#63;.
+	 *
+	 * @param nextAttemptDate the next attempt date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching firebase outbox entry
+	 * @throws NoSuchFirebaseOutboxEntryException if a matching firebase outbox entry could not be found
+	 */
+	@Override
+	public FirebaseOutboxEntry findByLtNextAttemptDate_First(
+		Date nextAttemptDate,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws NoSuchFirebaseOutboxEntryException {
+		FirebaseOutboxEntry firebaseOutboxEntry = fetchByLtNextAttemptDate_First(nextAttemptDate,
+				orderByComparator);
+
+		if (firebaseOutboxEntry != null) {
+			return firebaseOutboxEntry;
+		}
+
+		StringBundler msg = new StringBundler(4);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("nextAttemptDate=");
+		msg.append(nextAttemptDate);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchFirebaseOutboxEntryException(msg.toString());
+	}
+
+	/**
+	 * Returns the first firebase outbox entry in the ordered set where nextAttemptDate &le; &#63;.
+	 *
+	 * @param nextAttemptDate the next attempt date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching firebase outbox entry, or <code>null</code> if a matching firebase outbox entry could not be found
+	 */
+	@Override
+	public FirebaseOutboxEntry fetchByLtNextAttemptDate_First(
+		Date nextAttemptDate,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator) {
+		List<FirebaseOutboxEntry> list = findByLtNextAttemptDate(nextAttemptDate,
+				0, 1, orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the last firebase outbox entry in the ordered set where nextAttemptDate &le; &#63;.
+	 *
+	 * @param nextAttemptDate the next attempt date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching firebase outbox entry
+	 * @throws NoSuchFirebaseOutboxEntryException if a matching firebase outbox entry could not be found
+	 */
+	@Override
+	public FirebaseOutboxEntry findByLtNextAttemptDate_Last(
+		Date nextAttemptDate,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws NoSuchFirebaseOutboxEntryException {
+		FirebaseOutboxEntry firebaseOutboxEntry = fetchByLtNextAttemptDate_Last(nextAttemptDate,
+				orderByComparator);
+
+		if (firebaseOutboxEntry != null) {
+			return firebaseOutboxEntry;
+		}
+
+		StringBundler msg = new StringBundler(4);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("nextAttemptDate=");
+		msg.append(nextAttemptDate);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchFirebaseOutboxEntryException(msg.toString());
+	}
+
+	/**
+	 * Returns the last firebase outbox entry in the ordered set where nextAttemptDate &le; &#63;.
+	 *
+	 * @param nextAttemptDate the next attempt date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching firebase outbox entry, or <code>null</code> if a matching firebase outbox entry could not be found
+	 */
+	@Override
+	public FirebaseOutboxEntry fetchByLtNextAttemptDate_Last(
+		Date nextAttemptDate,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator) {
+		int count = countByLtNextAttemptDate(nextAttemptDate);
+
+		if (count == 0) {
+			return null;
+		}
+
+		List<FirebaseOutboxEntry> list = findByLtNextAttemptDate(nextAttemptDate,
+				count - 1, count, orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the firebase outbox entries before and after the current firebase outbox entry in the ordered set where nextAttemptDate &le; &#63;.
+	 *
+	 * @param outboxEntryId the primary key of the current firebase outbox entry
+	 * @param nextAttemptDate the next attempt date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next firebase outbox entry
+	 * @throws NoSuchFirebaseOutboxEntryException if a firebase outbox entry with the primary key could not be found
+	 */
+	@Override
+	public FirebaseOutboxEntry[] findByLtNextAttemptDate_PrevAndNext(
+		long outboxEntryId, Date nextAttemptDate,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws NoSuchFirebaseOutboxEntryException {
+		FirebaseOutboxEntry firebaseOutboxEntry = findByPrimaryKey(outboxEntryId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			FirebaseOutboxEntry[] array = new FirebaseOutboxEntryImpl[3];
+
+			array[0] = getByLtNextAttemptDate_PrevAndNext(session,
+					firebaseOutboxEntry, nextAttemptDate, orderByComparator,
+					true);
+
+			array[1] = firebaseOutboxEntry;
+
+			array[2] = getByLtNextAttemptDate_PrevAndNext(session,
+					firebaseOutboxEntry, nextAttemptDate, orderByComparator,
+					false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected FirebaseOutboxEntry getByLtNextAttemptDate_PrevAndNext(
+		Session session, FirebaseOutboxEntry firebaseOutboxEntry,
+		Date nextAttemptDate,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator,
+		boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(4 +
+					(orderByComparator.getOrderByConditionFields().length * 3) +
+					(orderByComparator.getOrderByFields().length * 3));
+		}
+		else {
+			query = new StringBundler(3);
+		}
+
+		query.append(_SQL_SELECT_FIREBASEOUTBOXENTRY_WHERE);
+
+		boolean bindNextAttemptDate = false;
+
+		if (nextAttemptDate == null) {
+			query.append(_FINDER_COLUMN_LTNEXTATTEMPTDATE_NEXTATTEMPTDATE_1);
+		}
+		else {
+			bindNextAttemptDate = true;
+
+			query.append(_FINDER_COLUMN_LTNEXTATTEMPTDATE_NEXTATTEMPTDATE_2);
+		}
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+		else {
+			query.append(FirebaseOutboxEntryModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		if (bindNextAttemptDate) {
+			qPos.add(new Timestamp(nextAttemptDate.getTime()));
+		}
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(firebaseOutboxEntry);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<FirebaseOutboxEntry> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Removes all the firebase outbox entries where nextAttemptDate &le; &#63; from the database.
+	 *
+	 * @param nextAttemptDate the next attempt date
+	 */
+	@Override
+	public void removeByLtNextAttemptDate(Date nextAttemptDate) {
+		for (FirebaseOutboxEntry firebaseOutboxEntry : findByLtNextAttemptDate(
+				nextAttemptDate, QueryUtil.ALL_POS, QueryUtil.ALL_POS, null)) {
+			remove(firebaseOutboxEntry);
+		}
+	}
+
+	/**
+	 * Returns the number of firebase outbox entries where nextAttemptDate &le; &#63;.
+	 *
+	 * @param nextAttemptDate the next attempt date
+	 * @return the number of matching firebase outbox entries
+	 */
+	@Override
+	public int countByLtNextAttemptDate(Date nextAttemptDate) {
+		FinderPath finderPath = FINDER_PATH_WITH_PAGINATION_COUNT_BY_LTNEXTATTEMPTDATE;
+
+		Object[] finderArgs = new Object[] { nextAttemptDate };
+
+		Long count = (Long)finderCache.getResult(finderPath, finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(2);
+
+			query.append(_SQL_COUNT_FIREBASEOUTBOXENTRY_WHERE);
+
+			boolean bindNextAttemptDate = false;
+
+			if (nextAttemptDate == null) {
+				query.append(_FINDER_COLUMN_LTNEXTATTEMPTDATE_NEXTATTEMPTDATE_1);
+			}
+			else {
+				bindNextAttemptDate = true;
+
+				query.append(_FINDER_COLUMN_LTNEXTATTEMPTDATE_NEXTATTEMPTDATE_2);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				if (bindNextAttemptDate) {
+					qPos.add(new Timestamp(nextAttemptDate.getTime()));
+				}
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(finderPath, finderArgs, count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	private static final String _FINDER_COLUMN_LTNEXTATTEMPTDATE_NEXTATTEMPTDATE_1 =
+		"firebaseOutboxEntry.nextAttemptDate IS NULL";
+	private static final String _FINDER_COLUMN_LTNEXTATTEMPTDATE_NEXTATTEMPTDATE_2 =
+		"firebaseOutboxEntry.nextAttemptDate <= ?";
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C = new FinderPath(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseOutboxEntryModelImpl.FINDER_CACHE_ENABLED,
+			FirebaseOutboxEntryImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByC_C",
+			new String[] {
+				Long.class.getName(), Long.class.getName(),
+				
+			Integer.class.getName(), Integer.class.getName(),
+				OrderByComparator.class.getName()
+			});
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C = new FinderPath(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseOutboxEntryModelImpl.FINDER_CACHE_ENABLED,
+			FirebaseOutboxEntryImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByC_C",
+			new String[] { Long.class.getName(), Long.class.getName() },
+			FirebaseOutboxEntryModelImpl.CLASSNAMEID_COLUMN_BITMASK |
+			FirebaseOutboxEntryModelImpl.CLASSPK_COLUMN_BITMASK);
+	public static final FinderPath FINDER_PATH_COUNT_BY_C_C = new FinderPath(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseOutboxEntryModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_C",
+			new String[] { Long.class.getName(), Long.class.getName() });
+
+	/**
+	 * Returns all the firebase outbox entries where classNameId = &#63; and classPK = &#63;.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @return the matching firebase outbox entries
+	 */
+	@Override
+	public List<FirebaseOutboxEntry> findByC_C(long classNameId, long classPK) {
+		return findByC_C(classNameId, classPK, QueryUtil.ALL_POS,
+			QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the firebase outbox entries where classNameId = &#63; and classPK = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @param start the lower bound of the range of firebase outbox entries
+	 * @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	 * @return the range of matching firebase outbox entries
+	 */
+	@Override
+	public List<FirebaseOutboxEntry> findByC_C(long classNameId, long classPK,
+		int start, int end) {
+		return findByC_C(classNameId, classPK, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the firebase outbox entries where classNameId = &#63; and classPK = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @param start the lower bound of the range of firebase outbox entries
+	 * @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching firebase outbox entries
+	 */
+	@Override
+	public List<FirebaseOutboxEntry> findByC_C(long classNameId, long classPK,
+		int start, int end,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator) {
+		return findByC_C(classNameId, classPK, start, end, orderByComparator,
+			true);
+	}
+
+	/**
+	 * Returns an ordered range of all the firebase outbox entries where classNameId = &#63; and classPK = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @param start the lower bound of the range of firebase outbox entries
+	 * @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the ordered range of matching firebase outbox entries
+	 */
+	@Override
+	public List<FirebaseOutboxEntry> findByC_C(long classNameId, long classPK,
+		int start, int end,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator,
+		boolean retrieveFromCache) {
+		boolean pagination = true;
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			pagination = false;
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C;
+			finderArgs = new Object[] { classNameId, classPK };
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C;
+			finderArgs = new Object[] {
+					classNameId, classPK,
+					
+					start, end, orderByComparator
+				};
+		}
+
+		List<FirebaseOutboxEntry> list = null;
+
+		if (retrieveFromCache) {
+			list = (List<FirebaseOutboxEntry>)finderCache.getResult(finderPath,
+					finderArgs, this);
+
+			if ((list != null) && !list.isEmpty()) {
+				for (FirebaseOutboxEntry firebaseOutboxEntry : list) {
+					if ((classNameId != firebaseOutboxEntry.getClassNameId()) ||
+							(classPK != firebaseOutboxEntry.getClassPK())) {
+						list = null;
+
+						break;
+					}
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(4 +
+						(orderByComparator.getOrderByFields().length * 2));
+			}
+			else {
+				query = new StringBundler(4);
+			}
+
+			query.append(_SQL_SELECT_FIREBASEOUTBOXENTRY_WHERE);
+
+			query.append(_FINDER_COLUMN_C_C_CLASSNAMEID_2);
+
+			query.append(_FINDER_COLUMN_C_C_CLASSPK_2);
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+			else
+			 if (pagination) {
+				query.append(FirebaseOutboxEntryModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(classNameId);
+
+				qPos.add(classPK);
+
+				if (!pagination) {
+					list = (List<FirebaseOutboxEntry>)QueryUtil.list(q,
+							getDialect(), start, end, false);
+
+					Collections.sort(list);
+
+					list = Collections.unmodifiableList(list);
+				}
+				else {
+					list = (List<FirebaseOutboxEntry>)QueryUtil.list(q,
+							getDialect(), start, end);
+				}
+
+				cacheResult(list);
+
+				finderCache.putResult(finderPath, finderArgs, list);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first firebase outbox entry in the ordered set where classNameId = &#63; and classPK = &#63;.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching firebase outbox entry
+	 * @throws NoSuchFirebaseOutboxEntryException if a matching firebase outbox entry could not be found
+	 */
+	@Override
+	public FirebaseOutboxEntry findByC_C_First(long classNameId, long classPK,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws NoSuchFirebaseOutboxEntryException {
+		FirebaseOutboxEntry firebaseOutboxEntry = fetchByC_C_First(classNameId,
+				classPK, orderByComparator);
+
+		if (firebaseOutboxEntry != null) {
+			return firebaseOutboxEntry;
+		}
+
+		StringBundler msg = new StringBundler(6);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("classNameId=");
+		msg.append(classNameId);
+
+		msg.append(", classPK=");
+		msg.append(classPK);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchFirebaseOutboxEntryException(msg.toString());
+	}
+
+	/**
+	 * Returns the first firebase outbox entry in the ordered set where classNameId = &#63; and classPK = &#63;.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching firebase outbox entry, or <code>null</code> if a matching firebase outbox entry could not be found
+	 */
+	@Override
+	public FirebaseOutboxEntry fetchByC_C_First(long classNameId, long classPK,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator) {
+		List<FirebaseOutboxEntry> list = findByC_C(classNameId, classPK, 0, 1,
+				orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the last firebase outbox entry in the ordered set where classNameId = &#63; and classPK = &#63;.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching firebase outbox entry
+	 * @throws NoSuchFirebaseOutboxEntryException if a matching firebase outbox entry could not be found
+	 */
+	@Override
+	public FirebaseOutboxEntry findByC_C_Last(long classNameId, long classPK,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws NoSuchFirebaseOutboxEntryException {
+		FirebaseOutboxEntry firebaseOutboxEntry = fetchByC_C_Last(classNameId,
+				classPK, orderByComparator);
+
+		if (firebaseOutboxEntry != null) {
+			return firebaseOutboxEntry;
+		}
+
+		StringBundler msg = new StringBundler(6);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("classNameId=");
+		msg.append(classNameId);
+
+		msg.append(", classPK=");
+		msg.append(classPK);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchFirebaseOutboxEntryException(msg.toString());
+	}
+
+	/**
+	 * Returns the last firebase outbox entry in the ordered set where classNameId = &#63; and classPK = &#63;.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching firebase outbox entry, or <code>null</code> if a matching firebase outbox entry could not be found
+	 */
+	@Override
+	public FirebaseOutboxEntry fetchByC_C_Last(long classNameId, long classPK,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator) {
+		int count = countByC_C(classNameId, classPK);
+
+		if (count == 0) {
+			return null;
+		}
+
+		List<FirebaseOutboxEntry> list = findByC_C(classNameId, classPK,
+				count - 1, count, orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the firebase outbox entries before and after the current firebase outbox entry in the ordered set where classNameId = &#63; and classPK = &#63;.
+	 *
+	 * @param outboxEntryId the primary key of the current firebase outbox entry
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next firebase outbox entry
+	 * @throws NoSuchFirebaseOutboxEntryException if a firebase outbox entry with the primary key could not be found
+	 */
+	@Override
+	public FirebaseOutboxEntry[] findByC_C_PrevAndNext(long outboxEntryId,
+		long classNameId, long classPK,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator)
+		throws NoSuchFirebaseOutboxEntryException {
+		FirebaseOutboxEntry firebaseOutboxEntry = findByPrimaryKey(outboxEntryId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			FirebaseOutboxEntry[] array = new FirebaseOutboxEntryImpl[3];
+
+			array[0] = getByC_C_PrevAndNext(session, firebaseOutboxEntry,
+					classNameId, classPK, orderByComparator, true);
+
+			array[1] = firebaseOutboxEntry;
+
+			array[2] = getByC_C_PrevAndNext(session, firebaseOutboxEntry,
+					classNameId, classPK, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected FirebaseOutboxEntry getByC_C_PrevAndNext(Session session,
+		FirebaseOutboxEntry firebaseOutboxEntry, long classNameId,
+		long classPK, OrderByComparator<FirebaseOutboxEntry> orderByComparator,
+		boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(5 +
+					(orderByComparator.getOrderByConditionFields().length * 3) +
+					(orderByComparator.getOrderByFields().length * 3));
+		}
+		else {
+			query = new StringBundler(4);
+		}
+
+		query.append(_SQL_SELECT_FIREBASEOUTBOXENTRY_WHERE);
+
+		query.append(_FINDER_COLUMN_C_C_CLASSNAMEID_2);
+
+		query.append(_FINDER_COLUMN_C_C_CLASSPK_2);
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+		else {
+			query.append(FirebaseOutboxEntryModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(classNameId);
+
+		qPos.add(classPK);
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(firebaseOutboxEntry);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<FirebaseOutboxEntry> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Removes all the firebase outbox entries where classNameId = &#63; and classPK = &#63; from the database.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 */
+	@Override
+	public void removeByC_C(long classNameId, long classPK) {
+		for (FirebaseOutboxEntry firebaseOutboxEntry : findByC_C(classNameId,
+				classPK, QueryUtil.ALL_POS, QueryUtil.ALL_POS, null)) {
+			remove(firebaseOutboxEntry);
+		}
+	}
+
+	/**
+	 * Returns the number of firebase outbox entries where classNameId = &#63; and classPK = &#63;.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @return the number of matching firebase outbox entries
+	 */
+	@Override
+	public int countByC_C(long classNameId, long classPK) {
+		FinderPath finderPath = FINDER_PATH_COUNT_BY_C_C;
+
+		Object[] finderArgs = new Object[] { classNameId, classPK };
+
+		Long count = (Long)finderCache.getResult(finderPath, finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(3);
+
+			query.append(_SQL_COUNT_FIREBASEOUTBOXENTRY_WHERE);
+
+			query.append(_FINDER_COLUMN_C_C_CLASSNAMEID_2);
+
+			query.append(_FINDER_COLUMN_C_C_CLASSPK_2);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(classNameId);
+
+				qPos.add(classPK);
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(finderPath, finderArgs, count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	private static final String _FINDER_COLUMN_C_C_CLASSNAMEID_2 = "firebaseOutboxEntry.classNameId = ? AND ";
+	private static final String _FINDER_COLUMN_C_C_CLASSPK_2 = "firebaseOutboxEntry.classPK = ?";
+
+	public FirebaseOutboxEntryPersistenceImpl() {
+		setModelClass(FirebaseOutboxEntry.class);
+	}
+
+	/**
+	 * Caches the firebase outbox entry in the entity cache if it is enabled.
+	 *
+	 * @param firebaseOutboxEntry the firebase outbox entry
+	 */
+	@Override
+	public void cacheResult(FirebaseOutboxEntry firebaseOutboxEntry) {
+		entityCache.putResult(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseOutboxEntryImpl.class, firebaseOutboxEntry.getPrimaryKey(),
+			firebaseOutboxEntry);
+
+		firebaseOutboxEntry.resetOriginalValues();
+	}
+
+	/**
+	 * Caches the firebase outbox entries in the entity cache if it is enabled.
+	 *
+	 * @param firebaseOutboxEntries the firebase outbox entries
+	 */
+	@Override
+	public void cacheResult(List<FirebaseOutboxEntry> firebaseOutboxEntries) {
+		for (FirebaseOutboxEntry firebaseOutboxEntry : firebaseOutboxEntries) {
+			if (entityCache.getResult(
+						FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+						FirebaseOutboxEntryImpl.class,
+						firebaseOutboxEntry.getPrimaryKey()) == null) {
+				cacheResult(firebaseOutboxEntry);
+			}
+			else {
+				firebaseOutboxEntry.resetOriginalValues();
+			}
+		}
+	}
+
+	/**
+	 * Clears the cache for all firebase outbox entries.
+	 *
+	 * <p>
+	 * The {@link EntityCache} and {@link FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache() {
+		entityCache.clearCache(FirebaseOutboxEntryImpl.class);
+
+		finderCache.clearCache(FINDER_CLASS_NAME_ENTITY);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	/**
+	 * Clears the cache for the firebase outbox entry.
+	 *
+	 * <p>
+	 * The {@link EntityCache} and {@link FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache(FirebaseOutboxEntry firebaseOutboxEntry) {
+		entityCache.removeResult(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseOutboxEntryImpl.class, firebaseOutboxEntry.getPrimaryKey());
+
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	@Override
+	public void clearCache(List<FirebaseOutboxEntry> firebaseOutboxEntries) {
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		for (FirebaseOutboxEntry firebaseOutboxEntry : firebaseOutboxEntries) {
+			entityCache.removeResult(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+				FirebaseOutboxEntryImpl.class,
+				firebaseOutboxEntry.getPrimaryKey());
+		}
+	}
+
+	/**
+	 * Creates a new firebase outbox entry with the primary key. Does not add the firebase outbox entry to the database.
+	 *
+	 * @param outboxEntryId the primary key for the new firebase outbox entry
+	 * @return the new firebase outbox entry
+	 */
+	@Override
+	public FirebaseOutboxEntry create(long outboxEntryId) {
+		FirebaseOutboxEntry firebaseOutboxEntry = new FirebaseOutboxEntryImpl();
+
+		firebaseOutboxEntry.setNew(true);
+		firebaseOutboxEntry.setPrimaryKey(outboxEntryId);
+
+		return firebaseOutboxEntry;
+	}
+
+	/**
+	 * Removes the firebase outbox entry with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param outboxEntryId the primary key of the firebase outbox entry
+	 * @return the firebase outbox entry that was removed
+	 * @throws NoSuchFirebaseOutboxEntryException if a firebase outbox entry with the primary key could not be found
+	 */
+	@Override
+	public FirebaseOutboxEntry remove(long outboxEntryId)
+		throws NoSuchFirebaseOutboxEntryException {
+		return remove((Serializable)outboxEntryId);
+	}
+
+	/**
+	 * Removes the firebase outbox entry with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param primaryKey the primary key of the firebase outbox entry
+	 * @return the firebase outbox entry that was removed
+	 * @throws NoSuchFirebaseOutboxEntryException if a firebase outbox entry with the primary key could not be found
+	 */
+	@Override
+	public FirebaseOutboxEntry remove(Serializable primaryKey)
+		throws NoSuchFirebaseOutboxEntryException {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			FirebaseOutboxEntry firebaseOutboxEntry = (FirebaseOutboxEntry)session.get(FirebaseOutboxEntryImpl.class,
+					primaryKey);
+
+			if (firebaseOutboxEntry == null) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + primaryKey);
+				}
+
+				throw new NoSuchFirebaseOutboxEntryException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+					primaryKey);
+			}
+
+			return remove(firebaseOutboxEntry);
+		}
+		catch (NoSuchFirebaseOutboxEntryException nsee) {
+			throw nsee;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	protected FirebaseOutboxEntry removeImpl(
+		FirebaseOutboxEntry firebaseOutboxEntry) {
+		firebaseOutboxEntry = toUnwrappedModel(firebaseOutboxEntry);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			if (!session.contains(firebaseOutboxEntry)) {
+				firebaseOutboxEntry = (FirebaseOutboxEntry)session.get(FirebaseOutboxEntryImpl.class,
+						firebaseOutboxEntry.getPrimaryKeyObj());
+			}
+
+			if (firebaseOutboxEntry != null) {
+				session.delete(firebaseOutboxEntry);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		if (firebaseOutboxEntry != null) {
+			clearCache(firebaseOutboxEntry);
+		}
+
+		return firebaseOutboxEntry;
+	}
+
+	@Override
+	public FirebaseOutboxEntry updateImpl(
+		FirebaseOutboxEntry firebaseOutboxEntry) {
+		firebaseOutboxEntry = toUnwrappedModel(firebaseOutboxEntry);
+
+		boolean isNew = firebaseOutboxEntry.isNew();
+
+		FirebaseOutboxEntryModelImpl firebaseOutboxEntryModelImpl = (FirebaseOutboxEntryModelImpl)firebaseOutboxEntry;
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			if (firebaseOutboxEntry.isNew()) {
+				session.save(firebaseOutboxEntry);
+
+				firebaseOutboxEntry.setNew(false);
+			}
+			else {
+				firebaseOutboxEntry = (FirebaseOutboxEntry)session.merge(firebaseOutboxEntry);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+
+		if (isNew || !FirebaseOutboxEntryModelImpl.COLUMN_BITMASK_ENABLED) {
+			finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		}
+
+		else {
+			if ((firebaseOutboxEntryModelImpl.getColumnBitmask() &
+					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						firebaseOutboxEntryModelImpl.getOriginalClassNameId(),
+						firebaseOutboxEntryModelImpl.getOriginalClassPK()
+					};
+
+				finderCache.removeResult(FINDER_PATH_COUNT_BY_C_C, args);
+				finderCache.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C,
+					args);
+
+				args = new Object[] {
+						firebaseOutboxEntryModelImpl.getClassNameId(),
+						firebaseOutboxEntryModelImpl.getClassPK()
+					};
+
+				finderCache.removeResult(FINDER_PATH_COUNT_BY_C_C, args);
+				finderCache.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C,
+					args);
+			}
+		}
+
+		entityCache.putResult(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+			FirebaseOutboxEntryImpl.class, firebaseOutboxEntry.getPrimaryKey(),
+			firebaseOutboxEntry, false);
+
+		firebaseOutboxEntry.resetOriginalValues();
+
+		return firebaseOutboxEntry;
+	}
+
+	protected FirebaseOutboxEntry toUnwrappedModel(
+		FirebaseOutboxEntry firebaseOutboxEntry) {
+		if (firebaseOutboxEntry instanceof FirebaseOutboxEntryImpl) {
+			return firebaseOutboxEntry;
+		}
+
+		FirebaseOutboxEntryImpl firebaseOutboxEntryImpl = new FirebaseOutboxEntryImpl();
+
+		firebaseOutboxEntryImpl.setNew(firebaseOutboxEntry.isNew());
+		firebaseOutboxEntryImpl.setPrimaryKey(firebaseOutboxEntry.getPrimaryKey());
+
+		firebaseOutboxEntryImpl.setOutboxEntryId(firebaseOutboxEntry.getOutboxEntryId());
+		firebaseOutboxEntryImpl.setCreateDate(firebaseOutboxEntry.getCreateDate());
+		firebaseOutboxEntryImpl.setClassNameId(firebaseOutboxEntry.getClassNameId());
+		firebaseOutboxEntryImpl.setClassPK(firebaseOutboxEntry.getClassPK());
+		firebaseOutboxEntryImpl.setAction(firebaseOutboxEntry.getAction());
+		firebaseOutboxEntryImpl.setPayload(firebaseOutboxEntry.getPayload());
+		firebaseOutboxEntryImpl.setAttempts(firebaseOutboxEntry.getAttempts());
+		firebaseOutboxEntryImpl.setNextAttemptDate(firebaseOutboxEntry.getNextAttemptDate());
+		firebaseOutboxEntryImpl.setLastError(firebaseOutboxEntry.getLastError());
+
+		return firebaseOutboxEntryImpl;
+	}
+
+	/**
+	 * Returns the firebase outbox entry with the primary key or throws a {@link com.liferay.portal.kernel.exception.NoSuchModelException} if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the firebase outbox entry
+	 * @return the firebase outbox entry
+	 * @throws NoSuchFirebaseOutboxEntryException if a firebase outbox entry with the primary key could not be found
+	 */
+	@Override
+	public FirebaseOutboxEntry findByPrimaryKey(Serializable primaryKey)
+		throws NoSuchFirebaseOutboxEntryException {
+		FirebaseOutboxEntry firebaseOutboxEntry = fetchByPrimaryKey(primaryKey);
+
+		if (firebaseOutboxEntry == null) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + primaryKey);
+			}
+
+			throw new NoSuchFirebaseOutboxEntryException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+				primaryKey);
+		}
+
+		return firebaseOutboxEntry;
+	}
+
+	/**
+	 * Returns the firebase outbox entry with the primary key or throws a {@link NoSuchFirebaseOutboxEntryException} if it could not be found.
+	 *
+	 * @param outboxEntryId the primary key of the firebase outbox entry
+	 * @return the firebase outbox entry
+	 * @throws NoSuchFirebaseOutboxEntryException if a firebase outbox entry with the primary key could not be found
+	 */
+	@Override
+	public FirebaseOutboxEntry findByPrimaryKey(long outboxEntryId)
+		throws NoSuchFirebaseOutboxEntryException {
+		return findByPrimaryKey((Serializable)outboxEntryId);
+	}
+
+	/**
+	 * Returns the firebase outbox entry with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the firebase outbox entry
+	 * @return the firebase outbox entry, or <code>null</code> if a firebase outbox entry with the primary key could not be found
+	 */
+	@Override
+	public FirebaseOutboxEntry fetchByPrimaryKey(Serializable primaryKey) {
+		FirebaseOutboxEntry firebaseOutboxEntry = (FirebaseOutboxEntry)entityCache.getResult(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+				FirebaseOutboxEntryImpl.class, primaryKey);
+
+		if (firebaseOutboxEntry == _nullFirebaseOutboxEntry) {
+			return null;
+		}
+
+		if (firebaseOutboxEntry == null) {
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				firebaseOutboxEntry = (FirebaseOutboxEntry)session.get(FirebaseOutboxEntryImpl.class,
+						primaryKey);
+
+				if (firebaseOutboxEntry != null) {
+					cacheResult(firebaseOutboxEntry);
+				}
+				else {
+					entityCache.putResult(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+						FirebaseOutboxEntryImpl.class, primaryKey,
+						_nullFirebaseOutboxEntry);
+				}
+			}
+			catch (Exception e) {
+				entityCache.removeResult(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+					FirebaseOutboxEntryImpl.class, primaryKey);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return firebaseOutboxEntry;
+	}
+
+	/**
+	 * Returns the firebase outbox entry with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param outboxEntryId the primary key of the firebase outbox entry
+	 * @return the firebase outbox entry, or <code>null</code> if a firebase outbox entry with the primary key could not be found
+	 */
+	@Override
+	public FirebaseOutboxEntry fetchByPrimaryKey(long outboxEntryId) {
+		return fetchByPrimaryKey((Serializable)outboxEntryId);
+	}
+
+	@Override
+	public Map<Serializable, FirebaseOutboxEntry> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, FirebaseOutboxEntry> map = new HashMap<Serializable, FirebaseOutboxEntry>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			FirebaseOutboxEntry firebaseOutboxEntry = fetchByPrimaryKey(primaryKey);
+
+			if (firebaseOutboxEntry != null) {
+				map.put(primaryKey, firebaseOutboxEntry);
+			}
+
+			return map;
+		}
+
+		Set<Serializable> uncachedPrimaryKeys = null;
+
+		for (Serializable primaryKey : primaryKeys) {
+			FirebaseOutboxEntry firebaseOutboxEntry = (FirebaseOutboxEntry)entityCache.getResult(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+					FirebaseOutboxEntryImpl.class, primaryKey);
+
+			if (firebaseOutboxEntry == null) {
+				if (uncachedPrimaryKeys == null) {
+					uncachedPrimaryKeys = new HashSet<Serializable>();
+				}
+
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else {
+				map.put(primaryKey, firebaseOutboxEntry);
+			}
+		}
+
+		if (uncachedPrimaryKeys == null) {
+			return map;
+		}
+
+		StringBundler query = new StringBundler((uncachedPrimaryKeys.size() * 2) +
+				1);
+
+		query.append(_SQL_SELECT_FIREBASEOUTBOXENTRY_WHERE_PKS_IN);
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			query.append(String.valueOf(primaryKey));
+
+			query.append(StringPool.COMMA);
+		}
+
+		query.setIndex(query.index() - 1);
+
+		query.append(StringPool.CLOSE_PARENTHESIS);
+
+		String sql = query.toString();
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			Query q = session.createQuery(sql);
+
+			for (FirebaseOutboxEntry firebaseOutboxEntry : (List<FirebaseOutboxEntry>)q.list()) {
+				map.put(firebaseOutboxEntry.getPrimaryKeyObj(),
+					firebaseOutboxEntry);
+
+				cacheResult(firebaseOutboxEntry);
+
+				uncachedPrimaryKeys.remove(firebaseOutboxEntry.getPrimaryKeyObj());
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				entityCache.putResult(FirebaseOutboxEntryModelImpl.ENTITY_CACHE_ENABLED,
+					FirebaseOutboxEntryImpl.class, primaryKey,
+					_nullFirebaseOutboxEntry);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
+	/**
+	 * Returns all the firebase outbox entries.
+	 *
+	 * @return the firebase outbox entries
+	 */
+	@Override
+	public List<FirebaseOutboxEntry> findAll() {
+		return findAll(QueryUtil.ALL_POS, QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the firebase outbox entries.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of firebase outbox entries
+	 * @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	 * @return the range of firebase outbox entries
+	 */
+	@Override
+	public List<FirebaseOutboxEntry> findAll(int start, int end) {
+		return findAll(start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the firebase outbox entries.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of firebase outbox entries
+	 * @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of firebase outbox entries
+	 */
+	@Override
+	public List<FirebaseOutboxEntry> findAll(int start, int end,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator) {
+		return findAll(start, end, orderByComparator, true);
+	}
+
+	/**
+	 * Returns an ordered range of all the firebase outbox entries.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link FirebaseOutboxEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of firebase outbox entries
+	 * @param end the upper bound of the range of firebase outbox entries (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the ordered range of firebase outbox entries
+	 */
+	@Override
+	public List<FirebaseOutboxEntry> findAll(int start, int end,
+		OrderByComparator<FirebaseOutboxEntry> orderByComparator,
+		boolean retrieveFromCache) {
+		boolean pagination = true;
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			pagination = false;
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL;
+			finderArgs = FINDER_ARGS_EMPTY;
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_ALL;
+			finderArgs = new Object[] { start, end, orderByComparator };
+		}
+
+		List<FirebaseOutboxEntry> list = null;
+
+		if (retrieveFromCache) {
+			list = (List<FirebaseOutboxEntry>)finderCache.getResult(finderPath,
+					finderArgs, this);
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+			String sql = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(2 +
+						(orderByComparator.getOrderByFields().length * 2));
+
+				query.append(_SQL_SELECT_FIREBASEOUTBOXENTRY);
+
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+
+				sql = query.toString();
+			}
+			else {
+				sql = _SQL_SELECT_FIREBASEOUTBOXENTRY;
+
+				if (pagination) {
+					sql = sql.concat(FirebaseOutboxEntryModelImpl.ORDER_BY_JPQL);
+				}
+			}
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				if (!pagination) {
+					list = (List<FirebaseOutboxEntry>)QueryUtil.list(q,
+							getDialect(), start, end, false);
+
+					Collections.sort(list);
+
+					list = Collections.unmodifiableList(list);
+				}
+				else {
+					list = (List<FirebaseOutboxEntry>)QueryUtil.list(q,
+							getDialect(), start, end);
+				}
+
+				cacheResult(list);
+
+				finderCache.putResult(finderPath, finderArgs, list);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Removes all the firebase outbox entries from the database.
+	 *
+	 */
+	@Override
+	public void removeAll() {
+		for (FirebaseOutboxEntry firebaseOutboxEntry : findAll()) {
+			remove(firebaseOutboxEntry);
+		}
+	}
+
+	/**
+	 * Returns the number of firebase outbox entries.
+	 *
+	 * @return the number of firebase outbox entries
+	 */
+	@Override
+	public int countAll() {
+		Long count = (Long)finderCache.getResult(FINDER_PATH_COUNT_ALL,
+				FINDER_ARGS_EMPTY, this);
+
+		if (count == null) {
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(_SQL_COUNT_FIREBASEOUTBOXENTRY);
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(FINDER_PATH_COUNT_ALL, FINDER_ARGS_EMPTY,
+					count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(FINDER_PATH_COUNT_ALL,
+					FINDER_ARGS_EMPTY);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	@Override
+	protected Map<String, Integer> getTableColumnsMap() {
+		return FirebaseOutboxEntryModelImpl.TABLE_COLUMNS_MAP;
+	}
+
+	/**
+	 * Initializes the firebase outbox entry persistence.
+	 */
+	public void afterPropertiesSet() {
+	}
+
+	public void destroy() {
+		entityCache.removeCache(FirebaseOutboxEntryImpl.class.getName());
+		finderCache.removeCache(FINDER_CLASS_NAME_ENTITY);
+		finderCache.removeCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.removeCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	protected EntityCache entityCache = EntityCacheUtil.getEntityCache();
+	protected FinderCache finderCache = FinderCacheUtil.getFinderCache();
+	private static final String _SQL_SELECT_FIREBASEOUTBOXENTRY = "SELECT firebaseOutboxEntry FROM FirebaseOutboxEntry firebaseOutboxEntry";
+	private static final String _SQL_SELECT_FIREBASEOUTBOXENTRY_WHERE_PKS_IN = "SELECT firebaseOutboxEntry FROM FirebaseOutboxEntry firebaseOutboxEntry WHERE outboxEntryId IN (";
+	private static final String _SQL_SELECT_FIREBASEOUTBOXENTRY_WHERE = "SELECT firebaseOutboxEntry FROM FirebaseOutboxEntry firebaseOutboxEntry WHERE ";
+	private static final String _SQL_COUNT_FIREBASEOUTBOXENTRY = "SELECT COUNT(firebaseOutboxEntry) FROM FirebaseOutboxEntry firebaseOutboxEntry";
+	private static final String _SQL_COUNT_FIREBASEOUTBOXENTRY_WHERE = "SELECT COUNT(firebaseOutboxEntry) FROM FirebaseOutboxEntry firebaseOutboxEntry WHERE ";
+	private static final String _ORDER_BY_ENTITY_ALIAS = "firebaseOutboxEntry.";
+	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No FirebaseOutboxEntry exists with the primary key ";
+	private static final String _NO_SUCH_ENTITY_WITH_KEY = "No FirebaseOutboxEntry exists with the key {";
+	private static final Log _log = LogFactoryUtil.getLog(FirebaseOutboxEntryPersistenceImpl.class);
+	private static final FirebaseOutboxEntry _nullFirebaseOutboxEntry = new FirebaseOutboxEntryImpl() {
+			@Override
+			public Object clone() {
+				return this;
+			}
+
+			@Override
+			public CacheModel<FirebaseOutboxEntry> toCacheModel() {
+				return _nullFirebaseOutboxEntryCacheModel;
+			}
+		};
+
+	private static final CacheModel<FirebaseOutboxEntry> _nullFirebaseOutboxEntryCacheModel =
+		new CacheModel<FirebaseOutboxEntry>() {
+			@Override
+			public FirebaseOutboxEntry toEntityModel() {
+				return _nullFirebaseOutboxEntry;
+			}
+		};
+}
\ No newline at end of file
@@ -0,0 +1,2095 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package net.indaba.lostandfound.service.persistence.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.bean.BeanReference;
+import com.liferay.portal.kernel.dao.orm.EntityCache;
+import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderCache;
+import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderPath;
+import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.service.persistence.CompanyProvider;
+import com.liferay.portal.kernel.service.persistence.CompanyProviderWrapper;
+import com.liferay.portal.kernel.service.persistence.impl.BasePersistenceImpl;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+
+import net.indaba.lostandfound.exception.NoSuchItemMatchException;
+import net.indaba.lostandfound.model.ItemMatch;
+import net.indaba.lostandfound.model.impl.ItemMatchImpl;
+import net.indaba.lostandfound.model.impl.ItemMatchModelImpl;
+import net.indaba.lostandfound.service.persistence.ItemMatchPersistence;
+
+import java.io.Serializable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persistence implementation for the item match service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author aritz
+ * @see ItemMatchPersistence
+ * @see net.indaba.lostandfound.service.persistence.ItemMatchUtil
+ * @generated
+ */
+@ProviderType
+public class ItemMatchPersistenceImpl extends BasePersistenceImpl<ItemMatch>
+	implements ItemMatchPersistence {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. Always use {@link ItemMatchUtil} to access the item match persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+	public static final String FINDER_CLASS_NAME_ENTITY = ItemMatchImpl.class.getName();
+	public static final String FINDER_CLASS_NAME_LIST_WITH_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List1";
+	public static final String FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List2";
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_ALL = new FinderPath(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+			ItemMatchModelImpl.FINDER_CACHE_ENABLED, ItemMatchImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL = new FinderPath(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+			ItemMatchModelImpl.FINDER_CACHE_ENABLED, ItemMatchImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_COUNT_ALL = new FinderPath(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+			ItemMatchModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countAll", new String[0]);
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_ITEMID = new FinderPath(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+			ItemMatchModelImpl.FINDER_CACHE_ENABLED, ItemMatchImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByItemId",
+			new String[] {
+				Long.class.getName(),
+				
+			Integer.class.getName(), Integer.class.getName(),
+				OrderByComparator.class.getName()
+			});
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ITEMID =
+		new FinderPath(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+			ItemMatchModelImpl.FINDER_CACHE_ENABLED, ItemMatchImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByItemId",
+			new String[] { Long.class.getName() },
+			ItemMatchModelImpl.ITEMID_COLUMN_BITMASK |
+			ItemMatchModelImpl.SCORE_COLUMN_BITMASK);
+	public static final FinderPath FINDER_PATH_COUNT_BY_ITEMID = new FinderPath(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+			ItemMatchModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByItemId",
+			new String[] { Long.class.getName() });
+
+	/**
+	 * Returns all the item matchs where itemId = &#63;.
+	 *
+	 * @param itemId the item ID
+	 * @return the matching item matchs
+	 */
+	@Override
+	public List<ItemMatch> findByItemId(long itemId) {
+		return findByItemId(itemId, QueryUtil.ALL_POS, QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the item matchs where itemId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param itemId the item ID
+	 * @param start the lower bound of the range of item matchs
+	 * @param end the upper bound of the range of item matchs (not inclusive)
+	 * @return the range of matching item matchs
+	 */
+	@Override
+	public List<ItemMatch> findByItemId(long itemId, int start, int end) {
+		return findByItemId(itemId, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the item matchs where itemId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param itemId the item ID
+	 * @param start the lower bound of the range of item matchs
+	 * @param end the upper bound of the range of item matchs (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching item matchs
+	 */
+	@Override
+	public List<ItemMatch> findByItemId(long itemId, int start, int end,
+		OrderByComparator<ItemMatch> orderByComparator) {
+		return findByItemId(itemId, start, end, orderByComparator, true);
+	}
+
+	/**
+	 * Returns an ordered range of all the item matchs where itemId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param itemId the item ID
+	 * @param start the lower bound of the range of item matchs
+	 * @param end the upper bound of the range of item matchs (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the ordered range of matching item matchs
+	 */
+	@Override
+	public List<ItemMatch> findByItemId(long itemId, int start, int end,
+		OrderByComparator<ItemMatch> orderByComparator,
+		boolean retrieveFromCache) {
+		boolean pagination = true;
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			pagination = false;
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ITEMID;
+			finderArgs = new Object[] { itemId };
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_ITEMID;
+			finderArgs = new Object[] { itemId, start, end, orderByComparator };
+		}
+
+		List<ItemMatch> list = null;
+
+		if (retrieveFromCache) {
+			list = (List<ItemMatch>)finderCache.getResult(finderPath,
+					finderArgs, this);
+
+			if ((list != null) && !list.isEmpty()) {
+				for (ItemMatch itemMatch : list) {
+					if ((itemId != itemMatch.getItemId())) {
+						list = null;
+
+						break;
+					}
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(3 +
+						(orderByComparator.getOrderByFields().length * 2));
+			}
+			else {
+				query = new StringBundler(3);
+			}
+
+			query.append(_SQL_SELECT_ITEMMATCH_WHERE);
+
+			query.append(_FINDER_COLUMN_ITEMID_ITEMID_2);
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+			else
+			 if (pagination) {
+				query.append(ItemMatchModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(itemId);
+
+				if (!pagination) {
+					list = (List<ItemMatch>)QueryUtil.list(q, getDialect(),
+							start, end, false);
+
+					Collections.sort(list);
+
+					list = Collections.unmodifiableList(list);
+				}
+				else {
+					list = (List<ItemMatch>)QueryUtil.list(q, getDialect(),
+							start, end);
+				}
+
+				cacheResult(list);
+
+				finderCache.putResult(finderPath, finderArgs, list);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first item match in the ordered set where itemId = &#63;.
+	 *
+	 * @param itemId the item ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching item match
+	 * @throws NoSuchItemMatchException if a matching item match could not be found
+	 */
+	@Override
+	public ItemMatch findByItemId_First(long itemId,
+		OrderByComparator<ItemMatch> orderByComparator)
+		throws NoSuchItemMatchException {
+		ItemMatch itemMatch = fetchByItemId_First(itemId, orderByComparator);
+
+		if (itemMatch != null) {
+			return itemMatch;
+		}
+
+		StringBundler msg = new StringBundler(4);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("itemId=");
+		msg.append(itemId);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchItemMatchException(msg.toString());
+	}
+
+	/**
+	 * Returns the first item match in the ordered set where itemId = &#63;.
+	 *
+	 * @param itemId the item ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching item match, or <code>null</code> if a matching item match could not be found
+	 */
+	@Override
+	public ItemMatch fetchByItemId_First(long itemId,
+		OrderByComparator<ItemMatch> orderByComparator) {
+		List<ItemMatch> list = findByItemId(itemId, 0, 1, orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the last item match in the ordered set where itemId = &#63;.
+	 *
+	 * @param itemId the item ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching item match
+	 * @throws NoSuchItemMatchException if a matching item match could not be found
+	 */
+	@Override
+	public ItemMatch findByItemId_Last(long itemId,
+		OrderByComparator<ItemMatch> orderByComparator)
+		throws NoSuchItemMatchException {
+		ItemMatch itemMatch = fetchByItemId_Last(itemId, orderByComparator);
+
+		if (itemMatch != null) {
+			return itemMatch;
+		}
+
+		StringBundler msg = new StringBundler(4);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("itemId=");
+		msg.append(itemId);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchItemMatchException(msg.toString());
+	}
+
+	/**
+	 * Returns the last item match in the ordered set where itemId = &#63;.
+	 *
+	 * @param itemId the item ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching item match, or <code>null</code> if a matching item match could not be found
+	 */
+	@Override
+	public ItemMatch fetchByItemId_Last(long itemId,
+		OrderByComparator<ItemMatch> orderByComparator) {
+		int count = countByItemId(itemId);
+
+		if (count == 0) {
+			return null;
+		}
+
+		List<ItemMatch> list = findByItemId(itemId, count - 1, count,
+				orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the item matchs before and after the current item match in the ordered set where itemId = &#63;.
+	 *
+	 * @param matchId the primary key of the current item match
+	 * @param itemId the item ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next item match
+	 * @throws NoSuchItemMatchException if a item match with the primary key could not be found
+	 */
+	@Override
+	public ItemMatch[] findByItemId_PrevAndNext(long matchId, long itemId,
+		OrderByComparator<ItemMatch> orderByComparator)
+		throws NoSuchItemMatchException {
+		ItemMatch itemMatch = findByPrimaryKey(matchId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			ItemMatch[] array = new ItemMatchImpl[3];
+
+			array[0] = getByItemId_PrevAndNext(session, itemMatch, itemId,
+					orderByComparator, true);
+
+			array[1] = itemMatch;
+
+			array[2] = getByItemId_PrevAndNext(session, itemMatch, itemId,
+					orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected ItemMatch getByItemId_PrevAndNext(Session session,
+		ItemMatch itemMatch, long itemId,
+		OrderByComparator<ItemMatch> orderByComparator, boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(4 +
+					(orderByComparator.getOrderByConditionFields().length * 3) +
+					(orderByComparator.getOrderByFields().length * 3));
+		}
+		else {
+			query = new StringBundler(3);
+		}
+
+		query.append(_SQL_SELECT_ITEMMATCH_WHERE);
+
+		query.append(_FINDER_COLUMN_ITEMID_ITEMID_2);
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+		else {
+			query.append(ItemMatchModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(itemId);
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(itemMatch);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<ItemMatch> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Removes all the item matchs where itemId = &#63; from the database.
+	 *
+	 * @param itemId the item ID
+	 */
+	@Override
+	public void removeByItemId(long itemId) {
+		for (ItemMatch itemMatch : findByItemId(itemId, QueryUtil.ALL_POS,
+				QueryUtil.ALL_POS, null)) {
+			remove(itemMatch);
+		}
+	}
+
+	/**
+	 * Returns the number of item matchs where itemId = &#63;.
+	 *
+	 * @param itemId the item ID
+	 * @return the number of matching item matchs
+	 */
+	@Override
+	public int countByItemId(long itemId) {
+		FinderPath finderPath = FINDER_PATH_COUNT_BY_ITEMID;
+
+		Object[] finderArgs = new Object[] { itemId };
+
+		Long count = (Long)finderCache.getResult(finderPath, finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(2);
+
+			query.append(_SQL_COUNT_ITEMMATCH_WHERE);
+
+			query.append(_FINDER_COLUMN_ITEMID_ITEMID_2);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(itemId);
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(finderPath, finderArgs, count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	private static final String _FINDER_COLUMN_ITEMID_ITEMID_2 = "itemMatch.itemId = ?";
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_MATCHEDITEMID =
+		new FinderPath(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+			ItemMatchModelImpl.FINDER_CACHE_ENABLED, ItemMatchImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByMatchedItemId",
+			new String[] {
+				Long.class.getName(),
+				
+			Integer.class.getName(), Integer.class.getName(),
+				OrderByComparator.class.getName()
+			});
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_MATCHEDITEMID =
+		new FinderPath(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+			ItemMatchModelImpl.FINDER_CACHE_ENABLED, ItemMatchImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByMatchedItemId",
+			new String[] { Long.class.getName() },
+			ItemMatchModelImpl.MATCHEDITEMID_COLUMN_BITMASK |
+			ItemMatchModelImpl.SCORE_COLUMN_BITMASK);
+	public static final FinderPath FINDER_PATH_COUNT_BY_MATCHEDITEMID = new FinderPath(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+			ItemMatchModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByMatchedItemId",
+			new String[] { Long.class.getName() });
+
+	/**
+	 * Returns all the item matchs where matchedItemId = &#63;.
+	 *
+	 * @param matchedItemId the matched item ID
+	 * @return the matching item matchs
+	 */
+	@Override
+	public List<ItemMatch> findByMatchedItemId(long matchedItemId) {
+		return findByMatchedItemId(matchedItemId, QueryUtil.ALL_POS,
+			QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the item matchs where matchedItemId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param matchedItemId the matched item ID
+	 * @param start the lower bound of the range of item matchs
+	 * @param end the upper bound of the range of item matchs (not inclusive)
+	 * @return the range of matching item matchs
+	 */
+	@Override
+	public List<ItemMatch> findByMatchedItemId(long matchedItemId, int start,
+		int end) {
+		return findByMatchedItemId(matchedItemId, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the item matchs where matchedItemId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param matchedItemId the matched item ID
+	 * @param start the lower bound of the range of item matchs
+	 * @param end the upper bound of the range of item matchs (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching item matchs
+	 */
+	@Override
+	public List<ItemMatch> findByMatchedItemId(long matchedItemId, int start,
+		int end, OrderByComparator<ItemMatch> orderByComparator) {
+		return findByMatchedItemId(matchedItemId, start, end,
+			orderByComparator, true);
+	}
+
+	/**
+	 * Returns an ordered range of all the item matchs where matchedItemId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param matchedItemId the matched item ID
+	 * @param start the lower bound of the range of item matchs
+	 * @param end the upper bound of the range of item matchs (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the ordered range of matching item matchs
+	 */
+	@Override
+	public List<ItemMatch> findByMatchedItemId(long matchedItemId, int start,
+		int end, OrderByComparator<ItemMatch> orderByComparator,
+		boolean retrieveFromCache) {
+		boolean pagination = true;
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			pagination = false;
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_MATCHEDITEMID;
+			finderArgs = new Object[] { matchedItemId };
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_MATCHEDITEMID;
+			finderArgs = new Object[] {
+					matchedItemId,
+					
+					start, end, orderByComparator
+				};
+		}
+
+		List<ItemMatch> list = null;
+
+		if (retrieveFromCache) {
+			list = (List<ItemMatch>)finderCache.getResult(finderPath,
+					finderArgs, this);
+
+			if ((list != null) && !list.isEmpty()) {
+				for (ItemMatch itemMatch : list) {
+					if ((matchedItemId != itemMatch.getMatchedItemId())) {
+						list = null;
+
+						break;
+					}
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(3 +
+						(orderByComparator.getOrderByFields().length * 2));
+			}
+			else {
+				query = new StringBundler(3);
+			}
+
+			query.append(_SQL_SELECT_ITEMMATCH_WHERE);
+
+			query.append(_FINDER_COLUMN_MATCHEDITEMID_MATCHEDITEMID_2);
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+			else
+			 if (pagination) {
+				query.append(ItemMatchModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(matchedItemId);
+
+				if (!pagination) {
+					list = (List<ItemMatch>)QueryUtil.list(q, getDialect(),
+							start, end, false);
+
+					Collections.sort(list);
+
+					list = Collections.unmodifiableList(list);
+				}
+				else {
+					list = (List<ItemMatch>)QueryUtil.list(q, getDialect(),
+							start, end);
+				}
+
+				cacheResult(list);
+
+				finderCache.putResult(finderPath, finderArgs, list);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first item match in the ordered set where matchedItemId = &#63;.
+	 *
+	 * @param matchedItemId the matched item ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching item match
+	 * @throws NoSuchItemMatchException if a matching item match could not be found
+	 */
+	@Override
+	public ItemMatch findByMatchedItemId_First(long matchedItemId,
+		OrderByComparator<ItemMatch> orderByComparator)
+		throws NoSuchItemMatchException {
+		ItemMatch itemMatch = fetchByMatchedItemId_First(matchedItemId,
+				orderByComparator);
+
+		if (itemMatch != null) {
+			return itemMatch;
+		}
+
+		StringBundler msg = new StringBundler(4);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("matchedItemId=");
+		msg.append(matchedItemId);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchItemMatchException(msg.toString());
+	}
+
+	/**
+	 * Returns the first item match in the ordered set where matchedItemId = &#63;.
+	 *
+	 * @param matchedItemId the matched item ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching item match, or <code>null</code> if a matching item match could not be found
+	 */
+	@Override
+	public ItemMatch fetchByMatchedItemId_First(long matchedItemId,
+		OrderByComparator<ItemMatch> orderByComparator) {
+		List<ItemMatch> list = findByMatchedItemId(matchedItemId, 0, 1,
+				orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the last item match in the ordered set where matchedItemId = &#63;.
+	 *
+	 * @param matchedItemId the matched item ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching item match
+	 * @throws NoSuchItemMatchException if a matching item match could not be found
+	 */
+	@Override
+	public ItemMatch findByMatchedItemId_Last(long matchedItemId,
+		OrderByComparator<ItemMatch> orderByComparator)
+		throws NoSuchItemMatchException {
+		ItemMatch itemMatch = fetchByMatchedItemId_Last(matchedItemId,
+				orderByComparator);
+
+		if (itemMatch != null) {
+			return itemMatch;
+		}
+
+		StringBundler msg = new StringBundler(4);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("matchedItemId=");
+		msg.append(matchedItemId);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchItemMatchException(msg.toString());
+	}
+
+	/**
+	 * Returns the last item match in the ordered set where matchedItemId = &#63;.
+	 *
+	 * @param matchedItemId the matched item ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching item match, or <code>null</code> if a matching item match could not be found
+	 */
+	@Override
+	public ItemMatch fetchByMatchedItemId_Last(long matchedItemId,
+		OrderByComparator<ItemMatch> orderByComparator) {
+		int count = countByMatchedItemId(matchedItemId);
+
+		if (count == 0) {
+			return null;
+		}
+
+		List<ItemMatch> list = findByMatchedItemId(matchedItemId, count - 1,
+				count, orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the item matchs before and after the current item match in the ordered set where matchedItemId = &#63;.
+	 *
+	 * @param matchId the primary key of the current item match
+	 * @param matchedItemId the matched item ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next item match
+	 * @throws NoSuchItemMatchException if a item match with the primary key could not be found
+	 */
+	@Override
+	public ItemMatch[] findByMatchedItemId_PrevAndNext(long matchId,
+		long matchedItemId, OrderByComparator<ItemMatch> orderByComparator)
+		throws NoSuchItemMatchException {
+		ItemMatch itemMatch = findByPrimaryKey(matchId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			ItemMatch[] array = new ItemMatchImpl[3];
+
+			array[0] = getByMatchedItemId_PrevAndNext(session, itemMatch,
+					matchedItemId, orderByComparator, true);
+
+			array[1] = itemMatch;
+
+			array[2] = getByMatchedItemId_PrevAndNext(session, itemMatch,
+					matchedItemId, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected ItemMatch getByMatchedItemId_PrevAndNext(Session session,
+		ItemMatch itemMatch, long matchedItemId,
+		OrderByComparator<ItemMatch> orderByComparator, boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(4 +
+					(orderByComparator.getOrderByConditionFields().length * 3) +
+					(orderByComparator.getOrderByFields().length * 3));
+		}
+		else {
+			query = new StringBundler(3);
+		}
+
+		query.append(_SQL_SELECT_ITEMMATCH_WHERE);
+
+		query.append(_FINDER_COLUMN_MATCHEDITEMID_MATCHEDITEMID_2);
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+		else {
+			query.append(ItemMatchModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(matchedItemId);
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(itemMatch);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<ItemMatch> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Removes all the item matchs where matchedItemId = &#63; from the database.
+	 *
+	 * @param matchedItemId the matched item ID
+	 */
+	@Override
+	public void removeByMatchedItemId(long matchedItemId) {
+		for (ItemMatch itemMatch : findByMatchedItemId(matchedItemId,
+				QueryUtil.ALL_POS, QueryUtil.ALL_POS, null)) {
+			remove(itemMatch);
+		}
+	}
+
+	/**
+	 * Returns the number of item matchs where matchedItemId = &#63;.
+	 *
+	 * @param matchedItemId the matched item ID
+	 * @return the number of matching item matchs
+	 */
+	@Override
+	public int countByMatchedItemId(long matchedItemId) {
+		FinderPath finderPath = FINDER_PATH_COUNT_BY_MATCHEDITEMID;
+
+		Object[] finderArgs = new Object[] { matchedItemId };
+
+		Long count = (Long)finderCache.getResult(finderPath, finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(2);
+
+			query.append(_SQL_COUNT_ITEMMATCH_WHERE);
+
+			query.append(_FINDER_COLUMN_MATCHEDITEMID_MATCHEDITEMID_2);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(matchedItemId);
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(finderPath, finderArgs, count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	private static final String _FINDER_COLUMN_MATCHEDITEMID_MATCHEDITEMID_2 = "itemMatch.matchedItemId = ?";
+	public static final FinderPath FINDER_PATH_FETCH_BY_I_M = new FinderPath(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+			ItemMatchModelImpl.FINDER_CACHE_ENABLED, ItemMatchImpl.class,
+			FINDER_CLASS_NAME_ENTITY, "fetchByI_M",
+			new String[] { Long.class.getName(), Long.class.getName() },
+			ItemMatchModelImpl.ITEMID_COLUMN_BITMASK |
+			ItemMatchModelImpl.MATCHEDITEMID_COLUMN_BITMASK);
+	public static final FinderPath FINDER_PATH_COUNT_BY_I_M = new FinderPath(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+			ItemMatchModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByI_M",
+			new String[] { Long.class.getName(), Long.class.getName() });
+
+	/**
+	 * Returns the item match where itemId = &#63; and matchedItemId = &#63; or throws a {@link NoSuchItemMatchException} if it could not be found.
+	 *
+	 * @param itemId the item ID
+	 * @param matchedItemId the matched item ID
+	 * @return the matching item match
+	 * @throws NoSuchItemMatchException if a matching item match could not be found
+	 */
+	@Override
+	public ItemMatch findByI_M(long itemId, long matchedItemId)
+		throws NoSuchItemMatchException {
+		ItemMatch itemMatch = fetchByI_M(itemId, matchedItemId);
+
+		if (itemMatch == null) {
+			StringBundler msg = new StringBundler(6);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("itemId=");
+			msg.append(itemId);
+
+			msg.append(", matchedItemId=");
+			msg.append(matchedItemId);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			if (_log.isWarnEnabled()) {
+				_log.warn(msg.toString());
+			}
+
+			throw new NoSuchItemMatchException(msg.toString());
+		}
+
+		return itemMatch;
+	}
+
+	/**
+	 * Returns the item match where itemId = &#63; and matchedItemId = &#63; or returns <code>null</code> if it could not be found. Uses the finder cache.
+	 *
+	 * @param itemId the item ID
+	 * @param matchedItemId the matched item ID
+	 * @return the matching item match, or <code>null</code> if a matching item match could not be found
+	 */
+	@Override
+	public ItemMatch fetchByI_M(long itemId, long matchedItemId) {
+		return fetchByI_M(itemId, matchedItemId, true);
+	}
+
+	/**
+	 * Returns the item match where itemId = &#63; and matchedItemId = &#63; or returns <code>null</code> if it could not be found, optionally using the finder cache.
+	 *
+	 * @param itemId the item ID
+	 * @param matchedItemId the matched item ID
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the matching item match, or <code>null</code> if a matching item match could not be found
+	 */
+	@Override
+	public ItemMatch fetchByI_M(long itemId, long matchedItemId,
+		boolean retrieveFromCache) {
+		Object[] finderArgs = new Object[] { itemId, matchedItemId };
+
+		Object result = null;
+
+		if (retrieveFromCache) {
+			result = finderCache.getResult(FINDER_PATH_FETCH_BY_I_M,
+					finderArgs, this);
+		}
+
+		if (result instanceof ItemMatch) {
+			ItemMatch itemMatch = (ItemMatch)result;
+
+			if ((itemId != itemMatch.getItemId()) ||
+					(matchedItemId != itemMatch.getMatchedItemId())) {
+				result = null;
+			}
+		}
+
+		if (result == null) {
+			StringBundler query = new StringBundler(4);
+
+			query.append(_SQL_SELECT_ITEMMATCH_WHERE);
+
+			query.append(_FINDER_COLUMN_I_M_ITEMID_2);
+
+			query.append(_FINDER_COLUMN_I_M_MATCHEDITEMID_2);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(itemId);
+
+				qPos.add(matchedItemId);
+
+				List<ItemMatch> list = q.list();
+
+				if (list.isEmpty()) {
+					finderCache.putResult(FINDER_PATH_FETCH_BY_I_M, finderArgs,
+						list);
+				}
+				else {
+					ItemMatch itemMatch = list.get(0);
+
+					result = itemMatch;
+
+					cacheResult(itemMatch);
+
+					if ((itemMatch.getItemId() != itemId) ||
+							(itemMatch.getMatchedItemId() != matchedItemId)) {
+						finderCache.putResult(FINDER_PATH_FETCH_BY_I_M,
+							finderArgs, itemMatch);
+					}
+				}
+			}
+			catch (Exception e) {
+				finderCache.removeResult(FINDER_PATH_FETCH_BY_I_M, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		if (result instanceof List<?>) {
+			return null;
+		}
+		else {
+			return (ItemMatch)result;
+		}
+	}
+
+	/**
+	 * Removes the item match where itemId = &#63; and matchedItemId = &#63; from the database.
+	 *
+	 * @param itemId the item ID
+	 * @param matchedItemId the matched item ID
+	 * @return the item match that was removed
+	 */
+	@Override
+	public ItemMatch removeByI_M(long itemId, long matchedItemId)
+		throws NoSuchItemMatchException {
+		ItemMatch itemMatch = findByI_M(itemId, matchedItemId);
+
+		return remove(itemMatch);
+	}
+
+	/**
+	 * Returns the number of item matchs where itemId = &#63; and matchedItemId = &#63;.
+	 *
+	 * @param itemId the item ID
+	 * @param matchedItemId the matched item ID
+	 * @return the number of matching item matchs
+	 */
+	@Override
+	public int countByI_M(long itemId, long matchedItemId) {
+		FinderPath finderPath = FINDER_PATH_COUNT_BY_I_M;
+
+		Object[] finderArgs = new Object[] { itemId, matchedItemId };
+
+		Long count = (Long)finderCache.getResult(finderPath, finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(3);
+
+			query.append(_SQL_COUNT_ITEMMATCH_WHERE);
+
+			query.append(_FINDER_COLUMN_I_M_ITEMID_2);
+
+			query.append(_FINDER_COLUMN_I_M_MATCHEDITEMID_2);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(itemId);
+
+				qPos.add(matchedItemId);
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(finderPath, finderArgs, count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	private static final String _FINDER_COLUMN_I_M_ITEMID_2 = "itemMatch.itemId = ? AND ";
+	private static final String _FINDER_COLUMN_I_M_MATCHEDITEMID_2 = "itemMatch.matchedItemId = ?";
+
+	public ItemMatchPersistenceImpl() {
+		setModelClass(ItemMatch.class);
+	}
+
+	/**
+	 * Caches the item match in the entity cache if it is enabled.
+	 *
+	 * @param itemMatch the item match
+	 */
+	@Override
+	public void cacheResult(ItemMatch itemMatch) {
+		entityCache.putResult(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+			ItemMatchImpl.class, itemMatch.getPrimaryKey(), itemMatch);
+
+		finderCache.putResult(FINDER_PATH_FETCH_BY_I_M,
+			new Object[] { itemMatch.getItemId(), itemMatch.getMatchedItemId() },
+			itemMatch);
+
+		itemMatch.resetOriginalValues();
+	}
+
+	/**
+	 * Caches the item matchs in the entity cache if it is enabled.
+	 *
+	 * @param itemMatchs the item matchs
+	 */
+	@Override
+	public void cacheResult(List<ItemMatch> itemMatchs) {
+		for (ItemMatch itemMatch : itemMatchs) {
+			if (entityCache.getResult(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+						ItemMatchImpl.class, itemMatch.getPrimaryKey()) == null) {
+				cacheResult(itemMatch);
+			}
+			else {
+				itemMatch.resetOriginalValues();
+			}
+		}
+	}
+
+	/**
+	 * Clears the cache for all item matchs.
+	 *
+	 * <p>
+	 * The {@link EntityCache} and {@link FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache() {
+		entityCache.clearCache(ItemMatchImpl.class);
+
+		finderCache.clearCache(FINDER_CLASS_NAME_ENTITY);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	/**
+	 * Clears the cache for the item match.
+	 *
+	 * <p>
+	 * The {@link EntityCache} and {@link FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache(ItemMatch itemMatch) {
+		entityCache.removeResult(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+			ItemMatchImpl.class, itemMatch.getPrimaryKey());
+
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		clearUniqueFindersCache((ItemMatchModelImpl)itemMatch);
+	}
+
+	@Override
+	public void clearCache(List<ItemMatch> itemMatchs) {
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		for (ItemMatch itemMatch : itemMatchs) {
+			entityCache.removeResult(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+				ItemMatchImpl.class, itemMatch.getPrimaryKey());
+
+			clearUniqueFindersCache((ItemMatchModelImpl)itemMatch);
+		}
+	}
+
+	protected void cacheUniqueFindersCache(
+		ItemMatchModelImpl itemMatchModelImpl, boolean isNew) {
+		if (isNew) {
+			Object[] args = new Object[] {
+					itemMatchModelImpl.getItemId(),
+					itemMatchModelImpl.getMatchedItemId()
+				};
+
+			finderCache.putResult(FINDER_PATH_COUNT_BY_I_M, args,
+				Long.valueOf(1));
+			finderCache.putResult(FINDER_PATH_FETCH_BY_I_M, args,
+				itemMatchModelImpl);
+		}
+		else {
+			if ((itemMatchModelImpl.getColumnBitmask() &
+					FINDER_PATH_FETCH_BY_I_M.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						itemMatchModelImpl.getItemId(),
+						itemMatchModelImpl.getMatchedItemId()
+					};
+
+				finderCache.putResult(FINDER_PATH_COUNT_BY_I_M, args,
+					Long.valueOf(1));
+				finderCache.putResult(FINDER_PATH_FETCH_BY_I_M, args,
+					itemMatchModelImpl);
+			}
+		}
+	}
+
+	protected void clearUniqueFindersCache(
+		ItemMatchModelImpl itemMatchModelImpl) {
+		Object[] args = new Object[] {
+				itemMatchModelImpl.getItemId(),
+				itemMatchModelImpl.getMatchedItemId()
+			};
+
+		finderCache.removeResult(FINDER_PATH_COUNT_BY_I_M, args);
+		finderCache.removeResult(FINDER_PATH_FETCH_BY_I_M, args);
+
+		if ((itemMatchModelImpl.getColumnBitmask() &
+				FINDER_PATH_FETCH_BY_I_M.getColumnBitmask()) != 0) {
+			args = new Object[] {
+					itemMatchModelImpl.getOriginalItemId(),
+					itemMatchModelImpl.getOriginalMatchedItemId()
+				};
+
+			finderCache.removeResult(FINDER_PATH_COUNT_BY_I_M, args);
+			finderCache.removeResult(FINDER_PATH_FETCH_BY_I_M, args);
+		}
+	}
+
+	/**
+	 * Creates a new item match with the primary key. Does not add the item match to the database.
+	 *
+	 * @param matchId the primary key for the new item match
+	 * @return the new item match
+	 */
+	@Override
+	public ItemMatch create(long matchId) {
+		ItemMatch itemMatch = new ItemMatchImpl();
+
+		itemMatch.setNew(true);
+		itemMatch.setPrimaryKey(matchId);
+
+		itemMatch.setCompanyId(companyProvider.getCompanyId());
+
+		return itemMatch;
+	}
+
+	/**
+	 * Removes the item match with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param matchId the primary key of the item match
+	 * @return the item match that was removed
+	 * @throws NoSuchItemMatchException if a item match with the primary key could not be found
+	 */
+	@Override
+	public ItemMatch remove(long matchId) throws NoSuchItemMatchException {
+		return remove((Serializable)matchId);
+	}
+
+	/**
+	 * Removes the item match with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param primaryKey the primary key of the item match
+	 * @return the item match that was removed
+	 * @throws NoSuchItemMatchException if a item match with the primary key could not be found
+	 */
+	@Override
+	public ItemMatch remove(Serializable primaryKey)
+		throws NoSuchItemMatchException {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			ItemMatch itemMatch = (ItemMatch)session.get(ItemMatchImpl.class,
+					primaryKey);
+
+			if (itemMatch == null) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + primaryKey);
+				}
+
+				throw new NoSuchItemMatchException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+					primaryKey);
+			}
+
+			return remove(itemMatch);
+		}
+		catch (NoSuchItemMatchException nsee) {
+			throw nsee;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	protected ItemMatch removeImpl(ItemMatch itemMatch) {
+		itemMatch = toUnwrappedModel(itemMatch);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			if (!session.contains(itemMatch)) {
+				itemMatch = (ItemMatch)session.get(ItemMatchImpl.class,
+						itemMatch.getPrimaryKeyObj());
+			}
+
+			if (itemMatch != null) {
+				session.delete(itemMatch);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		if (itemMatch != null) {
+			clearCache(itemMatch);
+		}
+
+		return itemMatch;
+	}
+
+	@Override
+	public ItemMatch updateImpl(ItemMatch itemMatch) {
+		itemMatch = toUnwrappedModel(itemMatch);
+
+		boolean isNew = itemMatch.isNew();
+
+		ItemMatchModelImpl itemMatchModelImpl = (ItemMatchModelImpl)itemMatch;
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			if (itemMatch.isNew()) {
+				session.save(itemMatch);
+
+				itemMatch.setNew(false);
+			}
+			else {
+				itemMatch = (ItemMatch)session.merge(itemMatch);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+
+		if (isNew || !ItemMatchModelImpl.COLUMN_BITMASK_ENABLED) {
+			finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		}
+
+		else {
+			if ((itemMatchModelImpl.getColumnBitmask() &
+					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ITEMID.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						itemMatchModelImpl.getOriginalItemId()
+					};
+
+				finderCache.removeResult(FINDER_PATH_COUNT_BY_ITEMID, args);
+				finderCache.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ITEMID,
+					args);
+
+				args = new Object[] { itemMatchModelImpl.getItemId() };
+
+				finderCache.removeResult(FINDER_PATH_COUNT_BY_ITEMID, args);
+				finderCache.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ITEMID,
+					args);
+			}
+
+			if ((itemMatchModelImpl.getColumnBitmask() &
+					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_MATCHEDITEMID.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						itemMatchModelImpl.getOriginalMatchedItemId()
+					};
+
+				finderCache.removeResult(FINDER_PATH_COUNT_BY_MATCHEDITEMID,
+					args);
+				finderCache.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_MATCHEDITEMID,
+					args);
+
+				args = new Object[] { itemMatchModelImpl.getMatchedItemId() };
+
+				finderCache.removeResult(FINDER_PATH_COUNT_BY_MATCHEDITEMID,
+					args);
+				finderCache.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_MATCHEDITEMID,
+					args);
+			}
+		}
+
+		entityCache.putResult(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+			ItemMatchImpl.class, itemMatch.getPrimaryKey(), itemMatch, false);
+
+		clearUniqueFindersCache(itemMatchModelImpl);
+		cacheUniqueFindersCache(itemMatchModelImpl, isNew);
+
+		itemMatch.resetOriginalValues();
+
+		return itemMatch;
+	}
+
+	protected ItemMatch toUnwrappedModel(ItemMatch itemMatch) {
+		if (itemMatch instanceof ItemMatchImpl) {
+			return itemMatch;
+		}
+
+		ItemMatchImpl itemMatchImpl = new ItemMatchImpl();
+
+		itemMatchImpl.setNew(itemMatch.isNew());
+		itemMatchImpl.setPrimaryKey(itemMatch.getPrimaryKey());
+
+		itemMatchImpl.setMatchId(itemMatch.getMatchId());
+		itemMatchImpl.setCompanyId(itemMatch.getCompanyId());
+		itemMatchImpl.setCreateDate(itemMatch.getCreateDate());
+		itemMatchImpl.setItemId(itemMatch.getItemId());
+		itemMatchImpl.setMatchedItemId(itemMatch.getMatchedItemId());
+		itemMatchImpl.setScore(itemMatch.getScore());
+
+		return itemMatchImpl;
+	}
+
+	/**
+	 * Returns the item match with the primary key or throws a {@link com.liferay.portal.kernel.exception.NoSuchModelException} if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the item match
+	 * @return the item match
+	 * @throws NoSuchItemMatchException if a item match with the primary key could not be found
+	 */
+	@Override
+	public ItemMatch findByPrimaryKey(Serializable primaryKey)
+		throws NoSuchItemMatchException {
+		ItemMatch itemMatch = fetchByPrimaryKey(primaryKey);
+
+		if (itemMatch == null) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + primaryKey);
+			}
+
+			throw new NoSuchItemMatchException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+				primaryKey);
+		}
+
+		return itemMatch;
+	}
+
+	/**
+	 * Returns the item match with the primary key or throws a {@link NoSuchItemMatchException} if it could not be found.
+	 *
+	 * @param matchId the primary key of the item match
+	 * @return the item match
+	 * @throws NoSuchItemMatchException if a item match with the primary key could not be found
+	 */
+	@Override
+	public ItemMatch findByPrimaryKey(long matchId)
+		throws NoSuchItemMatchException {
+		return findByPrimaryKey((Serializable)matchId);
+	}
+
+	/**
+	 * Returns the item match with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the item match
+	 * @return the item match, or <code>null</code> if a item match with the primary key could not be found
+	 */
+	@Override
+	public ItemMatch fetchByPrimaryKey(Serializable primaryKey) {
+		ItemMatch itemMatch = (ItemMatch)entityCache.getResult(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+				ItemMatchImpl.class, primaryKey);
+
+		if (itemMatch == _nullItemMatch) {
+			return null;
+		}
+
+		if (itemMatch == null) {
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				itemMatch = (ItemMatch)session.get(ItemMatchImpl.class,
+						primaryKey);
+
+				if (itemMatch != null) {
+					cacheResult(itemMatch);
+				}
+				else {
+					entityCache.putResult(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+						ItemMatchImpl.class, primaryKey, _nullItemMatch);
+				}
+			}
+			catch (Exception e) {
+				entityCache.removeResult(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+					ItemMatchImpl.class, primaryKey);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return itemMatch;
+	}
+
+	/**
+	 * Returns the item match with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param matchId the primary key of the item match
+	 * @return the item match, or <code>null</code> if a item match with the primary key could not be found
+	 */
+	@Override
+	public ItemMatch fetchByPrimaryKey(long matchId) {
+		return fetchByPrimaryKey((Serializable)matchId);
+	}
+
+	@Override
+	public Map<Serializable, ItemMatch> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ItemMatch> map = new HashMap<Serializable, ItemMatch>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ItemMatch itemMatch = fetchByPrimaryKey(primaryKey);
+
+			if (itemMatch != null) {
+				map.put(primaryKey, itemMatch);
+			}
+
+			return map;
+		}
+
+		Set<Serializable> uncachedPrimaryKeys = null;
+
+		for (Serializable primaryKey : primaryKeys) {
+			ItemMatch itemMatch = (ItemMatch)entityCache.getResult(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+					ItemMatchImpl.class, primaryKey);
+
+			if (itemMatch == null) {
+				if (uncachedPrimaryKeys == null) {
+					uncachedPrimaryKeys = new HashSet<Serializable>();
+				}
+
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else {
+				map.put(primaryKey, itemMatch);
+			}
+		}
+
+		if (uncachedPrimaryKeys == null) {
+			return map;
+		}
+
+		StringBundler query = new StringBundler((uncachedPrimaryKeys.size() * 2) +
+				1);
+
+		query.append(_SQL_SELECT_ITEMMATCH_WHERE_PKS_IN);
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			query.append(String.valueOf(primaryKey));
+
+			query.append(StringPool.COMMA);
+		}
+
+		query.setIndex(query.index() - 1);
+
+		query.append(StringPool.CLOSE_PARENTHESIS);
+
+		String sql = query.toString();
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			Query q = session.createQuery(sql);
+
+			for (ItemMatch itemMatch : (List<ItemMatch>)q.list()) {
+				map.put(itemMatch.getPrimaryKeyObj(), itemMatch);
+
+				cacheResult(itemMatch);
+
+				uncachedPrimaryKeys.remove(itemMatch.getPrimaryKeyObj());
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				entityCache.putResult(ItemMatchModelImpl.ENTITY_CACHE_ENABLED,
+					ItemMatchImpl.class, primaryKey, _nullItemMatch);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
+	/**
+	 * Returns all the item matchs.
+	 *
+	 * @return the item matchs
+	 */
+	@Override
+	public List<ItemMatch> findAll() {
+		return findAll(QueryUtil.ALL_POS, QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the item matchs.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of item matchs
+	 * @param end the upper bound of the range of item matchs (not inclusive)
+	 * @return the range of item matchs
+	 */
+	@Override
+	public List<ItemMatch> findAll(int start, int end) {
+		return findAll(start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the item matchs.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of item matchs
+	 * @param end the upper bound of the range of item matchs (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of item matchs
+	 */
+	@Override
+	public List<ItemMatch> findAll(int start, int end,
+		OrderByComparator<ItemMatch> orderByComparator) {
+		return findAll(start, end, orderByComparator, true);
+	}
+
+	/**
+	 * Returns an ordered range of all the item matchs.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemMatchModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of item matchs
+	 * @param end the upper bound of the range of item matchs (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the ordered range of item matchs
+	 */
+	@Override
+	public List<ItemMatch> findAll(int start, int end,
+		OrderByComparator<ItemMatch> orderByComparator,
+		boolean retrieveFromCache) {
+		boolean pagination = true;
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			pagination = false;
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL;
+			finderArgs = FINDER_ARGS_EMPTY;
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_ALL;
+			finderArgs = new Object[] { start, end, orderByComparator };
+		}
+
+		List<ItemMatch> list = null;
+
+		if (retrieveFromCache) {
+			list = (List<ItemMatch>)finderCache.getResult(finderPath,
+					finderArgs, this);
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+			String sql = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(2 +
+						(orderByComparator.getOrderByFields().length * 2));
+
+				query.append(_SQL_SELECT_ITEMMATCH);
+
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+
+				sql = query.toString();
+			}
+			else {
+				sql = _SQL_SELECT_ITEMMATCH;
+
+				if (pagination) {
+					sql = sql.concat(ItemMatchModelImpl.ORDER_BY_JPQL);
+				}
+			}
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				if (!pagination) {
+					list = (List<ItemMatch>)QueryUtil.list(q, getDialect(),
+							start, end, false);
+
+					Collections.sort(list);
+
+					list = Collections.unmodifiableList(list);
+				}
+				else {
+					list = (List<ItemMatch>)QueryUtil.list(q, getDialect(),
+							start, end);
+				}
+
+				cacheResult(list);
+
+				finderCache.putResult(finderPath, finderArgs, list);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Removes all the item matchs from the database.
+	 *
+	 */
+	@Override
+	public void removeAll() {
+		for (ItemMatch itemMatch : findAll()) {
+			remove(itemMatch);
+		}
+	}
+
+	/**
+	 * Returns the number of item matchs.
+	 *
+	 * @return the number of item matchs
+	 */
+	@Override
+	public int countAll() {
+		Long count = (Long)finderCache.getResult(FINDER_PATH_COUNT_ALL,
+				FINDER_ARGS_EMPTY, this);
+
+		if (count == null) {
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(_SQL_COUNT_ITEMMATCH);
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(FINDER_PATH_COUNT_ALL, FINDER_ARGS_EMPTY,
+					count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(FINDER_PATH_COUNT_ALL,
+					FINDER_ARGS_EMPTY);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	@Override
+	protected Map<String, Integer> getTableColumnsMap() {
+		return ItemMatchModelImpl.TABLE_COLUMNS_MAP;
+	}
+
+	/**
+	 * Initializes the item match persistence.
+	 */
+	public void afterPropertiesSet() {
+	}
+
+	public void destroy() {
+		entityCache.removeCache(ItemMatchImpl.class.getName());
+		finderCache.removeCache(FINDER_CLASS_NAME_ENTITY);
+		finderCache.removeCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.removeCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	@BeanReference(type = CompanyProviderWrapper.class)
+	protected CompanyProvider companyProvider;
+	protected EntityCache entityCache = EntityCacheUtil.getEntityCache();
+	protected FinderCache finderCache = FinderCacheUtil.getFinderCache();
+	private static final String _SQL_SELECT_ITEMMATCH = "SELECT itemMatch FROM ItemMatch itemMatch";
+	private static final String _SQL_SELECT_ITEMMATCH_WHERE_PKS_IN = "SELECT itemMatch FROM ItemMatch itemMatch WHERE matchId IN (";
+	private static final String _SQL_SELECT_ITEMMATCH_WHERE = "SELECT itemMatch FROM ItemMatch itemMatch WHERE ";
+	private static final String _SQL_COUNT_ITEMMATCH = "SELECT COUNT(itemMatch) FROM ItemMatch itemMatch";
+	private static final String _SQL_COUNT_ITEMMATCH_WHERE = "SELECT COUNT(itemMatch) FROM ItemMatch itemMatch WHERE ";
+	private static final String _ORDER_BY_ENTITY_ALIAS = "itemMatch.";
+	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No ItemMatch exists with the primary key ";
+	private static final String _NO_SUCH_ENTITY_WITH_KEY = "No ItemMatch exists with the key {";
+	private static final Log _log = LogFactoryUtil.getLog(ItemMatchPersistenceImpl.class);
+	private static final ItemMatch _nullItemMatch = new ItemMatchImpl() {
+			@Override
+			public Object clone() {
+				return this;
+			}
+
+			@Override
+			public CacheModel<ItemMatch> toCacheModel() {
+				return _nullItemMatchCacheModel;
+			}
+		};
+
+	private static final CacheModel<ItemMatch> _nullItemMatchCacheModel = new CacheModel<ItemMatch>() {
+			@Override
+			public ItemMatch toEntityModel() {
+				return _nullItemMatch;
+			}
+		};
+}
\ No newline at end of file
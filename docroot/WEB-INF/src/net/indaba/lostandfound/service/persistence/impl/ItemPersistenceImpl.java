@@ -51,6 +51,8 @@ import net.indaba.lostandfound.service.persistence.ItemPersistence;
 
 import java.io.Serializable;
 
+import java.sql.Timestamp;
+
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -2319,175 +2321,2138 @@ public class ItemPersistenceImpl extends BasePersistenceImpl<Item>
 	}
 
 	private static final String _FINDER_COLUMN_GROUPID_GROUPID_2 = "item.groupId = ?";
-
-	public ItemPersistenceImpl() {
-		setModelClass(Item.class);
-	}
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_G_T = new FinderPath(ItemModelImpl.ENTITY_CACHE_ENABLED,
+			ItemModelImpl.FINDER_CACHE_ENABLED, ItemImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByG_T",
+			new String[] {
+				Long.class.getName(), String.class.getName(),
+				
+			Integer.class.getName(), Integer.class.getName(),
+				OrderByComparator.class.getName()
+			});
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_T = new FinderPath(ItemModelImpl.ENTITY_CACHE_ENABLED,
+			ItemModelImpl.FINDER_CACHE_ENABLED, ItemImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByG_T",
+			new String[] { Long.class.getName(), String.class.getName() },
+			ItemModelImpl.GROUPID_COLUMN_BITMASK |
+			ItemModelImpl.TYPE_COLUMN_BITMASK |
+			ItemModelImpl.CREATEDATE_COLUMN_BITMASK);
+	public static final FinderPath FINDER_PATH_COUNT_BY_G_T = new FinderPath(ItemModelImpl.ENTITY_CACHE_ENABLED,
+			ItemModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByG_T",
+			new String[] { Long.class.getName(), String.class.getName() });
 
 	/**
-	 * Caches the item in the entity cache if it is enabled.
+	 * Returns all the items where groupId = &#63; and type = &#63;.
 	 *
-	 * @param item the item
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @return the matching items
 	 */
 	@Override
-	public void cacheResult(Item item) {
-		entityCache.putResult(ItemModelImpl.ENTITY_CACHE_ENABLED,
-			ItemImpl.class, item.getPrimaryKey(), item);
-
-		finderCache.putResult(FINDER_PATH_FETCH_BY_UUID_G,
-			new Object[] { item.getUuid(), item.getGroupId() }, item);
-
-		item.resetOriginalValues();
+	public List<Item> findByG_T(long groupId, String type) {
+		return findByG_T(groupId, type, QueryUtil.ALL_POS, QueryUtil.ALL_POS,
+			null);
 	}
 
 	/**
-	 * Caches the items in the entity cache if it is enabled.
+	 * Returns a range of all the items where groupId = &#63; and type = &#63;.
 	 *
-	 * @param items the items
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param start the lower bound of the range of items
+	 * @param end the upper bound of the range of items (not inclusive)
+	 * @return the range of matching items
 	 */
 	@Override
-	public void cacheResult(List<Item> items) {
-		for (Item item : items) {
-			if (entityCache.getResult(ItemModelImpl.ENTITY_CACHE_ENABLED,
-						ItemImpl.class, item.getPrimaryKey()) == null) {
-				cacheResult(item);
-			}
-			else {
-				item.resetOriginalValues();
-			}
-		}
+	public List<Item> findByG_T(long groupId, String type, int start, int end) {
+		return findByG_T(groupId, type, start, end, null);
 	}
 
 	/**
-	 * Clears the cache for all items.
+	 * Returns an ordered range of all the items where groupId = &#63; and type = &#63;.
 	 *
 	 * <p>
-	 * The {@link EntityCache} and {@link FinderCache} are both cleared by this method.
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
 	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param start the lower bound of the range of items
+	 * @param end the upper bound of the range of items (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching items
 	 */
 	@Override
-	public void clearCache() {
-		entityCache.clearCache(ItemImpl.class);
-
-		finderCache.clearCache(FINDER_CLASS_NAME_ENTITY);
-		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	public List<Item> findByG_T(long groupId, String type, int start, int end,
+		OrderByComparator<Item> orderByComparator) {
+		return findByG_T(groupId, type, start, end, orderByComparator, true);
 	}
 
 	/**
-	 * Clears the cache for the item.
+	 * Returns an ordered range of all the items where groupId = &#63; and type = &#63;.
 	 *
 	 * <p>
-	 * The {@link EntityCache} and {@link FinderCache} are both cleared by this method.
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
 	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param start the lower bound of the range of items
+	 * @param end the upper bound of the range of items (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the ordered range of matching items
 	 */
 	@Override
-	public void clearCache(Item item) {
-		entityCache.removeResult(ItemModelImpl.ENTITY_CACHE_ENABLED,
-			ItemImpl.class, item.getPrimaryKey());
+	public List<Item> findByG_T(long groupId, String type, int start, int end,
+		OrderByComparator<Item> orderByComparator, boolean retrieveFromCache) {
+		boolean pagination = true;
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
 
-		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			pagination = false;
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_T;
+			finderArgs = new Object[] { groupId, type };
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_G_T;
+			finderArgs = new Object[] {
+					groupId, type,
+					
+					start, end, orderByComparator
+				};
+		}
 
-		clearUniqueFindersCache((ItemModelImpl)item);
-	}
+		List<Item> list = null;
 
-	@Override
-	public void clearCache(List<Item> items) {
-		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		if (retrieveFromCache) {
+			list = (List<Item>)finderCache.getResult(finderPath, finderArgs,
+					this);
 
-		for (Item item : items) {
-			entityCache.removeResult(ItemModelImpl.ENTITY_CACHE_ENABLED,
-				ItemImpl.class, item.getPrimaryKey());
+			if ((list != null) && !list.isEmpty()) {
+				for (Item item : list) {
+					if ((groupId != item.getGroupId()) ||
+							!Validator.equals(type, item.getType())) {
+						list = null;
 
-			clearUniqueFindersCache((ItemModelImpl)item);
+						break;
+					}
+				}
+			}
 		}
-	}
 
-	protected void cacheUniqueFindersCache(ItemModelImpl itemModelImpl,
-		boolean isNew) {
-		if (isNew) {
-			Object[] args = new Object[] {
-					itemModelImpl.getUuid(), itemModelImpl.getGroupId()
-				};
+		if (list == null) {
+			StringBundler query = null;
 
-			finderCache.putResult(FINDER_PATH_COUNT_BY_UUID_G, args,
-				Long.valueOf(1));
-			finderCache.putResult(FINDER_PATH_FETCH_BY_UUID_G, args,
-				itemModelImpl);
-		}
-		else {
-			if ((itemModelImpl.getColumnBitmask() &
-					FINDER_PATH_FETCH_BY_UUID_G.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						itemModelImpl.getUuid(), itemModelImpl.getGroupId()
-					};
+			if (orderByComparator != null) {
+				query = new StringBundler(4 +
+						(orderByComparator.getOrderByFields().length * 2));
+			}
+			else {
+				query = new StringBundler(4);
+			}
 
-				finderCache.putResult(FINDER_PATH_COUNT_BY_UUID_G, args,
-					Long.valueOf(1));
-				finderCache.putResult(FINDER_PATH_FETCH_BY_UUID_G, args,
-					itemModelImpl);
+			query.append(_SQL_SELECT_ITEM_WHERE);
+
+			query.append(_FINDER_COLUMN_G_T_GROUPID_2);
+
+			boolean bindType = false;
+
+			if (type == null) {
+				query.append(_FINDER_COLUMN_G_T_TYPE_1);
 			}
-		}
-	}
+			else if (type.equals(StringPool.BLANK)) {
+				query.append(_FINDER_COLUMN_G_T_TYPE_3);
+			}
+			else {
+				bindType = true;
 
-	protected void clearUniqueFindersCache(ItemModelImpl itemModelImpl) {
-		Object[] args = new Object[] {
-				itemModelImpl.getUuid(), itemModelImpl.getGroupId()
-			};
+				query.append(_FINDER_COLUMN_G_T_TYPE_2);
+			}
 
-		finderCache.removeResult(FINDER_PATH_COUNT_BY_UUID_G, args);
-		finderCache.removeResult(FINDER_PATH_FETCH_BY_UUID_G, args);
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+			else
+			 if (pagination) {
+				query.append(ItemModelImpl.ORDER_BY_JPQL);
+			}
 
-		if ((itemModelImpl.getColumnBitmask() &
-				FINDER_PATH_FETCH_BY_UUID_G.getColumnBitmask()) != 0) {
-			args = new Object[] {
-					itemModelImpl.getOriginalUuid(),
-					itemModelImpl.getOriginalGroupId()
-				};
+			String sql = query.toString();
 
-			finderCache.removeResult(FINDER_PATH_COUNT_BY_UUID_G, args);
-			finderCache.removeResult(FINDER_PATH_FETCH_BY_UUID_G, args);
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(groupId);
+
+				if (bindType) {
+					qPos.add(type);
+				}
+
+				if (!pagination) {
+					list = (List<Item>)QueryUtil.list(q, getDialect(), start,
+							end, false);
+
+					Collections.sort(list);
+
+					list = Collections.unmodifiableList(list);
+				}
+				else {
+					list = (List<Item>)QueryUtil.list(q, getDialect(), start,
+							end);
+				}
+
+				cacheResult(list);
+
+				finderCache.putResult(finderPath, finderArgs, list);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
 		}
+
+		return list;
 	}
 
 	/**
-	 * Creates a new item with the primary key. Does not add the item to the database.
+	 * Returns the first item in the ordered set where groupId = &#63; and type = &#63;.
 	 *
-	 * @param itemId the primary key for the new item
-	 * @return the new item
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching item
+	 * @throws NoSuchItemException if a matching item could not be found
 	 */
 	@Override
-	public Item create(long itemId) {
-		Item item = new ItemImpl();
+	public Item findByG_T_First(long groupId, String type,
+		OrderByComparator<Item> orderByComparator) throws NoSuchItemException {
+		Item item = fetchByG_T_First(groupId, type, orderByComparator);
 
-		item.setNew(true);
-		item.setPrimaryKey(itemId);
+		if (item != null) {
+			return item;
+		}
 
-		String uuid = PortalUUIDUtil.generate();
+		StringBundler msg = new StringBundler(6);
 
-		item.setUuid(uuid);
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
 
-		item.setCompanyId(companyProvider.getCompanyId());
+		msg.append("groupId=");
+		msg.append(groupId);
 
-		return item;
+		msg.append(", type=");
+		msg.append(type);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchItemException(msg.toString());
 	}
 
 	/**
-	 * Removes the item with the primary key from the database. Also notifies the appropriate model listeners.
+	 * Returns the first item in the ordered set where groupId = &#63; and type = &#63;.
 	 *
-	 * @param itemId the primary key of the item
-	 * @return the item that was removed
-	 * @throws NoSuchItemException if a item with the primary key could not be found
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching item, or <code>null</code> if a matching item could not be found
 	 */
 	@Override
-	public Item remove(long itemId) throws NoSuchItemException {
-		return remove((Serializable)itemId);
-	}
+	public Item fetchByG_T_First(long groupId, String type,
+		OrderByComparator<Item> orderByComparator) {
+		List<Item> list = findByG_T(groupId, type, 0, 1, orderByComparator);
 
-	/**
-	 * Removes the item with the primary key from the database. Also notifies the appropriate model listeners.
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the last item in the ordered set where groupId = &#63; and type = &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching item
+	 * @throws NoSuchItemException if a matching item could not be found
+	 */
+	@Override
+	public Item findByG_T_Last(long groupId, String type,
+		OrderByComparator<Item> orderByComparator) throws NoSuchItemException {
+		Item item = fetchByG_T_Last(groupId, type, orderByComparator);
+
+		if (item != null) {
+			return item;
+		}
+
+		StringBundler msg = new StringBundler(6);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("groupId=");
+		msg.append(groupId);
+
+		msg.append(", type=");
+		msg.append(type);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchItemException(msg.toString());
+	}
+
+	/**
+	 * Returns the last item in the ordered set where groupId = &#63; and type = &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching item, or <code>null</code> if a matching item could not be found
+	 */
+	@Override
+	public Item fetchByG_T_Last(long groupId, String type,
+		OrderByComparator<Item> orderByComparator) {
+		int count = countByG_T(groupId, type);
+
+		if (count == 0) {
+			return null;
+		}
+
+		List<Item> list = findByG_T(groupId, type, count - 1, count,
+				orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the items before and after the current item in the ordered set where groupId = &#63; and type = &#63;.
+	 *
+	 * @param itemId the primary key of the current item
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next item
+	 * @throws NoSuchItemException if a item with the primary key could not be found
+	 */
+	@Override
+	public Item[] findByG_T_PrevAndNext(long itemId, long groupId, String type,
+		OrderByComparator<Item> orderByComparator) throws NoSuchItemException {
+		Item item = findByPrimaryKey(itemId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			Item[] array = new ItemImpl[3];
+
+			array[0] = getByG_T_PrevAndNext(session, item, groupId, type,
+					orderByComparator, true);
+
+			array[1] = item;
+
+			array[2] = getByG_T_PrevAndNext(session, item, groupId, type,
+					orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected Item getByG_T_PrevAndNext(Session session, Item item,
+		long groupId, String type, OrderByComparator<Item> orderByComparator,
+		boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(5 +
+					(orderByComparator.getOrderByConditionFields().length * 3) +
+					(orderByComparator.getOrderByFields().length * 3));
+		}
+		else {
+			query = new StringBundler(4);
+		}
+
+		query.append(_SQL_SELECT_ITEM_WHERE);
+
+		query.append(_FINDER_COLUMN_G_T_GROUPID_2);
+
+		boolean bindType = false;
+
+		if (type == null) {
+			query.append(_FINDER_COLUMN_G_T_TYPE_1);
+		}
+		else if (type.equals(StringPool.BLANK)) {
+			query.append(_FINDER_COLUMN_G_T_TYPE_3);
+		}
+		else {
+			bindType = true;
+
+			query.append(_FINDER_COLUMN_G_T_TYPE_2);
+		}
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+		else {
+			query.append(ItemModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(groupId);
+
+		if (bindType) {
+			qPos.add(type);
+		}
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(item);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<Item> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns all the items that the user has permission to view where groupId = &#63; and type = &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @return the matching items that the user has permission to view
+	 */
+	@Override
+	public List<Item> filterFindByG_T(long groupId, String type) {
+		return filterFindByG_T(groupId, type, QueryUtil.ALL_POS,
+			QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the items that the user has permission to view where groupId = &#63; and type = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param start the lower bound of the range of items
+	 * @param end the upper bound of the range of items (not inclusive)
+	 * @return the range of matching items that the user has permission to view
+	 */
+	@Override
+	public List<Item> filterFindByG_T(long groupId, String type, int start,
+		int end) {
+		return filterFindByG_T(groupId, type, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the items that the user has permissions to view where groupId = &#63; and type = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param start the lower bound of the range of items
+	 * @param end the upper bound of the range of items (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching items that the user has permission to view
+	 */
+	@Override
+	public List<Item> filterFindByG_T(long groupId, String type, int start,
+		int end, OrderByComparator<Item> orderByComparator) {
+		if (!InlineSQLHelperUtil.isEnabled(groupId)) {
+			return findByG_T(groupId, type, start, end, orderByComparator);
+		}
+
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(4 +
+					(orderByComparator.getOrderByFields().length * 2));
+		}
+		else {
+			query = new StringBundler(5);
+		}
+
+		if (getDB().isSupportsInlineDistinct()) {
+			query.append(_FILTER_SQL_SELECT_ITEM_WHERE);
+		}
+		else {
+			query.append(_FILTER_SQL_SELECT_ITEM_NO_INLINE_DISTINCT_WHERE_1);
+		}
+
+		query.append(_FINDER_COLUMN_G_T_GROUPID_2);
+
+		boolean bindType = false;
+
+		if (type == null) {
+			query.append(_FINDER_COLUMN_G_T_TYPE_1_SQL);
+		}
+		else if (type.equals(StringPool.BLANK)) {
+			query.append(_FINDER_COLUMN_G_T_TYPE_3_SQL);
+		}
+		else {
+			bindType = true;
+
+			query.append(_FINDER_COLUMN_G_T_TYPE_2_SQL);
+		}
+
+		if (!getDB().isSupportsInlineDistinct()) {
+			query.append(_FILTER_SQL_SELECT_ITEM_NO_INLINE_DISTINCT_WHERE_2);
+		}
+
+		if (orderByComparator != null) {
+			if (getDB().isSupportsInlineDistinct()) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator, true);
+			}
+			else {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_TABLE,
+					orderByComparator, true);
+			}
+		}
+		else {
+			if (getDB().isSupportsInlineDistinct()) {
+				query.append(ItemModelImpl.ORDER_BY_JPQL);
+			}
+			else {
+				query.append(ItemModelImpl.ORDER_BY_SQL);
+			}
+		}
+
+		String sql = InlineSQLHelperUtil.replacePermissionCheck(query.toString(),
+				Item.class.getName(), _FILTER_ENTITY_TABLE_FILTER_PK_COLUMN,
+				groupId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			if (getDB().isSupportsInlineDistinct()) {
+				q.addEntity(_FILTER_ENTITY_ALIAS, ItemImpl.class);
+			}
+			else {
+				q.addEntity(_FILTER_ENTITY_TABLE, ItemImpl.class);
+			}
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(groupId);
+
+			if (bindType) {
+				qPos.add(type);
+			}
+
+			return (List<Item>)QueryUtil.list(q, getDialect(), start, end);
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	/**
+	 * Returns the items before and after the current item in the ordered set of items that the user has permission to view where groupId = &#63; and type = &#63;.
+	 *
+	 * @param itemId the primary key of the current item
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next item
+	 * @throws NoSuchItemException if a item with the primary key could not be found
+	 */
+	@Override
+	public Item[] filterFindByG_T_PrevAndNext(long itemId, long groupId,
+		String type, OrderByComparator<Item> orderByComparator)
+		throws NoSuchItemException {
+		if (!InlineSQLHelperUtil.isEnabled(groupId)) {
+			return findByG_T_PrevAndNext(itemId, groupId, type,
+				orderByComparator);
+		}
+
+		Item item = findByPrimaryKey(itemId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			Item[] array = new ItemImpl[3];
+
+			array[0] = filterGetByG_T_PrevAndNext(session, item, groupId, type,
+					orderByComparator, true);
+
+			array[1] = item;
+
+			array[2] = filterGetByG_T_PrevAndNext(session, item, groupId, type,
+					orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected Item filterGetByG_T_PrevAndNext(Session session, Item item,
+		long groupId, String type, OrderByComparator<Item> orderByComparator,
+		boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(6 +
+					(orderByComparator.getOrderByConditionFields().length * 3) +
+					(orderByComparator.getOrderByFields().length * 3));
+		}
+		else {
+			query = new StringBundler(5);
+		}
+
+		if (getDB().isSupportsInlineDistinct()) {
+			query.append(_FILTER_SQL_SELECT_ITEM_WHERE);
+		}
+		else {
+			query.append(_FILTER_SQL_SELECT_ITEM_NO_INLINE_DISTINCT_WHERE_1);
+		}
+
+		query.append(_FINDER_COLUMN_G_T_GROUPID_2);
+
+		boolean bindType = false;
+
+		if (type == null) {
+			query.append(_FINDER_COLUMN_G_T_TYPE_1_SQL);
+		}
+		else if (type.equals(StringPool.BLANK)) {
+			query.append(_FINDER_COLUMN_G_T_TYPE_3_SQL);
+		}
+		else {
+			bindType = true;
+
+			query.append(_FINDER_COLUMN_G_T_TYPE_2_SQL);
+		}
+
+		if (!getDB().isSupportsInlineDistinct()) {
+			query.append(_FILTER_SQL_SELECT_ITEM_NO_INLINE_DISTINCT_WHERE_2);
+		}
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				if (getDB().isSupportsInlineDistinct()) {
+					query.append(_ORDER_BY_ENTITY_ALIAS);
+				}
+				else {
+					query.append(_ORDER_BY_ENTITY_TABLE);
+				}
+
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				if (getDB().isSupportsInlineDistinct()) {
+					query.append(_ORDER_BY_ENTITY_ALIAS);
+				}
+				else {
+					query.append(_ORDER_BY_ENTITY_TABLE);
+				}
+
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+		else {
+			if (getDB().isSupportsInlineDistinct()) {
+				query.append(ItemModelImpl.ORDER_BY_JPQL);
+			}
+			else {
+				query.append(ItemModelImpl.ORDER_BY_SQL);
+			}
+		}
+
+		String sql = InlineSQLHelperUtil.replacePermissionCheck(query.toString(),
+				Item.class.getName(), _FILTER_ENTITY_TABLE_FILTER_PK_COLUMN,
+				groupId);
+
+		SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		if (getDB().isSupportsInlineDistinct()) {
+			q.addEntity(_FILTER_ENTITY_ALIAS, ItemImpl.class);
+		}
+		else {
+			q.addEntity(_FILTER_ENTITY_TABLE, ItemImpl.class);
+		}
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(groupId);
+
+		if (bindType) {
+			qPos.add(type);
+		}
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(item);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<Item> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Removes all the items where groupId = &#63; and type = &#63; from the database.
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 */
+	@Override
+	public void removeByG_T(long groupId, String type) {
+		for (Item item : findByG_T(groupId, type, QueryUtil.ALL_POS,
+				QueryUtil.ALL_POS, null)) {
+			remove(item);
+		}
+	}
+
+	/**
+	 * Returns the number of items where groupId = &#63; and type = &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @return the number of matching items
+	 */
+	@Override
+	public int countByG_T(long groupId, String type) {
+		FinderPath finderPath = FINDER_PATH_COUNT_BY_G_T;
+
+		Object[] finderArgs = new Object[] { groupId, type };
+
+		Long count = (Long)finderCache.getResult(finderPath, finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(3);
+
+			query.append(_SQL_COUNT_ITEM_WHERE);
+
+			query.append(_FINDER_COLUMN_G_T_GROUPID_2);
+
+			boolean bindType = false;
+
+			if (type == null) {
+				query.append(_FINDER_COLUMN_G_T_TYPE_1);
+			}
+			else if (type.equals(StringPool.BLANK)) {
+				query.append(_FINDER_COLUMN_G_T_TYPE_3);
+			}
+			else {
+				bindType = true;
+
+				query.append(_FINDER_COLUMN_G_T_TYPE_2);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(groupId);
+
+				if (bindType) {
+					qPos.add(type);
+				}
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(finderPath, finderArgs, count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Returns the number of items that the user has permission to view where groupId = &#63; and type = &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @return the number of matching items that the user has permission to view
+	 */
+	@Override
+	public int filterCountByG_T(long groupId, String type) {
+		if (!InlineSQLHelperUtil.isEnabled(groupId)) {
+			return countByG_T(groupId, type);
+		}
+
+		StringBundler query = new StringBundler(3);
+
+		query.append(_FILTER_SQL_COUNT_ITEM_WHERE);
+
+		query.append(_FINDER_COLUMN_G_T_GROUPID_2);
+
+		boolean bindType = false;
+
+		if (type == null) {
+			query.append(_FINDER_COLUMN_G_T_TYPE_1_SQL);
+		}
+		else if (type.equals(StringPool.BLANK)) {
+			query.append(_FINDER_COLUMN_G_T_TYPE_3_SQL);
+		}
+		else {
+			bindType = true;
+
+			query.append(_FINDER_COLUMN_G_T_TYPE_2_SQL);
+		}
+
+		String sql = InlineSQLHelperUtil.replacePermissionCheck(query.toString(),
+				Item.class.getName(), _FILTER_ENTITY_TABLE_FILTER_PK_COLUMN,
+				groupId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			q.addScalar(COUNT_COLUMN_NAME,
+				com.liferay.portal.kernel.dao.orm.Type.LONG);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(groupId);
+
+			if (bindType) {
+				qPos.add(type);
+			}
+
+			Long count = (Long)q.uniqueResult();
+
+			return count.intValue();
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	private static final String _FINDER_COLUMN_G_T_GROUPID_2 = "item.groupId = ? AND ";
+	private static final String _FINDER_COLUMN_G_T_TYPE_1 = "item.type IS NULL";
+	private static final String _FINDER_COLUMN_G_T_TYPE_2 = "item.type = ?";
+	private static final String _FINDER_COLUMN_G_T_TYPE_3 = "(item.type IS NULL OR item.type = '')";
+	private static final String _FINDER_COLUMN_G_T_TYPE_1_SQL = "item.type_ IS NULL";
+	private static final String _FINDER_COLUMN_G_T_TYPE_2_SQL = "item.type_ = ?";
+	private static final String _FINDER_COLUMN_G_T_TYPE_3_SQL = "(item.type_ IS NULL OR item.type_ = '')";
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_G_CD = new FinderPath(ItemModelImpl.ENTITY_CACHE_ENABLED,
+			ItemModelImpl.FINDER_CACHE_ENABLED, ItemImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByG_CD",
+			new String[] {
+				Long.class.getName(), Date.class.getName(),
+				
+			Integer.class.getName(), Integer.class.getName(),
+				OrderByComparator.class.getName()
+			});
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_COUNT_BY_G_CD = new FinderPath(ItemModelImpl.ENTITY_CACHE_ENABLED,
+			ItemModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "countByG_CD",
+			new String[] { Long.class.getName(), Date.class.getName() });
+
+	/**
+	 * Returns all the items where groupId = &#63; and createDate &ge; &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param createDate the create date
+	 * @return the matching items
+	 */
+	@Override
+	public List<Item> findByG_CD(long groupId, Date createDate) {
+		return findByG_CD(groupId, createDate, QueryUtil.ALL_POS,
+			QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the items where groupId = &#63; and createDate &ge; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param createDate the create date
+	 * @param start the lower bound of the range of items
+	 * @param end the upper bound of the range of items (not inclusive)
+	 * @return the range of matching items
+	 */
+	@Override
+	public List<Item> findByG_CD(long groupId, Date createDate, int start,
+		int end) {
+		return findByG_CD(groupId, createDate, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the items where groupId = &#63; and createDate &ge; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param createDate the create date
+	 * @param start the lower bound of the range of items
+	 * @param end the upper bound of the range of items (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching items
+	 */
+	@Override
+	public List<Item> findByG_CD(long groupId, Date createDate, int start,
+		int end, OrderByComparator<Item> orderByComparator) {
+		return findByG_CD(groupId, createDate, start, end, orderByComparator,
+			true);
+	}
+
+	/**
+	 * Returns an ordered range of all the items where groupId = &#63; and createDate &ge; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param createDate the create date
+	 * @param start the lower bound of the range of items
+	 * @param end the upper bound of the range of items (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the ordered range of matching items
+	 */
+	@Override
+	public List<Item> findByG_CD(long groupId, Date createDate, int start,
+		int end, OrderByComparator<Item> orderByComparator,
+		boolean retrieveFromCache) {
+		boolean pagination = true;
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_G_CD;
+		finderArgs = new Object[] {
+				groupId, createDate,
+				
+				start, end, orderByComparator
+			};
+
+		List<Item> list = null;
+
+		if (retrieveFromCache) {
+			list = (List<Item>)finderCache.getResult(finderPath, finderArgs,
+					this);
+
+			if ((list != null) && !list.isEmpty()) {
+				for (Item item : list) {
+					if ((groupId != item.getGroupId()) ||
+							(createDate.getTime() > item.getCreateDate()
+															.getTime())) {
+						list = null;
+
+						break;
+					}
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(4 +
+						(orderByComparator.getOrderByFields().length * 2));
+			}
+			else {
+				query = new StringBundler(4);
+			}
+
+			query.append(_SQL_SELECT_ITEM_WHERE);
+
+			query.append(_FINDER_COLUMN_G_CD_GROUPID_2);
+
+			boolean bindCreateDate = false;
+
+			if (createDate == null) {
+				query.append(_FINDER_COLUMN_G_CD_CREATEDATE_1);
+			}
+			else {
+				bindCreateDate = true;
+
+				query.append(_FINDER_COLUMN_G_CD_CREATEDATE_2);
+			}
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+			else
+			 if (pagination) {
+				query.append(ItemModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(groupId);
+
+				if (bindCreateDate) {
+					qPos.add(new Timestamp(createDate.getTime()));
+				}
+
+				if (!pagination) {
+					list = (List<Item>)QueryUtil.list(q, getDialect(), start,
+							end, false);
+
+					Collections.sort(list);
+
+					list = Collections.unmodifiableList(list);
+				}
+				else {
+					list = (List<Item>)QueryUtil.list(q, getDialect(), start,
+							end);
+				}
+
+				cacheResult(list);
+
+				finderCache.putResult(finderPath, finderArgs, list);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first item in the ordered set where groupId = &#63; and createDate &ge; &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param createDate the create date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching item
+	 * @throws NoSuchItemException if a matching item could not be found
+	 */
+	@Override
+	public Item findByG_CD_First(long groupId, Date createDate,
+		OrderByComparator<Item> orderByComparator) throws NoSuchItemException {
+		Item item = fetchByG_CD_First(groupId, createDate, orderByComparator);
+
+		if (item != null) {
+			return item;
+		}
+
+		StringBundler msg = new StringBundler(6);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("groupId=");
+		msg.append(groupId);
+
+		msg.append(", createDate=");
+		msg.append(createDate);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchItemException(msg.toString());
+	}
+
+	/**
+	 * Returns the first item in the ordered set where groupId = &#63; and createDate &ge; &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param createDate the create date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching item, or <code>null</code> if a matching item could not be found
+	 */
+	@Override
+	public Item fetchByG_CD_First(long groupId, Date createDate,
+		OrderByComparator<Item> orderByComparator) {
+		List<Item> list = findByG_CD(groupId, createDate, 0, 1,
+				orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the last item in the ordered set where groupId = &#63; and createDate &ge; &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param createDate the create date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching item
+	 * @throws NoSuchItemException if a matching item could not be found
+	 */
+	@Override
+	public Item findByG_CD_Last(long groupId, Date createDate,
+		OrderByComparator<Item> orderByComparator) throws NoSuchItemException {
+		Item item = fetchByG_CD_Last(groupId, createDate, orderByComparator);
+
+		if (item != null) {
+			return item;
+		}
+
+		StringBundler msg = new StringBundler(6);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("groupId=");
+		msg.append(groupId);
+
+		msg.append(", createDate=");
+		msg.append(createDate);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchItemException(msg.toString());
+	}
+
+	/**
+	 * Returns the last item in the ordered set where groupId = &#63; and createDate &ge; &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param createDate the create date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching item, or <code>null</code> if a matching item could not be found
+	 */
+	@Override
+	public Item fetchByG_CD_Last(long groupId, Date createDate,
+		OrderByComparator<Item> orderByComparator) {
+		int count = countByG_CD(groupId, createDate);
+
+		if (count == 0) {
+			return null;
+		}
+
+		List<Item> list = findByG_CD(groupId, createDate, count - 1, count,
+				orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the items before and after the current item in the ordered set where groupId = &#63; and createDate &ge; &#63;.
+	 *
+	 * @param itemId the primary key of the current item
+	 * @param groupId the group ID
+	 * @param createDate the create date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next item
+	 * @throws NoSuchItemException if a item with the primary key could not be found
+	 */
+	@Override
+	public Item[] findByG_CD_PrevAndNext(long itemId, long groupId,
+		Date createDate, OrderByComparator<Item> orderByComparator)
+		throws NoSuchItemException {
+		Item item = findByPrimaryKey(itemId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			Item[] array = new ItemImpl[3];
+
+			array[0] = getByG_CD_PrevAndNext(session, item, groupId,
+					createDate, orderByComparator, true);
+
+			array[1] = item;
+
+			array[2] = getByG_CD_PrevAndNext(session, item, groupId,
+					createDate, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected Item getByG_CD_PrevAndNext(Session session, Item item,
+		long groupId, Date createDate,
+		OrderByComparator<Item> orderByComparator, boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(5 +
+					(orderByComparator.getOrderByConditionFields().length * 3) +
+					(orderByComparator.getOrderByFields().length * 3));
+		}
+		else {
+			query = new StringBundler(4);
+		}
+
+		query.append(_SQL_SELECT_ITEM_WHERE);
+
+		query.append(_FINDER_COLUMN_G_CD_GROUPID_2);
+
+		boolean bindCreateDate = false;
+
+		if (createDate == null) {
+			query.append(_FINDER_COLUMN_G_CD_CREATEDATE_1);
+		}
+		else {
+			bindCreateDate = true;
+
+			query.append(_FINDER_COLUMN_G_CD_CREATEDATE_2);
+		}
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+		else {
+			query.append(ItemModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(groupId);
+
+		if (bindCreateDate) {
+			qPos.add(new Timestamp(createDate.getTime()));
+		}
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(item);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<Item> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns all the items that the user has permission to view where groupId = &#63; and createDate &ge; &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param createDate the create date
+	 * @return the matching items that the user has permission to view
+	 */
+	@Override
+	public List<Item> filterFindByG_CD(long groupId, Date createDate) {
+		return filterFindByG_CD(groupId, createDate, QueryUtil.ALL_POS,
+			QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the items that the user has permission to view where groupId = &#63; and createDate &ge; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param createDate the create date
+	 * @param start the lower bound of the range of items
+	 * @param end the upper bound of the range of items (not inclusive)
+	 * @return the range of matching items that the user has permission to view
+	 */
+	@Override
+	public List<Item> filterFindByG_CD(long groupId, Date createDate,
+		int start, int end) {
+		return filterFindByG_CD(groupId, createDate, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the items that the user has permissions to view where groupId = &#63; and createDate &ge; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ItemModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param createDate the create date
+	 * @param start the lower bound of the range of items
+	 * @param end the upper bound of the range of items (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching items that the user has permission to view
+	 */
+	@Override
+	public List<Item> filterFindByG_CD(long groupId, Date createDate,
+		int start, int end, OrderByComparator<Item> orderByComparator) {
+		if (!InlineSQLHelperUtil.isEnabled(groupId)) {
+			return findByG_CD(groupId, createDate, start, end, orderByComparator);
+		}
+
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(4 +
+					(orderByComparator.getOrderByFields().length * 2));
+		}
+		else {
+			query = new StringBundler(5);
+		}
+
+		if (getDB().isSupportsInlineDistinct()) {
+			query.append(_FILTER_SQL_SELECT_ITEM_WHERE);
+		}
+		else {
+			query.append(_FILTER_SQL_SELECT_ITEM_NO_INLINE_DISTINCT_WHERE_1);
+		}
+
+		query.append(_FINDER_COLUMN_G_CD_GROUPID_2);
+
+		boolean bindCreateDate = false;
+
+		if (createDate == null) {
+			query.append(_FINDER_COLUMN_G_CD_CREATEDATE_1);
+		}
+		else {
+			bindCreateDate = true;
+
+			query.append(_FINDER_COLUMN_G_CD_CREATEDATE_2);
+		}
+
+		if (!getDB().isSupportsInlineDistinct()) {
+			query.append(_FILTER_SQL_SELECT_ITEM_NO_INLINE_DISTINCT_WHERE_2);
+		}
+
+		if (orderByComparator != null) {
+			if (getDB().isSupportsInlineDistinct()) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator, true);
+			}
+			else {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_TABLE,
+					orderByComparator, true);
+			}
+		}
+		else {
+			if (getDB().isSupportsInlineDistinct()) {
+				query.append(ItemModelImpl.ORDER_BY_JPQL);
+			}
+			else {
+				query.append(ItemModelImpl.ORDER_BY_SQL);
+			}
+		}
+
+		String sql = InlineSQLHelperUtil.replacePermissionCheck(query.toString(),
+				Item.class.getName(), _FILTER_ENTITY_TABLE_FILTER_PK_COLUMN,
+				groupId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			if (getDB().isSupportsInlineDistinct()) {
+				q.addEntity(_FILTER_ENTITY_ALIAS, ItemImpl.class);
+			}
+			else {
+				q.addEntity(_FILTER_ENTITY_TABLE, ItemImpl.class);
+			}
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(groupId);
+
+			if (bindCreateDate) {
+				qPos.add(new Timestamp(createDate.getTime()));
+			}
+
+			return (List<Item>)QueryUtil.list(q, getDialect(), start, end);
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	/**
+	 * Returns the items before and after the current item in the ordered set of items that the user has permission to view where groupId = &#63; and createDate &ge; &#63;.
+	 *
+	 * @param itemId the primary key of the current item
+	 * @param groupId the group ID
+	 * @param createDate the create date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next item
+	 * @throws NoSuchItemException if a item with the primary key could not be found
+	 */
+	@Override
+	public Item[] filterFindByG_CD_PrevAndNext(long itemId, long groupId,
+		Date createDate, OrderByComparator<Item> orderByComparator)
+		throws NoSuchItemException {
+		if (!InlineSQLHelperUtil.isEnabled(groupId)) {
+			return findByG_CD_PrevAndNext(itemId, groupId, createDate,
+				orderByComparator);
+		}
+
+		Item item = findByPrimaryKey(itemId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			Item[] array = new ItemImpl[3];
+
+			array[0] = filterGetByG_CD_PrevAndNext(session, item, groupId,
+					createDate, orderByComparator, true);
+
+			array[1] = item;
+
+			array[2] = filterGetByG_CD_PrevAndNext(session, item, groupId,
+					createDate, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected Item filterGetByG_CD_PrevAndNext(Session session, Item item,
+		long groupId, Date createDate,
+		OrderByComparator<Item> orderByComparator, boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(6 +
+					(orderByComparator.getOrderByConditionFields().length * 3) +
+					(orderByComparator.getOrderByFields().length * 3));
+		}
+		else {
+			query = new StringBundler(5);
+		}
+
+		if (getDB().isSupportsInlineDistinct()) {
+			query.append(_FILTER_SQL_SELECT_ITEM_WHERE);
+		}
+		else {
+			query.append(_FILTER_SQL_SELECT_ITEM_NO_INLINE_DISTINCT_WHERE_1);
+		}
+
+		query.append(_FINDER_COLUMN_G_CD_GROUPID_2);
+
+		boolean bindCreateDate = false;
+
+		if (createDate == null) {
+			query.append(_FINDER_COLUMN_G_CD_CREATEDATE_1);
+		}
+		else {
+			bindCreateDate = true;
+
+			query.append(_FINDER_COLUMN_G_CD_CREATEDATE_2);
+		}
+
+		if (!getDB().isSupportsInlineDistinct()) {
+			query.append(_FILTER_SQL_SELECT_ITEM_NO_INLINE_DISTINCT_WHERE_2);
+		}
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				if (getDB().isSupportsInlineDistinct()) {
+					query.append(_ORDER_BY_ENTITY_ALIAS);
+				}
+				else {
+					query.append(_ORDER_BY_ENTITY_TABLE);
+				}
+
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				if (getDB().isSupportsInlineDistinct()) {
+					query.append(_ORDER_BY_ENTITY_ALIAS);
+				}
+				else {
+					query.append(_ORDER_BY_ENTITY_TABLE);
+				}
+
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+		else {
+			if (getDB().isSupportsInlineDistinct()) {
+				query.append(ItemModelImpl.ORDER_BY_JPQL);
+			}
+			else {
+				query.append(ItemModelImpl.ORDER_BY_SQL);
+			}
+		}
+
+		String sql = InlineSQLHelperUtil.replacePermissionCheck(query.toString(),
+				Item.class.getName(), _FILTER_ENTITY_TABLE_FILTER_PK_COLUMN,
+				groupId);
+
+		SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		if (getDB().isSupportsInlineDistinct()) {
+			q.addEntity(_FILTER_ENTITY_ALIAS, ItemImpl.class);
+		}
+		else {
+			q.addEntity(_FILTER_ENTITY_TABLE, ItemImpl.class);
+		}
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(groupId);
+
+		if (bindCreateDate) {
+			qPos.add(new Timestamp(createDate.getTime()));
+		}
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(item);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<Item> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Removes all the items where groupId = &#63; and createDate &ge; &#63; from the database.
+	 *
+	 * @param groupId the group ID
+	 * @param createDate the create date
+	 */
+	@Override
+	public void removeByG_CD(long groupId, Date createDate) {
+		for (Item item : findByG_CD(groupId, createDate, QueryUtil.ALL_POS,
+				QueryUtil.ALL_POS, null)) {
+			remove(item);
+		}
+	}
+
+	/**
+	 * Returns the number of items where groupId = &#63; and createDate &ge; &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param createDate the create date
+	 * @return the number of matching items
+	 */
+	@Override
+	public int countByG_CD(long groupId, Date createDate) {
+		FinderPath finderPath = FINDER_PATH_WITH_PAGINATION_COUNT_BY_G_CD;
+
+		Object[] finderArgs = new Object[] { groupId, createDate };
+
+		Long count = (Long)finderCache.getResult(finderPath, finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(3);
+
+			query.append(_SQL_COUNT_ITEM_WHERE);
+
+			query.append(_FINDER_COLUMN_G_CD_GROUPID_2);
+
+			boolean bindCreateDate = false;
+
+			if (createDate == null) {
+				query.append(_FINDER_COLUMN_G_CD_CREATEDATE_1);
+			}
+			else {
+				bindCreateDate = true;
+
+				query.append(_FINDER_COLUMN_G_CD_CREATEDATE_2);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(groupId);
+
+				if (bindCreateDate) {
+					qPos.add(new Timestamp(createDate.getTime()));
+				}
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(finderPath, finderArgs, count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Returns the number of items that the user has permission to view where groupId = &#63; and createDate &ge; &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param createDate the create date
+	 * @return the number of matching items that the user has permission to view
+	 */
+	@Override
+	public int filterCountByG_CD(long groupId, Date createDate) {
+		if (!InlineSQLHelperUtil.isEnabled(groupId)) {
+			return countByG_CD(groupId, createDate);
+		}
+
+		StringBundler query = new StringBundler(3);
+
+		query.append(_FILTER_SQL_COUNT_ITEM_WHERE);
+
+		query.append(_FINDER_COLUMN_G_CD_GROUPID_2);
+
+		boolean bindCreateDate = false;
+
+		if (createDate == null) {
+			query.append(_FINDER_COLUMN_G_CD_CREATEDATE_1);
+		}
+		else {
+			bindCreateDate = true;
+
+			query.append(_FINDER_COLUMN_G_CD_CREATEDATE_2);
+		}
+
+		String sql = InlineSQLHelperUtil.replacePermissionCheck(query.toString(),
+				Item.class.getName(), _FILTER_ENTITY_TABLE_FILTER_PK_COLUMN,
+				groupId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			q.addScalar(COUNT_COLUMN_NAME,
+				com.liferay.portal.kernel.dao.orm.Type.LONG);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(groupId);
+
+			if (bindCreateDate) {
+				qPos.add(new Timestamp(createDate.getTime()));
+			}
+
+			Long count = (Long)q.uniqueResult();
+
+			return count.intValue();
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	private static final String _FINDER_COLUMN_G_CD_GROUPID_2 = "item.groupId = ? AND ";
+	private static final String _FINDER_COLUMN_G_CD_CREATEDATE_1 = "item.createDate IS NULL";
+	private static final String _FINDER_COLUMN_G_CD_CREATEDATE_2 = "item.createDate >= ?";
+
+	public ItemPersistenceImpl() {
+		setModelClass(Item.class);
+	}
+
+	/**
+	 * Caches the item in the entity cache if it is enabled.
+	 *
+	 * @param item the item
+	 */
+	@Override
+	public void cacheResult(Item item) {
+		entityCache.putResult(ItemModelImpl.ENTITY_CACHE_ENABLED,
+			ItemImpl.class, item.getPrimaryKey(), item);
+
+		finderCache.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+			new Object[] { item.getUuid(), item.getGroupId() }, item);
+
+		item.resetOriginalValues();
+	}
+
+	/**
+	 * Caches the items in the entity cache if it is enabled.
+	 *
+	 * @param items the items
+	 */
+	@Override
+	public void cacheResult(List<Item> items) {
+		for (Item item : items) {
+			if (entityCache.getResult(ItemModelImpl.ENTITY_CACHE_ENABLED,
+						ItemImpl.class, item.getPrimaryKey()) == null) {
+				cacheResult(item);
+			}
+			else {
+				item.resetOriginalValues();
+			}
+		}
+	}
+
+	/**
+	 * Clears the cache for all items.
+	 *
+	 * <p>
+	 * The {@link EntityCache} and {@link FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache() {
+		entityCache.clearCache(ItemImpl.class);
+
+		finderCache.clearCache(FINDER_CLASS_NAME_ENTITY);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	/**
+	 * Clears the cache for the item.
+	 *
+	 * <p>
+	 * The {@link EntityCache} and {@link FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache(Item item) {
+		entityCache.removeResult(ItemModelImpl.ENTITY_CACHE_ENABLED,
+			ItemImpl.class, item.getPrimaryKey());
+
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		clearUniqueFindersCache((ItemModelImpl)item);
+	}
+
+	@Override
+	public void clearCache(List<Item> items) {
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		for (Item item : items) {
+			entityCache.removeResult(ItemModelImpl.ENTITY_CACHE_ENABLED,
+				ItemImpl.class, item.getPrimaryKey());
+
+			clearUniqueFindersCache((ItemModelImpl)item);
+		}
+	}
+
+	protected void cacheUniqueFindersCache(ItemModelImpl itemModelImpl,
+		boolean isNew) {
+		if (isNew) {
+			Object[] args = new Object[] {
+					itemModelImpl.getUuid(), itemModelImpl.getGroupId()
+				};
+
+			finderCache.putResult(FINDER_PATH_COUNT_BY_UUID_G, args,
+				Long.valueOf(1));
+			finderCache.putResult(FINDER_PATH_FETCH_BY_UUID_G, args,
+				itemModelImpl);
+		}
+		else {
+			if ((itemModelImpl.getColumnBitmask() &
+					FINDER_PATH_FETCH_BY_UUID_G.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						itemModelImpl.getUuid(), itemModelImpl.getGroupId()
+					};
+
+				finderCache.putResult(FINDER_PATH_COUNT_BY_UUID_G, args,
+					Long.valueOf(1));
+				finderCache.putResult(FINDER_PATH_FETCH_BY_UUID_G, args,
+					itemModelImpl);
+			}
+		}
+	}
+
+	protected void clearUniqueFindersCache(ItemModelImpl itemModelImpl) {
+		Object[] args = new Object[] {
+				itemModelImpl.getUuid(), itemModelImpl.getGroupId()
+			};
+
+		finderCache.removeResult(FINDER_PATH_COUNT_BY_UUID_G, args);
+		finderCache.removeResult(FINDER_PATH_FETCH_BY_UUID_G, args);
+
+		if ((itemModelImpl.getColumnBitmask() &
+				FINDER_PATH_FETCH_BY_UUID_G.getColumnBitmask()) != 0) {
+			args = new Object[] {
+					itemModelImpl.getOriginalUuid(),
+					itemModelImpl.getOriginalGroupId()
+				};
+
+			finderCache.removeResult(FINDER_PATH_COUNT_BY_UUID_G, args);
+			finderCache.removeResult(FINDER_PATH_FETCH_BY_UUID_G, args);
+		}
+	}
+
+	/**
+	 * Creates a new item with the primary key. Does not add the item to the database.
+	 *
+	 * @param itemId the primary key for the new item
+	 * @return the new item
+	 */
+	@Override
+	public Item create(long itemId) {
+		Item item = new ItemImpl();
+
+		item.setNew(true);
+		item.setPrimaryKey(itemId);
+
+		String uuid = PortalUUIDUtil.generate();
+
+		item.setUuid(uuid);
+
+		item.setCompanyId(companyProvider.getCompanyId());
+
+		return item;
+	}
+
+	/**
+	 * Removes the item with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param itemId the primary key of the item
+	 * @return the item that was removed
+	 * @throws NoSuchItemException if a item with the primary key could not be found
+	 */
+	@Override
+	public Item remove(long itemId) throws NoSuchItemException {
+		return remove((Serializable)itemId);
+	}
+
+	/**
+	 * Removes the item with the primary key from the database. Also notifies the appropriate model listeners.
 	 *
 	 * @param primaryKey the primary key of the item
 	 * @return the item that was removed
@@ -2668,6 +4633,26 @@ public class ItemPersistenceImpl extends BasePersistenceImpl<Item>
 				finderCache.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_GROUPID,
 					args);
 			}
+
+			if ((itemModelImpl.getColumnBitmask() &
+					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_T.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						itemModelImpl.getOriginalGroupId(),
+						itemModelImpl.getOriginalType()
+					};
+
+				finderCache.removeResult(FINDER_PATH_COUNT_BY_G_T, args);
+				finderCache.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_T,
+					args);
+
+				args = new Object[] {
+						itemModelImpl.getGroupId(), itemModelImpl.getType()
+					};
+
+				finderCache.removeResult(FINDER_PATH_COUNT_BY_G_T, args);
+				finderCache.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_T,
+					args);
+			}
 		}
 
 		entityCache.putResult(ItemModelImpl.ENTITY_CACHE_ENABLED,
@@ -1409,6 +1409,9 @@ public class LFImagePersistenceImpl extends BasePersistenceImpl<LFImage>
 		lfImageImpl.setUuid(lfImage.getUuid());
 		lfImageImpl.setLfImageId(lfImage.getLfImageId());
 		lfImageImpl.setItemId(lfImage.getItemId());
+		lfImageImpl.setCreateDate(lfImage.getCreateDate());
+		lfImageImpl.setContentType(lfImage.getContentType());
+		lfImageImpl.setSize(lfImage.getSize());
 		lfImageImpl.setImage(lfImage.getImage());
 
 		return lfImageImpl;
@@ -1824,7 +1827,7 @@ public class LFImagePersistenceImpl extends BasePersistenceImpl<LFImage>
 	private static final String _NO_SUCH_ENTITY_WITH_KEY = "No LFImage exists with the key {";
 	private static final Log _log = LogFactoryUtil.getLog(LFImagePersistenceImpl.class);
 	private static final Set<String> _badColumnNames = SetUtil.fromArray(new String[] {
-				"uuid"
+				"uuid", "size"
 			});
 	private static final LFImage _nullLFImage = new LFImageImpl() {
 			@Override
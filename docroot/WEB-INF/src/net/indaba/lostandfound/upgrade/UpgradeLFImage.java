@@ -0,0 +1,102 @@
+package net.indaba.lostandfound.upgrade;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.upgrade.UpgradeProcess;
+import com.liferay.portal.kernel.util.ContentTypes;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.MimeTypesUtil;
+import com.liferay.portal.kernel.util.StringPool;
+
+/**
+ * Converts images stored as base64 text into raw bytes. Runs once, when the
+ * plugin is upgraded from a release older than build 101, through the
+ * upgrade.processes of portal.properties. Every row it visits gets a content
+ * type, including the ones it cannot convert.
+ */
+public class UpgradeLFImage extends UpgradeProcess {
+
+	@Override
+	public int getThreshold() {
+		return 101;
+	}
+
+	@Override
+	protected void doUpgrade() throws Exception {
+		/* Only the ids are listed, so at most one image is held at a time */
+		List<Long> lfImageIds = new ArrayList<Long>();
+		try (PreparedStatement select = connection.prepareStatement(
+				"select lfImageId from lfvo_LFImage where contentType is "
+						+ "null");
+				ResultSet rs = select.executeQuery()) {
+			while (rs.next()) {
+				lfImageIds.add(rs.getLong("lfImageId"));
+			}
+		}
+
+		int count = 0;
+		try (PreparedStatement select = connection.prepareStatement(
+				"select image from lfvo_LFImage where lfImageId = ?");
+				PreparedStatement update = connection.prepareStatement(
+						"update lfvo_LFImage set image = ?, contentType = ?, "
+								+ "size_ = ? where lfImageId = ?");
+				PreparedStatement updateContentType = connection
+						.prepareStatement("update lfvo_LFImage set "
+								+ "contentType = ? where lfImageId = ?")) {
+			for (long lfImageId : lfImageIds) {
+				byte[] stored = null;
+				select.setLong(1, lfImageId);
+				try (ResultSet rs = select.executeQuery()) {
+					if (rs.next()) {
+						try (InputStream in = rs.getBinaryStream("image")) {
+							if (in != null) {
+								stored = FileUtil.getBytes(in);
+							}
+						}
+					}
+				}
+				if (stored == null) {
+					updateContentType.setString(1, ContentTypes.IMAGE_JPEG);
+					updateContentType.setLong(2, lfImageId);
+					updateContentType.executeUpdate();
+					continue;
+				}
+				byte[] bytes;
+				try {
+					bytes = Base64.getMimeDecoder().decode(new String(stored,
+							StringPool.UTF8).trim());
+				} catch (IllegalArgumentException e) {
+					_log.warn("Image " + lfImageId + " is not base64, "
+							+ "leaving it as is");
+					updateContentType.setString(1, MimeTypesUtil
+							.getContentType(new ByteArrayInputStream(stored),
+									null));
+					updateContentType.setLong(2, lfImageId);
+					updateContentType.executeUpdate();
+					continue;
+				}
+				update.setBytes(1, bytes);
+				update.setString(2, MimeTypesUtil.getContentType(
+						new ByteArrayInputStream(bytes), null));
+				update.setLong(3, bytes.length);
+				update.setLong(4, lfImageId);
+				update.executeUpdate();
+				count++;
+			}
+		}
+		if (count > 0) {
+			_log.info("Converted " + count + " images to raw bytes");
+		}
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+			UpgradeLFImage.class);
+}
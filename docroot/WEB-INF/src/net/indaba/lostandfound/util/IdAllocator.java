@@ -0,0 +1,89 @@
+package net.indaba.lostandfound.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.liferay.counter.kernel.model.Counter;
+import com.liferay.counter.kernel.service.CounterLocalServiceUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.util.portlet.PortletProps;
+
+/**
+ * Hands out primary keys for one entity type from blocks reserved in the
+ * portal counter. Only reserving a block goes through the counter service;
+ * the ids of a block are taken from memory. Blocks come from the same
+ * counter as CounterLocalServiceUtil.increment(), so ids never collide with
+ * rows added before, and every cluster node reserves its own blocks, so
+ * nodes never hand out the same id. Ids left in a block at shutdown are
+ * skipped.
+ */
+public class IdAllocator {
+
+	private static final ConcurrentMap<String, IdAllocator> instances =
+			new ConcurrentHashMap<String, IdAllocator>();
+
+	private final int blockSize;
+
+	private volatile Block block = new Block(1, 0);
+
+	private IdAllocator(int blockSize) {
+		super();
+		this.blockSize = blockSize;
+	}
+
+	/**
+	 * @param clazz
+	 *            The entity the ids are for
+	 * @return The allocator of the entity
+	 */
+	public static IdAllocator getInstance(Class<?> clazz) {
+		IdAllocator allocator = instances.get(clazz.getName());
+		if (allocator == null) {
+			int blockSize = GetterUtil.getInteger(PortletProps.get(
+					"id.allocator.block.size"), 100);
+			allocator = new IdAllocator(Math.max(1, blockSize));
+			IdAllocator previous = instances.putIfAbsent(clazz.getName(),
+					allocator);
+			if (previous != null) {
+				allocator = previous;
+			}
+		}
+		return allocator;
+	}
+
+	/**
+	 * @return An id no other call, on this or any other node, returns
+	 */
+	public long nextId() {
+		while (true) {
+			Block current = block;
+			long id = current.next.getAndIncrement();
+			if (id <= current.last) {
+				return id;
+			}
+			synchronized (this) {
+				/* Only the first thread to find it exhausted reserves */
+				if (block == current) {
+					long last = CounterLocalServiceUtil.increment(Counter.class
+							.getName(), blockSize);
+					block = new Block(last - blockSize + 1, last);
+				}
+			}
+		}
+	}
+
+	private static class Block {
+
+		private final AtomicLong next;
+
+		private final long last;
+
+		private Block(long first, long last) {
+			this.next = new AtomicLong(first);
+			this.last = last;
+		}
+
+	}
+
+}
@@ -0,0 +1,103 @@
+package net.indaba.lostandfound.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.util.portlet.PortletProps;
+
+import net.indaba.lostandfound.service.ItemMatchLocalServiceUtil;
+
+/**
+ * Recomputes the match candidates of saved items in the background. Items
+ * enter the queue once the transaction that saved them commits, and are
+ * matched item.match.delay milliseconds later, by when the index buffer has
+ * written the items saved together with them. An item saved again while
+ * queued is matched once.
+ */
+public class ItemMatchQueue {
+
+	private static ItemMatchQueue instance = null;
+
+	private final Set<Long> pending = new LinkedHashSet<Long>();
+
+	private final ScheduledExecutorService scheduler;
+
+	private final long delay;
+
+	private ItemMatchQueue(long delay) {
+		super();
+		this.delay = delay;
+		scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "item-match-queue");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public static synchronized ItemMatchQueue getInstance() {
+		if (instance == null) {
+			long delay = GetterUtil.getLong(PortletProps.get(
+					"item.match.delay"), 2000);
+			instance = new ItemMatchQueue(delay);
+		}
+		return instance;
+	}
+
+	/**
+	 * Drops the queued items and stops the match thread. Their candidates are
+	 * recomputed the next time they are saved.
+	 */
+	public static synchronized void shutdown() {
+		if (instance != null) {
+			instance.scheduler.shutdownNow();
+			instance = null;
+		}
+	}
+
+	/**
+	 * Queues the item to be matched after the current transaction commits
+	 *
+	 * @param itemId
+	 */
+	public void add(long itemId) {
+		/* Runs right away when there is no transaction */
+		TransactionCommitCallbackUtil.registerCallback(() -> {
+			boolean schedule;
+			synchronized (pending) {
+				schedule = pending.isEmpty();
+				pending.add(itemId);
+			}
+			if (schedule) {
+				scheduler.schedule(this::drain, delay, TimeUnit.MILLISECONDS);
+			}
+			return null;
+		});
+	}
+
+	private void drain() {
+		List<Long> itemIds;
+		synchronized (pending) {
+			itemIds = new ArrayList<Long>(pending);
+			pending.clear();
+		}
+		for (long itemId : itemIds) {
+			try {
+				ItemMatchLocalServiceUtil.updateItemMatches(itemId);
+			} catch (Exception e) {
+				_log.error("Unable to match item " + itemId, e);
+			}
+		}
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+			ItemMatchQueue.class);
+}
@@ -0,0 +1,190 @@
+package net.indaba.lostandfound.util;
+
+import java.awt.image.RenderedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import com.liferay.portal.kernel.exception.ImageResolutionException;
+import com.liferay.portal.kernel.image.ImageBag;
+import com.liferay.portal.kernel.image.ImageToolUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.ContentTypes;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.PropsUtil;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.util.portlet.PortletProps;
+
+import net.indaba.lostandfound.model.LFImage;
+
+/**
+ * Keeps scaled down copies of the item images on disk, one directory per
+ * thumbnail size. Thumbnails are generated when an image is added and again
+ * on demand if the cache directory has been wiped, so the files can always be
+ * deleted safely.
+ */
+public class LFImageThumbnailCache {
+
+	private static LFImageThumbnailCache instance = null;
+
+	private final File cacheDir;
+
+	private final int[] sizes;
+
+	private LFImageThumbnailCache(File cacheDir, int[] sizes) {
+		super();
+		this.cacheDir = cacheDir;
+		this.sizes = sizes;
+	}
+
+	public static synchronized LFImageThumbnailCache getInstance() {
+		if (instance == null) {
+			String dir = PortletProps.get("lfimage.thumbnail.dir");
+			if (Validator.isNull(dir)) {
+				dir = PropsUtil.get(PropsKeys.LIFERAY_HOME)
+						+ "/data/lfvo/thumbnails";
+			}
+			int[] sizes = GetterUtil.getIntegerValues(StringUtil.split(
+					PortletProps.get("lfimage.thumbnail.sizes")));
+			if (sizes.length == 0) {
+				sizes = new int[] { 128, 512 };
+			}
+			Arrays.sort(sizes);
+			instance = new LFImageThumbnailCache(new File(dir), sizes);
+		}
+		return instance;
+	}
+
+	/**
+	 * @param requestedSize
+	 *            Width or height the image is displayed at, in pixels
+	 * @return The smallest thumbnail size covering the requested one, or 0 if
+	 *         only the original image does
+	 */
+	public int getThumbnailSize(int requestedSize) {
+		for (int size : sizes) {
+			if (size >= requestedSize) {
+				return size;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Thumbnails keep the transparency of PNG and GIF images, anything else is
+	 * stored as JPEG
+	 */
+	public String getContentType(LFImage image) {
+		String contentType = image.getImageContentType();
+		if (ContentTypes.IMAGE_PNG.equals(contentType) || ContentTypes.IMAGE_GIF
+				.equals(contentType)) {
+			return ContentTypes.IMAGE_PNG;
+		}
+		return ContentTypes.IMAGE_JPEG;
+	}
+
+	/**
+	 * Gets a thumbnail, generating it if it is not in the cache
+	 *
+	 * @param image
+	 * @param size
+	 *            One of the configured thumbnail sizes
+	 * @return The thumbnail file, or null if the image cannot be decoded
+	 */
+	public File getThumbnail(LFImage image, int size) throws IOException,
+			SQLException {
+		File file = getFile(image, size);
+		if (!file.exists()) {
+			generate(image);
+		}
+		return file.exists() ? file : null;
+	}
+
+	/**
+	 * Generates every thumbnail size of the image, decoding it only once
+	 *
+	 * @param image
+	 */
+	public void generate(LFImage image) throws IOException, SQLException {
+		Blob blob = image.getImage();
+		if (blob == null) {
+			return;
+		}
+		byte[] bytes;
+		try (InputStream in = blob.getBinaryStream()) {
+			bytes = FileUtil.getBytes(in);
+		}
+		ImageBag imageBag;
+		try {
+			imageBag = ImageToolUtil.read(bytes);
+		} catch (ImageResolutionException e) {
+			/* Served in full size instead */
+			_log.warn("Image " + image.getLfImageId()
+					+ " exceeds the maximum resolution");
+			return;
+		}
+		RenderedImage renderedImage = imageBag.getRenderedImage();
+		if (renderedImage == null) {
+			_log.warn("Unable to decode image " + image.getLfImageId());
+			return;
+		}
+		String contentType = getContentType(image);
+		for (int size : sizes) {
+			write(getFile(image, size), ImageToolUtil.getBytes(ImageToolUtil
+					.scale(renderedImage, size, size), contentType));
+		}
+	}
+
+	/**
+	 * Removes every thumbnail of the image
+	 *
+	 * @param image
+	 */
+	public void delete(LFImage image) {
+		for (int size : sizes) {
+			File file = getFile(image, size);
+			if (file.exists() && !file.delete()) {
+				_log.warn("Unable to delete thumbnail " + file);
+			}
+		}
+	}
+
+	private File getFile(LFImage image, int size) {
+		String extension = ContentTypes.IMAGE_PNG.equals(getContentType(image))
+				? ".png" : ".jpg";
+		return new File(cacheDir, size + "/" + image.getLfImageId()
+				+ extension);
+	}
+
+	/**
+	 * Writes through a temporary file so that readers never see a partial
+	 * thumbnail
+	 */
+	private void write(File file, byte[] bytes) throws IOException {
+		File dir = file.getParentFile();
+		if (!dir.exists() && !dir.mkdirs() && !dir.exists()) {
+			throw new IOException("Unable to create " + dir);
+		}
+		File tmp = File.createTempFile(file.getName(), ".tmp", dir);
+		try {
+			Files.write(tmp.toPath(), bytes);
+			Files.move(tmp.toPath(), file.toPath(),
+					StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			tmp.delete();
+		}
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+			LFImageThumbnailCache.class);
+}
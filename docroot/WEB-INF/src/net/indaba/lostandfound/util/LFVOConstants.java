@@ -4,4 +4,16 @@ public class LFVOConstants {
 	
 	public static final String LFVO_PORTLET_ID = "lfvo_WAR_lfvoportlet";
 
+	public static final String ITEM_TYPE_LOST = "lost";
+
+	public static final String ITEM_TYPE_FOUND = "found";
+
+	public static final String ITEM_TYPE_ALERT = "alert";
+
+	public static final String ITEM_TYPE_OFFICE = "office";
+
+	public static final String OUTBOX_ACTION_UPDATE = "update";
+
+	public static final String OUTBOX_ACTION_DELETE = "delete";
+
 }
@@ -0,0 +1,29 @@
+package net.indaba.lostandfound.util.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary format of a cache model, used for the off-heap cache regions and for
+ * the externalization of the cache models replicated by the portal cache
+ *
+ * @param <M>
+ *            Cache model type
+ */
+public interface CacheModelCodec<M> {
+
+	/**
+	 * Writes the fields of the cache model, starting with the format version
+	 */
+	public void write(M cacheModel, DataOutput out) throws IOException;
+
+	/**
+	 * Reads the fields written by write into the cache model
+	 *
+	 * @throws IOException
+	 *             If the data was written in an unknown format version
+	 */
+	public void read(DataInput in, M cacheModel) throws IOException;
+
+}
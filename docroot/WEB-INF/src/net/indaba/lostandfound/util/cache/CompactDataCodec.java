@@ -0,0 +1,115 @@
+package net.indaba.lostandfound.util.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Primitives of the compact cache model formats. Longs are written as
+ * zigzag varints, so small values of either sign take one or two bytes
+ * instead of eight. Strings are written as varint length prefixed UTF-8, or as
+ * their position in a dictionary of the values expected to repeat.
+ */
+public class CompactDataCodec {
+
+	private CompactDataCodec() {
+	}
+
+	public static void writeLong(DataOutput out, long value)
+			throws IOException {
+		/* Zigzag keeps small negative values small */
+		long v = (value << 1) ^ (value >> 63);
+		while ((v & ~0x7FL) != 0) {
+			out.writeByte((int) ((v & 0x7F) | 0x80));
+			v >>>= 7;
+		}
+		out.writeByte((int) v);
+	}
+
+	public static long readLong(DataInput in) throws IOException {
+		long v = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = in.readByte();
+			v |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return (v >>> 1) ^ -(v & 1);
+			}
+		}
+		throw new IOException("Malformed varint");
+	}
+
+	public static void writeString(DataOutput out, String value)
+			throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeLong(out, bytes.length);
+		out.write(bytes);
+	}
+
+	public static String readString(DataInput in) throws IOException {
+		long length = readLong(in);
+		if (length < 0 || length > Integer.MAX_VALUE) {
+			throw new IOException("Malformed string length " + length);
+		}
+		byte[] bytes = new byte[(int) length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Writes a value of the dictionary as its position, any other value in
+	 * full. The dictionary is part of the format: values may only be appended
+	 * to it, and only along with a new format version.
+	 */
+	public static void writeString(DataOutput out, String value,
+			String[] dictionary) throws IOException {
+		for (int i = 0; i < dictionary.length; i++) {
+			if (dictionary[i].equals(value)) {
+				writeLong(out, i + 1);
+				return;
+			}
+		}
+		writeLong(out, 0);
+		writeString(out, value);
+	}
+
+	public static String readString(DataInput in, String[] dictionary)
+			throws IOException {
+		long index = readLong(in);
+		if (index == 0) {
+			return readString(in);
+		}
+		if (index < 0 || index > dictionary.length) {
+			throw new IOException("Unknown dictionary entry " + index);
+		}
+		return dictionary[(int) index - 1];
+	}
+
+	/**
+	 * @return true if the uuid is in the canonical lower case form, which
+	 *         writeUUID stores in 16 bytes instead of 37
+	 */
+	public static boolean isPackableUUID(String uuid) {
+		if (uuid.length() != 36) {
+			return false;
+		}
+		try {
+			return UUID.fromString(uuid).toString().equals(uuid);
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	public static void writeUUID(DataOutput out, String uuid)
+			throws IOException {
+		UUID value = UUID.fromString(uuid);
+		out.writeLong(value.getMostSignificantBits());
+		out.writeLong(value.getLeastSignificantBits());
+	}
+
+	public static String readUUID(DataInput in) throws IOException {
+		return new UUID(in.readLong(), in.readLong()).toString();
+	}
+
+}
@@ -0,0 +1,160 @@
+package net.indaba.lostandfound.util.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import net.indaba.lostandfound.model.impl.ItemCacheModel;
+import net.indaba.lostandfound.util.LFVOConstants;
+
+/**
+ * Compact format of ItemCacheModel. After the version byte comes a varint
+ * bitmap of the fields that are set, so null strings and dates take no space
+ * and keep being null once read, where writeExternal turns them into blanks
+ * and Long.MIN_VALUE. Longs are varints, the modified and publish dates are
+ * written as their distance to the create date, canonical uuids take 16
+ * bytes and the item types are written as one byte.
+ * <p>
+ * The layout of a version is never changed, a new layout gets a new version
+ * and read keeps accepting the old ones, since nodes of a cluster being
+ * upgraded exchange cache models written by both.
+ */
+public class ItemCacheModelCodec implements CacheModelCodec<ItemCacheModel> {
+
+	public static final int VERSION = 1;
+
+	/* Append only, the index of a type is part of the layout */
+	private static final String[] TYPES = { LFVOConstants.ITEM_TYPE_LOST,
+			LFVOConstants.ITEM_TYPE_FOUND, LFVOConstants.ITEM_TYPE_ALERT,
+			LFVOConstants.ITEM_TYPE_OFFICE };
+
+	private static final int UUID = 1;
+	private static final int UUID_PACKED = 1 << 1;
+	private static final int CREATE_DATE = 1 << 2;
+	private static final int MODIFIED_DATE = 1 << 3;
+	private static final int PUBLISH_DATE = 1 << 4;
+	private static final int OBJECT_ID = 1 << 5;
+	private static final int NAME = 1 << 6;
+	private static final int TYPE = 1 << 7;
+	private static final int DESCRIPTION = 1 << 8;
+
+	@Override
+	public void write(ItemCacheModel cacheModel, DataOutput out)
+			throws IOException {
+		int fields = 0;
+		if (cacheModel.uuid != null) {
+			fields |= UUID;
+			if (CompactDataCodec.isPackableUUID(cacheModel.uuid)) {
+				fields |= UUID_PACKED;
+			}
+		}
+		if (cacheModel.createDate != Long.MIN_VALUE) {
+			fields |= CREATE_DATE;
+		}
+		if (cacheModel.modifiedDate != Long.MIN_VALUE) {
+			fields |= MODIFIED_DATE;
+		}
+		if (cacheModel.publishDate != Long.MIN_VALUE) {
+			fields |= PUBLISH_DATE;
+		}
+		if (cacheModel.objectId != null) {
+			fields |= OBJECT_ID;
+		}
+		if (cacheModel.name != null) {
+			fields |= NAME;
+		}
+		if (cacheModel.type != null) {
+			fields |= TYPE;
+		}
+		if (cacheModel.description != null) {
+			fields |= DESCRIPTION;
+		}
+
+		out.writeByte(VERSION);
+		CompactDataCodec.writeLong(out, fields);
+		if ((fields & UUID_PACKED) != 0) {
+			CompactDataCodec.writeUUID(out, cacheModel.uuid);
+		} else if ((fields & UUID) != 0) {
+			CompactDataCodec.writeString(out, cacheModel.uuid);
+		}
+		CompactDataCodec.writeLong(out, cacheModel.itemId);
+		CompactDataCodec.writeLong(out, cacheModel.groupId);
+		CompactDataCodec.writeLong(out, cacheModel.companyId);
+		CompactDataCodec.writeLong(out, cacheModel.userId);
+		long baseDate = 0;
+		if ((fields & CREATE_DATE) != 0) {
+			CompactDataCodec.writeLong(out, cacheModel.createDate);
+			baseDate = cacheModel.createDate;
+		}
+		if ((fields & MODIFIED_DATE) != 0) {
+			CompactDataCodec.writeLong(out, cacheModel.modifiedDate
+					- baseDate);
+		}
+		if ((fields & PUBLISH_DATE) != 0) {
+			CompactDataCodec.writeLong(out, cacheModel.publishDate
+					- baseDate);
+		}
+		if ((fields & OBJECT_ID) != 0) {
+			CompactDataCodec.writeString(out, cacheModel.objectId);
+		}
+		if ((fields & NAME) != 0) {
+			CompactDataCodec.writeString(out, cacheModel.name);
+		}
+		if ((fields & TYPE) != 0) {
+			CompactDataCodec.writeString(out, cacheModel.type, TYPES);
+		}
+		if ((fields & DESCRIPTION) != 0) {
+			CompactDataCodec.writeString(out, cacheModel.description);
+		}
+		CompactDataCodec.writeLong(out, cacheModel.lat);
+		CompactDataCodec.writeLong(out, cacheModel.lng);
+	}
+
+	@Override
+	public void read(DataInput in, ItemCacheModel cacheModel)
+			throws IOException {
+		int version = in.readUnsignedByte();
+		if (version != VERSION) {
+			throw new IOException("Unknown item cache model version "
+					+ version);
+		}
+		int fields = (int) CompactDataCodec.readLong(in);
+		cacheModel.uuid = null;
+		if ((fields & UUID_PACKED) != 0) {
+			cacheModel.uuid = CompactDataCodec.readUUID(in);
+		} else if ((fields & UUID) != 0) {
+			cacheModel.uuid = CompactDataCodec.readString(in);
+		}
+		cacheModel.itemId = CompactDataCodec.readLong(in);
+		cacheModel.groupId = CompactDataCodec.readLong(in);
+		cacheModel.companyId = CompactDataCodec.readLong(in);
+		cacheModel.userId = CompactDataCodec.readLong(in);
+		long baseDate = 0;
+		cacheModel.createDate = Long.MIN_VALUE;
+		if ((fields & CREATE_DATE) != 0) {
+			cacheModel.createDate = CompactDataCodec.readLong(in);
+			baseDate = cacheModel.createDate;
+		}
+		cacheModel.modifiedDate = Long.MIN_VALUE;
+		if ((fields & MODIFIED_DATE) != 0) {
+			cacheModel.modifiedDate = baseDate + CompactDataCodec.readLong(
+					in);
+		}
+		cacheModel.publishDate = Long.MIN_VALUE;
+		if ((fields & PUBLISH_DATE) != 0) {
+			cacheModel.publishDate = baseDate + CompactDataCodec.readLong(
+					in);
+		}
+		cacheModel.objectId = (fields & OBJECT_ID) != 0 ? CompactDataCodec
+				.readString(in) : null;
+		cacheModel.name = (fields & NAME) != 0 ? CompactDataCodec.readString(
+				in) : null;
+		cacheModel.type = (fields & TYPE) != 0 ? CompactDataCodec.readString(
+				in, TYPES) : null;
+		cacheModel.description = (fields & DESCRIPTION) != 0
+				? CompactDataCodec.readString(in) : null;
+		cacheModel.lat = CompactDataCodec.readLong(in);
+		cacheModel.lng = CompactDataCodec.readLong(in);
+	}
+
+}
@@ -0,0 +1,250 @@
+package net.indaba.lostandfound.util.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.liferay.portal.kernel.cluster.ClusterExecutorUtil;
+import com.liferay.portal.kernel.cluster.ClusterLinkUtil;
+import com.liferay.portal.kernel.cluster.Priority;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.BaseMessageListener;
+import com.liferay.portal.kernel.messaging.Destination;
+import com.liferay.portal.kernel.messaging.DestinationConfiguration;
+import com.liferay.portal.kernel.messaging.DestinationFactoryUtil;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.messaging.MessageBusUtil;
+import com.liferay.portal.kernel.messaging.MessageListener;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.util.portlet.PortletProps;
+
+import net.indaba.lostandfound.model.Item;
+import net.indaba.lostandfound.model.impl.CompactItemCacheModel;
+
+/**
+ * Off-heap cache region of the items, in front of the portal entity cache.
+ * Items are stored as their cache model in the compact format of
+ * ItemCacheModelCodec, and rebuilt with toEntityModel on a hit, so the region
+ * costs no heap beyond its keys. The portal's on-heap Item region is kept
+ * small in ehcache/liferay-multi-vm-clustered.xml and holds only the hot
+ * items.
+ * <p>
+ * A changed item is removed from the region right away and again once the
+ * transaction commits, when the other nodes of the cluster are told to drop
+ * it too through a cluster link message.
+ * <p>
+ * Every removal also advances the generation of the item. A caller reads the
+ * generation before loading the item from the database and passes it to put,
+ * which drops the item if it was changed meanwhile. Otherwise an item loaded
+ * before a change commits could be cached after the change removed it, and
+ * stay stale until evicted.
+ */
+public class ItemOffHeapCache {
+
+	public static final String DESTINATION_NAME = "lfvo/item_cache";
+
+	private static ItemOffHeapCache instance = null;
+
+	private final OffHeapCacheRegion region;
+
+	private final boolean enabled;
+
+	/* Striped by itemId, so that their number does not grow with the items */
+	private final AtomicLongArray generations = new AtomicLongArray(
+			GENERATION_STRIPES);
+
+	private final MessageListener invalidationListener =
+			new InvalidationMessageListener();
+
+	private ItemOffHeapCache(boolean enabled, long maxBytes) {
+		super();
+		this.enabled = enabled;
+		region = new OffHeapCacheRegion(Item.class.getName(), maxBytes);
+	}
+
+	public static synchronized ItemOffHeapCache getInstance() {
+		if (instance == null) {
+			boolean enabled = GetterUtil.getBoolean(PortletProps.get(
+					"item.offheap.cache.enabled"), true);
+			long maxSize = GetterUtil.getLong(PortletProps.get(
+					"item.offheap.cache.max.size"), 64);
+			instance = new ItemOffHeapCache(enabled, maxSize * 1024 * 1024);
+			if (enabled) {
+				instance.registerInvalidationListener();
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * Stops listening to the cluster and releases the cached items
+	 */
+	public static synchronized void shutdown() {
+		if (instance != null) {
+			if (instance.enabled) {
+				instance.unregisterInvalidationListener();
+			}
+			instance.region.removeAll();
+			instance = null;
+		}
+	}
+
+	/**
+	 * @param itemId
+	 * @return The cached item, or null if it is not cached
+	 */
+	public Item get(long itemId) {
+		if (!enabled) {
+			return null;
+		}
+		byte[] bytes = region.get(itemId);
+		if (bytes == null) {
+			return null;
+		}
+		try {
+			return decode(bytes);
+		} catch (IOException e) {
+			_log.warn("Unable to read cached item " + itemId + ": " + e
+					.getMessage());
+			region.remove(itemId);
+			return null;
+		}
+	}
+
+	/**
+	 * @param itemId
+	 * @return The generation to pass to put along with the item, read before
+	 *         the item is loaded
+	 */
+	public long getGeneration(long itemId) {
+		return generations.get(stripe(itemId));
+	}
+
+	/**
+	 * Caches the item unless it was removed since the generation was read
+	 *
+	 * @param item
+	 * @param generation
+	 *            Value of getGeneration before the item was loaded
+	 */
+	public void put(Item item, long generation) {
+		if (!enabled) {
+			return;
+		}
+		long itemId = item.getItemId();
+		int stripe = stripe(itemId);
+		if (generations.get(stripe) != generation) {
+			return;
+		}
+		try {
+			region.put(itemId, encode(item));
+		} catch (IOException e) {
+			_log.warn("Unable to cache item " + itemId + ": " + e
+					.getMessage());
+			return;
+		}
+		/* A removal between the check and the put did not see the item */
+		if (generations.get(stripe) != generation) {
+			region.remove(itemId);
+		}
+	}
+
+	/**
+	 * Removes the item on this node now, and on every node once the current
+	 * transaction commits
+	 *
+	 * @param itemId
+	 */
+	public void invalidate(long itemId) {
+		if (!enabled) {
+			return;
+		}
+		remove(itemId);
+		/* Runs right away when there is no transaction */
+		TransactionCommitCallbackUtil.registerCallback(() -> {
+			remove(itemId);
+			if (ClusterExecutorUtil.isEnabled()) {
+				Message message = new Message();
+				message.setDestinationName(DESTINATION_NAME);
+				message.setPayload(String.valueOf(itemId));
+				ClusterLinkUtil.sendMulticastMessage(message,
+						Priority.LEVEL5);
+			}
+			return null;
+		});
+	}
+
+	public OffHeapCacheRegion getRegion() {
+		return region;
+	}
+
+	private void remove(long itemId) {
+		generations.incrementAndGet(stripe(itemId));
+		region.remove(itemId);
+	}
+
+	private int stripe(long itemId) {
+		return (int) (itemId ^ (itemId >>> 32)) & (GENERATION_STRIPES - 1);
+	}
+
+	private byte[] encode(Item item) throws IOException {
+		CompactItemCacheModel cacheModel = (CompactItemCacheModel) item
+				.toCacheModel();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			cacheModel.write(out);
+		}
+		return bytes.toByteArray();
+	}
+
+	private Item decode(byte[] bytes) throws IOException {
+		CompactItemCacheModel cacheModel = new CompactItemCacheModel();
+		try (DataInputStream in = new DataInputStream(
+				new ByteArrayInputStream(bytes))) {
+			cacheModel.read(in);
+		}
+		return cacheModel.toEntityModel();
+	}
+
+	private void registerInvalidationListener() {
+		if (!MessageBusUtil.getMessageBus().hasDestination(
+				DESTINATION_NAME)) {
+			Destination destination = DestinationFactoryUtil.createDestination(
+					DestinationConfiguration
+							.createSynchronousDestinationConfiguration(
+									DESTINATION_NAME));
+			MessageBusUtil.addDestination(destination);
+		}
+		MessageBusUtil.registerMessageListener(DESTINATION_NAME,
+				invalidationListener);
+	}
+
+	private void unregisterInvalidationListener() {
+		MessageBusUtil.unregisterMessageListener(DESTINATION_NAME,
+				invalidationListener);
+		MessageBusUtil.removeDestination(DESTINATION_NAME);
+	}
+
+	/**
+	 * Drops the items changed on other nodes
+	 */
+	private class InvalidationMessageListener extends BaseMessageListener {
+
+		@Override
+		protected void doReceive(Message message) throws Exception {
+			remove(GetterUtil.getLong(message.getPayload()));
+		}
+
+	}
+
+	/* Power of two */
+	private static final int GENERATION_STRIPES = 4096;
+
+	private static final Log _log = LogFactoryUtil.getLog(
+			ItemOffHeapCache.class);
+}
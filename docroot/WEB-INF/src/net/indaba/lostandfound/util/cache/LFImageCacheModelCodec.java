@@ -0,0 +1,88 @@
+package net.indaba.lostandfound.util.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import com.liferay.portal.kernel.util.ContentTypes;
+
+import net.indaba.lostandfound.model.impl.LFImageCacheModel;
+
+/**
+ * Compact format of LFImageCacheModel, laid out like the one of
+ * ItemCacheModelCodec. The usual image content types are written as one byte.
+ */
+public class LFImageCacheModelCodec implements
+		CacheModelCodec<LFImageCacheModel> {
+
+	public static final int VERSION = 1;
+
+	private static final String[] CONTENT_TYPES = { ContentTypes.IMAGE_JPEG,
+			ContentTypes.IMAGE_PNG, ContentTypes.IMAGE_GIF, "image/webp" };
+
+	private static final int UUID = 1;
+	private static final int UUID_PACKED = 1 << 1;
+	private static final int CREATE_DATE = 1 << 2;
+	private static final int CONTENT_TYPE = 1 << 3;
+
+	@Override
+	public void write(LFImageCacheModel cacheModel, DataOutput out)
+			throws IOException {
+		int fields = 0;
+		if (cacheModel.uuid != null) {
+			fields |= UUID;
+			if (CompactDataCodec.isPackableUUID(cacheModel.uuid)) {
+				fields |= UUID_PACKED;
+			}
+		}
+		if (cacheModel.createDate != Long.MIN_VALUE) {
+			fields |= CREATE_DATE;
+		}
+		if (cacheModel.contentType != null) {
+			fields |= CONTENT_TYPE;
+		}
+
+		out.writeByte(VERSION);
+		CompactDataCodec.writeLong(out, fields);
+		if ((fields & UUID_PACKED) != 0) {
+			CompactDataCodec.writeUUID(out, cacheModel.uuid);
+		} else if ((fields & UUID) != 0) {
+			CompactDataCodec.writeString(out, cacheModel.uuid);
+		}
+		CompactDataCodec.writeLong(out, cacheModel.lfImageId);
+		CompactDataCodec.writeLong(out, cacheModel.itemId);
+		if ((fields & CREATE_DATE) != 0) {
+			CompactDataCodec.writeLong(out, cacheModel.createDate);
+		}
+		if ((fields & CONTENT_TYPE) != 0) {
+			CompactDataCodec.writeString(out, cacheModel.contentType,
+					CONTENT_TYPES);
+		}
+		CompactDataCodec.writeLong(out, cacheModel.size);
+	}
+
+	@Override
+	public void read(DataInput in, LFImageCacheModel cacheModel)
+			throws IOException {
+		int version = in.readUnsignedByte();
+		if (version != VERSION) {
+			throw new IOException("Unknown image cache model version "
+					+ version);
+		}
+		int fields = (int) CompactDataCodec.readLong(in);
+		cacheModel.uuid = null;
+		if ((fields & UUID_PACKED) != 0) {
+			cacheModel.uuid = CompactDataCodec.readUUID(in);
+		} else if ((fields & UUID) != 0) {
+			cacheModel.uuid = CompactDataCodec.readString(in);
+		}
+		cacheModel.lfImageId = CompactDataCodec.readLong(in);
+		cacheModel.itemId = CompactDataCodec.readLong(in);
+		cacheModel.createDate = (fields & CREATE_DATE) != 0 ? CompactDataCodec
+				.readLong(in) : Long.MIN_VALUE;
+		cacheModel.contentType = (fields & CONTENT_TYPE) != 0
+				? CompactDataCodec.readString(in, CONTENT_TYPES) : null;
+		cacheModel.size = CompactDataCodec.readLong(in);
+	}
+
+}
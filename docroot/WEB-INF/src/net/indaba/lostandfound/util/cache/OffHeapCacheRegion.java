@@ -0,0 +1,121 @@
+package net.indaba.lostandfound.util.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Least recently used map from primary keys to serialized entities, kept in
+ * direct buffers outside of the Java heap. The heap only holds the keys and
+ * the buffer handles, so the region can be much larger than the heap would
+ * allow. Its size is bounded in bytes, the least recently used entries are
+ * evicted first. Direct memory is itself bounded by -XX:MaxDirectMemorySize.
+ */
+public class OffHeapCacheRegion {
+
+	private final String name;
+
+	private final long maxBytes;
+
+	private final LinkedHashMap<Long, ByteBuffer> entries =
+			new LinkedHashMap<Long, ByteBuffer>(16, 0.75f, true);
+
+	private long usedBytes = 0;
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+
+	public OffHeapCacheRegion(String name, long maxBytes) {
+		super();
+		this.name = name;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * @param key
+	 * @return A copy of the stored bytes, or null if the key is not cached
+	 */
+	public byte[] get(long key) {
+		ByteBuffer buffer;
+		synchronized (this) {
+			buffer = entries.get(key);
+		}
+		if (buffer == null) {
+			missCount.incrementAndGet();
+			return null;
+		}
+		hitCount.incrementAndGet();
+		/* Stored buffers are never written again, so no lock is needed */
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.duplicate().get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Stores the bytes, evicting the least recently used entries if the
+	 * region would grow past its size
+	 *
+	 * @param key
+	 * @param bytes
+	 */
+	public void put(long key, byte[] bytes) {
+		if (bytes.length > maxBytes) {
+			return;
+		}
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+		buffer.put(bytes);
+		buffer.flip();
+		synchronized (this) {
+			ByteBuffer previous = entries.put(key, buffer);
+			if (previous != null) {
+				usedBytes -= previous.capacity();
+			}
+			usedBytes += bytes.length;
+			Iterator<Map.Entry<Long, ByteBuffer>> it = entries.entrySet()
+					.iterator();
+			while (usedBytes > maxBytes && it.hasNext()) {
+				usedBytes -= it.next().getValue().capacity();
+				it.remove();
+			}
+		}
+	}
+
+	public synchronized void remove(long key) {
+		ByteBuffer previous = entries.remove(key);
+		if (previous != null) {
+			usedBytes -= previous.capacity();
+		}
+	}
+
+	public synchronized void removeAll() {
+		entries.clear();
+		usedBytes = 0;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public synchronized int getSize() {
+		return entries.size();
+	}
+
+	public synchronized long getUsedBytes() {
+		return usedBytes;
+	}
+
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+}
@@ -0,0 +1,57 @@
+package net.indaba.lostandfound.util.comparator;
+
+import com.liferay.portal.kernel.util.DateUtil;
+import com.liferay.portal.kernel.util.OrderByComparator;
+
+import net.indaba.lostandfound.model.Item;
+
+/**
+ * Orders items by createDate, then by itemId so that the order is total and
+ * pages never overlap
+ */
+public class ItemCreateDateComparator extends OrderByComparator<Item> {
+
+	public static final String ORDER_BY_ASC = "Item.createDate ASC, Item.itemId ASC";
+
+	public static final String ORDER_BY_DESC = "Item.createDate DESC, Item.itemId DESC";
+
+	public static final String[] ORDER_BY_FIELDS = { "createDate", "itemId" };
+
+	public ItemCreateDateComparator() {
+		this(true);
+	}
+
+	public ItemCreateDateComparator(boolean ascending) {
+		_ascending = ascending;
+	}
+
+	@Override
+	public int compare(Item item1, Item item2) {
+		int value = DateUtil.compareTo(item1.getCreateDate(), item2
+				.getCreateDate());
+		if (value == 0) {
+			value = Long.compare(item1.getItemId(), item2.getItemId());
+		}
+		return _ascending ? value : -value;
+	}
+
+	@Override
+	public String getOrderBy() {
+		return _ascending ? ORDER_BY_ASC : ORDER_BY_DESC;
+	}
+
+	@Override
+	public String[] getOrderByFields() {
+		return ORDER_BY_FIELDS;
+	}
+
+	@Override
+	public boolean isAscending() {
+		return _ascending;
+	}
+
+	private static final long serialVersionUID = 1L;
+
+	private final boolean _ascending;
+
+}
@@ -1,6 +1,4 @@
-
-<%@page import="org.apache.commons.io.IOUtils"%>
-<%@page import="java.io.StringWriter"%>
+<%@page import="net.indaba.lostandfound.util.LFVOConstants"%>
 <%@page import="com.liferay.portal.kernel.util.GetterUtil"%>
 <%@page import="java.util.Enumeration"%>
 <%@include file="/html/init.jsp"%>
@@ -14,20 +12,22 @@
 	<dd><%=item.getName()%></dd>
 	<ul class="list-unstyled row">
 	<%
-	List<LFImage> lfImages = LFImageLocalServiceUtil.findByItemId(item.getItemId());
+	List<LFImage> lfImages = LFImageLocalServiceUtil.findMetadataByItemId(item.getItemId());
 	for(LFImage lfImage : lfImages){
-		StringWriter writer = new StringWriter();
-		IOUtils.copy(lfImage.getImage().getBinaryStream(), writer);
 		request.setAttribute("lfImageId-tmp", String.valueOf(lfImage.getLfImageId()));
 		
 	%>
+		<liferay-portlet:resourceURL portletName="<%=LFVOConstants.LFVO_PORTLET_ID%>" id="<%=ItemManagerPortlet.RESOURCE_IMAGE%>" cacheability="cacheLevelFull" var="imageURL">
+			<liferay-portlet:param name="lfImageId" value="<%=String.valueOf(lfImage.getLfImageId())%>"/>
+			<liferay-portlet:param name="size" value="<%=String.valueOf(ItemManagerPortlet.THUMBNAIL_SIZE_CARD)%>"/>
+		</liferay-portlet:resourceURL>
 		<li class="col-md-2 col-sm-4 col-xs-6 yui3-dd-draggable" data-draggable="true" data-selectable="true">
 				
 				<liferay-frontend:vertical-card
 					actionJsp="/html/manager/image_action.jsp"
 					actionJspServletContext="<%= application %>"
 					cssClass="entry-display-style"
-					imageUrl="<%="data:image/png;base64," + writer.toString()%>"
+					imageUrl="<%=imageURL%>"
 				>
 				</liferay-frontend:vertical-card>
 		</li>
@@ -13,8 +13,6 @@
 <%@taglib uri="http://liferay.com/tld/frontend" prefix="liferay-frontend"%>
 
 <%@page import="java.util.List"%>
-<%@page import="java.io.StringWriter"%>
-<%@page import="org.apache.commons.io.IOUtils"%>
 
 <%@page import="com.liferay.portal.kernel.language.LanguageUtil"%>
 <%@page import="com.liferay.portal.kernel.util.StringPool"%>
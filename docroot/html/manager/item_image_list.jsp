@@ -2,21 +2,23 @@
 
 <ul class="list-unstyled row" id="item-image-list">
 	<%
-	List<LFImage> lfImages = LFImageLocalServiceUtil.findByItemId(itemId);
+	List<LFImage> lfImages = LFImageLocalServiceUtil.findMetadataByItemId(itemId);
 	for(LFImage lfImage : lfImages){
-		StringWriter writer = new StringWriter();
-		IOUtils.copy(lfImage.getImage().getBinaryStream(), writer);
 		request.setAttribute("lfImageId-tmp", String.valueOf(lfImage.getLfImageId()));
 		request.setAttribute("itemId-tmp", String.valueOf(lfImage.getItemId()));
 		
 	%>
+		<portlet:resourceURL id="<%=ItemManagerPortlet.RESOURCE_IMAGE%>" cacheability="cacheLevelFull" var="imageURL">
+			<portlet:param name="lfImageId" value="<%=String.valueOf(lfImage.getLfImageId())%>"/>
+			<portlet:param name="size" value="<%=String.valueOf(ItemManagerPortlet.THUMBNAIL_SIZE_CARD)%>"/>
+		</portlet:resourceURL>
 		<li class="col-md-2 col-sm-4 col-xs-6 yui3-dd-draggable" data-draggable="true" data-selectable="true">
 				
 				<liferay-frontend:vertical-card
 					actionJsp="/html/manager/image_action.jsp"
 					actionJspServletContext="<%= application %>"
 					cssClass="entry-display-style"
-					imageUrl="<%="data:image/png;base64," + writer.toString()%>"
+					imageUrl="<%=imageURL%>"
 				>
 					<%@ include file="/html/manager/image_vertical_card.jspf" %>
 					<%@ page %>
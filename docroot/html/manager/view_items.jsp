@@ -1,12 +1,36 @@
+<%@page import="net.indaba.lostandfound.util.LFVOConstants"%>
+<%@page import="com.liferay.asset.kernel.model.AssetCategory"%>
+<%@page import="com.liferay.portal.kernel.dao.search.SearchContainer"%>
+<%@page import="com.liferay.portal.kernel.util.HtmlUtil"%>
+<%@page import="java.util.Map"%>
 <%@ include file="/html/init.jsp" %>
 
 <%
-List<Item> items = (List<Item>)renderRequest.getAttribute("items");
+SearchContainer<Item> itemSearchContainer = (SearchContainer<Item>)renderRequest.getAttribute("itemSearchContainer");
+Map<Long, List<AssetCategory>> itemCategories = (Map<Long, List<AssetCategory>>)renderRequest.getAttribute("itemCategories");
 %>
 
+<aui:nav cssClass="nav-tabs">
+	<%
+	String type = ParamUtil.getString(request, "type");
+	for (String itemType : new String[] {"", LFVOConstants.ITEM_TYPE_LOST, LFVOConstants.ITEM_TYPE_FOUND, LFVOConstants.ITEM_TYPE_ALERT, LFVOConstants.ITEM_TYPE_OFFICE}) {
+	%>
+		<portlet:renderURL var="typeURL">
+			<portlet:param name="type" value="<%=itemType%>" />
+		</portlet:renderURL>
+
+		<aui:nav-item
+			href="<%=typeURL%>"
+			label='<%=itemType.isEmpty() ? "all" : itemType%>'
+			selected="<%=itemType.equals(type)%>"
+		/>
+	<%
+	}
+	%>
+</aui:nav>
+
 <liferay-ui:search-container
-	emptyResultsMessage="no-item-was-found" >
-	<liferay-ui:search-container-results results="<%=items%>"/>
+	searchContainer="<%=itemSearchContainer%>" >
 	<liferay-ui:search-container-row className="net.indaba.lostandfound.model.Item" modelVar="item" >
 		<liferay-ui:search-container-column-text>
 			
@@ -20,7 +44,16 @@ List<Item> items = (List<Item>)renderRequest.getAttribute("items");
 		</liferay-ui:search-container-column-text>
 		
 		<liferay-ui:search-container-column-text>
-			<liferay-ui:asset-categories-summary classPK="<%=item.getItemId()%>" className="<%=Item.class.getName()%>"/>			
+			<%
+			List<AssetCategory> categories = itemCategories.get(item.getItemId());
+			if (categories != null) {
+				for (AssetCategory category : categories) {
+			%>
+				<span class="label label-default"><%=HtmlUtil.escape(category.getTitle(locale))%></span>
+			<%
+				}
+			}
+			%>
 		</liferay-ui:search-container-column-text>
 		
 		<liferay-ui:search-container-column-jsp